@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 import org.simplejavamail.api.internal.authenticatedsockssupport.socks5server.AnonymousSocks5Server;
 import org.simplejavamail.api.mailer.config.ProxyConfig;
 import org.simplejavamail.internal.authenticatedsockssupport.socks5server.AnonymousSocks5ServerImpl;
+import org.simplejavamail.internal.authenticatedsockssupport.socks5server.NonBlockingAnonymousSocks5Server;
 import org.simplejavamail.internal.modules.AuthenticatedSocksModule;
 
 import static org.simplejavamail.internal.util.Preconditions.checkNonEmptyArgument;
@@ -14,6 +15,9 @@ public class AuthenticatedSocksHelper implements AuthenticatedSocksModule {
 	@Override
 	public AnonymousSocks5Server createAnonymousSocks5Server(@NotNull ProxyConfig socksProxyConfig) {
 		final Integer proxyBridgePort = checkNonEmptyArgument(socksProxyConfig.getProxyBridgePort(), "proxyBridgePort");
-		return new AnonymousSocks5ServerImpl(new AuthenticatingSocks5Bridge(socksProxyConfig), proxyBridgePort);
+		final AuthenticatingSocks5Bridge socks5Bridge = new AuthenticatingSocks5Bridge(socksProxyConfig);
+		return socksProxyConfig.isProxyBridgeNonBlocking()
+				? new NonBlockingAnonymousSocks5Server(socks5Bridge, proxyBridgePort, socksProxyConfig.getProxyBridgeBufferSize())
+				: new AnonymousSocks5ServerImpl(socks5Bridge, proxyBridgePort, socksProxyConfig.getProxyBridgeBufferSize());
 	}
 }
\ No newline at end of file
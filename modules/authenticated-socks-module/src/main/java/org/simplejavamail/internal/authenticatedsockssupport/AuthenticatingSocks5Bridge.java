@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 
 import static org.simplejavamail.internal.util.Preconditions.verifyNonnullOrEmpty;
 
@@ -48,13 +49,26 @@ public class AuthenticatingSocks5Bridge implements Socks5Bridge {
 		LOGGER.info("SESSION[{}] bridging to remote proxy {}", sessionId, proxyConfig);
 		final Socks5 proxyAuth = new Socks5(new InetSocketAddress(remoteProxyHost, remoteProxyPort));
 		proxyAuth.setCredentials(new ProxyCredentials(proxyConfig.getUsername(), proxyConfig.getPassword()));
-		return new SocksSocket(proxyAuth, proxyAuth.createProxySocket(), new InetSocketAddress(remoteServerAddress, remoteServerPort));
+		return new SocksSocket(proxyAuth, createProxySocket(proxyAuth), new InetSocketAddress(remoteServerAddress, remoteServerPort));
 	}
 
 	private Socket createSocketPlainAnonymous(final String sessionId, final InetAddress remoteServerAddress, final int remoteServerPort)
 			throws IOException {
 		LOGGER.info("SESSION[{}] bridging anonymously to remote proxy {}:{}", sessionId, remoteProxyHost, remoteProxyPort);
 		final Socks5 socksProxyAnonymous = new Socks5(new InetSocketAddress(remoteProxyHost, remoteProxyPort));
-		return new SocksSocket(socksProxyAnonymous, new InetSocketAddress(remoteServerAddress, remoteServerPort));
+		return proxyConfig.isProxyBridgeNonBlocking()
+				? new SocksSocket(socksProxyAnonymous, createProxySocket(socksProxyAnonymous), new InetSocketAddress(remoteServerAddress, remoteServerPort))
+				: new SocksSocket(socksProxyAnonymous, new InetSocketAddress(remoteServerAddress, remoteServerPort));
+	}
+
+	/**
+	 * In non-blocking mode, the connection to the remote proxy is backed by a {@link SocketChannel}, so that after the (blocking) SOCKS5
+	 * handshake, the bridge server can relay the data using a selector.
+	 */
+	private Socket createProxySocket(final Socks5 proxy)
+			throws IOException {
+		return proxyConfig.isProxyBridgeNonBlocking()
+				? SocketChannel.open().socket()
+				: proxy.createProxySocket();
 	}
 }
@@ -3,6 +3,7 @@ package org.simplejavamail.internal.authenticatedsockssupport.socks5server;
 import org.simplejavamail.api.internal.authenticatedsockssupport.common.Socks5Bridge;
 import org.simplejavamail.api.internal.authenticatedsockssupport.socks5server.AnonymousSocks5Server;
 import org.simplejavamail.internal.authenticatedsockssupport.common.SocksException;
+import org.simplejavamail.internal.authenticatedsockssupport.socks5server.io.BufferPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,18 +20,25 @@ import java.util.concurrent.Executors;
 public class AnonymousSocks5ServerImpl implements AnonymousSocks5Server {
 	
 	private static final Logger LOGGER = LoggerFactory.getLogger(AnonymousSocks5Server.class);
+
+	private static final int MAX_POOLED_BUFFERS = 64;
 	
 	private final Socks5Bridge socks5Bridge;
 	private final int proxyBridgePort;
+	private final BufferPool bufferPool;
 	
 	private ExecutorService threadPool;
 	private ServerSocket serverSocket;
 	private boolean stopping = false;
 	private boolean running = false;
 	
-	public AnonymousSocks5ServerImpl(final Socks5Bridge socks5Bridge, final int proxyBridgePort) {
+	/**
+	 * @param proxyBridgeBufferSize The size of the buffers used to relay data, one for either direction of each connection.
+	 */
+	public AnonymousSocks5ServerImpl(final Socks5Bridge socks5Bridge, final int proxyBridgePort, final int proxyBridgeBufferSize) {
 		this.socks5Bridge = socks5Bridge;
 		this.proxyBridgePort = proxyBridgePort;
+		this.bufferPool = new BufferPool(proxyBridgeBufferSize, MAX_POOLED_BUFFERS, false);
 	}
 	
 	/**
@@ -72,7 +80,7 @@ public class AnonymousSocks5ServerImpl implements AnonymousSocks5Server {
 				@SuppressWarnings("SocketOpenedButNotSafelyClosed") // socket is closed elsewhere
 				final Socket socket = serverSocket.accept();
 				socket.setSoTimeout(10000);
-				threadPool.execute(new Socks5Handler(new SocksSession(socket), socks5Bridge));
+				threadPool.execute(new Socks5Handler(new SocksSession(socket), socks5Bridge, bufferPool));
 			} catch (final IOException e) {
 				checkIoException(e);
 			}
@@ -0,0 +1,149 @@
+package org.simplejavamail.internal.authenticatedsockssupport.socks5server;
+
+import org.simplejavamail.api.internal.authenticatedsockssupport.common.Socks5Bridge;
+import org.simplejavamail.api.internal.authenticatedsockssupport.socks5server.AnonymousSocks5Server;
+import org.simplejavamail.internal.authenticatedsockssupport.common.SocksException;
+import org.simplejavamail.internal.authenticatedsockssupport.socks5server.io.BufferPool;
+import org.simplejavamail.internal.authenticatedsockssupport.socks5server.io.ChannelRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Non-blocking alternative to {@link AnonymousSocks5ServerImpl}: the (short) SOCKS5 handshakes are still done on a small thread pool, but after
+ * that, all connections are relayed by a single {@link ChannelRelay} selector thread, rather than by two threads per connection.
+ *
+ * @see AnonymousSocks5Server
+ */
+public class NonBlockingAnonymousSocks5Server implements AnonymousSocks5Server {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AnonymousSocks5Server.class);
+
+	private static final int HANDSHAKE_THREADS = 10;
+
+	private static final int MAX_POOLED_BUFFERS = 64;
+
+	private final Socks5Bridge socks5Bridge;
+	private final int proxyBridgePort;
+	private final BufferPool bufferPool;
+
+	private ExecutorService handshakeThreadPool;
+	private ServerSocketChannel serverSocketChannel;
+	private ChannelRelay channelRelay;
+	private boolean stopping = false;
+	private boolean running = false;
+
+	/**
+	 * @param proxyBridgeBufferSize The size of the (direct) buffers used to relay data, one for either direction of each connection.
+	 */
+	public NonBlockingAnonymousSocks5Server(final Socks5Bridge socks5Bridge, final int proxyBridgePort, final int proxyBridgeBufferSize) {
+		this.socks5Bridge = socks5Bridge;
+		this.proxyBridgePort = proxyBridgePort;
+		this.bufferPool = new BufferPool(proxyBridgeBufferSize, MAX_POOLED_BUFFERS, true);
+	}
+
+	/**
+	 * @see AnonymousSocks5Server#start()
+	 */
+	@Override
+	public void start() {
+		if (running) {
+			throw new IllegalStateException("server already running!");
+		}
+		running = true;
+		try {
+			this.handshakeThreadPool = Executors.newFixedThreadPool(HANDSHAKE_THREADS);
+			this.serverSocketChannel = ServerSocketChannel.open();
+			this.serverSocketChannel.socket().setReuseAddress(true);
+			this.serverSocketChannel.bind(new InetSocketAddress(proxyBridgePort));
+			this.channelRelay = new ChannelRelay(bufferPool);
+		} catch (final IOException e) {
+			throw new SocksException("error preparing socks5bridge server for authenticated proxy session", e);
+		}
+		channelRelay.start("socks5bridge-relay");
+		new Thread(this).start();
+	}
+
+	@Override
+	public void stop() {
+		stopping = true;
+		channelRelay.stop();
+		try {
+			serverSocketChannel.close();
+		} catch (final IOException e) {
+			throw new SocksException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void run() {
+		LOGGER.info("Starting non-blocking proxy server at port {}", serverSocketChannel.socket().getLocalPort());
+		while (!stopping) {
+			try {
+				LOGGER.info("waiting for new connection...");
+				@SuppressWarnings("SocketOpenedButNotSafelyClosed") // channel is closed elsewhere
+				final SocketChannel socketChannel = serverSocketChannel.accept();
+				socketChannel.socket().setSoTimeout(10000);
+				final SocksSession session = new SocksSession(socketChannel.socket());
+				handshakeThreadPool.execute(() -> negotiateAndRelay(session));
+			} catch (final ClosedChannelException e) {
+				LOGGER.debug("socket closed");
+			} catch (final IOException e) {
+				running = false;
+				stopping = false;
+				throw new SocksException("server crashed...", e);
+			}
+		}
+		LOGGER.debug("shutting down...");
+		handshakeThreadPool.shutdownNow();
+		running = false;
+		stopping = false;
+	}
+
+	private void negotiateAndRelay(final SocksSession session) {
+		Socket socket = null;
+		try {
+			socket = new Socks5Handler(session, socks5Bridge, null).negotiateConnection();
+			if (socket != null) {
+				final SocketChannel remoteChannel = socket.getChannel();
+				if (remoteChannel == null) {
+					throw new SocksException("bridged connection is not backed by a channel, so it cannot be relayed non-blocking");
+				}
+				channelRelay.relay("SESSION[" + session.getId() + "]", session.getSocket().getChannel(), remoteChannel);
+				return;
+			}
+		} catch (final Exception e) {
+			LOGGER.error(e.getMessage(), e);
+			closeQuietly(socket);
+		}
+		session.close();
+	}
+
+	private static void closeQuietly(final Socket socket) {
+		try {
+			if (socket != null) {
+				socket.close();
+			}
+		} catch (final IOException e) {
+			LOGGER.error(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public boolean isStopping() {
+		return stopping;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+}
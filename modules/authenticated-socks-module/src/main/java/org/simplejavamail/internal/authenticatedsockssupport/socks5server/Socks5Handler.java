@@ -1,7 +1,9 @@
 package org.simplejavamail.internal.authenticatedsockssupport.socks5server;
 
+import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.internal.authenticatedsockssupport.common.Socks5Bridge;
 import org.simplejavamail.internal.authenticatedsockssupport.common.SocksException;
+import org.simplejavamail.internal.authenticatedsockssupport.socks5server.io.BufferPool;
 import org.simplejavamail.internal.authenticatedsockssupport.socks5server.io.SocketPipe;
 import org.simplejavamail.internal.authenticatedsockssupport.socks5server.msg.CommandMessage;
 import org.simplejavamail.internal.authenticatedsockssupport.socks5server.msg.CommandResponseMessage;
@@ -15,6 +17,8 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 
+import static java.util.Objects.requireNonNull;
+
 public class Socks5Handler implements Runnable {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(Socks5Handler.class);
@@ -27,15 +31,26 @@ public class Socks5Handler implements Runnable {
 	private final SocksSession session;
 	private final Socks5Bridge socks5Bridge;
 
-	public Socks5Handler(final SocksSession session, final Socks5Bridge socks5Bridge) {
+	@Nullable
+	private final BufferPool bufferPool;
+
+	/**
+	 * @param bufferPool Provides the buffers for relaying data once connected. May be {@code null} if the handler is only used to {@link
+	 *                   #negotiateConnection() negotiate} the connection.
+	 */
+	public Socks5Handler(final SocksSession session, final Socks5Bridge socks5Bridge, @Nullable final BufferPool bufferPool) {
 		this.session = session;
 		this.socks5Bridge = socks5Bridge;
+		this.bufferPool = bufferPool;
 	}
 
 	@Override
 	public void run() {
 		try {
-			handle(session, socks5Bridge);
+			final Socket socket = negotiateConnection();
+			if (socket != null) {
+				pipe(socket);
+			}
 		} catch (final Exception e) {
 			LOGGER.error(e.getMessage(), e);
 		} finally {
@@ -43,7 +58,15 @@ public class Socks5Handler implements Runnable {
 		}
 	}
 
-	private void handle(final SocksSession session, final Socks5Bridge socks5Bridge)
+	/**
+	 * Performs the SOCKS5 handshake with the client and connects to the target server through the bridge, up to and including the reply to the
+	 * client. Leaves the session open, so the caller can relay data between the session and the returned socket.
+	 *
+	 * @return The socket connected to the target server, or {@code null} if the connection could not be established (in which case the client
+	 * has been sent the applicable reply).
+	 */
+	@Nullable
+	Socket negotiateConnection()
 			throws IOException {
 		if (MethodSelectionMessage.readVersion(session.getInputStream()) != VERSION) {
 			throw new SocksException("Protocol error");
@@ -61,16 +84,17 @@ public class Socks5Handler implements Runnable {
 			final ServerReply serverReply = commandMessage.getSocksServerReplyException().getServerReply();
 			session.write(CommandResponseMessage.getBytes(serverReply));
 			LOGGER.debug("SESSION[{}] will close, because {}", session.getId(), serverReply);
-			return;
+			return null;
 		}
 
 		if (commandMessage.getCommand() != CONNECT_COMMAND) {
 			throw new SocksException("Only CONNECT command is supported");
 		}
-		doConnect(session, commandMessage, socks5Bridge);
+		return doConnect(commandMessage);
 	}
 
-	private void doConnect(final SocksSession session, final CommandMessage commandMessage, final Socks5Bridge socks5Bridge)
+	@Nullable
+	private Socket doConnect(final CommandMessage commandMessage)
 			throws IOException {
 		ServerReply reply;
 		Socket socket = null;
@@ -112,12 +136,12 @@ public class Socks5Handler implements Runnable {
 
 		session.write(CommandResponseMessage.getBytes(reply, bindAddress, bindPort));
 
-		if (reply != ServerReply.SUCCEEDED) {
-			session.close();
-			return;
-		}
+		return reply == ServerReply.SUCCEEDED ? socket : null;
+	}
 
-		final SocketPipe pipe = new SocketPipe(session.getSocket(), socket);
+	private void pipe(final Socket socket)
+			throws IOException {
+		final SocketPipe pipe = new SocketPipe(session.getSocket(), socket, requireNonNull(bufferPool, "bufferPool"));
 		pipe.setName("SESSION[" + session.getId() + "]");
 		pipe.start(); // This method will build tow thread to run tow internal pipes.
 
@@ -0,0 +1,80 @@
+package org.simplejavamail.internal.authenticatedsockssupport.socks5server.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * The class <code>BufferPool</code> hands out the relay buffers for all connections of a proxy bridge server, so connections reuse buffers
+ * rather than each allocating their own. Buffers are created on demand, and at most {@code maxPooledBuffers} released buffers are kept for
+ * reuse, so the pool never holds on to more memory than that, regardless of how many connections were open at once.
+ * <p>
+ * The pool keeps track of the buffers it handed out, so a buffer released twice, or a buffer that didn't come from this pool, never ends up
+ * being handed out to two users at once.
+ */
+public class BufferPool {
+
+	private final int bufferSize;
+
+	private final boolean direct;
+
+	private final BlockingQueue<ByteBuffer> pooledBuffers;
+
+	/**
+	 * Identity based, as {@link ByteBuffer#equals(Object)} compares the remaining content.
+	 */
+	private final Set<ByteBuffer> acquiredBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * @param direct Whether to create direct buffers, which channels can read into and write from without an extra copy on the Java heap.
+	 *               Buffers that aren't direct are backed by an array (for stream based IO).
+	 */
+	public BufferPool(final int bufferSize, final int maxPooledBuffers, final boolean direct) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("bufferSize should be positive, was " + bufferSize);
+		}
+		this.bufferSize = bufferSize;
+		this.direct = direct;
+		this.pooledBuffers = new ArrayBlockingQueue<>(maxPooledBuffers);
+	}
+
+	/**
+	 * @return A cleared buffer, which should be {@link #release(ByteBuffer) released} once it is no longer used.
+	 */
+	@NotNull
+	public ByteBuffer acquire() {
+		ByteBuffer buffer = pooledBuffers.poll();
+		if (buffer == null) {
+			buffer = direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+		} else {
+			buffer.clear();
+		}
+		synchronized (acquiredBuffers) {
+			acquiredBuffers.add(buffer);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns the buffer to the pool, unless the pool is full already. The buffer should not be used anymore after this. Buffers that weren't
+	 * acquired from this pool, or that were released already, are ignored.
+	 */
+	public void release(@NotNull final ByteBuffer buffer) {
+		final boolean acquired;
+		synchronized (acquiredBuffers) {
+			acquired = acquiredBuffers.remove(buffer);
+		}
+		if (acquired) {
+			pooledBuffers.offer(buffer);
+		}
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+}
@@ -0,0 +1,240 @@
+package org.simplejavamail.internal.authenticatedsockssupport.socks5server.io;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The class <code>ChannelRelay</code> transfers data between pairs of connected socket channels, for any number of connections, using a single
+ * selector thread (as opposed to {@link SocketPipe}, which uses two threads per connection).
+ * <p>
+ * A channel is only read from while there is room in its buffer, so a slow receiver throttles the sender rather than the relay buffering
+ * without bounds. When one side reaches the end of its stream, its pending data is still delivered, after which the other side's output is
+ * shut down. A connection is closed when both directions are finished, or as soon as an error occurs on either side.
+ */
+public class ChannelRelay implements Runnable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ChannelRelay.class);
+
+	private final Selector selector;
+
+	private final BufferPool bufferPool;
+
+	private final Queue<Endpoint> pendingRegistrations = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean stopping = false;
+
+	/**
+	 * @param bufferPool Provides the buffers for either direction of each connection, preferably direct buffers.
+	 */
+	public ChannelRelay(@NotNull final BufferPool bufferPool)
+			throws IOException {
+		this.selector = Selector.open();
+		this.bufferPool = bufferPool;
+	}
+
+	public void start(@NotNull final String name) {
+		final Thread thread = new Thread(this, name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Switches both (connected) channels to non-blocking mode and hands them over to the selector thread, which relays data between them until
+	 * the connection is finished. From then on, the channels are owned by the relay.
+	 */
+	public void relay(@NotNull final String name, @NotNull final SocketChannel channel1, @NotNull final SocketChannel channel2)
+			throws IOException {
+		if (stopping) {
+			throw new ClosedChannelException();
+		}
+		channel1.configureBlocking(false);
+		channel2.configureBlocking(false);
+		final Endpoint endpoint1 = new Endpoint(name, channel1, bufferPool);
+		final Endpoint endpoint2 = new Endpoint(name, channel2, bufferPool);
+		endpoint1.peer = endpoint2;
+		endpoint2.peer = endpoint1;
+		pendingRegistrations.add(endpoint1);
+		selector.wakeup();
+	}
+
+	/**
+	 * Closes all connections currently being relayed, and stops the selector thread.
+	 */
+	public void stop() {
+		stopping = true;
+		selector.wakeup();
+	}
+
+	@Override
+	public void run() {
+		try {
+			while (!stopping) {
+				selector.select();
+				registerPendingConnections();
+				final Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+				while (selectedKeys.hasNext()) {
+					final SelectionKey key = selectedKeys.next();
+					selectedKeys.remove();
+					// the key might have been cancelled by closing the peer earlier in this round
+					if (key.isValid()) {
+						handle(key, (Endpoint) key.attachment());
+					}
+				}
+			}
+		} catch (final IOException | RuntimeException e) {
+			LOGGER.error("relay crashed...", e);
+		} finally {
+			closeAll();
+		}
+	}
+
+	private void registerPendingConnections() {
+		Endpoint endpoint;
+		while ((endpoint = pendingRegistrations.poll()) != null) {
+			try {
+				endpoint.register(selector);
+				endpoint.peer.register(selector);
+				LOGGER.trace("Relay[{}] started", endpoint.name);
+			} catch (final ClosedChannelException e) {
+				LOGGER.debug("Relay[{}] closed before it started", endpoint.name);
+				endpoint.close();
+			}
+		}
+	}
+
+	private void handle(@NotNull final SelectionKey key, @NotNull final Endpoint endpoint) {
+		try {
+			if (key.isReadable()) {
+				endpoint.read();
+			}
+			if (key.isValid() && key.isWritable()) {
+				endpoint.peer.transferToPeer();
+			}
+			if (endpoint.isFinished()) {
+				LOGGER.trace("Relay[{}] finished", endpoint.name);
+				endpoint.close();
+			} else {
+				endpoint.updateInterest();
+				endpoint.peer.updateInterest();
+			}
+		} catch (final IOException e) {
+			LOGGER.debug("Relay[{}] stopped: {}", endpoint.name, e.getMessage());
+			endpoint.close();
+		}
+	}
+
+	private void closeAll() {
+		for (final SelectionKey key : selector.keys()) {
+			((Endpoint) key.attachment()).close();
+		}
+		Endpoint endpoint;
+		while ((endpoint = pendingRegistrations.poll()) != null) {
+			endpoint.close();
+		}
+		try {
+			selector.close();
+		} catch (final IOException e) {
+			LOGGER.error(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * One side of a relayed connection. The buffer holds data read from this side that is yet to be written to the peer, and is always kept in
+	 * fill mode (its position is the amount of pending data). It goes back to the pool when the channel is closed.
+	 */
+	private static class Endpoint {
+		@NotNull private final String name;
+		@NotNull private final SocketChannel channel;
+		@NotNull private final BufferPool bufferPool;
+		@NotNull private final ByteBuffer buffer;
+		private boolean closed = false;
+		private Endpoint peer;
+		@Nullable private SelectionKey key;
+		private boolean inputEnded = false;
+		private boolean outputShutdown = false;
+
+		private Endpoint(@NotNull final String name, @NotNull final SocketChannel channel, @NotNull final BufferPool bufferPool) {
+			this.name = name;
+			this.channel = channel;
+			this.bufferPool = bufferPool;
+			this.buffer = bufferPool.acquire();
+		}
+
+		private void register(@NotNull final Selector selector)
+				throws ClosedChannelException {
+			key = channel.register(selector, SelectionKey.OP_READ, this);
+		}
+
+		private void read()
+				throws IOException {
+			if (channel.read(buffer) < 0) {
+				inputEnded = true;
+			}
+			transferToPeer();
+		}
+
+		/**
+		 * Writes as much pending data to the peer as it accepts right now, and passes on the end of stream once everything is delivered.
+		 */
+		private void transferToPeer()
+				throws IOException {
+			buffer.flip();
+			try {
+				peer.channel.write(buffer);
+			} finally {
+				buffer.compact();
+			}
+			if (inputEnded && buffer.position() == 0 && !peer.outputShutdown) {
+				peer.channel.shutdownOutput();
+				peer.outputShutdown = true;
+			}
+		}
+
+		private void updateInterest() {
+			int interestOps = 0;
+			if (!inputEnded && buffer.hasRemaining()) {
+				interestOps |= SelectionKey.OP_READ;
+			}
+			if (peer.buffer.position() > 0) {
+				interestOps |= SelectionKey.OP_WRITE;
+			}
+			if (key != null && key.isValid()) {
+				key.interestOps(interestOps);
+			}
+		}
+
+		private boolean isFinished() {
+			return outputShutdown && peer.outputShutdown;
+		}
+
+		private void close() {
+			closeChannel();
+			peer.closeChannel();
+		}
+
+		private void closeChannel() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				channel.close();
+			} catch (final IOException e) {
+				LOGGER.error(e.getMessage(), e);
+			}
+			bufferPool.release(buffer);
+		}
+	}
+}
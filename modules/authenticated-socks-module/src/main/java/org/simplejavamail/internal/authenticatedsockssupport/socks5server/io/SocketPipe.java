@@ -32,14 +32,14 @@ public class SocketPipe {
 	private final PipeListener listener = new PipeListener();
 
 	/**
-	 * Constructs SocketPipe instance by tow connected sockets.
+	 * Constructs SocketPipe instance by tow connected sockets, taking the buffers for either direction from the given (heap) buffer pool.
 	 */
-	public SocketPipe(final Socket socket1, final Socket socket2)
+	public SocketPipe(final Socket socket1, final Socket socket2, final BufferPool bufferPool)
 			throws IOException {
 		this.socket1 = socket1;
 		this.socket2 = socket2;
-		pipe1 = new StreamPipe(socket1.getInputStream(), socket2.getOutputStream(), OUTPUT_PIPE_NAME);
-		pipe2 = new StreamPipe(socket2.getInputStream(), socket1.getOutputStream(), INPUT_PIPE_NAME);
+		pipe1 = new StreamPipe(socket1.getInputStream(), socket2.getOutputStream(), bufferPool, OUTPUT_PIPE_NAME);
+		pipe2 = new StreamPipe(socket2.getInputStream(), socket1.getOutputStream(), bufferPool, INPUT_PIPE_NAME);
 
 		pipe1.addPipeListener(listener);
 		pipe2.addPipeListener(listener);
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,23 +17,24 @@ class StreamPipe implements Runnable {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(StreamPipe.class);
 
-	private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024 * 5;
-
 	private final List<SocketPipe.PipeListener> pipeListeners;
 
 	private final InputStream source;
 
 	private final OutputStream destination;
 
+	private final BufferPool bufferPool;
+
 	private Thread runningThread;
 
 	private boolean running = false;
 
 	private final String name;
 
-	public StreamPipe(final InputStream source, final OutputStream destination, final String name) {
+	public StreamPipe(final InputStream source, final OutputStream destination, final BufferPool bufferPool, final String name) {
 		this.source = source;
 		this.destination = destination;
+		this.bufferPool = bufferPool;
 		pipeListeners = new ArrayList<>();
 		this.name = name;
 	}
@@ -62,12 +64,17 @@ class StreamPipe implements Runnable {
 
 	@Override
 	public void run() {
-		final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
-		while (running) {
-			final int size = doTransfer(buffer);
-			if (size == -1) {
-				stop();
+		final ByteBuffer pooledBuffer = bufferPool.acquire();
+		try {
+			final byte[] buffer = pooledBuffer.array();
+			while (running) {
+				final int size = doTransfer(buffer);
+				if (size == -1) {
+					stop();
+				}
 			}
+		} finally {
+			bufferPool.release(pooledBuffer);
 		}
 	}
 
@@ -19,15 +19,22 @@ import org.simplejavamail.smtpconnectionpool.SmtpConnectionPoolClustered;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
 import static org.simplejavamail.internal.batchsupport.BatchException.ERROR_ACQUIRING_KEYED_POOLABLE;
 import static org.simplejavamail.internal.batchsupport.ClusterHelper.compareClusterConfig;
 import static org.simplejavamail.internal.batchsupport.ClusterHelper.configureSmtpClusterConfig;
@@ -43,6 +50,11 @@ public class BatchSupport implements BatchModule {
 	// no need to make this static, because this module itself is already static in the ModuleLoader
 	@Nullable private SmtpConnectionPoolClustered smtpConnectionPool;
 
+	/**
+	 * The sessions registered to each cluster, so a retry can pick a different server than the one that failed.
+	 */
+	private final Map<UUID, Set<Session>> sessionsPerCluster = new ConcurrentHashMap<>();
+
 	/**
 	 * @see BatchModule#executeAsync(String, Runnable)
 	 */
@@ -79,6 +91,7 @@ public class BatchSupport implements BatchModule {
 		if (!requireNonNull(smtpConnectionPool).isPoolRegistered(poolKey)) {
 			smtpConnectionPool.registerResourcePool(poolKey);
 		}
+		sessionsPerCluster.computeIfAbsent(clusterKey, key -> new CopyOnWriteArraySet<>()).add(session);
 	}
 
 	private void ensureClusterInitialized(@NotNull OperationalConfig operationalConfig) {
@@ -100,9 +113,46 @@ public class BatchSupport implements BatchModule {
 		val smtpConnectionPool = requireNonNull(this.smtpConnectionPool, "Connection pool used before it was initialized. This shouldn't be possible.");
 		checkConfigureOAuth2Token(session);
 
-		return ofNullable(getSessionTransportPoolableObject(smtpConnectionPool, clusterKey, session, stickySession))
-					.map(LifecycleDelegatingTransportImpl::new)
-					.orElseThrow(() -> new BatchException(format(ERROR_ACQUIRING_KEYED_POOLABLE, session)));
+		val claimStartNanos = System.nanoTime();
+		final PoolableObject<SessionTransport> pooledTransport;
+		try {
+			pooledTransport = getSessionTransportPoolableObject(smtpConnectionPool, clusterKey, session, stickySession);
+		} catch (final RuntimeException e) {
+			ofNullable(takeSelectedPoolStatistics(smtpConnectionPool)).ifPresent(PoolStatistics::claimAborted);
+			throw e;
+		}
+
+		val poolStatistics = takeSelectedPoolStatistics(smtpConnectionPool);
+		if (pooledTransport == null) {
+			ofNullable(poolStatistics).ifPresent(PoolStatistics::claimAborted);
+			throw new BatchException(format(ERROR_ACQUIRING_KEYED_POOLABLE, session));
+		}
+		return new LifecycleDelegatingTransportImpl(pooledTransport, poolStatistics, claimStartNanos);
+	}
+
+	/**
+	 * @return The statistics of the pool the cluster's load balancing strategy just selected on this thread, if the strategy keeps them.
+	 */
+	@Nullable
+	private static PoolStatistics takeSelectedPoolStatistics(@NotNull final SmtpConnectionPoolClustered smtpConnectionPool) {
+		val loadBalancingStrategy = smtpConnectionPool.getClusterConfig().getLoadBalancingStrategy();
+		return loadBalancingStrategy instanceof StatisticsBasedLoadBalancing
+				? ((StatisticsBasedLoadBalancing<?>) loadBalancingStrategy).takeSelectedPoolStatistics()
+				: null;
+	}
+
+	/**
+	 * @see BatchModule#acquireTransportAvoiding(UUID, Session, Session)
+	 */
+	@NotNull
+	@Override
+	public LifecycleDelegatingTransport acquireTransportAvoiding(@NotNull final UUID clusterKey, @NotNull final Session session, @NotNull final Session failedSession) {
+		val otherSessions = ofNullable(sessionsPerCluster.get(clusterKey))
+				.map(sessions -> sessions.stream().filter(otherSession -> otherSession != failedSession).collect(toList()))
+				.orElse(emptyList());
+		return otherSessions.isEmpty()
+				? acquireTransport(clusterKey, session, false)
+				: acquireTransport(clusterKey, otherSessions.get(ThreadLocalRandom.current().nextInt(otherSessions.size())), true);
 	}
 
 	@Nullable
@@ -136,6 +186,7 @@ public class BatchSupport implements BatchModule {
 			LOGGER.warn("user requested connection pool shutdown, but there is no connection pool to shut down (yet)");
 			return completedFuture(null);
 		}
+		sessionsPerCluster.values().forEach(sessions -> sessions.remove(session));
 		return smtpConnectionPool.shutdownPool(session);
 	}
 }
\ No newline at end of file
@@ -13,7 +13,6 @@ import org.simplejavamail.smtpconnectionpool.SessionTransport;
 import org.simplejavamail.smtpconnectionpool.SmtpClusterConfig;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static org.simplejavamail.api.mailer.config.LoadBalancingStrategy.ROUND_ROBIN;
 
 final class ClusterHelper {
 	private ClusterHelper() {
@@ -27,9 +26,7 @@ final class ClusterHelper {
 				.defaultCorePoolSize(operationalConfig.getConnectionPoolCoreSize())
 				.defaultMaxPoolSize(operationalConfig.getConnectionPoolMaxSize())
 				.claimTimeout(new Timeout(operationalConfig.getConnectionPoolClaimTimeoutMillis(), MILLISECONDS))
-				.loadBalancingStrategy(operationalConfig.getConnectionPoolLoadBalancingStrategy() == ROUND_ROBIN
-						? new RoundRobinLoadBalancing<>()
-						: new RandomAccessLoadBalancing<>())
+				.loadBalancingStrategy(determineLoadBalancingStrategy(operationalConfig))
 				.defaultExpirationPolicy(new TimeoutSinceLastAllocationExpirationPolicy<>(operationalConfig.getConnectionPoolExpireAfterMillis(), MILLISECONDS));
 		return smtpClusterConfig;
 	}
@@ -44,8 +41,12 @@ final class ClusterHelper {
 	@SuppressWarnings("rawtypes")
 	@NotNull
 	private static LoadBalancingStrategy determineLoadBalancingStrategy(@NotNull final OperationalConfig operationalConfig) {
-		return operationalConfig.getConnectionPoolLoadBalancingStrategy() == ROUND_ROBIN
-				? new RoundRobinLoadBalancing<>()
-				: new RandomAccessLoadBalancing<>();
+		switch (operationalConfig.getConnectionPoolLoadBalancingStrategy()) {
+			case ROUND_ROBIN: return new RoundRobinLoadBalancing<>();
+			case RANDOM_ACCESS: return new RandomAccessLoadBalancing<>();
+			case LEAST_OUTSTANDING_CLAIMS: return new StatisticsBasedLoadBalancing.LeastOutstandingClaims<>();
+			case EWMA_LATENCY: return new StatisticsBasedLoadBalancing.EwmaLatency<>();
+			default: throw new IllegalStateException("Unknown load balancing strategy: " + operationalConfig.getConnectionPoolLoadBalancingStrategy());
+		}
 	}
 }
@@ -4,18 +4,32 @@ import jakarta.mail.Session;
 import jakarta.mail.Transport;
 import org.bbottema.genericobjectpool.PoolableObject;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.internal.batchsupport.LifecycleDelegatingTransport;
 import org.simplejavamail.smtpconnectionpool.SessionTransport;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Wraps {@link PoolableObject} to implement {@link LifecycleDelegatingTransport}, so transport resources
  * can be used outside the batchmodule and released to be reused in connection pool.
  */
 class LifecycleDelegatingTransportImpl implements LifecycleDelegatingTransport {
 	private final PoolableObject<SessionTransport> pooledTransport;
+	/**
+	 * Only available if the pool was selected by a {@link StatisticsBasedLoadBalancing} strategy.
+	 */
+	@Nullable private final PoolStatistics poolStatistics;
+	private final long claimStartNanos;
+	/**
+	 * Only the first signal counts, so the Transport is never released to the pool twice, nor is the claim reported twice.
+	 */
+	private final AtomicBoolean signalled = new AtomicBoolean();
 
-	LifecycleDelegatingTransportImpl(final PoolableObject<SessionTransport> pooledTransport) {
+	LifecycleDelegatingTransportImpl(final PoolableObject<SessionTransport> pooledTransport, @Nullable final PoolStatistics poolStatistics, final long claimStartNanos) {
 		this.pooledTransport = pooledTransport;
+		this.poolStatistics = poolStatistics;
+		this.claimStartNanos = claimStartNanos;
 	}
 
 	@NotNull
@@ -32,11 +46,21 @@ class LifecycleDelegatingTransportImpl implements LifecycleDelegatingTransport {
 
 	@Override
 	public void signalTransportUsed() {
-		pooledTransport.release();
+		if (signalled.compareAndSet(false, true)) {
+			pooledTransport.release();
+			if (poolStatistics != null) {
+				poolStatistics.claimCompleted(System.nanoTime() - claimStartNanos);
+			}
+		}
 	}
 
 	@Override
 	public void signalTransportFailed() {
-		pooledTransport.invalidate();
+		if (signalled.compareAndSet(false, true)) {
+			pooledTransport.invalidate();
+			if (poolStatistics != null) {
+				poolStatistics.claimFailed();
+			}
+		}
 	}
 }
\ No newline at end of file
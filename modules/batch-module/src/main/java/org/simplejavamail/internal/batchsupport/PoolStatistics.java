@@ -0,0 +1,75 @@
+package org.simplejavamail.internal.batchsupport;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Observations of a single connection pool (server) in a cluster, used by {@link StatisticsBasedLoadBalancing}.
+ * <p>
+ * A claim is outstanding from the moment the pool is selected until the Transport is released back to the pool (or the claim failed). Each
+ * claim should be ended exactly once, by either {@link #claimAborted()}, {@link #claimCompleted(long)} or {@link #claimFailed()}.
+ */
+final class PoolStatistics {
+
+	/**
+	 * Weight of a new latency sample in the moving average.
+	 */
+	private static final double EWMA_ALPHA = 0.2;
+
+	/**
+	 * The least a failed claim counts for in the moving average.
+	 */
+	private static final double MIN_FAILED_CLAIM_PENALTY_NANOS = SECONDS.toNanos(1);
+
+	private final AtomicInteger outstandingClaims = new AtomicInteger();
+	/**
+	 * Zero until the first sample came in.
+	 */
+	private volatile double ewmaLatencyNanos;
+
+	void claimStarted() {
+		outstandingClaims.incrementAndGet();
+	}
+
+	void claimAborted() {
+		outstandingClaims.decrementAndGet();
+	}
+
+	/**
+	 * @param latencyNanos The time between selecting this pool and releasing the Transport claimed from it, so claiming plus sending.
+	 */
+	void claimCompleted(final long latencyNanos) {
+		addLatencySample(latencyNanos);
+		outstandingClaims.decrementAndGet();
+	}
+
+	/**
+	 * A failed claim is not sampled at the latency it was observed at, as a server that fails fast would then look like the fastest server.
+	 * Instead, it counts as twice the current average latency, and at least one second.
+	 */
+	void claimFailed() {
+		synchronized (this) {
+			addLatencySample(Math.max(2 * ewmaLatencyNanos, MIN_FAILED_CLAIM_PENALTY_NANOS));
+		}
+		outstandingClaims.decrementAndGet();
+	}
+
+	private synchronized void addLatencySample(final double latencyNanos) {
+		final double current = ewmaLatencyNanos;
+		ewmaLatencyNanos = current == 0 ? latencyNanos : current + EWMA_ALPHA * (latencyNanos - current);
+	}
+
+	int getOutstandingClaims() {
+		return outstandingClaims.get();
+	}
+
+	double getEwmaLatencyNanos() {
+		return ewmaLatencyNanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PoolStatistics{outstandingClaims=%s, ewmaLatencyMillis=%.1f}", getOutstandingClaims(), getEwmaLatencyNanos() / 1_000_000);
+	}
+}
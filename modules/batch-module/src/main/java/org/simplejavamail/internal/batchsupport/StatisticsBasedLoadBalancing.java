@@ -0,0 +1,105 @@
+package org.simplejavamail.internal.batchsupport;
+
+import org.bbottema.clusteredobjectpool.core.api.LoadBalancingStrategy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Base for load balancing strategies that select a pool based on what has been observed of each pool so far, rather than cycling blindly.
+ * <p>
+ * The clustered object pool only hands us its (opaque) pool objects, so observations are tracked per pool object. Since the pool selected in
+ * {@link #cycle(List)} is claimed from right away on the same thread, the selected pool's statistics are handed over to the claiming thread,
+ * which reports back through {@link PoolStatistics} once the claimed Transport is released.
+ *
+ * @see BatchSupport#acquireTransport(java.util.UUID, jakarta.mail.Session, boolean)
+ */
+abstract class StatisticsBasedLoadBalancing<T> implements LoadBalancingStrategy<T, List<T>> {
+
+	private final Map<T, PoolStatistics> statisticsPerPool = Collections.synchronizedMap(new IdentityHashMap<>());
+	private final ThreadLocal<PoolStatistics> selectedPoolStatistics = new ThreadLocal<>();
+
+	@Override
+	public List<T> createCollectionForCycling() {
+		return new ArrayList<>();
+	}
+
+	/**
+	 * Selects the pool that compares best, choosing randomly between pools that compare equal so ties don't always favor the same pool.
+	 */
+	@Override
+	public T cycle(final List<T> pools) {
+		T selectedPool = null;
+		PoolStatistics selectedStatistics = null;
+		int ties = 0;
+		for (final T pool : pools) {
+			final PoolStatistics statistics = statisticsPerPool.computeIfAbsent(pool, p -> new PoolStatistics());
+			final int comparison = selectedStatistics == null ? -1 : compare(statistics, selectedStatistics);
+			if (comparison < 0) {
+				selectedPool = pool;
+				selectedStatistics = statistics;
+				ties = 1;
+			} else if (comparison == 0 && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+				selectedPool = pool;
+				selectedStatistics = statistics;
+			}
+		}
+		selectedStatistics.claimStarted();
+		final PoolStatistics previouslySelected = selectedPoolStatistics.get();
+		if (previouslySelected != null) {
+			// the previous selection on this thread was never claimed from (or reported back), so it shouldn't stay outstanding
+			previouslySelected.claimAborted();
+		}
+		selectedPoolStatistics.set(selectedStatistics);
+		return selectedPool;
+	}
+
+	/**
+	 * @return A negative number if {@code candidate} should be preferred over {@code best}.
+	 */
+	abstract int compare(@NotNull PoolStatistics candidate, @NotNull PoolStatistics best);
+
+	/**
+	 * @return The statistics of the pool last selected on this thread, if any, clearing it so it is only reported once.
+	 */
+	@Nullable
+	PoolStatistics takeSelectedPoolStatistics() {
+		final PoolStatistics statistics = selectedPoolStatistics.get();
+		selectedPoolStatistics.remove();
+		return statistics;
+	}
+
+	/**
+	 * Prefers the pool with the fewest outstanding claims, and among those the one with the lowest observed latency.
+	 */
+	static final class LeastOutstandingClaims<T> extends StatisticsBasedLoadBalancing<T> {
+		@Override
+		int compare(@NotNull final PoolStatistics candidate, @NotNull final PoolStatistics best) {
+			final int byOutstandingClaims = Integer.compare(candidate.getOutstandingClaims(), best.getOutstandingClaims());
+			return byOutstandingClaims != 0
+					? byOutstandingClaims
+					: Double.compare(candidate.getEwmaLatencyNanos(), best.getEwmaLatencyNanos());
+		}
+	}
+
+	/**
+	 * Prefers the pool with the lowest expected latency for a new claim: its moving average latency multiplied by the number of claims it would
+	 * then be handling. Pools that haven't been observed yet score zero, so every pool gets sampled.
+	 */
+	static final class EwmaLatency<T> extends StatisticsBasedLoadBalancing<T> {
+		@Override
+		int compare(@NotNull final PoolStatistics candidate, @NotNull final PoolStatistics best) {
+			return Double.compare(expectedLatency(candidate), expectedLatency(best));
+		}
+
+		private static double expectedLatency(@NotNull final PoolStatistics statistics) {
+			return statistics.getEwmaLatencyNanos() * (statistics.getOutstandingClaims() + 1);
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package org.simplejavamail.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+import org.simplejavamail.api.email.CalendarMethod;
+import org.simplejavamail.api.email.EmailPopulatingBuilder;
+import org.simplejavamail.api.email.config.DkimConfig;
+import org.simplejavamail.api.mailer.config.Pkcs12Config;
+import org.simplejavamail.email.EmailBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Fixtures shared by the benchmarks, so that each suite measures the same emails and the numbers can be compared across suites.
+ */
+public final class BenchmarkEmails {
+
+	/**
+	 * The DKIM library skips the DNS check on the domain key for this domain, so signing can be measured without network access.
+	 */
+	static final String DKIM_TESTING_DOMAIN = "supersecret-testing-domain.com";
+
+	private static final String THUMBS_UP_IMAGE_BASE64 = "iVBORw0KGgoAAAANSUhEUgAAACAAAAAgCAYAAABzenr0AAABeElEQVRYw2NgoAAYGxu3GxkZ7TY1NZVloDcA" +
+			"Wq4MxH+B+D8Qv3FwcOCgtwM6oJaDMTAUXOhmuYqKCjvQ0pdoDrCnmwNMTEwakC0H4u8GBgYC9Ap6DSD+iewAoIPm0ctyLqBlp9F" +
+			"8/x+YE4zpYT8T0LL16JYD8U26+B7oyz4sloPwenpYno3DchCeROsUbwa05A8eB3wB4kqgIxOAuArIng7EW4H4EhC/B+JXQLwDaI4" +
+			"ryZaDSjeg5mt4LCcFXyIn1fdSyXJQVt1OtMWGhoai0OD8T0W8GohZifE1PxD/o7LlsPLiFNAKRrwOABWptLAcqc6QGDAHQEOAYaA" +
+			"c8BNotsJAOgAUAosG1AFA/AtUoY3YEFhKMAvS2AE7iC1+WaG1H6gY3gzE36hUFJ8mqzbU1dUVBBqQBzTgIDQRkWo5qCZdpaenJ0Z" +
+			"x1aytrc0DDB0foIG1oAYKqC0IZK8D4n1AfA6IzwPxXpCFoGoZVEUDaRGGUTAKRgEeAAA2eGJC+ETCiAAAAABJRU5ErkJggg==";
+
+	private static final String DKIM_PRIVATE_KEY_BASE64 =
+			"MIICdgIBADANBgkqhkiG9w0BAQEFAASCAmAwggJcAgEAAoGBAMYuC7ZjFBSWJtP6JH8w1deJE+5sLwkUacZcW4MTVQXTM33BzN8Ec64KO1Hk2B9oxkpdunKt"
+					+ "BggwbWMlGU5gGu4PpQ20cdPcfBIkUMlQKaakHPPGNYaF9dQaZIRy8XON6g1sOJGALXtUYX1r5hdDH13kC/YBw9f1Dsi2smrB0qabAgMBAAECgYAdWbBuYJoWum4hssg49hiVhT2ob+k"
+					+ "/ZQCNWhxLe096P18+3rbiyJwBSI6kgEnpzPChDuSQG0PrbpCkwFfRHbafDIPiMi5b6YZkJoFmmOmBHsewS1VdR/phk+aPQV2SoJ0S0FAGZkOnOkagHfmEMSgjZzTpJouu5NU8mwqz8z"
+					+ "/s0QJBAOUnELTMG/Se3Pw4FQ49K49lA81QaMoL63lYIEvc6uSVoJSEcrBFxv5sfJW2LFWs8VIDyTvYzsCjLwZj6nwA3k0CQQDdZgVHX7crlpUxO/cjKtTa/Nq9S6XLv3S6XX3YJJ9/Z"
+					+ "pYpqAWJbbR+8scBgVxS+9NLLeHhlx/EvkaZRdLhwRyHAkEAtr1ThkqrFIXHxt9Wczd20HCG+qlgF5gv3WHYx4bSTx2/pBCHgWjzyxtqst1HN7+l5nicdrxsDJVVv+vYJ7FtlQJAWPgG"
+					+ "Zwgvs3Rvv7k5NwifQOEbhbZAigAGCF5Jk/Ijpi6zaUn7754GSn2FOzWgxDguUKe/fcgdHBLai/1jIRVZQQJAXF2xzWMwP+TmX44QxK52QHVI8mhNzcnH7A311gWns6AbLcuLA9quwjU"
+					+ "YJMRlfXk67lJXCleZL15EpVPrQ34KlA==";
+
+	private static final String PLAIN_TEXT = "We should meet up! There is a lot to discuss, so bring some snacks.";
+	private static final String HTML_TEXT = "<p>We should meet up!</p><p>There is a <b>lot</b> to discuss, so bring some snacks.</p>";
+	private static final String HTML_TEXT_WITH_IMAGE = HTML_TEXT + "<img src='cid:thumbsup'>";
+
+	/**
+	 * One email structure per {@code SpecializedMimeMessageProducer}, so each MIME producer can be measured in isolation. The names follow the
+	 * producer names (MimeMessageProducerSimple, MimeMessageProducerAlternative, etc.).
+	 */
+	public enum Structure {
+		SIMPLE(false, false, false),
+		ALTERNATIVE(false, false, true),
+		RELATED(false, true, false),
+		MIXED(true, false, false),
+		MIXED_RELATED(true, true, false),
+		MIXED_ALTERNATIVE(true, false, true),
+		RELATED_ALTERNATIVE(false, true, true),
+		MIXED_RELATED_ALTERNATIVE(true, true, true);
+
+		private final boolean mixed;
+		private final boolean related;
+		private final boolean alternative;
+
+		Structure(final boolean mixed, final boolean related, final boolean alternative) {
+			this.mixed = mixed;
+			this.related = related;
+			this.alternative = alternative;
+		}
+
+		@NotNull
+		public EmailPopulatingBuilder populate(@NotNull final EmailPopulatingBuilder builder) {
+			if (related) {
+				builder.withHTMLText(HTML_TEXT_WITH_IMAGE)
+						.withEmbeddedImage("thumbsup", thumbsUpImage(), "image/png");
+			} else if (alternative) {
+				builder.withHTMLText(HTML_TEXT);
+			}
+			if (alternative || !related) {
+				builder.withPlainText(PLAIN_TEXT);
+			}
+			if (mixed) {
+				builder.withAttachment("dresscode.txt", "Black Tie Optional".getBytes(UTF_8), "text/plain")
+						.withAttachment("location.txt", "On the moon!".getBytes(UTF_8), "text/plain");
+			}
+			return builder;
+		}
+	}
+
+	private BenchmarkEmails() {
+	}
+
+	/**
+	 * @return A builder with sender, recipients, subject and headers, but without content (see {@link Structure#populate(EmailPopulatingBuilder)}).
+	 */
+	@NotNull
+	public static EmailPopulatingBuilder emailBuilderWithoutContent() {
+		return EmailBuilder.startingBlank()
+				.from("lollypop", "lol.pop@" + DKIM_TESTING_DOMAIN)
+				.withReplyTo("lollypop-reply", "lol.pop.reply@somemail.com")
+				.to("C.Cane", "candycane@candyshop.org")
+				.cc("Jelly Bean", "jelly.bean@candyshop.org")
+				.bcc("Gummy Bear", "gummy.bear@candyshop.org")
+				.withSubject("hey")
+				.withHeader("X-Priority", 2)
+				.withHeader("dummyHeader", "dummyHeaderValue");
+	}
+
+	@NotNull
+	public static EmailPopulatingBuilder emailBuilder(@NotNull final Structure structure) {
+		return structure.populate(emailBuilderWithoutContent());
+	}
+
+	/**
+	 * @return A typical everyday email: plain and HTML text, an embedded image, attachments and a calendar invite.
+	 */
+	@NotNull
+	public static EmailPopulatingBuilder fullEmailBuilder() {
+		return emailBuilder(Structure.MIXED_RELATED_ALTERNATIVE)
+				.withCalendarText(CalendarMethod.REQUEST, "BEGIN:VCALENDAR\nEND:VCALENDAR");
+	}
+
+	@NotNull
+	public static DkimConfig dkimConfig() {
+		return DkimConfig.builder()
+				.dkimPrivateKeyData(Base64.getDecoder().decode(DKIM_PRIVATE_KEY_BASE64))
+				.dkimSigningDomain(DKIM_TESTING_DOMAIN)
+				.dkimSelector("dkim1")
+				.build();
+	}
+
+	@NotNull
+	public static Pkcs12Config pkcs12Config() {
+		try (InputStream keyStore = requireNonNull(BenchmarkEmails.class.getResourceAsStream("/pkcs12/smime_keystore.pkcs12"))) {
+			return Pkcs12Config.builder()
+					.pkcs12Store(keyStore)
+					.storePassword("letmein")
+					.keyAlias("smime_test_user_alias")
+					.keyPassword("letmein")
+					.build();
+		} catch (IOException e) {
+			throw new UncheckedIOException("unable to load benchmark keystore", e);
+		}
+	}
+
+	@NotNull
+	static byte[] thumbsUpImage() {
+		return Base64.getDecoder().decode(THUMBS_UP_IMAGE_BASE64);
+	}
+
+	/**
+	 * Sink for {@code MimeMessage.writeTo(OutputStream)}, so rendering (and lazy DKIM signing) is measured without the cost of collecting bytes.
+	 */
+	static final class DiscardingOutputStream extends OutputStream {
+		long count;
+
+		@Override
+		public void write(final int b) {
+			count++;
+		}
+
+		@Override
+		public void write(final byte @NotNull [] b, final int off, final int len) {
+			count += len;
+		}
+	}
+}
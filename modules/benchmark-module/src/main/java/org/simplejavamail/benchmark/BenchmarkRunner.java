@@ -0,0 +1,21 @@
+package org.simplejavamail.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Convenience entry point for running (a selection of) the benchmarks from the IDE. From the command line, use the shaded jar instead:
+ * <pre>{@code java -jar modules/benchmark-module/target/benchmarks.jar [regex]}</pre>
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args)
+			throws RunnerException {
+		final Options options = new OptionsBuilder()
+				.include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*")
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,50 @@
+package org.simplejavamail.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.email.EmailPopulatingBuilder;
+import org.simplejavamail.benchmark.BenchmarkEmails.Structure;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code EmailPopulatingBuilderImpl.buildEmail()}, both on a prepared builder and including populating the builder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailBuilderBenchmark {
+
+	@Param
+	public Structure structure;
+
+	private EmailPopulatingBuilder preparedBuilder;
+
+	@Setup
+	public void setup() {
+		preparedBuilder = BenchmarkEmails.emailBuilder(structure);
+	}
+
+	@Benchmark
+	public Email buildEmail() {
+		return preparedBuilder.buildEmail();
+	}
+
+	@Benchmark
+	public Email populateAndBuildEmail() {
+		return BenchmarkEmails.emailBuilder(structure).buildEmail();
+	}
+}
@@ -0,0 +1,62 @@
+package org.simplejavamail.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.mailer.config.EmailGovernance;
+import org.simplejavamail.email.EmailBuilder;
+import org.simplejavamail.mailer.internal.EmailGovernanceImpl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code EmailGovernanceImpl.produceEmailApplyingDefaultsAndOverrides(Email)}, which runs for every email sent by a Mailer. Measured
+ * without any defaults or overrides (the common case) and with both defaults and overrides configured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailGovernanceBenchmark {
+
+	private Email email;
+	private EmailGovernance noGovernance;
+	private EmailGovernance defaultsAndOverridesGovernance;
+
+	@Setup
+	public void setup() {
+		email = BenchmarkEmails.fullEmailBuilder().buildEmail();
+		noGovernance = EmailGovernanceImpl.NO_GOVERNANCE();
+		defaultsAndOverridesGovernance = new EmailGovernanceImpl(null,
+				EmailBuilder.startingBlank()
+						.from("default sender", "default@candyshop.org")
+						.withBounceTo("bounces@candyshop.org")
+						.withHeader("X-Default", "default value")
+						.buildEmail(),
+				EmailBuilder.startingBlank()
+						.withHeader("X-Mailer", "benchmark")
+						.withReturnReceiptTo("receipts@candyshop.org")
+						.buildEmail(),
+				null);
+	}
+
+	@Benchmark
+	public Email noDefaultsOrOverrides() {
+		return noGovernance.produceEmailApplyingDefaultsAndOverrides(email);
+	}
+
+	@Benchmark
+	public Email withDefaultsAndOverrides() {
+		return defaultsAndOverridesGovernance.produceEmailApplyingDefaultsAndOverrides(email);
+	}
+}
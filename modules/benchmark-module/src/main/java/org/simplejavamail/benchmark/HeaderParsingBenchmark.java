@@ -0,0 +1,82 @@
+package org.simplejavamail.benchmark;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.email.EmailPopulatingBuilder;
+import org.simplejavamail.converter.EmailConverter;
+import org.simplejavamail.converter.EmlHeaders;
+import org.simplejavamail.converter.internal.mimemessage.MimeMessageParser;
+import org.simplejavamail.converter.internal.mimemessage.MimeMessageParser.ParsedMimeMessageComponents;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares the header-only {@link EmailConverter#emlToHeaders(java.io.InputStream)} with a full parse, for the typical indexing use case of
+ * reading the message ID, subject, sender, recipients and date from large multipart messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeaderParsingBenchmark {
+
+	private static final int ATTACHMENT_COUNT = 4;
+
+	/**
+	 * Size of each attachment in bytes.
+	 */
+	@Param({ "16384", "1048576" })
+	public int attachmentSize;
+
+	private byte[] eml;
+	private Session session;
+
+	@Setup
+	public void setup() {
+		final byte[] attachment = new byte[attachmentSize];
+		Arrays.fill(attachment, (byte) 'a');
+		final EmailPopulatingBuilder builder = BenchmarkEmails.fullEmailBuilder();
+		for (int i = 0; i < ATTACHMENT_COUNT; i++) {
+			builder.withAttachment("attachment" + i + ".bin", attachment, "application/octet-stream");
+		}
+		eml = EmailConverter.emailToEML(builder.buildEmail()).getBytes(UTF_8);
+		session = Session.getInstance(new Properties());
+	}
+
+	@Benchmark
+	public Object headersOnly() {
+		final EmlHeaders headers = EmailConverter.emlToHeaders(new ByteArrayInputStream(eml));
+		return new Object[] { headers.getMessageId(), headers.getSubject(), headers.getFrom(), headers.getTo(), headers.getCc(), headers.getSentDate() };
+	}
+
+	@Benchmark
+	public ParsedMimeMessageComponents fullMimeMessageParse()
+			throws MessagingException {
+		return MimeMessageParser.parseMimeMessage(new MimeMessage(session, new ByteArrayInputStream(eml)));
+	}
+
+	@Benchmark
+	public Email fullEmlToEmail() {
+		return EmailConverter.emlToEmail(new ByteArrayInputStream(eml));
+	}
+}
@@ -0,0 +1,102 @@
+package org.simplejavamail.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.api.email.EmailPopulatingBuilder;
+import org.simplejavamail.internal.util.ImageSrcScanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+import static java.util.regex.Matcher.quoteReplacement;
+
+/**
+ * Compares {@link ImageSrcScanner} with the {@link EmailPopulatingBuilder#IMG_SRC_PATTERN} regular expression it replaced, on newsletter-like HTML
+ * bodies. Rewriting uses {@code Matcher.appendReplacement}, as embedded image resolution did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageSrcScanningBenchmark {
+
+	/**
+	 * Approximate size of the HTML body in characters.
+	 */
+	@Param({ "512000" })
+	public int htmlSize;
+
+	/**
+	 * Whether the images still need resolving, or all refer to embedded images already (so nothing needs replacing).
+	 */
+	@Param({ "true", "false" })
+	public boolean resolvableImages;
+
+	private String html;
+
+	@Setup
+	public void setup() {
+		final StringBuilder builder = new StringBuilder(htmlSize + 1024);
+		builder.append("<html><head><style>td { padding: 4px; }</style></head><body><table width=\"600\">");
+		for (int i = 0; builder.length() < htmlSize; i++) {
+			final String src = (resolvableImages ? "images/" : "cid:") + "product" + (i % 20) + ".png";
+			builder.append("<tr><td class=\"product\" style=\"border: 1px solid #ccc\">")
+					.append("<a href=\"https://example.com/products/").append(i).append("\">")
+					.append("<img id=\"product-").append(i).append("\" width=\"120\" height=\"80\" alt=\"Product ").append(i)
+					.append("\"\n     src=\"").append(src).append("\"/></a></td>")
+					.append("<td><h2>Product ").append(i).append("</h2><p>Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod ")
+					.append("tempor incididunt ut labore et dolore magna aliqua. <b>Ut enim</b> ad minim veniam, quis nostrud exercitation ullamco ")
+					.append("laboris nisi ut aliquip ex ea commodo consequat.</p><p><span style=\"color: #c00\">Now only &euro; ").append(i)
+					.append(",-</span></p></td></tr>");
+		}
+		builder.append("</table><img src=\"https://example.com/tracking.gif\" width=\"1\" height=\"1\"/></body></html>");
+		html = builder.toString();
+	}
+
+	@Benchmark
+	public List<String> findWithRegex() {
+		final List<String> srcs = new ArrayList<>();
+		final Matcher matcher = EmailPopulatingBuilder.IMG_SRC_PATTERN.matcher(html);
+		while (matcher.find()) {
+			srcs.add(matcher.group("src"));
+		}
+		return srcs;
+	}
+
+	@Benchmark
+	public List<String> findWithScanner() {
+		return ImageSrcScanner.findImageSrcs(html);
+	}
+
+	@Benchmark
+	public String replaceWithRegex() {
+		final StringBuffer stringBuffer = new StringBuffer();
+		final Matcher matcher = EmailPopulatingBuilder.IMG_SRC_PATTERN.matcher(html);
+		while (matcher.find()) {
+			final String src = matcher.group("src");
+			if (!src.startsWith("cid:")) {
+				matcher.appendReplacement(stringBuffer, quoteReplacement(matcher.group("imageTagStart") + "cid:" + src + matcher.group("imageSrcEnd")));
+			}
+		}
+		matcher.appendTail(stringBuffer);
+		return stringBuffer.toString();
+	}
+
+	@Benchmark
+	public String replaceWithScanner() {
+		return ImageSrcScanner.replaceImageSrcs(html, src -> src.startsWith("cid:") ? null : "cid:" + src);
+	}
+}
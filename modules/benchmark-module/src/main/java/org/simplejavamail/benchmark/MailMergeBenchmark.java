@@ -0,0 +1,112 @@
+package org.simplejavamail.benchmark;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.email.EmailPopulatingBuilder;
+import org.simplejavamail.api.email.Recipient;
+import org.simplejavamail.api.mailer.config.EmailGovernance;
+import org.simplejavamail.benchmark.BenchmarkEmails.DiscardingOutputStream;
+import org.simplejavamail.converter.internal.mimemessage.MimeMessageProducerHelper;
+import org.simplejavamail.email.EmailBuilder;
+import org.simplejavamail.email.EmailTemplate;
+import org.simplejavamail.mailer.internal.EmailGovernanceImpl;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static jakarta.mail.Message.RecipientType.TO;
+
+/**
+ * Measures producing and rendering one personalized email of a mail merge, the way a Mailer would before sending it: once built from scratch
+ * with the {@link EmailBuilder} for every recipient, and once stamped from a precompiled {@link EmailTemplate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MailMergeBenchmark {
+
+	private static final String SUBJECT = "Your order ${orderId}";
+	private static final String HTML_TEXT = "<p>Dear ${name},</p><p>Thanks for order ${orderId}, the invoice is attached.</p><img src='cid:thumbsup'>";
+
+	/**
+	 * Size in bytes of the attachment shared by all emails.
+	 */
+	@Param({ "262144" })
+	public int attachmentSize;
+
+	private byte[] attachment;
+	private EmailGovernance emailGovernance;
+	private EmailTemplate emailTemplate;
+	private Session session;
+	private final Recipient recipient = new Recipient("Joe", "joe@candyshop.org", TO);
+	private final Map<String, Object> placeholderValues = new HashMap<>();
+
+	@Setup
+	public void setup() {
+		attachment = new byte[attachmentSize];
+		new Random(42).nextBytes(attachment);
+		emailGovernance = new EmailGovernanceImpl(null,
+				EmailBuilder.startingBlank()
+						.from("Candy Shop", "orders@candyshop.org")
+						.bcc("Archive", "archive@candyshop.org")
+						.buildEmail(),
+				null,
+				null);
+		emailTemplate = EmailTemplate.compile(emailBuilder(SUBJECT, HTML_TEXT).buildEmail(), emailGovernance);
+		session = Session.getInstance(new Properties());
+		placeholderValues.put("name", "Joe");
+		placeholderValues.put("orderId", 42);
+	}
+
+	@Benchmark
+	public long buildEachEmail()
+			throws IOException, MessagingException {
+		final Email email = emailBuilder("Your order 42", "<p>Dear Joe,</p><p>Thanks for order 42, the invoice is attached.</p><img src='cid:thumbsup'>")
+				.to(recipient)
+				.buildEmail();
+		return write(emailGovernance.produceEmailApplyingDefaultsAndOverrides(email));
+	}
+
+	@Benchmark
+	public long stampFromTemplate()
+			throws IOException, MessagingException {
+		final Email email = emailTemplate.produce(recipient, placeholderValues);
+		return write(emailGovernance.produceEmailApplyingDefaultsAndOverrides(email));
+	}
+
+	private EmailPopulatingBuilder emailBuilder(final String subject, final String htmlText) {
+		return EmailBuilder.startingBlank()
+				.withSubject(subject)
+				.withHTMLText(htmlText)
+				.withEmbeddedImage("thumbsup", BenchmarkEmails.thumbsUpImage(), "image/png")
+				.withAttachment("invoice.pdf", attachment, "application/pdf");
+	}
+
+	private long write(final Email email)
+			throws IOException, MessagingException {
+		final MimeMessage mimeMessage = MimeMessageProducerHelper.produceMimeMessage(email, session);
+		final DiscardingOutputStream os = new DiscardingOutputStream();
+		mimeMessage.writeTo(os);
+		return os.count;
+	}
+}
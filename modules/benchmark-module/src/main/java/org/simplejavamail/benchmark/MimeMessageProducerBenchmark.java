@@ -0,0 +1,66 @@
+package org.simplejavamail.benchmark;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.benchmark.BenchmarkEmails.DiscardingOutputStream;
+import org.simplejavamail.benchmark.BenchmarkEmails.Structure;
+import org.simplejavamail.converter.internal.mimemessage.MimeMessageProducerHelper;
+import org.simplejavamail.mailer.internal.EmailGovernanceImpl;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MimeMessageProducerHelper#produceMimeMessage(Email, Session)} with one case per {@code SpecializedMimeMessageProducer} (see
+ * {@link Structure}), both producing the MimeMessage structure only and rendering it to bytes as the Transport would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MimeMessageProducerBenchmark {
+
+	@Param
+	public Structure structure;
+
+	private Email email;
+	private Session session;
+
+	@Setup
+	public void setup() {
+		email = EmailGovernanceImpl.NO_GOVERNANCE().produceEmailApplyingDefaultsAndOverrides(BenchmarkEmails.emailBuilder(structure).buildEmail());
+		session = Session.getInstance(new Properties());
+	}
+
+	@Benchmark
+	public MimeMessage produceMimeMessage()
+			throws UnsupportedEncodingException, MessagingException {
+		return MimeMessageProducerHelper.produceMimeMessage(email, session);
+	}
+
+	@Benchmark
+	public long produceAndWriteMimeMessage()
+			throws IOException, MessagingException {
+		final MimeMessage mimeMessage = MimeMessageProducerHelper.produceMimeMessage(email, session);
+		final DiscardingOutputStream os = new DiscardingOutputStream();
+		mimeMessage.writeTo(os);
+		return os.count;
+	}
+}
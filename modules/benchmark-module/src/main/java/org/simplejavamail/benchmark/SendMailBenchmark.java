@@ -0,0 +1,100 @@
+package org.simplejavamail.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.mailer.Mailer;
+import org.simplejavamail.api.mailer.config.TransportStrategy;
+import org.simplejavamail.benchmark.BenchmarkEmails.Structure;
+import org.simplejavamail.mailer.MailerBuilder;
+import org.subethamail.smtp.server.SMTPServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark: builds, renders and sends emails through the connection pool of the batch-module, to a local SubEthaSMTP server that
+ * discards everything it receives. Measures a single blocking send as well as a burst of async sends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SendMailBenchmark {
+
+	private static final int ASYNC_BURST_SIZE = 100;
+
+	@Param({ "SIMPLE", "MIXED_RELATED_ALTERNATIVE" })
+	public Structure structure;
+
+	@Param({ "4" })
+	public int connectionPoolMaxSize;
+
+	private SMTPServer smtpServer;
+	private Mailer mailer;
+	private Email email;
+
+	@Setup
+	public void setup()
+			throws IOException {
+		final int port = findFreePort();
+		smtpServer = SMTPServer.port(port)
+				.messageHandler((context, from, to, data) -> {
+					// discard
+				})
+				.build();
+		smtpServer.start();
+		mailer = MailerBuilder
+				.withSMTPServer("localhost", port)
+				.withTransportStrategy(TransportStrategy.SMTP)
+				.withConnectionPoolCoreSize(connectionPoolMaxSize)
+				.withConnectionPoolMaxSize(connectionPoolMaxSize)
+				.withThreadPoolSize(connectionPoolMaxSize)
+				.buildMailer();
+		email = BenchmarkEmails.emailBuilder(structure).buildEmail();
+	}
+
+	@TearDown
+	public void tearDown()
+			throws Exception {
+		mailer.shutdownConnectionPool().get();
+		smtpServer.stop();
+	}
+
+	@Benchmark
+	public void sendMail() {
+		mailer.sendMail(email);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ASYNC_BURST_SIZE)
+	public void sendMailAsync() {
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[ASYNC_BURST_SIZE];
+		for (int i = 0; i < ASYNC_BURST_SIZE; i++) {
+			futures[i] = mailer.sendMail(email, true);
+		}
+		CompletableFuture.allOf(futures).join();
+	}
+
+	private static int findFreePort()
+			throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
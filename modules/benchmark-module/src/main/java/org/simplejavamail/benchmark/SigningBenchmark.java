@@ -0,0 +1,95 @@
+package org.simplejavamail.benchmark;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.benchmark.BenchmarkEmails.DiscardingOutputStream;
+import org.simplejavamail.benchmark.BenchmarkEmails.Structure;
+import org.simplejavamail.converter.internal.mimemessage.MimeMessageProducerHelper;
+import org.simplejavamail.mailer.internal.EmailGovernanceImpl;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures DKIM and S/MIME signing, by producing and rendering a MimeMessage with signing enabled. DKIM signs lazily while the message is
+ * written, so every case writes the message to a discarding stream. The unsigned case is the baseline to subtract.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningBenchmark {
+
+	private Session session;
+	private Email unsignedEmail;
+	private Email dkimSignedEmail;
+	private Email smimeSignedEmail;
+	private Email smimeAndDkimSignedEmail;
+
+	@Setup
+	public void setup() {
+		session = Session.getInstance(new Properties());
+		unsignedEmail = governed(BenchmarkEmails.emailBuilder(Structure.MIXED_ALTERNATIVE).buildEmail());
+		dkimSignedEmail = governed(BenchmarkEmails.emailBuilder(Structure.MIXED_ALTERNATIVE)
+				.signWithDomainKey(BenchmarkEmails.dkimConfig())
+				.buildEmail());
+		smimeSignedEmail = governed(BenchmarkEmails.emailBuilder(Structure.MIXED_ALTERNATIVE)
+				.signWithSmime(BenchmarkEmails.pkcs12Config())
+				.buildEmail());
+		smimeAndDkimSignedEmail = governed(BenchmarkEmails.emailBuilder(Structure.MIXED_ALTERNATIVE)
+				.signWithSmime(BenchmarkEmails.pkcs12Config())
+				.signWithDomainKey(BenchmarkEmails.dkimConfig())
+				.buildEmail());
+	}
+
+	private static Email governed(final Email email) {
+		return EmailGovernanceImpl.NO_GOVERNANCE().produceEmailApplyingDefaultsAndOverrides(email);
+	}
+
+	@Benchmark
+	public long unsigned()
+			throws IOException, MessagingException {
+		return produceAndWrite(unsignedEmail);
+	}
+
+	@Benchmark
+	public long dkim()
+			throws IOException, MessagingException {
+		return produceAndWrite(dkimSignedEmail);
+	}
+
+	@Benchmark
+	public long smime()
+			throws IOException, MessagingException {
+		return produceAndWrite(smimeSignedEmail);
+	}
+
+	@Benchmark
+	public long smimeAndDkim()
+			throws IOException, MessagingException {
+		return produceAndWrite(smimeAndDkimSignedEmail);
+	}
+
+	private long produceAndWrite(final Email email)
+			throws IOException, MessagingException {
+		final MimeMessage mimeMessage = MimeMessageProducerHelper.produceMimeMessage(email, session);
+		final DiscardingOutputStream os = new DiscardingOutputStream();
+		mimeMessage.writeTo(os);
+		return os.count;
+	}
+}
@@ -0,0 +1,117 @@
+package org.simplejavamail.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.simplejavamail.internal.util.IOUtil;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares {@link IOUtil} with the byte-at-a-time and 1 KB chunk implementations that {@code MiscUtil.readInputStreamToString} and
+ * {@code MiscUtil.readInputStreamToBytes} used before, for attachment sized content. Streams of known length are what attachments backed by a
+ * {@code ByteArrayDataSource} produce; streams of unknown length are what attachments parsed from a MimeMessage produce.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamReadingBenchmark {
+
+	@Param({ "65536", "2097152", "8388608" })
+	public int size;
+
+	private byte[] content;
+
+	@Setup
+	public void setup() {
+		content = new byte[size];
+		// ascii, so the String variants measure the same decoding work
+		Arrays.fill(content, (byte) 'a');
+	}
+
+	@Benchmark
+	public byte[] bytesKnownLength_legacy()
+			throws IOException {
+		return legacyReadInputStreamToBytes(new ByteArrayInputStream(content));
+	}
+
+	@Benchmark
+	public byte[] bytesKnownLength_bulk()
+			throws IOException {
+		return IOUtil.readAllBytes(new ByteArrayInputStream(content));
+	}
+
+	@Benchmark
+	public byte[] bytesUnknownLength_legacy()
+			throws IOException {
+		return legacyReadInputStreamToBytes(unknownLengthStream());
+	}
+
+	@Benchmark
+	public byte[] bytesUnknownLength_bulk()
+			throws IOException {
+		return IOUtil.readAllBytes(unknownLengthStream());
+	}
+
+	@Benchmark
+	public String stringUnknownLength_legacy()
+			throws IOException {
+		return legacyReadInputStreamToString(unknownLengthStream(), UTF_8);
+	}
+
+	@Benchmark
+	public String stringUnknownLength_bulk()
+			throws IOException {
+		return IOUtil.readAllString(unknownLengthStream(), UTF_8);
+	}
+
+	private InputStream unknownLengthStream() {
+		return new FilterInputStream(new ByteArrayInputStream(content)) {
+		};
+	}
+
+	private static String legacyReadInputStreamToString(final InputStream inputStream, final Charset charset)
+			throws IOException {
+		final BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		int result = bufferedInputStream.read();
+		while (result != -1) {
+			byteArrayOutputStream.write((byte) result);
+			result = bufferedInputStream.read();
+		}
+		return byteArrayOutputStream.toString(charset.name());
+	}
+
+	private static byte[] legacyReadInputStreamToBytes(final InputStream inputStream)
+			throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		byte[] data = new byte[1024];
+		int read;
+		while ((read = inputStream.read(data, 0, data.length)) != -1) {
+			buffer.write(data, 0, read);
+		}
+		buffer.flush();
+		return buffer.toByteArray();
+	}
+}
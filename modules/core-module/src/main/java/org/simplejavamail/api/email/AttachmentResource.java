@@ -4,12 +4,14 @@ import jakarta.activation.DataSource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.MailException;
+import org.simplejavamail.internal.util.IOUtil;
 import org.simplejavamail.internal.util.MiscUtil;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Objects;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -48,6 +50,12 @@ public class AttachmentResource implements Serializable {
 	@Nullable
 	private final ContentTransferEncoding contentTransferEncoding;
 
+	/**
+	 * @see #computeContentDigest()
+	 */
+	@Nullable
+	private transient volatile byte[] contentDigest;
+
 	/**
 	 * Delegates to {@link AttachmentResource#AttachmentResource(String, DataSource, String, ContentTransferEncoding)} with null-description and no forced content transfer encoding
 	 */
@@ -154,12 +162,43 @@ public class AttachmentResource implements Serializable {
 		return contentTransferEncoding;
 	}
 
-	@SuppressWarnings("SameReturnValue")
+	/**
+	 * The SHA-256 digest of the attachment's content, which identifies the payload regardless of its name. This reads the data source's entire
+	 * content (streaming it, so it is not held in memory), so it is only done on request rather than by {@link #equals(Object)} or {@link
+	 * #hashCode()}. Once computed, the digest is cached, and {@link #equals(Object)} does use it when both attachments have one.
+	 *
+	 * @return A copy of the digest.
+	 * @throws IOException If the content can't be read, for example because attachment data was not fetched while parsing. This is not
+	 *                     cached, so a later call tries again.
+	 */
+	@NotNull
+	public byte[] computeContentDigest()
+			throws IOException {
+		byte[] digest = contentDigest;
+		if (digest == null) {
+			if (dataSource == null) {
+				throw new IOException("Attachment content is not available, as the data source is not serializable");
+			}
+			digest = IOUtil.sha256(dataSource);
+			contentDigest = digest;
+		}
+		return digest.clone();
+	}
+
+	/**
+	 * Based on the same fields as {@link #equals(Object)}, except the content digest, as it is only known after {@link #computeContentDigest()}.
+	 */
 	@Override
 	public int hashCode() {
-		return 0;
+		return Objects.hash(name, description, contentTransferEncoding);
 	}
 
+	/**
+	 * Compares the name, the data source's name and content type, the description and the content transfer encoding. The content itself is only
+	 * compared if both attachments already know their {@link #computeContentDigest() content digest}, as reading it just for comparing would
+	 * make equality (and every lookup in a collection of attachments) as expensive as reading all attachment data. So two attachments with the
+	 * same name and type but different content are only told apart after their digests have been computed.
+	 */
 	@Override
 	public boolean equals(@Nullable Object o) {
 		if (this == o) return true;
@@ -168,7 +207,12 @@ public class AttachmentResource implements Serializable {
 		return Objects.equals(name, that.name) &&
 				EqualsHelper.isEqualDataSource(dataSource, that.dataSource) &&
 				Objects.equals(description, that.description) &&
-				Objects.equals(contentTransferEncoding, that.contentTransferEncoding);
+				Objects.equals(contentTransferEncoding, that.contentTransferEncoding) &&
+				isEqualContentIfKnown(contentDigest, that.contentDigest);
+	}
+
+	private static boolean isEqualContentIfKnown(@Nullable final byte[] contentDigest, @Nullable final byte[] otherContentDigest) {
+		return contentDigest == null || otherContentDigest == null || Arrays.equals(contentDigest, otherContentDigest);
 	}
 
 	@Override
@@ -279,6 +279,47 @@ public class Email implements Serializable {
 		dkimConfig = builder.getDkimConfig();
 	}
 
+	/**
+	 * Shallow copy of the given email, which shares its (unmodifiable) collections and values instead of transferring everything through an
+	 * {@link EmailPopulatingBuilder} again. Used internally when there are no defaults or overrides to apply to an email.
+	 */
+	protected Email(@NotNull final Email email) {
+		checkNonEmptyArgument(email, "email");
+
+		ignoreDefaults = email.ignoreDefaults;
+		ignoreOverrides = email.ignoreOverrides;
+		propertiesNotToApplyDefaultValueFor = email.propertiesNotToApplyDefaultValueFor;
+		propertiesNotToApplyOverrideValueFor = email.propertiesNotToApplyOverrideValueFor;
+		smimeSignedEmail = email.smimeSignedEmail;
+		wasMergedWithSmimeSignedMessage = email.wasMergedWithSmimeSignedMessage;
+		recipients = email.recipients;
+		embeddedImages = email.embeddedImages;
+		attachments = email.attachments;
+		decryptedAttachments = email.decryptedAttachments;
+		headers = email.headers;
+		id = email.id;
+		fromRecipient = email.fromRecipient;
+		replyToRecipients = email.replyToRecipients;
+		bounceToRecipient = email.bounceToRecipient;
+		text = email.text;
+		textHTML = email.textHTML;
+		calendarMethod = email.calendarMethod;
+		textCalendar = email.textCalendar;
+		contentTransferEncoding = email.contentTransferEncoding;
+		subject = email.subject;
+		useDispositionNotificationTo = email.useDispositionNotificationTo;
+		dispositionNotificationTo = email.dispositionNotificationTo;
+		useReturnReceiptTo = email.useReturnReceiptTo;
+		returnReceiptTo = email.returnReceiptTo;
+		overrideReceivers = email.overrideReceivers;
+		emailToForward = email.emailToForward;
+		originalSmimeDetails = email.originalSmimeDetails;
+		sentDate = email.sentDate;
+		x509CertificateForSmimeEncryption = email.x509CertificateForSmimeEncryption;
+		pkcs12ConfigForSmimeSigning = email.pkcs12ConfigForSmimeSigning;
+		dkimConfig = email.dkimConfig;
+	}
+
 	@SuppressWarnings("SameReturnValue")
 	@Override
 	public int hashCode() {
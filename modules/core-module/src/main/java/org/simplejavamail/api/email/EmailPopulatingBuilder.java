@@ -43,6 +43,8 @@ public interface EmailPopulatingBuilder {
 	/**
 	 * Regular Expression to find all {@code <img src="...">} entries in an HTML document.It needs to cater for various things, like more whitespaces including newlines on any
 	 * place, HTML is not case-sensitive and there can be arbitrary text between "IMG" and "SRC" like IDs and other things.
+	 * <p>
+	 * Dynamic embedded image resolution doesn't use this pattern itself, but an equivalent single-pass scanner, which is much faster on large HTML bodies.
 	 */
 	Pattern IMG_SRC_PATTERN = compile("(?<imageTagStart><[Ii][Mm][Gg]\\s*[^>]*?\\s+[Ss][Rr][Cc]\\s*=\\s*[\"'])(?<src>[^\"']+?)(?<imageSrcEnd>[\"'])");
 
@@ -1100,6 +1102,20 @@ public interface EmailPopulatingBuilder {
 	 * @param embeddedImageAutoResolutionMustBeSuccesful Whether auto resolution is enforced and bubbles up failure to do so.
 	 */
 	EmailPopulatingBuilder embeddedImageAutoResolutionMustBeSuccesful(final boolean embeddedImageAutoResolutionMustBeSuccesful);
+
+	/**
+	 * When enabled, attachments and embedded images that are subsequently added as <code>byte[]</code> store a copy of the given data, which is
+	 * shared with any other such payload with identical content (held weakly, so it is released once no email uses it anymore). This is useful
+	 * when building many emails with the same large attachments, such as in a mail merge, at the cost of hashing each payload once.
+	 * <p>
+	 * Disabled by default, in which case the given array is used as is.
+	 *
+	 * @param deduplicateAttachmentContent Whether identical <code>byte[]</code> payloads should be held in memory only once.
+	 *
+	 * @see #withAttachment(String, byte[], String, String, ContentTransferEncoding)
+	 * @see #withEmbeddedImage(String, byte[], String)
+	 */
+	EmailPopulatingBuilder deduplicatingAttachmentContent(final boolean deduplicateAttachmentContent);
 	
 	/**
 	 * Delegates to {@link #withEmbeddedImage(String, DataSource)}, with a named {@link ByteArrayDataSource} created using the provided name, data and
@@ -0,0 +1,39 @@
+package org.simplejavamail.api.internal.spoolsupport;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Durable log of emails accepted for asynchronous sending, so they survive a crash or restart until they are sent.
+ */
+public interface MailSpool {
+
+	/**
+	 * Appends a ready-to-send message to the spool, returning once it has been forced to disk.
+	 *
+	 * @param envelopeFrom The address to use in the SMTP MAIL FROM command, if it differs from the From header.
+	 * @param recipients   The addresses to use in the SMTP RCPT TO commands.
+	 * @param eml          The complete message, as it will be sent over the wire.
+	 */
+	@NotNull
+	SpooledEmail append(@Nullable String envelopeFrom, @NotNull List<String> recipients, @NotNull byte[] eml);
+
+	/**
+	 * @return The emails that were still pending when the spool was opened. Only the first caller receives them, so they are sent only once.
+	 */
+	@NotNull
+	List<SpooledEmail> takeRecoveredEmails();
+
+	/**
+	 * Marks the email as handled, so it won't be recovered anymore. This isn't forced to disk, so after a crash an email may be recovered that
+	 * was already sent.
+	 */
+	void markDone(@NotNull SpooledEmail spooledEmail);
+
+	/**
+	 * Releases the spool. Emails that are marked done after it was closed are recovered again the next time the spool is opened.
+	 */
+	void close();
+}
@@ -0,0 +1,15 @@
+package org.simplejavamail.api.internal.spoolsupport;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * An email in the {@link MailSpool}, in the form in which it should be sent.
+ */
+public interface SpooledEmail {
+	@Nullable String getEnvelopeFrom();
+	@NotNull List<String> getRecipients();
+	@NotNull byte[] getEml();
+}
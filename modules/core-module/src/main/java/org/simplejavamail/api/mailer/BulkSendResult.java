@@ -0,0 +1,42 @@
+package org.simplejavamail.api.mailer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The outcome of {@link Mailer#sendMails(Iterable, int)}: a future for each individual email, plus an aggregate future and counters for the
+ * batch as a whole.
+ */
+public interface BulkSendResult {
+
+	/**
+	 * @return One future per email, in the order in which the emails were provided. A future completes exceptionally if its email failed to
+	 * validate or to send.
+	 */
+	@NotNull
+	List<CompletableFuture<Void>> getEmailFutures();
+
+	/**
+	 * @return A future that completes (normally) once every email of the batch has been processed, whether it was sent successfully or not. Use
+	 * {@link #getFailedCount()} or the individual {@link #getEmailFutures() email futures} to find out about failures.
+	 */
+	@NotNull
+	CompletableFuture<Void> getCompletion();
+
+	/**
+	 * @return The number of emails in the batch.
+	 */
+	int getEmailCount();
+
+	/**
+	 * @return The number of emails sent successfully so far.
+	 */
+	int getSentCount();
+
+	/**
+	 * @return The number of emails that failed so far.
+	 */
+	int getFailedCount();
+}
@@ -8,6 +8,9 @@ import static java.lang.String.format;
  * @see MailerGenericBuilder#withMaximumEmailSize(int)
  */
 public class EmailTooBigException extends RuntimeException {
+    /**
+     * @param emailSize The size of the email, or the number of bytes counted up until the maximum size was exceeded, as the size check stops early.
+     */
     public EmailTooBigException(final long emailSize, final long maximumEmailSize) {
         super(format("Email size of %s bytes exceeds maximum allowed size of %s bytes", emailSize, maximumEmailSize));
     }
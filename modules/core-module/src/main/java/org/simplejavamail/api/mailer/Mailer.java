@@ -15,6 +15,7 @@ import org.simplejavamail.api.mailer.config.TransportStrategy;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 /**
  * Mailing tool created exclusively using {@link MailerRegularBuilder}. This class is the facade to most Simple Java Mail functionality
@@ -88,7 +89,50 @@ public interface Mailer extends AutoCloseable {
 	 * @see #validate(Email)
 	 */
 	@NotNull CompletableFuture<Void> sendMail(Email email, @SuppressWarnings("SameParameterValue") boolean async);
-	
+
+	/**
+	 * Delegates to {@link #sendMails(Iterable, int)}, allowing twice the {@link MailerGenericBuilder#withThreadPoolSize(Integer) thread pool size}
+	 * of emails in flight.
+	 */
+	@NotNull BulkSendResult sendMails(@NotNull Iterable<Email> emails);
+
+	/**
+	 * Delegates to {@link #sendMails(Iterable)}, consuming the stream lazily, so emails can be produced while earlier ones are being sent.
+	 */
+	@NotNull BulkSendResult sendMails(@NotNull Stream<Email> emails);
+
+	/**
+	 * Sends a batch of emails asynchronously (regardless of the {@link MailerGenericBuilder#async() async} setting), each exactly like {@link
+	 * #sendMail(Email, boolean)} would, while applying backpressure: no more than {@code maxInFlight} emails are queued or being sent at any
+	 * time. Once this limit is reached, this method blocks until one of the emails in flight has been processed, so the emails are pulled from
+	 * the {@code Iterable} only as fast as they can be sent, rather than piling up in the executor's queue.
+	 * <p>
+	 * This method returns once every email has been handed over to the executor; use {@link BulkSendResult#getCompletion()} to wait for the
+	 * batch to finish. An email that doesn't validate doesn't stop the batch; its future simply completes exceptionally.
+	 * <p>
+	 * If the <a href="https://www.simplejavamail.org/modules.html#batch-module">batch-module</a> is loaded, all emails of the batch are sent
+	 * over the same pool of reusable SMTP connections.
+	 *
+	 * @param emails      The emails to send, which are iterated over only once.
+	 * @param maxInFlight The maximum number of emails that are queued or being sent at the same time. Should be positive.
+	 * @return The futures of the individual emails and of the batch as a whole.
+	 * @throws MailException If the calling thread is interrupted while waiting for room in the window, in which case the thread's interrupt
+	 *                       flag is restored. Emails handed over before that are cancelled, except for those that are being sent already.
+	 */
+	@NotNull BulkSendResult sendMails(@NotNull Iterable<Email> emails, int maxInFlight);
+
+	/**
+	 * Sends the emails that were still pending in the {@link MailerGenericBuilder#withSpoolDirectory(java.io.File) spool} when it was opened, for
+	 * example because the JVM crashed before they were sent. Building a Mailer doesn't send these by itself, so the application decides when
+	 * to start sending (for example once it is ready to handle the outcome).
+	 * <p>
+	 * The recovered emails are handed over only once, to the first caller among the Mailers sharing the spool directory. Without a spool, or
+	 * when called again, the result is empty.
+	 *
+	 * @return The futures of the individual recovered emails and of all of them as a whole.
+	 */
+	@NotNull BulkSendResult resendSpooledEmails();
+
 	/**
 	 * Validates an {@link Email} instance. Validation fails if the subject is missing, content is missing, or no recipients are defined or that
 	 * the addresses are missing for NPM notification flags.
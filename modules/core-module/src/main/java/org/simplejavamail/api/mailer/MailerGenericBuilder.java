@@ -11,6 +11,7 @@ import org.simplejavamail.api.internal.clisupport.model.CliBuilderApiType;
 import org.simplejavamail.api.mailer.config.LoadBalancingStrategy;
 import org.simplejavamail.api.mailer.config.TransportStrategy;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -56,6 +57,12 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 * @see #withThreadPoolKeepAliveTime(Integer)
 	 */
 	int DEFAULT_POOL_KEEP_ALIVE_TIME = 1;
+	/**
+	 * {@value}
+	 *
+	 * @see #withThreadPoolVirtualThreads(Boolean)
+	 */
+	boolean DEFAULT_POOL_VIRTUAL_THREADS = false;
 	/**
 	 * {@value}
 	 *
@@ -95,10 +102,46 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 * Default port is <code>{@value}</code>.
 	 */
 	int DEFAULT_PROXY_BRIDGE_PORT = 1081;
+	/**
+	 * Defaults to <code>{@value}</code>, relaying each proxied connection with dedicated threads.
+	 *
+	 * @see #withProxyBridgeNonBlocking(Boolean)
+	 */
+	boolean DEFAULT_PROXY_BRIDGE_NONBLOCKING = false;
+	/**
+	 * Defaults to <code>{@value}</code> bytes per relay direction, which is plenty for SMTP traffic.
+	 *
+	 * @see #withProxyBridgeBufferSize(Integer)
+	 */
+	int DEFAULT_PROXY_BRIDGE_BUFFER_SIZE = 16 * 1024;
 	/**
 	 * Defaults to <code>{@value}</code>, sending mails rather than just only logging the mails.
 	 */
 	boolean DEFAULT_TRANSPORT_MODE_LOGGING_ONLY = false;
+	/**
+	 * Defaults to <code>{@value}</code>, rendering the MimeMessage while holding the Transport connection.
+	 *
+	 * @see #withTransportModePipelined(Boolean)
+	 */
+	boolean DEFAULT_TRANSPORT_MODE_PIPELINED = false;
+	/**
+	 * Defaults to <code>{@value}</code>, leaving the final serialization of the MimeMessage to the Transport.
+	 *
+	 * @see #withTransportModePipelinedToBytes(Boolean)
+	 */
+	boolean DEFAULT_TRANSPORT_MODE_PIPELINED_TO_BYTES = false;
+	/**
+	 * Defaults to <code>{@value}</code>, failing an email on the first error.
+	 *
+	 * @see #withTransportRetries(Integer)
+	 */
+	int DEFAULT_TRANSPORT_RETRIES = 0;
+	/**
+	 * {@value}
+	 *
+	 * @see #withTransportRetryBackoffMillis(Integer)
+	 */
+	int DEFAULT_TRANSPORT_RETRY_BACKOFF_MILLIS = 1000;
 	/**
 	 * Defaults to <code>{@value}</code>, sending mails rather than just only logging the mails.
 	 */
@@ -197,6 +240,42 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T withProxyBridgePort(@NotNull Integer proxyBridgePort);
 
+	/**
+	 * Relevant only when using username authentication with a proxy.
+	 * <p>
+	 * Determines how the intermediary SOCKS5 relay server bridge relays data between JavaMail and the remote proxy. By default, every proxied
+	 * connection gets dedicated threads to relay data in either direction. In non-blocking mode, all connections are relayed on a single
+	 * selector-based event loop using NIO channels, so hundreds of proxied connections don't need a matching number of threads (only the short
+	 * SOCKS handshake with the remote proxy still happens on a worker thread).
+	 * <p>
+	 * Defaults to {@value DEFAULT_PROXY_BRIDGE_NONBLOCKING} if no custom default property was configured.
+	 * <p>
+	 * <strong>Note:</strong> this is only works in combination with the {@value org.simplejavamail.internal.modules.AuthenticatedSocksModule#NAME}.
+	 *
+	 * @param proxyBridgeNonBlocking Whether the proxy bridging server should relay connections using non-blocking IO.
+	 *
+	 * @see #withProxyUsername(String)
+	 * @see #withProxyBridgePort(Integer)
+	 */
+	T withProxyBridgeNonBlocking(@NotNull Boolean proxyBridgeNonBlocking);
+
+	/**
+	 * Relevant only when using username authentication with a proxy.
+	 * <p>
+	 * Sets the size of the buffers the intermediary SOCKS5 relay server bridge uses to relay data between JavaMail and the remote proxy. Every
+	 * proxied connection uses one buffer per direction, taken from a pool that is shared by all connections of the proxy bridge. In
+	 * {@link #withProxyBridgeNonBlocking(Boolean) non-blocking mode}, these are direct buffers, so relayed data isn't copied onto the Java heap.
+	 * <p>
+	 * Defaults to {@value DEFAULT_PROXY_BRIDGE_BUFFER_SIZE} if no custom default property was configured.
+	 * <p>
+	 * <strong>Note:</strong> this is only works in combination with the {@value org.simplejavamail.internal.modules.AuthenticatedSocksModule#NAME}.
+	 *
+	 * @param proxyBridgeBufferSize The size in bytes of each relay buffer, must be positive.
+	 *
+	 * @see #withProxyBridgePort(Integer)
+	 */
+	T withProxyBridgeBufferSize(@NotNull Integer proxyBridgeBufferSize);
+
 	/**
 	 * This flag is set on the Session instance through {@link Session#setDebug(boolean)} so that it generates debug information. To get more
 	 * information out of the underlying JavaMail framework or out of Simple Java Mail, increase logging config of your chosen logging-framework.
@@ -241,6 +320,18 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T withEmailValidator(@NotNull EmailValidator emailValidator);
 
+	/**
+	 * Remembers the results of the email validator for the given number of most recently validated addresses, so addresses that occur in many
+	 * emails (the sender, a fixed BCC address, repeat customers) are validated only once per <code>Mailer</code> instance. The cache is
+	 * thread-safe and belongs to the email validator of this <code>Mailer</code>, so it is not used when there is no validator.
+	 * <p>
+	 * By default, validation results are not cached.
+	 *
+	 * @param maximumSize Maximum number of addresses to remember validation results for. Must be positive.
+	 * @see #clearEmailValidationCache()
+	 */
+	T withEmailValidationCache(int maximumSize);
+
 	/**
 	 * Sets a reference {@link Email} to be used for default values on all emails coming through this <code>Mailer</code> instance.
 	 *
@@ -259,6 +350,9 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 
 	/**
 	 * Sets a maximum size for emails (as MimeMessage) in bytes. If an email exceeds this size, exception @{@link EmailTooBigException} will be thrown (as the cause).
+	 * <p>
+	 * The size is determined by writing out the MimeMessage without retaining it (unless {@link #withTransportModePipelinedToBytes(Boolean)} is
+	 * enabled, in which case the bytes are reused for sending), which stops as soon as the maximum is exceeded.
 	 *
 	 * @param maximumEmailSize Maximum size of an email (as MimeMessage) in bytes.
 	 * @see #clearMaximumEmailSize()
@@ -321,6 +415,31 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T withThreadPoolKeepAliveTime(@NotNull Integer threadPoolKeepAliveTime);
 
+	/**
+	 * Runs each async send on its own virtual thread instead of on the fixed size thread pool, if the JVM supports virtual threads (Java 21 and
+	 * up). Otherwise, a warning is logged and the regular thread pool is used.
+	 * <p>
+	 * With virtual threads, the {@link #withThreadPoolSize(Integer) thread pool size} no longer limits the number of concurrent sends. Instead,
+	 * at most {@link #withConnectionPoolMaxSize(Integer) connection pool max size} sends run at the same time (also without the
+	 * {@value org.simplejavamail.internal.modules.BatchModule#NAME}); other sends wait for their turn without blocking a platform thread.
+	 * <p>
+	 * <strong>Note:</strong> up to Java 23, a running send does block a platform thread: Angus Mail synchronizes connecting, sending and
+	 * closing, which pins the virtual thread to its carrier thread for the whole SMTP conversation. Concurrent sends are then also capped by the
+	 * number of carrier threads (by default the number of CPU cores), which on a small machine can be fewer than the regular thread pool
+	 * offers, and running sends hold carriers that the application's other virtual threads can't use meanwhile. Java 24 and up don't pin on
+	 * {@code synchronized}.
+	 * <p>
+	 * <strong>Note:</strong> virtual threads are daemon threads, so emails still being sent don't prevent the JVM from shutting down; use the
+	 * returned futures (or {@link Mailer#shutdownConnectionPool()}) to wait for them.
+	 * <p>
+	 * <strong>Note:</strong> this is ignored if a {@link #withExecutorService(ExecutorService) custom executor service} is provided.
+	 *
+	 * @param threadPoolVirtualThreads Whether to send async emails on virtual threads, if supported. Defaults to {@value #DEFAULT_POOL_VIRTUAL_THREADS}.
+	 *
+	 * @see #resetThreadPoolVirtualThreads()
+	 */
+	T withThreadPoolVirtualThreads(@NotNull Boolean threadPoolVirtualThreads);
+
 	/**
 	 * By defining a clusterKey, you can form clusters where other {@link Mailer} instances represent
 	 * individual connection pools within the same cluster. Having multiple mailers using the same clusterKey
@@ -405,6 +524,94 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T withTransportModeLoggingOnly(@NotNull Boolean transportModeLoggingOnly);
 
+	/**
+	 * Determines whether the MimeMessage is produced (including S/MIME signing and encryption) <em>before</em> a Transport connection is claimed,
+	 * rather than while holding on to the connection. The connection is then only used for the actual SMTP conversation, which means that with a
+	 * small connection pool (see {@link #withConnectionPoolMaxSize(Integer)}) expensive message rendering no longer keeps connections idle.
+	 * <p>
+	 * Note that in a cluster this means the email is converted by the mailer that received the email, rather than by the mailer owning the
+	 * connection that was claimed. In practice this only matters if the mailers in a cluster have different email defaults or overrides.
+	 * <p>
+	 * To also move the final serialization of the message (base64 encoding of attachments, DKIM signing) out of the connection claim, see
+	 * {@link #withTransportModePipelinedToBytes(Boolean)}.
+	 *
+	 * @param transportModePipelined Flag {@code true} or {@code false} that enables or disables producing the MimeMessage before claiming a connection.
+	 *
+	 * @see #resetTransportModePipelined()
+	 */
+	T withTransportModePipelined(@NotNull Boolean transportModePipelined);
+
+	/**
+	 * In addition to {@link #withTransportModePipelined(Boolean)}, determines whether the produced MimeMessage is fully serialized to bytes before a
+	 * Transport connection is claimed. This includes content encoding of all body parts and DKIM signing, which otherwise happen while the message is
+	 * being streamed to the server. The Transport then merely writes out the prepared bytes.
+	 * <p>
+	 * This trades memory for connection time: the entire message is kept in memory until it is sent.
+	 * <p>
+	 * <strong>Note:</strong> this is only used in combination with {@link #withTransportModePipelined(Boolean)}.
+	 *
+	 * @param transportModePipelinedToBytes Flag {@code true} or {@code false} that enables or disables serializing the MimeMessage before claiming a connection.
+	 *
+	 * @see #resetTransportModePipelinedToBytes()
+	 */
+	T withTransportModePipelinedToBytes(@NotNull Boolean transportModePipelinedToBytes);
+
+	/**
+	 * Configures how many times sending an email is retried after a transient failure, before giving up. Transient failures are:
+	 * <ul>
+	 *     <li>4xx replies from the SMTP server (for example greylisting or a temporarily exceeded rate limit)</li>
+	 *     <li>connection problems, such as a refused, reset or timed out connection</li>
+	 *     <li>failing to claim a connection from the connection pool in time (see {@link #withConnectionPoolClaimTimeoutMillis(Integer)})</li>
+	 * </ul>
+	 * Other failures, such as 5xx replies or invalid emails, fail the email immediately.
+	 * <p>
+	 * Retries wait with exponential backoff and jitter (see {@link #withTransportRetryBackoffMillis(Integer)}), occupying the sending thread
+	 * while waiting. In case of a cluster (see {@value org.simplejavamail.internal.modules.BatchModule#NAME}), a retry is sent through a different
+	 * server in the cluster than the one that failed, if there is one.
+	 *
+	 * @param transportRetries The number of retries after the first attempt; {@code 0} (the default) disables retrying.
+	 *
+	 * @see #resetTransportRetries()
+	 */
+	T withTransportRetries(@NotNull Integer transportRetries);
+
+	/**
+	 * The base delay for {@link #withTransportRetries(Integer) retries}, which doubles with each retry (capped at one minute). To prevent
+	 * emails that failed together from being retried in lockstep, each actual delay is randomly chosen between half and all of that.
+	 *
+	 * @param transportRetryBackoffMillis The delay before the first retry in milliseconds, before jitter. Defaults to {@value #DEFAULT_TRANSPORT_RETRY_BACKOFF_MILLIS}.
+	 *
+	 * @see #resetTransportRetryBackoffMillis()
+	 */
+	T withTransportRetryBackoffMillis(@NotNull Integer transportRetryBackoffMillis);
+
+	/**
+	 * Makes asynchronous sending durable: every email that is accepted for asynchronous sending is first converted to its final (EML) form and
+	 * written to a local spool in the given directory, which is forced to disk before {@link Mailer#sendMail(Email)} returns. Sending threads
+	 * then send the spooled message and mark it done. Emails that were still pending when the JVM stopped are sent again once {@link
+	 * Mailer#resendSpooledEmails()} is called on a Mailer created for the same spool directory.
+	 * <p>
+	 * Delivery is <em>at-least-once</em>: an email that was sent right before a crash, but not yet marked done, will be sent again. An email is
+	 * marked done once it was sent, or once sending it failed permanently (such as a rejected recipient). An email that still failed
+	 * temporarily after {@link #withTransportRetries(Integer) retrying} (such as an unreachable server) stays pending, to be sent again the next
+	 * time the spool is opened. Either way, failures are reported through the returned future as usual.
+	 * <p>
+	 * Notes:
+	 * <ul>
+	 *     <li>This requires the {@value org.simplejavamail.internal.modules.SpoolModule#NAME} to be on the class path.</li>
+	 *     <li>Only asynchronous sending is spooled, as synchronous sending already reports the outcome to the caller.</li>
+	 *     <li>A spool directory can only be in use by one JVM at a time. Mailers in the same JVM can share one.</li>
+	 *     <li>This does not apply to {@link #withTransportModeLoggingOnly(Boolean) logging-only mode} or a {@link #withCustomMailer(CustomMailer)
+	 *     custom mailer}.</li>
+	 * </ul>
+	 *
+	 * @param spoolDirectory The directory to keep the spool in, which is created if it doesn't exist.
+	 *
+	 * @see #resetSpoolDirectory()
+	 */
+	@Cli.ExcludeApi(reason = "The CLI sends a single email and exits, so there is nothing to spool")
+	T withSpoolDirectory(@NotNull File spoolDirectory);
+
 	/**
 	 * Configures the new session to only accept server certificates issued to one of the provided hostnames. Note that verifying server identity
 	 * can be turned on and off with {@link #verifyingServerIdentity(boolean)}.
@@ -486,6 +693,20 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T withCustomMailer(@NotNull CustomMailer customMailer);
 
+	/**
+	 * Registers a listener that receives the timings of each phase of sending an email (governance, validation, MimeMessage production,
+	 * S/MIME and DKIM signing, claiming a Transport and the actual SMTP conversation), as well as the executor's queue depth and active thread
+	 * count whenever an email is sent asynchronously.
+	 * <p>
+	 * Without a listener (the default), no timings are taken.
+	 *
+	 * @param sendMetricsListener The listener to report to.
+	 *
+	 * @see SendMetricsListener
+	 * @see #resetSendMetricsListener()
+	 */
+	T withSendMetricsListener(@NotNull SendMetricsListener sendMetricsListener);
+
 	/**
 	 * Reverts to default value '{@value #DEFAULT_VERIFY_SERVER_IDENTITY}' for the behaviour of disabling client-sided
 	 * validations (email addresses and CRLF injection scanning).
@@ -521,6 +742,21 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T resetExecutorService();
 
+	/**
+	 * Removes the send metrics listener, if any.
+	 *
+	 * @see #withSendMetricsListener(SendMetricsListener)
+	 */
+	T resetSendMetricsListener();
+
+	/**
+	 * Disables spooling asynchronously sent emails.
+	 *
+	 * @see #withSpoolDirectory(File)
+	 */
+	@Cli.ExcludeApi(reason = "The CLI sends a single email and exits, so there is nothing to spool")
+	T resetSpoolDirectory();
+
 	/**
 	 * Resets max thread pool size to its default of {@value #DEFAULT_POOL_SIZE}.
 	 * <p>
@@ -539,6 +775,13 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T resetThreadPoolKeepAliveTime();
 
+	/**
+	 * Resets using virtual threads to its default ({@value #DEFAULT_POOL_VIRTUAL_THREADS}).
+	 *
+	 * @see #withThreadPoolVirtualThreads(Boolean)
+	 */
+	T resetThreadPoolVirtualThreads();
+
 	/**
 	 * Reset trusting any host; trust all hosts is set to {@value #DEFAULT_TRUST_ALL_HOSTS}.
 	 *
@@ -616,6 +859,48 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T resetTransportModeLoggingOnly();
 
+	/**
+	 * Resets transportModePipelined to {@value #DEFAULT_TRANSPORT_MODE_PIPELINED}.
+	 *
+	 * @see #withTransportModePipelined(Boolean)
+	 */
+	T resetTransportModePipelined();
+
+	/**
+	 * Resets transportModePipelinedToBytes to {@value #DEFAULT_TRANSPORT_MODE_PIPELINED_TO_BYTES}.
+	 *
+	 * @see #withTransportModePipelinedToBytes(Boolean)
+	 */
+	T resetTransportModePipelinedToBytes();
+
+	/**
+	 * Resets transportRetries to {@value #DEFAULT_TRANSPORT_RETRIES}.
+	 *
+	 * @see #withTransportRetries(Integer)
+	 */
+	T resetTransportRetries();
+
+	/**
+	 * Resets transportRetryBackoffMillis to {@value #DEFAULT_TRANSPORT_RETRY_BACKOFF_MILLIS}.
+	 *
+	 * @see #withTransportRetryBackoffMillis(Integer)
+	 */
+	T resetTransportRetryBackoffMillis();
+
+	/**
+	 * Resets proxy bridge non-blocking mode to its default.
+	 *
+	 * @see #withProxyBridgeNonBlocking(Boolean)
+	 */
+	T resetProxyBridgeNonBlocking();
+
+	/**
+	 * Resets proxy bridge buffer size to its default.
+	 *
+	 * @see #withProxyBridgeBufferSize(Integer)
+	 */
+	T resetProxyBridgeBufferSize();
+
 	/**
 	 * Empties all proxy configuration.
 	 */
@@ -629,6 +914,13 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	T clearEmailValidator();
 
+	/**
+	 * Makes the email validation cache size <code>null</code>, meaning every address is validated again for each email.
+	 *
+	 * @see #withEmailValidationCache(int)
+	 */
+	T clearEmailValidationCache();
+
 	/**
 	 * Makes the reference {@code Email} instance <code>null</code>, meaning no defaults will be applied.
 	 *
@@ -704,6 +996,16 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	@Nullable
 	Integer getProxyBridgePort();
 
+	/**
+	 * @see #withProxyBridgeNonBlocking(Boolean)
+	 */
+	boolean isProxyBridgeNonBlocking();
+
+	/**
+	 * @see #withProxyBridgeBufferSize(Integer)
+	 */
+	int getProxyBridgeBufferSize();
+
 	/**
 	 * @see #withDebugLogging(Boolean)
 	 */
@@ -726,6 +1028,12 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	@Nullable
 	EmailValidator getEmailValidator();
 
+	/**
+	 * @see #withEmailValidationCache(int)
+	 */
+	@Nullable
+	Integer getEmailValidationCacheSize();
+
 	/**
 	 * @see #withEmailDefaults(Email)
 	 */
@@ -765,6 +1073,11 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	@NotNull
 	Integer getThreadPoolKeepAliveTime();
 
+	/**
+	 * @see #withThreadPoolVirtualThreads(Boolean)
+	 */
+	boolean isThreadPoolVirtualThreads();
+
 	/**
 	 * @see #withClusterKey(UUID)
 	 */
@@ -822,6 +1135,28 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	boolean isTransportModeLoggingOnly();
 
+	/**
+	 * @see #withTransportModePipelined(Boolean)
+	 */
+	boolean isTransportModePipelined();
+
+	/**
+	 * @see #withTransportModePipelinedToBytes(Boolean)
+	 */
+	boolean isTransportModePipelinedToBytes();
+
+	/**
+	 * @see #withTransportRetries(Integer)
+	 */
+	@NotNull
+	Integer getTransportRetries();
+
+	/**
+	 * @see #withTransportRetryBackoffMillis(Integer)
+	 */
+	@NotNull
+	Integer getTransportRetryBackoffMillis();
+
 	/**
 	 * @see #withProperties(Properties)
 	 */
@@ -833,4 +1168,16 @@ public interface MailerGenericBuilder<T extends MailerGenericBuilder<?>> {
 	 */
 	@Nullable
 	CustomMailer getCustomMailer();
+
+	/**
+	 * @see #withSendMetricsListener(SendMetricsListener)
+	 */
+	@Nullable
+	SendMetricsListener getSendMetricsListener();
+
+	/**
+	 * @see #withSpoolDirectory(File)
+	 */
+	@Nullable
+	File getSpoolDirectory();
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package org.simplejavamail.api.mailer;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives timings of the individual phases of sending an email, as well as samples of the executor's load, so you can find out where time
+ * is spent and feed your metrics library of choice.
+ * <p>
+ * Events carry only primitives and an enum constant, so reporting them doesn't allocate. Implementations are invoked on the sending threads
+ * and should be equally cheap: they should not block or throw.
+ * <p>
+ * When no listener is registered, phases are not timed at all.
+ *
+ * @see MailerGenericBuilder#withSendMetricsListener(SendMetricsListener)
+ */
+public interface SendMetricsListener {
+
+	/**
+	 * Called when a phase completes normally. Phases that fail are not reported; the failure surfaces through the usual exception or future.
+	 *
+	 * @param phase         The phase that completed.
+	 * @param durationNanos How long the phase took, in nanoseconds.
+	 */
+	default void phaseCompleted(@NotNull SendPhase phase, long durationNanos) {
+	}
+
+	/**
+	 * Called every time an email is handed over to the {@link org.simplejavamail.api.mailer.config.OperationalConfig#getExecutorService()
+	 * executor} for asynchronous sending, just before submitting it.
+	 *
+	 * @param queueDepth    The number of tasks waiting in the executor's queue, or {@code -1} if the executor doesn't expose this.
+	 * @param activeThreads The (approximate) number of threads executing tasks, or {@code -1} if the executor doesn't expose this.
+	 */
+	default void executorSampled(int queueDepth, int activeThreads) {
+	}
+}
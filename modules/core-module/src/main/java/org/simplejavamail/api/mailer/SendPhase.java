@@ -0,0 +1,44 @@
+package org.simplejavamail.api.mailer;
+
+/**
+ * The phases of sending an email, as reported to a {@link SendMetricsListener}.
+ */
+public enum SendPhase {
+	/**
+	 * Applying the mailer's email defaults and overrides to the user provided email.
+	 *
+	 * @see org.simplejavamail.api.mailer.config.EmailGovernance#produceEmailApplyingDefaultsAndOverrides(org.simplejavamail.api.email.Email)
+	 */
+	GOVERNANCE,
+	/**
+	 * Validating the email's completeness, addresses and header injection safety.
+	 *
+	 * @see Mailer#validate(org.simplejavamail.api.email.Email)
+	 */
+	VALIDATION,
+	/**
+	 * Producing the MimeMessage structure, excluding signing and encryption.
+	 */
+	MIME_PRODUCTION,
+	/**
+	 * Signing the MimeMessage with S/MIME.
+	 */
+	SMIME_SIGNING,
+	/**
+	 * Encrypting the MimeMessage with S/MIME.
+	 */
+	SMIME_ENCRYPTION,
+	/**
+	 * Preparing the MimeMessage for DKIM signing. Note that the DKIM signature itself is calculated when the message is written out, which is
+	 * part of {@link #TRANSPORT_SEND} (or {@link MailerGenericBuilder#withTransportModePipelinedToBytes(Boolean) done up front}).
+	 */
+	DKIM_SIGNING,
+	/**
+	 * Claiming a Transport from the connection pool, or connecting a new Transport if the batch-module is not loaded.
+	 */
+	TRANSPORT_CLAIM,
+	/**
+	 * The SMTP conversation that actually sends the message over a connected Transport.
+	 */
+	TRANSPORT_SEND
+}
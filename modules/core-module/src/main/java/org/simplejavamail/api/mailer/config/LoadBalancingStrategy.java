@@ -14,8 +14,20 @@ public enum LoadBalancingStrategy {
 	/**
 	 * Randomly choose a connection pool (server) to request a connection ({@link jakarta.mail.Transport}) object from.
 	 */
-	RANDOM_ACCESS;
+	RANDOM_ACCESS,
+	/**
+	 * Choose the connection pool (server) with the fewest connections currently claimed and not yet released, so a server that is slow to
+	 * process emails automatically receives fewer of them. Ties are broken by the lowest observed latency.
+	 */
+	LEAST_OUTSTANDING_CLAIMS,
+	/**
+	 * Choose the connection pool (server) with the lowest exponentially weighted moving average of the observed latency (claiming a connection
+	 * plus sending the email on it), weighted by the number of outstanding claims. Servers without observations yet are tried first.
+	 */
+	EWMA_LATENCY;
 
 	public static final String ROUND_ROBIN_REF = "ROUND_ROBIN";
 	public static final String RANDOM_ACCESS_REF = "RANDOM_ACCESS";
+	public static final String LEAST_OUTSTANDING_CLAIMS_REF = "LEAST_OUTSTANDING_CLAIMS";
+	public static final String EWMA_LATENCY_REF = "EWMA_LATENCY";
 }
\ No newline at end of file
@@ -3,10 +3,12 @@ package org.simplejavamail.api.mailer.config;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.mailer.CustomMailer;
+import org.simplejavamail.api.mailer.SendMetricsListener;
 import org.simplejavamail.api.mailer.Mailer;
 import org.simplejavamail.api.mailer.MailerGenericBuilder;
 import org.simplejavamail.api.mailer.MailerRegularBuilder;
 
+import java.io.File;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
@@ -39,6 +41,11 @@ public interface OperationalConfig {
 	 */
 	int getThreadPoolKeepAliveTime();
 
+	/**
+	 * @see MailerGenericBuilder#withThreadPoolVirtualThreads(Boolean)
+	 */
+	boolean isThreadPoolVirtualThreads();
+
 	/**
 	 * @see MailerGenericBuilder#withConnectionPoolCoreSize(Integer)
 	 */
@@ -70,6 +77,32 @@ public interface OperationalConfig {
 	 */
 	boolean isTransportModeLoggingOnly();
 
+	/**
+	 * @see MailerGenericBuilder#withTransportModePipelined(Boolean)
+	 */
+	boolean isTransportModePipelined();
+
+	/**
+	 * @see MailerGenericBuilder#withTransportModePipelinedToBytes(Boolean)
+	 */
+	boolean isTransportModePipelinedToBytes();
+
+	/**
+	 * @see MailerGenericBuilder#withTransportRetries(Integer)
+	 */
+	int getTransportRetries();
+
+	/**
+	 * @see MailerGenericBuilder#withTransportRetryBackoffMillis(Integer)
+	 */
+	int getTransportRetryBackoffMillis();
+
+	/**
+	 * @see MailerGenericBuilder#withSpoolDirectory(File)
+	 */
+	@Nullable
+	File getSpoolDirectory();
+
 	/**
 	 * @see MailerGenericBuilder#withDebugLogging(Boolean)
 	 */
@@ -125,4 +158,10 @@ public interface OperationalConfig {
 	 */
 	@Nullable
 	CustomMailer getCustomMailer();
+
+	/**
+	 * @see MailerGenericBuilder#withSendMetricsListener(SendMetricsListener)
+	 */
+	@Nullable
+	SendMetricsListener getSendMetricsListener();
 }
@@ -34,6 +34,16 @@ public interface ProxyConfig {
 	@Nullable
 	Integer getProxyBridgePort();
 
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerRegularBuilder#withProxyBridgeNonBlocking(Boolean)
+	 */
+	boolean isProxyBridgeNonBlocking();
+
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerRegularBuilder#withProxyBridgeBufferSize(Integer)
+	 */
+	int getProxyBridgeBufferSize();
+
 	/**
 	 * @see org.simplejavamail.api.mailer.MailerRegularBuilder#withProxyHost(String)
 	 */
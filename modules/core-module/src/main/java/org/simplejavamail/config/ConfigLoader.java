@@ -21,6 +21,7 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.regex.Pattern.compile;
 import static org.simplejavamail.internal.util.MiscUtil.checkArgumentNotEmpty;
@@ -46,6 +47,8 @@ import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
  * <li>simplejavamail.proxy.username</li>
  * <li>simplejavamail.proxy.password</li>
  * <li>simplejavamail.proxy.socks5bridge.port</li>
+ * <li>simplejavamail.proxy.socks5bridge.nonblocking</li>
+ * <li>simplejavamail.proxy.socks5bridge.buffersize</li>
  * <li>simplejavamail.defaults.content.transfer.encoding</li>
  * <li>simplejavamail.defaults.subject</li>
  * <li>simplejavamail.defaults.from.name</li>
@@ -62,6 +65,7 @@ import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
  * <li>simplejavamail.defaults.bcc.address</li>
  * <li>simplejavamail.defaults.poolsize</li>
  * <li>simplejavamail.defaults.poolsize.keepalivetime</li>
+ * <li>simplejavamail.defaults.poolsize.virtualthreads</li>
  * <li>simplejavamail.defaults.connectionpool.clusterkey.uuid</li>
  * <li>simplejavamail.defaults.connectionpool.coresize</li>
  * <li>simplejavamail.defaults.connectionpool.maxsize</li>
@@ -73,6 +77,11 @@ import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
  * <li>simplejavamail.defaults.trustedhosts</li>
  * <li>simplejavamail.defaults.verifyserveridentity</li>
  * <li>simplejavamail.transport.mode.logging.only</li>
+ * <li>simplejavamail.transport.mode.pipelined</li>
+ * <li>simplejavamail.transport.mode.pipelined.tobytes</li>
+ * <li>simplejavamail.transport.retries</li>
+ * <li>simplejavamail.transport.retry.backoff.millis</li>
+ * <li>simplejavamail.spool.dir</li>
  * <li>simplejavamail.opportunistic.tls</li>
  * <li>simplejavamail.smime.signing.keystore</li>
  * <li>simplejavamail.smime.signing.keystore_password</li>
@@ -93,6 +102,8 @@ import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
  * <li>simplejavamail.embeddedimages.dynamicresolution.outside.base.classpath</li>
  * <li>simplejavamail.embeddedimages.dynamicresolution.outside.base.url</li>
  * <li>simplejavamail.embeddedimages.dynamicresolution.mustbesuccesful</li>
+ * <li>simplejavamail.embeddedimages.dynamicresolution.threads</li>
+ * <li>simplejavamail.embeddedimages.dynamicresolution.url.timeout.millis</li>
  * </ul>
  */
 public final class ConfigLoader {
@@ -111,14 +122,17 @@ public final class ConfigLoader {
 
 	/**
 	 * Initially try to load properties from "{@value #DEFAULT_CONFIG_FILENAME}".
+	 * <p>
+	 * This is an immutable snapshot that is never modified, only replaced as a whole when (re)loading properties, so property lookups don't need
+	 * any locking (they are performed many times for each Email and Mailer being built).
 	 *
 	 * @see #loadProperties(String, boolean)
 	 * @see #loadProperties(InputStream, boolean)
 	 */
-	private static final Map<Property, Object> RESOLVED_PROPERTIES = new HashMap<>();
+	private static volatile Map<Property, Object> RESOLVED_PROPERTIES = emptyMap();
 
 	static {
-		// static initializer block, because loadProperties needs to modify RESOLVED_PROPERTIES while loading
+		// static initializer block, because loadProperties needs to read the current RESOLVED_PROPERTIES while loading
 		// this is not possible when we are initializing the same field.
 		// RESOLVED_PROPERTIES = loadProperties(DEFAULT_CONFIG_FILENAME); <-- not possible
 		loadProperties(DEFAULT_CONFIG_FILENAME, false);
@@ -143,6 +157,8 @@ public final class ConfigLoader {
 		PROXY_USERNAME("simplejavamail.proxy.username"),
 		PROXY_PASSWORD("simplejavamail.proxy.password"),
 		PROXY_SOCKS5BRIDGE_PORT("simplejavamail.proxy.socks5bridge.port"),
+		PROXY_SOCKS5BRIDGE_NONBLOCKING("simplejavamail.proxy.socks5bridge.nonblocking"),
+		PROXY_SOCKS5BRIDGE_BUFFERSIZE("simplejavamail.proxy.socks5bridge.buffersize"),
 		DEFAULT_SUBJECT("simplejavamail.defaults.subject"),
 		DEFAULT_CONTENT_TRANSFER_ENCODING("simplejavamail.defaults.content.transfer.encoding"),
 		DEFAULT_FROM_NAME("simplejavamail.defaults.from.name"),
@@ -165,11 +181,17 @@ public final class ConfigLoader {
 		DEFAULT_CONNECTIONPOOL_EXPIREAFTER_MILLIS("simplejavamail.defaults.connectionpool.expireafter.millis"),
 		DEFAULT_CONNECTIONPOOL_LOADBALANCING_STRATEGY("simplejavamail.defaults.connectionpool.loadbalancing.strategy"),
 		DEFAULT_POOL_KEEP_ALIVE_TIME("simplejavamail.defaults.poolsize.keepalivetime"),
+		DEFAULT_POOL_VIRTUAL_THREADS("simplejavamail.defaults.poolsize.virtualthreads"),
 		DEFAULT_SESSION_TIMEOUT_MILLIS("simplejavamail.defaults.sessiontimeoutmillis"),
 		DEFAULT_TRUST_ALL_HOSTS("simplejavamail.defaults.trustallhosts"),
 		DEFAULT_TRUSTED_HOSTS("simplejavamail.defaults.trustedhosts"),
 		DEFAULT_VERIFY_SERVER_IDENTITY("simplejavamail.defaults.verifyserveridentity"),
 		TRANSPORT_MODE_LOGGING_ONLY("simplejavamail.transport.mode.logging.only"),
+		TRANSPORT_MODE_PIPELINED("simplejavamail.transport.mode.pipelined"),
+		TRANSPORT_MODE_PIPELINED_TO_BYTES("simplejavamail.transport.mode.pipelined.tobytes"),
+		TRANSPORT_RETRIES("simplejavamail.transport.retries"),
+		TRANSPORT_RETRY_BACKOFF_MILLIS("simplejavamail.transport.retry.backoff.millis"),
+		SPOOL_DIRECTORY("simplejavamail.spool.dir"),
 		OPPORTUNISTIC_TLS("simplejavamail.opportunistic.tls"),
 		SMIME_SIGNING_KEYSTORE("simplejavamail.smime.signing.keystore"),
 		SMIME_SIGNING_KEYSTORE_PASSWORD("simplejavamail.smime.signing.keystore_password"),
@@ -190,6 +212,8 @@ public final class ConfigLoader {
 		EMBEDDEDIMAGES_DYNAMICRESOLUTION_OUTSIDE_BASE_URL("simplejavamail.embeddedimages.dynamicresolution.outside.base.classpath"),
 		EMBEDDEDIMAGES_DYNAMICRESOLUTION_OUTSIDE_BASE_CLASSPATH("simplejavamail.embeddedimages.dynamicresolution.outside.base.url"),
 		EMBEDDEDIMAGES_DYNAMICRESOLUTION_MUSTBESUCCESFUL("simplejavamail.embeddedimages.dynamicresolution.mustbesuccesful"),
+		EMBEDDEDIMAGES_DYNAMICRESOLUTION_THREADS("simplejavamail.embeddedimages.dynamicresolution.threads"),
+		EMBEDDEDIMAGES_DYNAMICRESOLUTION_URL_TIMEOUT_MILLIS("simplejavamail.embeddedimages.dynamicresolution.url.timeout.millis"),
 		EXTRA_PROPERTIES("simplejavamail.extraproperties.*");
 
 		private final String key;
@@ -261,28 +285,28 @@ public final class ConfigLoader {
 		}
 	}
 
-	public static synchronized boolean hasProperty(final Property property) {
+	public static boolean hasProperty(final Property property) {
 		return !valueNullOrEmpty(RESOLVED_PROPERTIES.get(property));
 	}
 	
 	@SuppressWarnings("unchecked")
 	@Nullable
-	public static synchronized <T> T getProperty(final Property property) {
+	public static <T> T getProperty(final Property property) {
 		return (T) RESOLVED_PROPERTIES.get(property);
 	}
 	
 	@Nullable
-	public static synchronized String getStringProperty(final Property property) {
+	public static String getStringProperty(final Property property) {
 		return SimpleConversions.convertToString(RESOLVED_PROPERTIES.get(property));
 	}
 
 	@Nullable
-	public static synchronized Integer getIntegerProperty(final Property property) {
+	public static Integer getIntegerProperty(final Property property) {
 		return SimpleConversions.convertToInteger(RESOLVED_PROPERTIES.get(property));
 	}
 
 	@Nullable
-	public static synchronized Boolean getBooleanProperty(final Property property) {
+	public static Boolean getBooleanProperty(final Property property) {
 		return SimpleConversions.convertToBoolean(RESOLVED_PROPERTIES.get(property));
 	}
 
@@ -311,11 +335,7 @@ public final class ConfigLoader {
 	 * @return The updated properties map that is used internally.
 	 */
 	public static Map<Property, Object> loadProperties(final Properties properties, final boolean addProperties) {
-		if (!addProperties) {
-			RESOLVED_PROPERTIES.clear();
-		}
-		RESOLVED_PROPERTIES.putAll(readProperties(properties));
-		return unmodifiableMap(RESOLVED_PROPERTIES);
+		return updateResolvedProperties(readProperties(properties), addProperties);
 	}
 
 	/**
@@ -340,7 +360,7 @@ public final class ConfigLoader {
 	 * @param addProperties Flag to indicate if the new properties should be added or replacing the old properties.
 	 * @return The updated properties map that is used internally.
 	 */
-	public static synchronized Map<Property, Object> loadProperties(final @Nullable InputStream inputStream, final boolean addProperties) {
+	public static Map<Property, Object> loadProperties(final @Nullable InputStream inputStream, final boolean addProperties) {
 		final Properties prop = new Properties();
 
 		try {
@@ -357,11 +377,20 @@ public final class ConfigLoader {
 			}
 		}
 
-		if (!addProperties) {
-			RESOLVED_PROPERTIES.clear();
-		}
-		RESOLVED_PROPERTIES.putAll(readProperties(prop));
-		return unmodifiableMap(RESOLVED_PROPERTIES);
+		return updateResolvedProperties(readProperties(prop), addProperties);
+	}
+
+	/**
+	 * Publishes a new snapshot of the resolved properties. Synchronized so that concurrent updates that add properties don't lose each other's
+	 * properties, but lookups never wait for this.
+	 *
+	 * @return The new snapshot.
+	 */
+	private static synchronized Map<Property, Object> updateResolvedProperties(final Map<Property, Object> newProperties, final boolean addProperties) {
+		final Map<Property, Object> updatedProperties = addProperties ? new HashMap<>(RESOLVED_PROPERTIES) : new HashMap<Property, Object>();
+		updatedProperties.putAll(newProperties);
+		RESOLVED_PROPERTIES = unmodifiableMap(updatedProperties);
+		return RESOLVED_PROPERTIES;
 	}
 
 	/**
@@ -53,6 +53,15 @@ public interface BatchModule {
 	@NotNull
 	LifecycleDelegatingTransport acquireTransport(@NotNull UUID clusterKey, @NotNull Session session, boolean stickySession);
 
+	/**
+	 * Used to retry sending on a different server: claims a Transport from any pool in the cluster other than the one for {@code failedSession}.
+	 * Falls back to {@link #acquireTransport(UUID, Session, boolean) any session instance from the cluster} if there is no other pool.
+	 *
+	 * @return A (new) {@link Transport} from the SMTP connection pool.
+	 */
+	@NotNull
+	LifecycleDelegatingTransport acquireTransportAvoiding(@NotNull UUID clusterKey, @NotNull Session session, @NotNull Session failedSession);
+
 	/**
 	 * Shuts down connection pool(s) and closes remaining open connections. Waits until all connections still in use become available again to deallocate them as well.
 	 */
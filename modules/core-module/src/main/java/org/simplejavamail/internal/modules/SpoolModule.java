@@ -0,0 +1,21 @@
+package org.simplejavamail.internal.modules;
+
+import org.jetbrains.annotations.NotNull;
+import org.simplejavamail.api.internal.spoolsupport.MailSpool;
+
+import java.io.File;
+
+/**
+ * This interface only serves to hide the Spool implementation behind an easy-to-load-with-reflection class.
+ */
+public interface SpoolModule {
+
+	String NAME = "Durable spool module";
+
+	/**
+	 * Opens the spool in the given directory, recovering any emails that were still pending. Opening the same directory again in the same JVM
+	 * returns the same spool, which is only really closed once every user {@link MailSpool#close() closed} it.
+	 */
+	@NotNull
+	MailSpool openSpool(@NotNull File spoolDirectory);
+}
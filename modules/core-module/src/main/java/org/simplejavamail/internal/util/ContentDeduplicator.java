@@ -0,0 +1,122 @@
+package org.simplejavamail.internal.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content-addressed store of attachment payloads, so identical payloads (the same logo or terms and conditions in every email of a campaign, for
+ * example) are held in memory only once, no matter how many emails refer to them. Payloads are keyed by their SHA-256 digest and referenced
+ * weakly: once no email refers to a payload anymore, it is released.
+ * <p>
+ * Payloads in the store are shared, so they must never be modified.
+ */
+public final class ContentDeduplicator {
+
+	/**
+	 * Below this size, digesting and sharing a payload costs more than holding a copy.
+	 */
+	static final int MINIMUM_SIZE = 1024;
+
+	private static final Map<ContentKey, PayloadReference> PAYLOADS = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<byte[]> RELEASED_PAYLOADS = new ReferenceQueue<>();
+
+	private ContentDeduplicator() {
+	}
+
+	/**
+	 * Use for payloads that are handed in by the user, who might still modify them: if there is no identical payload in the store yet, a copy is
+	 * stored and returned rather than the given array.
+	 *
+	 * @return A shared payload identical to the given payload.
+	 */
+	@NotNull
+	public static byte[] deduplicateCopyOf(final byte @NotNull [] payload) {
+		return deduplicate(payload, true);
+	}
+
+	/**
+	 * Use for payloads that are not accessible outside Simple Java Mail, such as content read from a parsed MimeMessage. The given array is stored
+	 * as-is if there is no identical payload in the store yet.
+	 *
+	 * @return A shared payload identical to the given payload.
+	 */
+	@NotNull
+	public static byte[] deduplicate(final byte @NotNull [] payload) {
+		return deduplicate(payload, false);
+	}
+
+	@NotNull
+	private static byte[] deduplicate(final byte @NotNull [] payload, final boolean storeCopy) {
+		if (payload.length < MINIMUM_SIZE) {
+			return storeCopy ? payload.clone() : payload;
+		}
+		expungeReleasedPayloads();
+		final ContentKey key = new ContentKey(IOUtil.sha256(payload));
+		while (true) {
+			@Nullable final PayloadReference existingReference = PAYLOADS.get(key);
+			@Nullable final byte[] existingPayload = existingReference != null ? existingReference.get() : null;
+			if (existingPayload != null) {
+				// guards against digest collisions, at the cost of a comparison that is much cheaper than the digest itself
+				return Arrays.equals(existingPayload, payload) ? existingPayload : (storeCopy ? payload.clone() : payload);
+			}
+			final byte[] storedPayload = storeCopy ? payload.clone() : payload;
+			final PayloadReference newReference = new PayloadReference(key, storedPayload);
+			final boolean stored = existingReference == null
+					? PAYLOADS.putIfAbsent(key, newReference) == null
+					: PAYLOADS.replace(key, existingReference, newReference);
+			if (stored) {
+				return storedPayload;
+			}
+			// another thread stored the same payload concurrently, so use that one
+		}
+	}
+
+	private static void expungeReleasedPayloads() {
+		PayloadReference releasedReference;
+		while ((releasedReference = (PayloadReference) RELEASED_PAYLOADS.poll()) != null) {
+			PAYLOADS.remove(releasedReference.key, releasedReference);
+		}
+	}
+
+	/**
+	 * @return The number of payloads currently in the store, including released payloads that haven't been expunged yet.
+	 */
+	static int size() {
+		return PAYLOADS.size();
+	}
+
+	private static final class PayloadReference extends WeakReference<byte[]> {
+		@NotNull private final ContentKey key;
+
+		private PayloadReference(@NotNull final ContentKey key, final byte @NotNull [] payload) {
+			super(payload, RELEASED_PAYLOADS);
+			this.key = key;
+		}
+	}
+
+	private static final class ContentKey {
+		private final byte @NotNull [] digest;
+		private final int hashCode;
+
+		private ContentKey(final byte @NotNull [] digest) {
+			this.digest = digest;
+			this.hashCode = Arrays.hashCode(digest);
+		}
+
+		@Override
+		public boolean equals(@Nullable final Object o) {
+			return this == o || (o instanceof ContentKey && Arrays.equals(digest, ((ContentKey) o).digest));
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package org.simplejavamail.internal.util;
+
+import jakarta.activation.DataSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.simplejavamail.internal.util.Preconditions.checkNonEmptyArgument;
+
+/**
+ * Reads streams completely in bulk, rather than byte by byte or in small chunks.
+ * <p>
+ * If the length of the content is known up front (streams from {@code ByteArrayDataSource}, {@code FileDataSource} and the like), the result is
+ * read directly into an array of the exact size. Otherwise, reading starts in a large per-thread buffer, so small content is copied only once,
+ * and larger content is read in growing chunks that are assembled once at the end (rather than repeatedly growing a single array).
+ */
+public final class IOUtil {
+
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Some VMs reserve header words in an array, so this is the practical maximum array size.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final int MAX_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	/**
+	 * Taken out while in use (and put back after), so a nested read on the same thread simply allocates its own buffer.
+	 */
+	private static final ThreadLocal<byte[]> THREAD_BUFFER = new ThreadLocal<>();
+
+	private IOUtil() {
+	}
+
+	/**
+	 * Reads the data source's content completely, closing the stream afterwards.
+	 */
+	@NotNull
+	public static byte[] readAllBytes(@NotNull final DataSource dataSource)
+			throws IOException {
+		try (InputStream inputStream = checkNonEmptyArgument(dataSource, "dataSource").getInputStream()) {
+			return readAllBytes(inputStream);
+		}
+	}
+
+	/**
+	 * Reads the stream completely, without closing it.
+	 */
+	@NotNull
+	public static byte[] readAllBytes(@NotNull final InputStream inputStream)
+			throws IOException {
+		final long knownLength = determineKnownLength(inputStream);
+		if (knownLength >= 0 && knownLength <= MAX_ARRAY_SIZE) {
+			return readKnownLength(inputStream, (int) knownLength);
+		}
+
+		final byte[] buffer = claimBuffer();
+		try {
+			final int firstChunkLength = readFully(inputStream, buffer, 0, buffer.length);
+			if (firstChunkLength < buffer.length) {
+				return Arrays.copyOf(buffer, firstChunkLength);
+			}
+			return readRemainder(inputStream, buffer, firstChunkLength);
+		} finally {
+			releaseBuffer(buffer);
+		}
+	}
+
+	/**
+	 * Reads the stream completely, without closing it, decoding the content using the given charset.
+	 */
+	@NotNull
+	public static String readAllString(@NotNull final InputStream inputStream, @NotNull final Charset charset)
+			throws IOException {
+		checkNonEmptyArgument(charset, "charset");
+		if (determineKnownLength(inputStream) >= 0) {
+			return new String(readAllBytes(inputStream), charset);
+		}
+
+		final byte[] buffer = claimBuffer();
+		try {
+			final int firstChunkLength = readFully(inputStream, buffer, 0, buffer.length);
+			if (firstChunkLength < buffer.length) {
+				return new String(buffer, 0, firstChunkLength, charset);
+			}
+			return new String(readRemainder(inputStream, buffer, firstChunkLength), charset);
+		} finally {
+			releaseBuffer(buffer);
+		}
+	}
+
+	/**
+	 * Computes the SHA-256 digest of the data source's content, streaming it through the per-thread buffer rather than reading it into memory. The
+	 * stream is closed afterwards.
+	 */
+	@NotNull
+	public static byte[] sha256(@NotNull final DataSource dataSource)
+			throws IOException {
+		final MessageDigest messageDigest = createSha256Digest();
+		try (InputStream inputStream = checkNonEmptyArgument(dataSource, "dataSource").getInputStream()) {
+			final byte[] buffer = claimBuffer();
+			try {
+				int read;
+				while ((read = inputStream.read(buffer, 0, buffer.length)) != -1) {
+					messageDigest.update(buffer, 0, read);
+				}
+			} finally {
+				releaseBuffer(buffer);
+			}
+		}
+		return messageDigest.digest();
+	}
+
+	/**
+	 * Computes the SHA-256 digest of the given content.
+	 */
+	@NotNull
+	public static byte[] sha256(final byte @NotNull [] content) {
+		return createSha256Digest().digest(content);
+	}
+
+	@NotNull
+	private static MessageDigest createSha256Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return The number of bytes left in the stream if it can be determined cheaply (without reading), or -1 otherwise.
+	 */
+	static long determineKnownLength(@NotNull final InputStream inputStream)
+			throws IOException {
+		if (inputStream instanceof ByteArrayInputStream) {
+			// contract of ByteArrayInputStream: available() is exactly the remaining number of bytes
+			return inputStream.available();
+		} else if (inputStream.getClass() == FileInputStream.class) {
+			// exact class, because subclasses might filter the content
+			final FileInputStream fileInputStream = (FileInputStream) inputStream;
+			return Math.max(0, fileInputStream.getChannel().size() - fileInputStream.getChannel().position());
+		}
+		return -1;
+	}
+
+	/**
+	 * The known length is only a hint: if the stream turns out shorter or longer (a file being appended to, for example), all content is still
+	 * read correctly.
+	 */
+	@NotNull
+	private static byte[] readKnownLength(@NotNull final InputStream inputStream, final int knownLength)
+			throws IOException {
+		final byte[] result = new byte[knownLength];
+		final int length = readFully(inputStream, result, 0, knownLength);
+		if (length < knownLength) {
+			return Arrays.copyOf(result, length);
+		}
+		final int nextByte = inputStream.read();
+		if (nextByte == -1) {
+			return result;
+		}
+		final byte[] prefix = Arrays.copyOf(result, knownLength + 1);
+		prefix[knownLength] = (byte) nextByte;
+		return readRemainder(inputStream, prefix, prefix.length);
+	}
+
+	/**
+	 * Reads the rest of the stream into chunks that double in size (up to {@link #MAX_CHUNK_SIZE}), then assembles the result in one go.
+	 *
+	 * @param prefix The content read so far, of which the first {@code prefixLength} bytes are used.
+	 */
+	private static byte @NotNull [] readRemainder(@NotNull final InputStream inputStream, final byte @NotNull [] prefix, final int prefixLength)
+			throws IOException {
+		final List<byte[]> chunks = new ArrayList<>();
+		long totalLength = prefixLength;
+		int chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(BUFFER_SIZE, prefixLength));
+		int lastChunkLength;
+		do {
+			final byte[] chunk = new byte[chunkSize];
+			lastChunkLength = readFully(inputStream, chunk, 0, chunk.length);
+			chunks.add(chunk);
+			totalLength += lastChunkLength;
+			if (totalLength > MAX_ARRAY_SIZE) {
+				throw new IOException("content too large to fit in an array");
+			}
+			chunkSize = (int) Math.min(MAX_CHUNK_SIZE, chunkSize * 2L);
+		} while (lastChunkLength == chunks.get(chunks.size() - 1).length);
+
+		final byte[] result = new byte[(int) totalLength];
+		System.arraycopy(prefix, 0, result, 0, prefixLength);
+		int position = prefixLength;
+		for (int i = 0; i < chunks.size(); i++) {
+			final byte[] chunk = chunks.get(i);
+			final int chunkLength = i < chunks.size() - 1 ? chunk.length : lastChunkLength;
+			System.arraycopy(chunk, 0, result, position, chunkLength);
+			position += chunkLength;
+		}
+		return result;
+	}
+
+	/**
+	 * @return The number of bytes read, which is less than {@code length} only if the end of the stream was reached.
+	 */
+	private static int readFully(@NotNull final InputStream inputStream, final byte @NotNull [] target, final int offset, final int length)
+			throws IOException {
+		int total = 0;
+		while (total < length) {
+			final int read = inputStream.read(target, offset + total, length - total);
+			if (read == -1) {
+				break;
+			}
+			total += read;
+		}
+		return total;
+	}
+
+	@NotNull
+	private static byte[] claimBuffer() {
+		@Nullable final byte[] buffer = THREAD_BUFFER.get();
+		if (buffer == null) {
+			return new byte[BUFFER_SIZE];
+		}
+		THREAD_BUFFER.remove();
+		return buffer;
+	}
+
+	private static void releaseBuffer(final byte @NotNull [] buffer) {
+		THREAD_BUFFER.set(buffer);
+	}
+}
@@ -0,0 +1,156 @@
+package org.simplejavamail.internal.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Finds the {@code src} attribute values of {@code <img>} tags in an HTML document in a single pass, matching exactly what
+ * {@link org.simplejavamail.api.email.EmailPopulatingBuilder#IMG_SRC_PATTERN} matches, without the backtracking of its lazy quantifiers on large
+ * documents.
+ * <p>
+ * In short: after a case-insensitive {@code <img}, the first {@code src} attribute that follows whitespace (before the tag is closed with
+ * {@code >}) and has a non-empty quoted value. As with the regular expression, the value ends at the first single or double quote.
+ */
+public final class ImageSrcScanner {
+
+	private ImageSrcScanner() {
+	}
+
+	/**
+	 * @return All {@code <img>} src values in order of occurrence, including duplicates and {@code cid:} references.
+	 */
+	@NotNull
+	public static List<String> findImageSrcs(@NotNull final String html) {
+		final List<String> srcs = new ArrayList<>();
+		final int[] srcRange = new int[2];
+		int position = 0;
+		while ((position = findNextImageSrc(html, position, srcRange)) != -1) {
+			srcs.add(html.substring(srcRange[0], srcRange[1]));
+		}
+		return srcs;
+	}
+
+	/**
+	 * @param replacer Produces the new src value for an existing value, or {@code null} to leave it as-is.
+	 * @return The given html itself if nothing was replaced, or a copy with the replaced src values otherwise.
+	 */
+	@NotNull
+	public static String replaceImageSrcs(@NotNull final String html, @NotNull final Function<String, String> replacer) {
+		StringBuilder result = null;
+		int copiedUntil = 0;
+		final int[] srcRange = new int[2];
+		int position = 0;
+		while ((position = findNextImageSrc(html, position, srcRange)) != -1) {
+			final String replacement = replacer.apply(html.substring(srcRange[0], srcRange[1]));
+			if (replacement != null) {
+				if (result == null) {
+					result = new StringBuilder(html.length() + 64);
+				}
+				result.append(html, copiedUntil, srcRange[0]).append(replacement);
+				copiedUntil = srcRange[1];
+			}
+		}
+		return result == null ? html : result.append(html, copiedUntil, html.length()).toString();
+	}
+
+	/**
+	 * @param srcRange Receives the start (inclusive) and end (exclusive) of the src value found.
+	 * @return The position right after the closing quote of the src value found, from where to continue scanning, or -1 if there are no more
+	 * image src values.
+	 */
+	private static int findNextImageSrc(@NotNull final String html, final int fromIndex, final int @NotNull [] srcRange) {
+		final int length = html.length();
+		int tagStart = html.indexOf('<', fromIndex);
+		while (tagStart != -1 && tagStart + 4 <= length) {
+			if (isImgTag(html, tagStart)) {
+				final int closingPosition = findSrcInTag(html, tagStart + 4, srcRange);
+				if (closingPosition != -1) {
+					return closingPosition;
+				}
+			}
+			tagStart = html.indexOf('<', tagStart + 1);
+		}
+		return -1;
+	}
+
+	/**
+	 * Tries every {@code src} preceded by whitespace until the tag is closed, like the lazy {@code [^>]*?\s+} would.
+	 */
+	private static int findSrcInTag(@NotNull final String html, final int attributesStart, final int @NotNull [] srcRange) {
+		final int length = html.length();
+		for (int i = attributesStart; i < length; i++) {
+			final char c = html.charAt(i);
+			if (c == '>') {
+				return -1;
+			}
+			if (isWhitespace(c) && i + 1 < length && isSrcAttribute(html, i + 1)) {
+				final int closingPosition = matchSrcValue(html, i + 4, srcRange);
+				if (closingPosition != -1) {
+					return closingPosition;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Matches {@code \s*=\s*["'][^"']+["']} at the given position.
+	 */
+	private static int matchSrcValue(@NotNull final String html, final int fromIndex, final int @NotNull [] srcRange) {
+		final int length = html.length();
+		int i = skipWhitespace(html, fromIndex);
+		if (i >= length || html.charAt(i) != '=') {
+			return -1;
+		}
+		i = skipWhitespace(html, i + 1);
+		if (i >= length || !isQuote(html.charAt(i))) {
+			return -1;
+		}
+		final int valueStart = i + 1;
+		int valueEnd = valueStart;
+		while (valueEnd < length && !isQuote(html.charAt(valueEnd))) {
+			valueEnd++;
+		}
+		if (valueEnd >= length || valueEnd == valueStart) {
+			return -1;
+		}
+		srcRange[0] = valueStart;
+		srcRange[1] = valueEnd;
+		return valueEnd + 1;
+	}
+
+	private static boolean isImgTag(@NotNull final String html, final int tagStart) {
+		return (html.charAt(tagStart + 1) | 0x20) == 'i'
+				&& (html.charAt(tagStart + 2) | 0x20) == 'm'
+				&& (html.charAt(tagStart + 3) | 0x20) == 'g';
+	}
+
+	private static boolean isSrcAttribute(@NotNull final String html, final int attributeStart) {
+		return attributeStart + 3 <= html.length()
+				&& (html.charAt(attributeStart) | 0x20) == 's'
+				&& (html.charAt(attributeStart + 1) | 0x20) == 'r'
+				&& (html.charAt(attributeStart + 2) | 0x20) == 'c';
+	}
+
+	private static int skipWhitespace(@NotNull final String html, final int fromIndex) {
+		int i = fromIndex;
+		while (i < html.length() && isWhitespace(html.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * The characters matched by {@code \s} in a Java regular expression.
+	 */
+	private static boolean isWhitespace(final char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	private static boolean isQuote(final char c) {
+		return c == '"' || c == '\'';
+	}
+}
@@ -2,7 +2,6 @@ package org.simplejavamail.internal.util;
 
 import jakarta.activation.DataSource;
 import jakarta.activation.FileDataSource;
-import jakarta.activation.URLDataSource;
 import jakarta.mail.Message.RecipientType;
 import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.InternetAddress;
@@ -16,8 +15,6 @@ import org.simplejavamail.api.email.Email;
 import org.simplejavamail.api.email.Recipient;
 import org.simplejavamail.internal.config.EmailProperty;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -109,35 +106,25 @@ public final class MiscUtil {
 	}
 
 	/**
-	 * Uses standard JDK java to read an inputstream to String using the given encoding (in {@link ByteArrayOutputStream#toString(String)}).
+	 * Reads an inputstream to String using the given encoding.
+	 *
+	 * @see IOUtil#readAllString(InputStream, Charset)
 	 */
 	@NotNull
 	public static String readInputStreamToString(@NotNull final InputStream inputStream, @NotNull final Charset charset)
 			throws IOException {
-		final BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
-		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-		int result = bufferedInputStream.read();
-		while (result != -1) {
-			byteArrayOutputStream.write((byte) result);
-			result = bufferedInputStream.read();
-		}
-		return byteArrayOutputStream.toString(checkNonEmptyArgument(charset, "charset").name());
+		return IOUtil.readAllString(inputStream, charset);
 	}
 
 	/**
-	 * Uses standard JDK java to read an inputstream to byte[].
+	 * Reads an inputstream to byte[].
+	 *
+	 * @see IOUtil#readAllBytes(InputStream)
 	 */
 	@NotNull
 	public static byte[] readInputStreamToBytes(@NotNull final InputStream inputStream)
 			throws IOException {
-		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-		byte[] data = new byte[1024];
-		int read;
-		while ((read = inputStream.read(data, 0, data.length)) != -1) {
-			buffer.write(data, 0, read);
-		}
-		buffer.flush();
-		return buffer.toByteArray();
+		return IOUtil.readAllBytes(inputStream);
 	}
 
 	/**
@@ -274,25 +261,29 @@ public final class MiscUtil {
 		return dataSource;
 	}
 
+	/**
+	 * @param timeoutMillis Connect and read timeout for loading the image. Zero means no timeout.
+	 */
 	@Nullable
-	public static DataSource tryResolveUrlDataSource(@Nullable final URL baseUrl, final boolean allowOutsideBaseUrl, @NotNull final String srcLocation)
+	public static DataSource tryResolveUrlDataSource(@Nullable final URL baseUrl, final boolean allowOutsideBaseUrl, @NotNull final String srcLocation,
+			final int timeoutMillis)
 			throws IOException {
 		DataSource dataSource;
 
 		if (baseUrl == null) {
-			dataSource = tryLoadingFromUrl(srcLocation);
+			dataSource = tryLoadingFromUrl(srcLocation, timeoutMillis);
 		} else {
 			if (isCorrectlyFormattedUrl(srcLocation) && new URL(srcLocation).getPath().startsWith(baseUrl.getPath())) {
-				dataSource = tryLoadingFromUrl(srcLocation);
+				dataSource = tryLoadingFromUrl(srcLocation, timeoutMillis);
 			} else {
 				final String urlPath = (baseUrl.getAuthority() + baseUrl.getPath() + "/" + srcLocation)
 						.replaceAll("/\\\\", "/")
 						.replaceAll("//", "/");
 				final String url = format("%s://%s", baseUrl.getProtocol(), urlPath);
 
-				dataSource = tryLoadingFromUrl(url);
+				dataSource = tryLoadingFromUrl(url, timeoutMillis);
 				if (dataSource == null && allowOutsideBaseUrl) {
-					dataSource = tryLoadingFromUrl(srcLocation);
+					dataSource = tryLoadingFromUrl(srcLocation, timeoutMillis);
 				}
 			}
 		}
@@ -329,11 +320,14 @@ public final class MiscUtil {
 		return null;
 	}
 
+	/**
+	 * Only tests whether the URL can be loaded, closing the stream right away: the content is read when (and if) the email is sent.
+	 */
 	@Nullable
-	private static DataSource tryLoadingFromUrl(final String url) {
+	private static DataSource tryLoadingFromUrl(final String url, final int timeoutMillis) {
 		try {
-			final DataSource result = new URLDataSource(new URL(url));
-			result.getInputStream();
+			final TimeoutUrlDataSource result = new TimeoutUrlDataSource(new URL(url), timeoutMillis);
+			result.getInputStream().close();
 			return result;
 		} catch (IOException e) {
 			return null;
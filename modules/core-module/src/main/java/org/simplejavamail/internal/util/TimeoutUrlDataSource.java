@@ -0,0 +1,87 @@
+package org.simplejavamail.internal.util;
+
+import jakarta.activation.DataSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+
+import static java.lang.String.format;
+
+/**
+ * Like {@link jakarta.activation.URLDataSource}, this reads the URL only when its content is requested, but with a connect and read timeout, so
+ * an unresponsive server can't block building or sending an email indefinitely.
+ * <p>
+ * The content type is remembered from the first connection, so it doesn't cost another request.
+ */
+final class TimeoutUrlDataSource implements DataSource {
+
+	private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+	@NotNull private final URL url;
+	private final int timeoutMillis;
+	@Nullable private volatile String contentType;
+
+	/**
+	 * @param timeoutMillis Used as both the connect and read timeout. Zero means no timeout.
+	 */
+	TimeoutUrlDataSource(@NotNull final URL url, final int timeoutMillis) {
+		this.url = url;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	@Override
+	@NotNull
+	public InputStream getInputStream()
+			throws IOException {
+		final URLConnection connection = openConnection();
+		final InputStream inputStream = connection.getInputStream();
+		if (contentType == null) {
+			contentType = connection.getContentType();
+		}
+		return inputStream;
+	}
+
+	@Override
+	public OutputStream getOutputStream()
+			throws IOException {
+		throw new IOException(format("URL %s is read-only", url));
+	}
+
+	@Override
+	@NotNull
+	public String getContentType() {
+		String result = contentType;
+		if (result == null) {
+			try {
+				result = openConnection().getContentType();
+			} catch (final IOException e) {
+				// same as URLDataSource
+			}
+			contentType = result;
+		}
+		return result != null ? result : DEFAULT_CONTENT_TYPE;
+	}
+
+	/**
+	 * @return The file part of the URL, the same as {@link jakarta.activation.URLDataSource#getName()}.
+	 */
+	@Override
+	@NotNull
+	public String getName() {
+		return url.getFile();
+	}
+
+	@NotNull
+	private URLConnection openConnection()
+			throws IOException {
+		final URLConnection connection = url.openConnection();
+		connection.setConnectTimeout(timeoutMillis);
+		connection.setReadTimeout(timeoutMillis);
+		return connection;
+	}
+}
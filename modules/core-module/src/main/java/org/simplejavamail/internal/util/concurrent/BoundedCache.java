@@ -0,0 +1,200 @@
+package org.simplejavamail.internal.util.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Thread-safe cache that holds at most {@code maximumSize} values, evicting the least recently used value when full. Optionally, values expire
+ * a fixed time after they were loaded, after which the next lookup loads them again.
+ * <p>
+ * Values are loaded at most once per key: concurrent lookups of a key that is still being loaded wait for that load, rather than loading the
+ * value again. Loading itself happens outside the cache lock, so a slow load only blocks threads interested in the same key. A failed load
+ * is not cached and the failure is rethrown to every thread that waited for it.
+ */
+public final class BoundedCache<K, V> {
+
+	private final int maximumSize;
+	private final long expireAfterNanos;
+	private final Map<K, CacheEntry<V>> entries;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+	/**
+	 * Creates a cache in which values never expire (but can still be evicted when the cache is full).
+	 */
+	public BoundedCache(final int maximumSize) {
+		this(maximumSize, 0);
+	}
+
+	/**
+	 * @param expireAfterMillis Time after loading a value after which it is loaded again on the next lookup. Zero means values never expire.
+	 */
+	public BoundedCache(final int maximumSize, final long expireAfterMillis) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException(format("maximumSize should be positive, was %s", maximumSize));
+		}
+		if (expireAfterMillis < 0) {
+			throw new IllegalArgumentException(format("expireAfterMillis should not be negative, was %s", expireAfterMillis));
+		}
+		this.maximumSize = maximumSize;
+		this.expireAfterNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterMillis);
+		this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<K, CacheEntry<V>> eldest) {
+				return size() > BoundedCache.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * @return The cached value for the given key, or the value produced by the loader which is then cached. Runtime exceptions thrown by the
+	 * loader are rethrown as-is.
+	 */
+	@NotNull
+	public V computeIfAbsent(@NotNull final K key, @NotNull final Function<? super K, ? extends V> loader) {
+		final CacheEntry<V> entry;
+		final boolean mustLoad;
+		synchronized (entries) {
+			final CacheEntry<V> existingEntry = entries.get(key);
+			mustLoad = existingEntry == null || existingEntry.isExpired(expireAfterNanos);
+			if (mustLoad) {
+				entry = new CacheEntry<>(new FutureTask<>(() -> loader.apply(key)));
+				entries.put(key, entry);
+			} else {
+				entry = existingEntry;
+			}
+		}
+
+		final FutureTask<V> loadTask = entry.loadTask;
+		if (mustLoad) {
+			missCount.increment();
+			final long loadStartNanos = System.nanoTime();
+			loadTask.run();
+			entry.loadedAtNanos = System.nanoTime();
+			totalLoadTimeNanos.add(entry.loadedAtNanos - loadStartNanos);
+		} else {
+			hitCount.increment();
+		}
+
+		try {
+			return loadTask.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while waiting for cache value to load", e);
+		} catch (final ExecutionException e) {
+			removeFailedLoad(key, entry);
+			throw e.getCause() instanceof RuntimeException
+					? (RuntimeException) e.getCause()
+					: new IllegalStateException("failed to load cache value", e.getCause());
+		}
+	}
+
+	/**
+	 * @return The cached value for the given key if it is loaded and hasn't expired, or {@code null} otherwise (also while the value is still
+	 * being loaded). Never loads or waits for a value, and a {@code null} result is not counted as a miss, since it is typically followed up by
+	 * {@link #computeIfAbsent(Object, Function)}.
+	 */
+	@Nullable
+	public V getIfPresent(@NotNull final K key) {
+		final CacheEntry<V> entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		if (entry == null || !entry.loadTask.isDone() || entry.isExpired(expireAfterNanos)) {
+			return null;
+		}
+		try {
+			final V value = entry.loadTask.get();
+			hitCount.increment();
+			return value;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (final ExecutionException e) {
+			// failed loads are removed by the thread that ran the load
+			return null;
+		}
+	}
+
+	private void removeFailedLoad(@NotNull final K key, @NotNull final CacheEntry<V> failedEntry) {
+		synchronized (entries) {
+			if (entries.get(key) == failedEntry) {
+				entries.remove(key);
+			}
+		}
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return The number of lookups that found a value (or a value being loaded) in the cache.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * @return The number of lookups that had to load the value, either because it wasn't cached (anymore) or because it expired.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * @return The total time spent loading values (including failed loads), in nanoseconds.
+	 */
+	public long getTotalLoadTimeNanos() {
+		return totalLoadTimeNanos.sum();
+	}
+
+	@Override
+	public String toString() {
+		return format("BoundedCache{size=%s, maximumSize=%s, hitCount=%s, missCount=%s, totalLoadTimeNanos=%s}",
+				size(), maximumSize, getHitCount(), getMissCount(), getTotalLoadTimeNanos());
+	}
+
+	private static final class CacheEntry<V> {
+		@NotNull private final FutureTask<V> loadTask;
+		/**
+		 * Set once the value is loaded; values still being loaded never expire, so concurrent lookups keep waiting for the same load.
+		 */
+		private volatile long loadedAtNanos = -1;
+
+		private CacheEntry(@NotNull final FutureTask<V> loadTask) {
+			this.loadTask = loadTask;
+		}
+
+		private boolean isExpired(final long expireAfterNanos) {
+			final long loadedAt = loadedAtNanos;
+			return expireAfterNanos > 0 && loadedAt != -1 && System.nanoTime() - loadedAt >= expireAfterNanos;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package org.simplejavamail.internal.util.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Creates executors that run each task on a new virtual thread, if the JVM supports them (Java 21 and up). Since Simple Java Mail is compiled
+ * for Java 8, the factory method is looked up reflectively.
+ * <p>
+ * Up to Java 23, a virtual thread that blocks inside a {@code synchronized} method can't unmount and pins its carrier thread. Angus Mail's
+ * {@code SMTPTransport} synchronizes connecting, sending and closing, so each send pins a carrier for its whole SMTP conversation. To keep sends
+ * from taking all carriers (and starving the application's other virtual threads), the number of tasks running at once is bounded: waiting for a
+ * turn happens on a {@link Semaphore}, which does unmount.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadSupport {
+
+	private static final Logger LOGGER = getLogger(VirtualThreadSupport.class);
+
+	@Nullable
+	private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findFactoryMethod();
+
+	@Nullable
+	private static Method findFactoryMethod() {
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (final NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @param maxConcurrentTasks The maximum number of tasks that run at the same time. Further tasks still get their own virtual thread, but
+	 *                           wait for a running task to finish.
+	 * @return A new virtual thread per task executor, or {@code null} if this JVM doesn't support virtual threads (or only as preview feature
+	 * that is not enabled).
+	 */
+	@Nullable
+	public static ExecutorService newVirtualThreadPerTaskExecutor(final int maxConcurrentTasks) {
+		if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+			try {
+				return bounded((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null), maxConcurrentTasks);
+			} catch (final IllegalAccessException | InvocationTargetException e) {
+				LOGGER.debug("virtual threads not available", e);
+			}
+		}
+		return null;
+	}
+
+	@NotNull
+	static ExecutorService bounded(@NotNull final ExecutorService executorService, final int maxConcurrentTasks) {
+		return new BoundedExecutorService(executorService, maxConcurrentTasks);
+	}
+
+	/**
+	 * Takes a permit on the thread running the task rather than on the submitting thread, so submitting never blocks.
+	 */
+	private static final class BoundedExecutorService extends AbstractExecutorService {
+
+		@NotNull private final ExecutorService delegate;
+		@NotNull private final Semaphore permits;
+
+		private BoundedExecutorService(@NotNull final ExecutorService delegate, final int maxConcurrentTasks) {
+			this.delegate = delegate;
+			this.permits = new Semaphore(maxConcurrentTasks);
+		}
+
+		@Override
+		public void execute(@NotNull final Runnable command) {
+			delegate.execute(() -> {
+				// uninterruptibly, so a task that was handed out always runs and its future always completes (the interrupt flag is kept)
+				permits.acquireUninterruptibly();
+				try {
+					command.run();
+				} finally {
+					permits.release();
+				}
+			});
+		}
+
+		@Override
+		public void shutdown() {
+			delegate.shutdown();
+		}
+
+		@NotNull
+		@Override
+		public List<Runnable> shutdownNow() {
+			return delegate.shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return delegate.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return delegate.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(final long timeout, @NotNull final TimeUnit unit)
+				throws InterruptedException {
+			return delegate.awaitTermination(timeout, unit);
+		}
+	}
+}
@@ -4,7 +4,6 @@ import org.simplejavamail.config.ConfigLoader;
 import org.simplejavamail.config.ConfigLoader.Property;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Map;
 import java.util.Properties;
 
@@ -14,17 +13,9 @@ import java.util.Properties;
 public class ConfigLoaderTestHelper {
 	public static void setResolvedProperties(Map<Property, Object> value)
 			throws Exception {
-		Field field = makeAccessible(ConfigLoader.class.getDeclaredField("RESOLVED_PROPERTIES"));
-		field.set(null, value);
-	}
-
-	private static Field makeAccessible(Field field)
-			throws NoSuchFieldException, IllegalAccessException {
+		Field field = ConfigLoader.class.getDeclaredField("RESOLVED_PROPERTIES");
 		field.setAccessible(true);
-		Field modifiersField = Field.class.getDeclaredField("modifiers");
-		modifiersField.setAccessible(true);
-		modifiersField.setInt(field, field.getModifiers() & ~Modifier.FINAL);
-		return field;
+		field.set(null, value);
 	}
 
 	public static void clearConfigProperties() {
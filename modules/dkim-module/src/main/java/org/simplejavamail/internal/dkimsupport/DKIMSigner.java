@@ -7,21 +7,12 @@ import org.simplejavamail.api.email.Email;
 import org.simplejavamail.api.email.Recipient;
 import org.simplejavamail.api.email.config.DkimConfig;
 import org.simplejavamail.internal.modules.DKIMModule;
-import org.simplejavamail.utils.mail.dkim.Canonicalization;
-import org.simplejavamail.utils.mail.dkim.DkimMessage;
+import org.simplejavamail.internal.util.concurrent.BoundedCache;
+import org.simplejavamail.utils.mail.dkim.DkimException;
 import org.simplejavamail.utils.mail.dkim.DkimSigner;
-import org.simplejavamail.utils.mail.dkim.SigningAlgorithm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.security.NoSuchAlgorithmException;
-import java.security.spec.InvalidKeySpecException;
-import java.util.Collections;
-
-import static org.simplejavamail.internal.util.MiscUtil.defaultTo;
-
 /**
  * This class only serves to hide the DKIM implementation behind an easy-to-load-with-reflection class.
  */
@@ -30,34 +21,49 @@ public class DKIMSigner implements DKIMModule {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(DKIMSigner.class);
 
+	/**
+	 * Bulk sends typically use one or a handful of DKIM keys, so a small cache suffices to avoid parsing the private key for every message.
+	 */
+	private static final int SIGNER_TEMPLATE_CACHE_SIZE = 32;
+
+	private static final BoundedCache<DkimConfig, DkimSignerTemplate> SIGNER_TEMPLATE_CACHE = new BoundedCache<>(SIGNER_TEMPLATE_CACHE_SIZE);
+
 	/**
 	 * @see DKIMModule#signMessageWithDKIM(Email email, MimeMessage, DkimConfig, Recipient)
 	 */
 	public MimeMessage signMessageWithDKIM(@NotNull Email email, @NotNull final MimeMessage messageToSign, @NotNull final DkimConfig dkimConfig, @NotNull final Recipient fromRecipient) {
 		LOGGER.debug("signing MimeMessage with DKIM...");
 		try {
-			final DkimSigner dkimSigner = new DkimSigner(dkimConfig.getDkimSigningDomain(), dkimConfig.getDkimSelector(), new ByteArrayInputStream(dkimConfig.getDkimPrivateKeyData()));
-
-			defaultTo(dkimConfig.getExcludedHeadersFromDkimDefaultSigningList(), Collections.<String>emptySet())
-					.forEach(dkimSigner::removeHeaderToSign);
-			dkimSigner.setIdentity(fromRecipient.getAddress());
-			dkimSigner.setHeaderCanonicalization(Canonicalization.RELAXED);
-			dkimSigner.setBodyCanonicalization(Canonicalization.RELAXED);
-			dkimSigner.setSigningAlgorithm(SigningAlgorithm.SHA256_WITH_RSA);
-			dkimSigner.setLengthParam(true);
-			dkimSigner.setZParam(false);
-
-			// during our junit tests, we don't want to actually connect to the internet to check the domain key
-			if (fromRecipient.getAddress().endsWith("supersecret-testing-domain.com")) {
-				dkimSigner.setCheckDomainKey(false);
-			}
-
+			final DkimSigner dkimSigner = SIGNER_TEMPLATE_CACHE
+					.computeIfAbsent(dkimConfig, DkimSignerTemplate::parse)
+					.createSigner(fromRecipient.getAddress());
 			return new DkimMessageIdFixingMimeMessage(messageToSign, dkimSigner, email.getId());
-		} catch (IOException | NoSuchAlgorithmException | InvalidKeySpecException | MessagingException e) {
+		} catch (DkimException | MessagingException e) {
 			throw new org.simplejavamail.internal.dkimsupport.DKIMSigningException(org.simplejavamail.internal.dkimsupport.DKIMSigningException.ERROR_SIGNING_DKIM_INVALID_DOMAINKEY, e);
 		}
 	}
 
+	/**
+	 * @return The number of times a parsed DKIM key was reused from the cache.
+	 */
+	public static long getSignerCacheHitCount() {
+		return SIGNER_TEMPLATE_CACHE.getHitCount();
+	}
+
+	/**
+	 * @return The number of times a DKIM key had to be parsed, because it wasn't cached yet (or anymore).
+	 */
+	public static long getSignerCacheMissCount() {
+		return SIGNER_TEMPLATE_CACHE.getMissCount();
+	}
+
+	/**
+	 * Forgets all parsed DKIM keys, for example after rotating a key that is used under the same {@link DkimConfig}.
+	 */
+	public static void clearSignerCache() {
+		SIGNER_TEMPLATE_CACHE.clear();
+	}
+
 	@Override
 	public boolean isMessageIdFixingMessage(MimeMessage message) {
 		return message instanceof DkimMessageIdFixingMimeMessage;
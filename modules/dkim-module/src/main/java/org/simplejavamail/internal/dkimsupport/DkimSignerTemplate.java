@@ -0,0 +1,70 @@
+package org.simplejavamail.internal.dkimsupport;
+
+import org.jetbrains.annotations.NotNull;
+import org.simplejavamail.api.email.config.DkimConfig;
+import org.simplejavamail.utils.mail.dkim.Canonicalization;
+import org.simplejavamail.utils.mail.dkim.DkimSigner;
+import org.simplejavamail.utils.mail.dkim.SigningAlgorithm;
+
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.simplejavamail.internal.util.MiscUtil.defaultTo;
+
+/**
+ * Holds everything from a {@link DkimConfig} that is the same for every message signed with it, most notably the parsed private key. A
+ * {@link DkimSigner} itself is stateful (identity, signature instance) and can't be shared between threads, so a fresh one is produced for
+ * each message, which is cheap once the key has been parsed.
+ */
+final class DkimSignerTemplate {
+
+	@NotNull private final String signingDomain;
+	@NotNull private final String selector;
+	@NotNull private final RSAPrivateKey privateKey;
+	@NotNull private final Set<String> excludedHeadersFromDefaultSigningList;
+
+	private DkimSignerTemplate(@NotNull final DkimConfig dkimConfig, @NotNull final RSAPrivateKey privateKey) {
+		this.signingDomain = dkimConfig.getDkimSigningDomain();
+		this.selector = dkimConfig.getDkimSelector();
+		this.privateKey = privateKey;
+		this.excludedHeadersFromDefaultSigningList = new HashSet<>(defaultTo(dkimConfig.getExcludedHeadersFromDkimDefaultSigningList(), Collections.<String>emptySet()));
+	}
+
+	/**
+	 * Parses the PKCS#8 private key the same way {@link DkimSigner#DkimSigner(String, String, java.io.InputStream)} does.
+	 */
+	@NotNull
+	static DkimSignerTemplate parse(@NotNull final DkimConfig dkimConfig) {
+		try {
+			final KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+			final RSAPrivateKey privateKey = (RSAPrivateKey) keyFactory.generatePrivate(new PKCS8EncodedKeySpec(dkimConfig.getDkimPrivateKeyData()));
+			return new DkimSignerTemplate(dkimConfig, privateKey);
+		} catch (NoSuchAlgorithmException | InvalidKeySpecException | ClassCastException e) {
+			throw new DKIMSigningException(DKIMSigningException.ERROR_SIGNING_DKIM_INVALID_DOMAINKEY, e);
+		}
+	}
+
+	@NotNull
+	DkimSigner createSigner(@NotNull final String identity) {
+		final DkimSigner dkimSigner = new DkimSigner(signingDomain, selector, privateKey);
+		excludedHeadersFromDefaultSigningList.forEach(dkimSigner::removeHeaderToSign);
+		dkimSigner.setIdentity(identity);
+		dkimSigner.setHeaderCanonicalization(Canonicalization.RELAXED);
+		dkimSigner.setBodyCanonicalization(Canonicalization.RELAXED);
+		dkimSigner.setSigningAlgorithm(SigningAlgorithm.SHA256_WITH_RSA);
+		dkimSigner.setLengthParam(true);
+		dkimSigner.setZParam(false);
+
+		// during our junit tests, we don't want to actually connect to the internet to check the domain key
+		if (identity.endsWith("supersecret-testing-domain.com")) {
+			dkimSigner.setCheckDomainKey(false);
+		}
+		return dkimSigner;
+	}
+}
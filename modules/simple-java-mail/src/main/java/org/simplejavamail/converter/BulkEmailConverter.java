@@ -0,0 +1,210 @@
+package org.simplejavamail.converter;
+
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.api.mailer.config.Pkcs12Config;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+import static java.util.Locale.ROOT;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
+import static org.simplejavamail.internal.util.Preconditions.checkNonEmptyArgument;
+
+/**
+ * Converts many .eml and .msg files concurrently, using {@link EmailConverter#emlToEmail(java.io.File, Pkcs12Config)} and {@link
+ * EmailConverter#outlookMsgToEmail(java.io.File, Pkcs12Config)} (files ending in .msg, case-insensitive) on a given executor.
+ * <p>
+ * Results are streamed back lazily: files are only picked up from the source while fewer than {@code maxInFlight} results are being converted
+ * or waiting to be consumed, so memory use is bounded regardless of the number of files. A file that fails to convert results in a failed
+ * {@link ConvertedEmail} rather than an exception, so the rest of the batch continues.
+ * <p>
+ * The returned streams should be closed (for example with try-with-resources) when they were created from a directory, so the directory
+ * handle is released.
+ * <br>
+ * If you convert .msg files, make sure you load the following dependency: <em>org.simplejavamail::outlook-message-parser</em>
+ */
+@SuppressWarnings("WeakerAccess")
+public final class BulkEmailConverter {
+
+	private BulkEmailConverter() {
+		// util / helper class
+	}
+
+	/**
+	 * Delegates to {@link #emlAndMsgFilesToEmails(Stream)} with the regular files in the given directory (not recursively) ending in .eml or
+	 * .msg (case-insensitive).
+	 */
+	@NotNull
+	public static Stream<ConvertedEmail> emlAndMsgFilesToEmails(@NotNull final Path directory) {
+		return emlAndMsgFilesToEmails(listDirectory(directory, BulkEmailConverter::isEmlOrMsgFile));
+	}
+
+	/**
+	 * Delegates to {@link #emlAndMsgFilesToEmails(Stream)} with the regular files in the given directory (not recursively) that match the glob.
+	 *
+	 * @param glob A glob pattern as understood by {@link java.nio.file.FileSystem#getPathMatcher(String)}, without the "glob:" prefix.
+	 */
+	@NotNull
+	public static Stream<ConvertedEmail> emlAndMsgFilesToEmails(@NotNull final Path directory, @NotNull final String glob) {
+		val matcher = checkNonEmptyArgument(directory, "directory").getFileSystem().getPathMatcher("glob:" + checkNonEmptyArgument(glob, "glob"));
+		return emlAndMsgFilesToEmails(listDirectory(directory, file -> matcher.matches(file.getFileName())));
+	}
+
+	/**
+	 * Delegates to {@link #emlAndMsgFilesToEmails(Stream, Executor, int, boolean, Pkcs12Config)} using the {@link ForkJoinPool#commonPool()},
+	 * allowing twice its parallelism of files in flight and returning results in the order of the given files.
+	 */
+	@NotNull
+	public static Stream<ConvertedEmail> emlAndMsgFilesToEmails(@NotNull final Stream<Path> files) {
+		val pool = ForkJoinPool.commonPool();
+		return emlAndMsgFilesToEmails(files, pool, 2 * pool.getParallelism(), true, null);
+	}
+
+	/**
+	 * Converts the given files on the given executor, with at most {@code maxInFlight} conversions being performed or waiting to be consumed at
+	 * any time. The given stream is consumed lazily, as the resulting stream is consumed, and is closed when the resulting stream is closed.
+	 * <p>
+	 * <strong>Note:</strong> the resulting stream itself is sequential; the concurrency lies in the executor. Calling {@code parallel()} on it
+	 * doesn't convert more files at the same time.
+	 *
+	 * @param files        The .eml and .msg files to convert.
+	 * @param executor     The executor to perform conversions on, such as a {@link ForkJoinPool} or a fixed thread pool.
+	 * @param maxInFlight  The maximum number of files being converted or waiting to be consumed. Should be positive.
+	 * @param ordered      Whether to return results in the order of the given files, or as soon as they complete. Returning them in order
+	 *                     means a slow file holds back results of files after it (but doesn't stop them from being converted).
+	 * @param pkcs12Config Private key store for decrypting S/MIME encrypted attachments, or {@code null}.
+	 */
+	@NotNull
+	public static Stream<ConvertedEmail> emlAndMsgFilesToEmails(@NotNull final Stream<Path> files, @NotNull final Executor executor, final int maxInFlight,
+			final boolean ordered, @Nullable final Pkcs12Config pkcs12Config) {
+		checkNonEmptyArgument(files, "files");
+		checkNonEmptyArgument(executor, "executor");
+		assumeTrue(maxInFlight > 0, "maxInFlight should be positive, was " + maxInFlight);
+		val results = new ConvertingIterator(files.iterator(), executor, maxInFlight, ordered, pkcs12Config);
+		return StreamSupport.stream(spliteratorUnknownSize(results, ordered ? ORDERED | NONNULL : NONNULL), false)
+				.onClose(files::close);
+	}
+
+	@NotNull
+	private static Stream<Path> listDirectory(@NotNull final Path directory, @NotNull final DirectoryStream.Filter<Path> filter) {
+		final DirectoryStream<Path> directoryStream;
+		try {
+			directoryStream = Files.newDirectoryStream(checkNonEmptyArgument(directory, "directory"), filter);
+		} catch (final IOException e) {
+			throw new EmailConverterException(format(EmailConverterException.ERROR_LISTING_DIRECTORY, directory, e.getMessage()), e);
+		}
+		return StreamSupport.stream(directoryStream.spliterator(), false)
+				.filter(Files::isRegularFile)
+				.onClose(() -> {
+					try {
+						directoryStream.close();
+					} catch (final IOException e) {
+						throw new EmailConverterException(format(EmailConverterException.ERROR_LISTING_DIRECTORY, directory, e.getMessage()), e);
+					}
+				});
+	}
+
+	private static boolean isEmlOrMsgFile(@NotNull final Path file) {
+		val fileName = file.getFileName().toString().toLowerCase(ROOT);
+		return fileName.endsWith(".eml") || fileName.endsWith(".msg");
+	}
+
+	@NotNull
+	private static ConvertedEmail convert(@NotNull final Path file, @Nullable final Pkcs12Config pkcs12Config) {
+		try {
+			return ConvertedEmail.converted(file, file.getFileName().toString().toLowerCase(ROOT).endsWith(".msg")
+					? EmailConverter.outlookMsgToEmail(file.toFile(), pkcs12Config)
+					: EmailConverter.emlToEmail(file.toFile(), pkcs12Config));
+		} catch (final Exception e) {
+			return ConvertedEmail.failed(file, e);
+		}
+	}
+
+	/**
+	 * Keeps up to {@code maxInFlight} conversions going, topping up the window from the source each time a result is consumed. Should only be used
+	 * by the thread consuming the results.
+	 */
+	private static final class ConvertingIterator implements Iterator<ConvertedEmail> {
+
+		private final Iterator<Path> files;
+		private final Executor executor;
+		private final int maxInFlight;
+		private final boolean ordered;
+		@Nullable private final Pkcs12Config pkcs12Config;
+
+		/**
+		 * In ordered mode: the conversions in order of submission.
+		 */
+		private final Deque<CompletableFuture<ConvertedEmail>> inFlightInOrder = new ArrayDeque<>();
+		/**
+		 * In unordered mode: the conversions in order of completion, including those that failed with an Error rather than a failed {@link
+		 * ConvertedEmail}, so the consumer doesn't wait for them forever.
+		 */
+		private final BlockingQueue<CompletableFuture<ConvertedEmail>> completed = new LinkedBlockingQueue<>();
+		private int inFlightCount;
+
+		private ConvertingIterator(@NotNull final Iterator<Path> files, @NotNull final Executor executor, final int maxInFlight, final boolean ordered,
+				@Nullable final Pkcs12Config pkcs12Config) {
+			this.files = files;
+			this.executor = executor;
+			this.maxInFlight = maxInFlight;
+			this.ordered = ordered;
+			this.pkcs12Config = pkcs12Config;
+		}
+
+		@Override
+		public boolean hasNext() {
+			fillWindow();
+			return inFlightCount > 0;
+		}
+
+		@Override
+		public ConvertedEmail next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			inFlightCount--;
+			if (ordered) {
+				return inFlightInOrder.removeFirst().join();
+			}
+			try {
+				return completed.take().join();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new EmailConverterException(EmailConverterException.BULK_CONVERSION_INTERRUPTED, e);
+			}
+		}
+
+		private void fillWindow() {
+			while (inFlightCount < maxInFlight && files.hasNext()) {
+				val file = files.next();
+				val conversion = CompletableFuture.supplyAsync(() -> convert(file, pkcs12Config), executor);
+				if (ordered) {
+					inFlightInOrder.addLast(conversion);
+				} else {
+					conversion.whenComplete((result, throwable) -> completed.add(conversion));
+				}
+				inFlightCount++;
+			}
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package org.simplejavamail.converter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.api.email.Email;
+
+import java.nio.file.Path;
+
+/**
+ * The outcome of converting a single file with {@link BulkEmailConverter}: either the converted {@link Email}, or the exception that prevented
+ * the conversion. A failed file doesn't stop the rest of the batch.
+ */
+public final class ConvertedEmail {
+
+	@NotNull private final Path file;
+	@Nullable private final Email email;
+	@Nullable private final Exception error;
+
+	private ConvertedEmail(@NotNull final Path file, @Nullable final Email email, @Nullable final Exception error) {
+		this.file = file;
+		this.email = email;
+		this.error = error;
+	}
+
+	@NotNull
+	static ConvertedEmail converted(@NotNull final Path file, @NotNull final Email email) {
+		return new ConvertedEmail(file, email, null);
+	}
+
+	@NotNull
+	static ConvertedEmail failed(@NotNull final Path file, @NotNull final Exception error) {
+		return new ConvertedEmail(file, null, error);
+	}
+
+	/**
+	 * @return The .eml or .msg file that was converted.
+	 */
+	@NotNull
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * @return The converted email, or {@code null} if the conversion failed.
+	 */
+	@Nullable
+	public Email getEmail() {
+		return email;
+	}
+
+	/**
+	 * @return The reason the conversion failed, or {@code null} if it succeeded.
+	 */
+	@Nullable
+	public Exception getError() {
+		return error;
+	}
+
+	public boolean isSuccess() {
+		return error == null;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ConvertedEmail{file=%s, success=%s}", file, isSuccess());
+	}
+}
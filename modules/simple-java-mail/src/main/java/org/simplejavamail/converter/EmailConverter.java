@@ -5,6 +5,7 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.util.SharedFileInputStream;
 import lombok.val;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -32,6 +33,8 @@ import org.simplejavamail.email.internal.InternalEmailPopulatingBuilder;
 import org.simplejavamail.internal.moduleloader.ModuleLoader;
 import org.simplejavamail.internal.smimesupport.model.OriginalSmimeDetailsImpl;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -41,11 +44,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Properties;
 
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static org.simplejavamail.api.email.OriginalSmimeDetails.SmimeMode.PLAIN;
 import static org.simplejavamail.internal.moduleloader.ModuleLoader.loadSmimeModule;
 import static org.simplejavamail.internal.util.MiscUtil.extractCID;
@@ -63,6 +74,8 @@ import static org.simplejavamail.mailer.internal.EmailGovernanceImpl.NO_GOVERNAN
 @SuppressWarnings("WeakerAccess")
 public final class EmailConverter {
 
+	private static final int EML_WRITE_BUFFER_SIZE = 64 * 1024;
+
 	private EmailConverter() {
 		// util / helper class
 	}
@@ -119,10 +132,45 @@ public final class EmailConverter {
 	 */
 	@NotNull
 	public static EmailPopulatingBuilder mimeMessageToEmailBuilder(@NotNull final MimeMessage mimeMessage, @Nullable final Pkcs12Config pkcs12Config, final boolean fetchAttachmentData) {
+		return mimeMessageToEmailBuilder(mimeMessage, pkcs12Config, fetchAttachmentData, false);
+	}
+
+	/**
+	 * @param mimeMessage The MimeMessage from which to create the {@link Email}.
+	 * @param pkcs12Config Private key store for decrypting S/MIME encrypted attachments
+	 *                        (only needed when the message is encrypted rather than just signed).
+	 * @param fetchAttachmentData When false only the names of the attachments are retrieved but no data
+	 * @param deduplicateAttachmentContent Whether fetched attachment content is shared with identical attachment content read before, so converting
+	 *                                     many messages with the same attachments holds each payload in memory only once. See
+	 *                                     {@link MimeMessageParser#parseMimeMessage(MimeMessage, boolean, boolean)}.
+	 */
+	@NotNull
+	public static EmailPopulatingBuilder mimeMessageToEmailBuilder(@NotNull final MimeMessage mimeMessage, @Nullable final Pkcs12Config pkcs12Config,
+			final boolean fetchAttachmentData, final boolean deduplicateAttachmentContent) {
+		checkNonEmptyArgument(mimeMessage, "mimeMessage");
+		return mimeMessageToEmailBuilder(mimeMessage, pkcs12Config, MimeMessageParser.parseMimeMessage(mimeMessage, fetchAttachmentData, deduplicateAttachmentContent));
+	}
+
+	/**
+	 * Like {@link #mimeMessageToEmailBuilder(MimeMessage, Pkcs12Config)}, except that attachment data isn't read from the MimeMessage until an
+	 * attachment is first read, at which point attachments larger than the given threshold are kept in a temporary file rather than on the heap.
+	 * <p>
+	 * Until then, the attachments refer to the MimeMessage, so it should remain readable.
+	 *
+	 * @param attachmentSpillThreshold The maximum size in bytes of an attachment to keep on the heap.
+	 * @see #emlToEmailBuilderWithLazyAttachments(File, Pkcs12Config, long)
+	 */
+	@NotNull
+	public static EmailPopulatingBuilder mimeMessageToEmailBuilderWithLazyAttachments(@NotNull final MimeMessage mimeMessage, @Nullable final Pkcs12Config pkcs12Config,
+			final long attachmentSpillThreshold) {
 		checkNonEmptyArgument(mimeMessage, "mimeMessage");
-		val builder = EmailBuilder.startingBlank();
-		val parsed = MimeMessageParser.parseMimeMessage(mimeMessage, fetchAttachmentData);
-		val emailBuilder = buildEmailFromMimeMessage(builder, parsed);
+		return mimeMessageToEmailBuilder(mimeMessage, pkcs12Config, MimeMessageParser.parseMimeMessageLazily(mimeMessage, attachmentSpillThreshold));
+	}
+
+	@NotNull
+	private static EmailPopulatingBuilder mimeMessageToEmailBuilder(@NotNull final MimeMessage mimeMessage, @Nullable final Pkcs12Config pkcs12Config,
+			@NotNull final ParsedMimeMessageComponents parsed) {
+		val emailBuilder = buildEmailFromMimeMessage(EmailBuilder.startingBlank(), parsed);
 		return decryptAttachments(emailBuilder, mimeMessage, pkcs12Config);
 	}
 
@@ -345,6 +393,39 @@ public final class EmailConverter {
 		return mimeMessageToEmailBuilder(emlToMimeMessage(emlFile), pkcs12Config);
 	}
 
+	/**
+	 * Like {@link #emlToEmailBuilder(File, Pkcs12Config)}, except that the file isn't read into memory. Instead, the message is read from the file
+	 * as needed and attachments are handled as described in {@link #mimeMessageToEmailBuilderWithLazyAttachments(MimeMessage, Pkcs12Config, long)},
+	 * so EML files with attachments of any size can be converted with a bounded heap.
+	 * <p>
+	 * <strong>Note:</strong> the attachments are read from the file until then, so the file is kept open. The caller owns the returned
+	 * conversion and should close it once the attachments have been read, after which the file can be removed. The file should not be changed
+	 * until then.
+	 *
+	 * @param attachmentSpillThreshold The maximum size in bytes of an attachment to keep on the heap.
+	 */
+	@NotNull
+	public static LazyEmlConversion emlToEmailBuilderWithLazyAttachments(@NotNull final File emlFile, @Nullable final Pkcs12Config pkcs12Config,
+			final long attachmentSpillThreshold) {
+		final SharedFileInputStream emlInputStream;
+		try {
+			emlInputStream = new SharedFileInputStream(checkNonEmptyArgument(emlFile, "emlFile"));
+		} catch (final IOException e) {
+			throw new EmailConverterException(format(EmailConverterException.PARSE_ERROR_EML_FROM_FILE, e.getMessage()), e);
+		}
+		try {
+			val mimeMessage = emlToMimeMessage(emlInputStream, createDummySession());
+			return new LazyEmlConversion(emlFile, emlInputStream, mimeMessageToEmailBuilderWithLazyAttachments(mimeMessage, pkcs12Config, attachmentSpillThreshold));
+		} catch (final RuntimeException e) {
+			try {
+				emlInputStream.close();
+			} catch (final IOException closeFailure) {
+				e.addSuppressed(closeFailure);
+			}
+			throw e;
+		}
+	}
+
 	/**
 	 * Delegates to {@link #emlToEmailBuilder(InputStream, Pkcs12Config)}.
 	 */
@@ -384,6 +465,43 @@ public final class EmailConverter {
 		return mimeMessageToEmailBuilder(mimeMessage, pkcs12Config);
 	}
 
+	/*
+		To headers only
+	 */
+
+	/**
+	 * Delegates to {@link #emlToHeaders(InputStream)}, reading the file only up to the end of its top-level header block.
+	 */
+	@NotNull
+	public static EmlHeaders emlToHeaders(@NotNull final File emlFile) {
+		try (InputStream emlInputStream = new BufferedInputStream(new FileInputStream(checkNonEmptyArgument(emlFile, "emlFile")))) {
+			return emlToHeaders(emlInputStream);
+		} catch (final IOException e) {
+			throw new EmailConverterException(format(EmailConverterException.PARSE_ERROR_EML_FROM_FILE, e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Delegates to {@link #emlToHeaders(InputStream)}.
+	 */
+	@NotNull
+	public static EmlHeaders emlToHeaders(@NotNull final String eml) {
+		return emlToHeaders(new ByteArrayInputStream(checkNonEmptyArgument(eml, "eml").getBytes(UTF_8)));
+	}
+
+	/**
+	 * Fast alternative to {@link #emlToEmail(InputStream)} for when only the headers are needed, such as for search indexing. Reads the given stream
+	 * only up to the end of the top-level header block and never touches the body, so no parts are parsed, decoded or buffered.
+	 * <p>
+	 * The stream is not closed and is left positioned somewhere after the header block.
+	 *
+	 * @see MimeMessageParser#parseHeaderBlock(InputStream)
+	 */
+	@NotNull
+	public static EmlHeaders emlToHeaders(@NotNull final InputStream emlInputStream) {
+		return new EmlHeaders(MimeMessageParser.parseHeaderBlock(checkNonEmptyArgument(emlInputStream, "emlInputStream")));
+	}
+
 	/*
 		To MimeMessage instance
 	 */
@@ -578,6 +696,91 @@ public final class EmailConverter {
 		return mimeMessageToEML(emailToMimeMessage(checkNonEmptyArgument(email, "email")));
 	}
 
+	/*
+		To EML stream
+	 */
+
+	/**
+	 * Writes the result of {@link MimeMessage#writeTo(OutputStream)} directly to the given stream, without building the EML in memory first. The
+	 * stream is not closed.
+	 * <p>
+	 * <strong>Note:</strong> the message is written in many small chunks, so an unbuffered stream should be wrapped in a {@link BufferedOutputStream}.
+	 */
+	public static void mimeMessageToEML(@NotNull final MimeMessage mimeMessage, @NotNull final OutputStream outputStream) {
+		try {
+			checkNonEmptyArgument(mimeMessage, "mimeMessage").writeTo(checkNonEmptyArgument(outputStream, "outputStream"));
+		} catch (IOException | MessagingException e) {
+			throw new EmailConverterException(format(EmailConverterException.ERROR_WRITING_EML_TO_STREAM, e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Like {@link #mimeMessageToEML(MimeMessage, OutputStream)}, but writes to the given channel through a buffer. The channel is not closed.
+	 */
+	public static void mimeMessageToEML(@NotNull final MimeMessage mimeMessage, @NotNull final WritableByteChannel channel) {
+		try {
+			writeBuffered(checkNonEmptyArgument(mimeMessage, "mimeMessage"), checkNonEmptyArgument(channel, "channel"));
+		} catch (IOException | MessagingException e) {
+			throw new EmailConverterException(format(EmailConverterException.ERROR_WRITING_EML_TO_STREAM, e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Like {@link #mimeMessageToEML(MimeMessage, WritableByteChannel)}, but writes to a file channel on the given path, which is created or
+	 * replaced. If writing fails, the partially written file is removed.
+	 */
+	public static void mimeMessageToEML(@NotNull final MimeMessage mimeMessage, @NotNull final Path emlFile) {
+		checkNonEmptyArgument(mimeMessage, "mimeMessage");
+		checkNonEmptyArgument(emlFile, "emlFile");
+		try (FileChannel channel = FileChannel.open(emlFile, CREATE, TRUNCATE_EXISTING, WRITE)) {
+			writeBuffered(mimeMessage, channel);
+		} catch (IOException | MessagingException e) {
+			deletePartiallyWrittenFile(emlFile, e);
+			throw new EmailConverterException(format(EmailConverterException.ERROR_WRITING_EML_TO_FILE, emlFile, e.getMessage()), e);
+		} catch (final RuntimeException e) {
+			// for example when DKIM signing fails while writing
+			deletePartiallyWrittenFile(emlFile, e);
+			throw e;
+		}
+	}
+
+	private static void deletePartiallyWrittenFile(@NotNull final Path emlFile, @NotNull final Exception writeError) {
+		try {
+			Files.deleteIfExists(emlFile);
+		} catch (final IOException deleteError) {
+			writeError.addSuppressed(deleteError);
+		}
+	}
+
+	private static void writeBuffered(@NotNull final MimeMessage mimeMessage, @NotNull final WritableByteChannel channel)
+			throws IOException, MessagingException {
+		// not closed, as that would close the channel as well
+		final OutputStream os = new BufferedOutputStream(Channels.newOutputStream(channel), EML_WRITE_BUFFER_SIZE);
+		mimeMessage.writeTo(os);
+		os.flush();
+	}
+
+	/**
+	 * Delegates to {@link #emailToMimeMessage(Email)} and passes the result to {@link #mimeMessageToEML(MimeMessage, OutputStream)}.
+	 */
+	public static void emailToEML(@NotNull final Email email, @NotNull final OutputStream outputStream) {
+		mimeMessageToEML(emailToMimeMessage(checkNonEmptyArgument(email, "email")), outputStream);
+	}
+
+	/**
+	 * Delegates to {@link #emailToMimeMessage(Email)} and passes the result to {@link #mimeMessageToEML(MimeMessage, WritableByteChannel)}.
+	 */
+	public static void emailToEML(@NotNull final Email email, @NotNull final WritableByteChannel channel) {
+		mimeMessageToEML(emailToMimeMessage(checkNonEmptyArgument(email, "email")), channel);
+	}
+
+	/**
+	 * Delegates to {@link #emailToMimeMessage(Email)} and passes the result to {@link #mimeMessageToEML(MimeMessage, Path)}.
+	 */
+	public static void emailToEML(@NotNull final Email email, @NotNull final Path emlFile) {
+		mimeMessageToEML(emailToMimeMessage(checkNonEmptyArgument(email, "email")), emlFile);
+	}
+
 	/**
 	 * Delegates to {@link #outlookMsgToEML(String, Pkcs12Config)}.
 	 */
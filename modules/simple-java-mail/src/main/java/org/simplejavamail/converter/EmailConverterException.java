@@ -11,6 +11,11 @@ class EmailConverterException extends MailException {
 	static final String PARSE_ERROR_EML_FROM_FILE = "Error parsing EML data from file: %s";
 	static final String PARSE_ERROR_EML_FROM_STREAM = "Error parsing EML data from input stream: %s";
 	static final String ERROR_READING_EML_INPUTSTREAM = "Error reading EML string from given InputStream";
+	static final String ERROR_CLOSING_EML_FILE = "Error closing EML file %s: %s";
+	static final String ERROR_WRITING_EML_TO_STREAM = "Error writing EML data to output stream: %s";
+	static final String ERROR_WRITING_EML_TO_FILE = "Error writing EML data to file %s: %s";
+	static final String ERROR_LISTING_DIRECTORY = "Error listing files to convert in directory %s: %s";
+	static final String BULK_CONVERSION_INTERRUPTED = "Interrupted while waiting for the next converted email";
 
 	EmailConverterException(final String message, final Exception cause) {
 		super(message, cause);
@@ -0,0 +1,144 @@
+package org.simplejavamail.converter;
+
+import jakarta.mail.Header;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.InternetHeaders;
+import jakarta.mail.internet.MailDateFormat;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.converter.internal.mimemessage.MimeMessageParser;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A lightweight, read-only view on the top-level headers of an EML message, as produced by {@link EmailConverter#emlToHeaders(java.io.File)}.
+ * Only the header block has been read: the body and attachments were never parsed. Values are decoded when accessed, so reading just a few
+ * headers for indexing costs little more than reading the header block itself.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class EmlHeaders {
+
+	@NotNull private final InternetHeaders headers;
+
+	EmlHeaders(@NotNull final InternetHeaders headers) {
+		this.headers = headers;
+	}
+
+	@Nullable
+	public String getMessageId() {
+		return getRawHeader("Message-ID");
+	}
+
+	/**
+	 * @return The decoded subject, or {@code null} if there is none.
+	 */
+	@Nullable
+	public String getSubject() {
+		return getHeader("Subject");
+	}
+
+	/**
+	 * @return The first address of the "From" header, or {@code null} if there is none.
+	 */
+	@Nullable
+	public InternetAddress getFrom() {
+		final List<InternetAddress> from = getAddresses("From");
+		return from.isEmpty() ? null : from.get(0);
+	}
+
+	@NotNull
+	public List<InternetAddress> getTo() {
+		return getAddresses("To");
+	}
+
+	@NotNull
+	public List<InternetAddress> getCc() {
+		return getAddresses("Cc");
+	}
+
+	@NotNull
+	public List<InternetAddress> getBcc() {
+		return getAddresses("Bcc");
+	}
+
+	@NotNull
+	public List<InternetAddress> getReplyTo() {
+		return getAddresses("Reply-To");
+	}
+
+	/**
+	 * @return The parsed "Date" header, or {@code null} if it is missing or malformed (like {@link jakarta.mail.internet.MimeMessage#getSentDate()}).
+	 */
+	@Nullable
+	public Date getSentDate() {
+		final String date = getRawHeader("Date");
+		if (date == null) {
+			return null;
+		}
+		try {
+			// MailDateFormat isn't thread-safe
+			return new MailDateFormat().parse(date);
+		} catch (final ParseException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return The first decoded value of the given header (case-insensitive), or {@code null} if the header is missing.
+	 */
+	@Nullable
+	public String getHeader(@NotNull final String name) {
+		final String value = getRawHeader(name);
+		return value != null ? MimeMessageParser.decodeText(value) : null;
+	}
+
+	/**
+	 * @return All decoded values of the given header (case-insensitive), in order of occurrence.
+	 */
+	@NotNull
+	public List<String> getHeaderValues(@NotNull final String name) {
+		final String[] values = headers.getHeader(name);
+		if (values == null) {
+			return Collections.emptyList();
+		}
+		final List<String> decodedValues = new ArrayList<>(values.length);
+		for (final String value : values) {
+			decodedValues.add(MimeMessageParser.decodeText(value));
+		}
+		return decodedValues;
+	}
+
+	/**
+	 * @return All headers with their decoded values, keyed by decoded name in order of first occurrence.
+	 */
+	@NotNull
+	public Map<String, List<String>> getHeaders() {
+		final Map<String, List<String>> result = new LinkedHashMap<>();
+		for (final Header header : Collections.list(headers.getAllHeaders())) {
+			result.computeIfAbsent(MimeMessageParser.decodeText(header.getName()), name -> new ArrayList<>())
+					.add(MimeMessageParser.decodeText(header.getValue()));
+		}
+		return result;
+	}
+
+	@Nullable
+	private String getRawHeader(@NotNull final String name) {
+		return headers.getHeader(name, null);
+	}
+
+	@NotNull
+	private List<InternetAddress> getAddresses(@NotNull final String name) {
+		return MimeMessageParser.parseAddressHeader(headers.getHeader(name, ","), name);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("EmlHeaders{messageId=%s, subject=%s}", getMessageId(), getSubject());
+	}
+}
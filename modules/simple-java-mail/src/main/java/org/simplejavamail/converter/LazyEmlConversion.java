@@ -0,0 +1,52 @@
+package org.simplejavamail.converter;
+
+import jakarta.mail.util.SharedFileInputStream;
+import org.jetbrains.annotations.NotNull;
+import org.simplejavamail.api.email.EmailPopulatingBuilder;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+/**
+ * The outcome of {@link EmailConverter#emlToEmailBuilderWithLazyAttachments(File, org.simplejavamail.api.mailer.config.Pkcs12Config, long)}:
+ * the converted email, together with the open EML file its attachments are still read from.
+ * <p>
+ * The caller owns the file handle and should close this once the attachments have been read (or aren't needed anymore), for example with
+ * try-with-resources. Attachments that weren't read before that can't be read afterwards. Once closed, the EML file can be removed, also on
+ * platforms that don't allow removing files that are still open (Windows).
+ */
+public final class LazyEmlConversion implements Closeable {
+
+	@NotNull private final File emlFile;
+	@NotNull private final SharedFileInputStream emlInputStream;
+	@NotNull private final EmailPopulatingBuilder emailBuilder;
+
+	LazyEmlConversion(@NotNull final File emlFile, @NotNull final SharedFileInputStream emlInputStream, @NotNull final EmailPopulatingBuilder emailBuilder) {
+		this.emlFile = emlFile;
+		this.emlInputStream = emlInputStream;
+		this.emailBuilder = emailBuilder;
+	}
+
+	/**
+	 * @return The converted email, whose attachments can only be read while this hasn't been closed yet.
+	 */
+	@NotNull
+	public EmailPopulatingBuilder getEmailBuilder() {
+		return emailBuilder;
+	}
+
+	/**
+	 * Closes the EML file. Attachments that were read before remain available.
+	 */
+	@Override
+	public void close() {
+		try {
+			emlInputStream.close();
+		} catch (final IOException e) {
+			throw new EmailConverterException(format(EmailConverterException.ERROR_CLOSING_EML_FILE, emlFile, e.getMessage()), e);
+		}
+	}
+}
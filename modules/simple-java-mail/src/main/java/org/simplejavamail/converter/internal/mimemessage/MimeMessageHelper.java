@@ -21,6 +21,7 @@ import org.simplejavamail.api.email.AttachmentResource;
 import org.simplejavamail.api.email.ContentTransferEncoding;
 import org.simplejavamail.api.email.Email;
 import org.simplejavamail.api.email.Recipient;
+import org.simplejavamail.email.internal.InternalEmail;
 import org.simplejavamail.internal.util.MiscUtil;
 import org.simplejavamail.internal.util.NamedDataSource;
 
@@ -177,6 +178,11 @@ public class MimeMessageHelper {
 	 */
 	static void setEmbeddedImages(@NotNull final Email email, final MimeMultipart multipartRelated)
 			throws MessagingException {
+		final PrecompiledMimeParts precompiledMimeParts = findPrecompiledMimeParts(email);
+		if (precompiledMimeParts != null) {
+			precompiledMimeParts.addEmbeddedImages(multipartRelated);
+			return;
+		}
 		for (final AttachmentResource embeddedImage : email.getEmbeddedImages()) {
 			multipartRelated.addBodyPart(getBodyPartFromDatasource(embeddedImage, Part.INLINE));
 		}
@@ -192,11 +198,27 @@ public class MimeMessageHelper {
 	 */
 	static void setAttachments(@NotNull final Email email, final MimeMultipart multipartRoot)
 			throws MessagingException {
+		final PrecompiledMimeParts precompiledMimeParts = findPrecompiledMimeParts(email);
+		if (precompiledMimeParts != null) {
+			precompiledMimeParts.addAttachments(multipartRoot);
+			return;
+		}
 		for (final AttachmentResource attachment : email.getAttachments()) {
 			multipartRoot.addBodyPart(getBodyPartFromDatasource(attachment, Part.ATTACHMENT));
 		}
 	}
 
+	/**
+	 * @return The attachments and embedded images precompiled by the {@link org.simplejavamail.email.EmailTemplate} the email was stamped from,
+	 * if they still apply to it.
+	 */
+	@Nullable
+	@SuppressWarnings("deprecation")
+	static PrecompiledMimeParts findPrecompiledMimeParts(@NotNull final Email email) {
+		final PrecompiledMimeParts precompiledMimeParts = email instanceof InternalEmail ? ((InternalEmail) email).getPrecompiledMimeParts() : null;
+		return precompiledMimeParts != null && precompiledMimeParts.appliesTo(email) ? precompiledMimeParts : null;
+	}
+
 	/**
 	 * Sets all headers on the {@link Message} instance. Since we're not using a high-level JavaMail method, the JavaMail library says we need to do
 	 * some encoding and 'folding' manually, to get the value right for the headers (see {@link MimeUtility}.
@@ -253,9 +275,9 @@ public class MimeMessageHelper {
 	 * @return An object with the attachment data read for placement in the email structure.
 	 * @throws MessagingException All BodyPart setters.
 	 */
-	private static BodyPart getBodyPartFromDatasource(final AttachmentResource attachmentResource, final String dispositionType)
+	static MimeBodyPart getBodyPartFromDatasource(final AttachmentResource attachmentResource, final String dispositionType)
 			throws MessagingException {
-		final BodyPart attachmentPart = new MimeBodyPart();
+		final MimeBodyPart attachmentPart = new MimeBodyPart();
 		// setting headers isn't working nicely using the javax mail API, so let's do that manually
 		final String fileName = determineResourceName(attachmentResource, dispositionType, false, false);
 		final String contentID = determineResourceName(attachmentResource, dispositionType, true, true);
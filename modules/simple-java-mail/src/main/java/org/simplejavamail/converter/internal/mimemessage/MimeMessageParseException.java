@@ -35,6 +35,7 @@ class MimeMessageParseException extends MailException {
 	static final String ERROR_GETTING_MESSAGE_ID = "Error getting message ID";
 	static final String ERROR_GETTING_SEND_DATE = "Error getting sent-date";
 	static final String ERROR_PARSING_REPLY_TO_ADDRESSES = "Error parsing replyTo addresses";
+	static final String ERROR_PARSING_HEADER_BLOCK = "Error parsing header block";
 
 	MimeMessageParseException(@NotNull final String message, @Nullable final Exception cause) {
 		super(checkNonEmptyArgument(message, "message"), cause);
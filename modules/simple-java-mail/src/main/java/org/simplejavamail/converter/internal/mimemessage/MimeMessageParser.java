@@ -15,6 +15,7 @@ import jakarta.mail.Part;
 import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.ContentType;
 import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.InternetHeaders;
 import jakarta.mail.internet.MimeBodyPart;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimePart;
@@ -25,6 +26,7 @@ import lombok.val;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.internal.general.HeadersToIgnoreWhenParsingExternalEmails;
+import org.simplejavamail.internal.util.ContentDeduplicator;
 import org.simplejavamail.internal.util.MiscUtil;
 import org.simplejavamail.internal.util.NamedDataSource;
 import org.simplejavamail.internal.util.Preconditions;
@@ -54,6 +56,7 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.simplejavamail.internal.util.MiscUtil.extractCID;
 import static org.simplejavamail.internal.util.MiscUtil.valueNullOrEmpty;
+import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
 
 /**
  * Parses a MimeMessage and stores the individual parts such a plain text, HTML
@@ -63,6 +66,8 @@ import static org.simplejavamail.internal.util.MiscUtil.valueNullOrEmpty;
  */
 public final class MimeMessageParser {
 
+	private static final long READ_ATTACHMENTS_EAGERLY = -1;
+
 	static {
 		MailcapCommandMap mc = (MailcapCommandMap) CommandMap.getDefaultCommandMap();
 		mc.addMailcap("text/calendar;; x-java-content-handler=" + text_calendar.class.getName());
@@ -77,10 +82,45 @@ public final class MimeMessageParser {
 	}
 
 	/**
-	 * Extracts the content of a MimeMessage recursively.
+	 * Delegates to {@link #parseMimeMessage(MimeMessage, boolean, boolean)} without deduplicating attachment content.
 	 */
 	public static ParsedMimeMessageComponents parseMimeMessage(@NotNull final MimeMessage mimeMessage,
 			boolean fetchAttachmentData) {
+		return parseMimeMessage(mimeMessage, fetchAttachmentData, false);
+	}
+
+	/**
+	 * Extracts the content of a MimeMessage recursively.
+	 *
+	 * @param deduplicateAttachmentContent Whether fetched attachment content is shared with identical content read before (see {@link
+	 *                                     ContentDeduplicator}), so parsing many messages with the same attachments holds each payload only
+	 *                                     once. This costs a digest of every fetched attachment.
+	 */
+	public static ParsedMimeMessageComponents parseMimeMessage(@NotNull final MimeMessage mimeMessage,
+			final boolean fetchAttachmentData, final boolean deduplicateAttachmentContent) {
+		return parseMimeMessage(mimeMessage, fetchAttachmentData, READ_ATTACHMENTS_EAGERLY, deduplicateAttachmentContent);
+	}
+
+	/**
+	 * Like {@link #parseMimeMessage(MimeMessage)}, except that attachment data is not read while parsing, but when an attachment is first read.
+	 * At that point, attachments larger than the spill threshold are kept in a temporary file rather than on the heap, so (large) messages can
+	 * be converted with a bounded heap.
+	 * <p>
+	 * <strong>Note:</strong> until an attachment has been read, it refers to the original message, which should therefore remain readable.
+	 *
+	 * @param spillThreshold The maximum size in bytes of an attachment that is kept on the heap once read.
+	 */
+	public static ParsedMimeMessageComponents parseMimeMessageLazily(@NotNull final MimeMessage mimeMessage, final long spillThreshold) {
+		assumeTrue(spillThreshold >= 0, "spillThreshold should not be negative, was " + spillThreshold);
+		return parseMimeMessage(mimeMessage, true, spillThreshold, false);
+	}
+
+	/**
+	 * @param spillThreshold See {@link #parseMimeMessageLazily(MimeMessage, long)}, or {@link #READ_ATTACHMENTS_EAGERLY}.
+	 * @param deduplicateAttachmentContent See {@link #parseMimeMessage(MimeMessage, boolean, boolean)}. Only applies to eagerly read attachments.
+	 */
+	private static ParsedMimeMessageComponents parseMimeMessage(@NotNull final MimeMessage mimeMessage,
+			boolean fetchAttachmentData, final long spillThreshold, final boolean deduplicateAttachmentContent) {
 		final ParsedMimeMessageComponents parsedComponents = new ParsedMimeMessageComponents();
 		parsedComponents.messageId = parseMessageId(mimeMessage);
 		parsedComponents.sentDate = parseSentDate(mimeMessage);
@@ -90,13 +130,14 @@ public final class MimeMessageParser {
 		parsedComponents.bccAddresses.addAll(parseBccAddresses(mimeMessage));
 		parsedComponents.fromAddress = parseFromAddress(mimeMessage);
 		parsedComponents.replyToAddresses = parseReplyToAddresses(mimeMessage);
-		parseMimePartTree(mimeMessage, parsedComponents, fetchAttachmentData);
+		parseMimePartTree(mimeMessage, parsedComponents, fetchAttachmentData, spillThreshold, deduplicateAttachmentContent);
 		moveNonEmbeddedResourcesToAttachments(parsedComponents);
 		return parsedComponents;
 	}
 
 	private static void parseMimePartTree(@NotNull final MimePart currentPart,
-			@NotNull final ParsedMimeMessageComponents parsedComponents, final boolean fetchAttachmentData) {
+			@NotNull final ParsedMimeMessageComponents parsedComponents, final boolean fetchAttachmentData, final long spillThreshold,
+			final boolean deduplicateAttachmentContent) {
 		for (final DecodedHeader header : retrieveAllHeaders(currentPart)) {
 			parseHeader(header, parsedComponents);
 		}
@@ -117,12 +158,12 @@ public final class MimeMessageParser {
 		} else if (isMimeType(currentPart, "multipart/*")) {
 			final Multipart mp = parseContent(currentPart);
 			for (int i = 0, count = countBodyParts(mp); i < count; i++) {
-				parseMimePartTree(getBodyPartAtIndex(mp, i), parsedComponents, fetchAttachmentData);
+				parseMimePartTree(getBodyPartAtIndex(mp, i), parsedComponents, fetchAttachmentData, spillThreshold, deduplicateAttachmentContent);
 			}
 		} else {
 			final String contentId = parseContentID(currentPart);
 
-			final DataSource ds = createDataSource(currentPart, fetchAttachmentData);
+			final DataSource ds = createDataSource(currentPart, fetchAttachmentData, spillThreshold, deduplicateAttachmentContent);
 			final MimeDataSource attachmentDataSource = parseAttachment(contentId, currentPart, ds);
 
 			// https://github.com/bbottema/simple-java-mail/issues/491:
@@ -363,13 +404,17 @@ public final class MimeMessageParser {
 	 * @return the DataSource
 	 */
 	@NotNull
-	private static DataSource createDataSource(@NotNull final MimePart part, final boolean fetchAttachmentData) {
+	private static DataSource createDataSource(@NotNull final MimePart part, final boolean fetchAttachmentData, final long spillThreshold,
+			final boolean deduplicateAttachmentContent) {
 		final DataSource dataSource = retrieveDataHandler(part).getDataSource();
 		final String dataSourceName = parseDataSourceName(part, dataSource);
 
-		if (fetchAttachmentData) {
+		if (fetchAttachmentData && spillThreshold != READ_ATTACHMENTS_EAGERLY) {
+			return new SpillingDataSource(dataSourceName, MiscUtil.parseBaseMimeType(dataSource.getContentType()), dataSource, spillThreshold);
+		} else if (fetchAttachmentData) {
 			final String contentType = MiscUtil.parseBaseMimeType(dataSource.getContentType());
-			final ByteArrayDataSource result = new ByteArrayDataSource(readContent(retrieveInputStream(dataSource)),
+			final byte[] content = readContent(retrieveInputStream(dataSource));
+			final ByteArrayDataSource result = new ByteArrayDataSource(deduplicateAttachmentContent ? ContentDeduplicator.deduplicate(content) : content,
 					contentType);
 			result.setName(dataSourceName);
 			return result;
@@ -454,6 +499,39 @@ public final class MimeMessageParser {
 		}
 	}
 
+	/**
+	 * Reads the top-level header block of an EML stream, up to the empty line that ends it. The body is left unread, so this is much cheaper than
+	 * {@link #parseMimeMessage(MimeMessage)} when only the headers are needed.
+	 */
+	@NotNull
+	public static InternetHeaders parseHeaderBlock(@NotNull final InputStream emlInputStream) {
+		try {
+			return new InternetHeaders(emlInputStream);
+		} catch (final MessagingException e) {
+			throw new MimeMessageParseException(MimeMessageParseException.ERROR_PARSING_HEADER_BLOCK, e);
+		}
+	}
+
+	/**
+	 * Parses the (raw) value of an address list header, such as "To" or "Reply-To", decoding the personal names like {@link
+	 * #retrieveRecipients(MimeMessage, RecipientType)} does.
+	 */
+	@NotNull
+	public static List<InternetAddress> parseAddressHeader(@Nullable final String headerValue, @NotNull final String headerName) {
+		if (headerValue == null) {
+			return new ArrayList<>();
+		}
+		try {
+			final List<InternetAddress> addresses = new ArrayList<>();
+			for (final InternetAddress address : InternetAddress.parseHeader(headerValue, false)) {
+				addresses.add(new InternetAddress(address.getAddress(), decodePersonalName(address.getPersonal())));
+			}
+			return addresses;
+		} catch (final AddressException | UnsupportedEncodingException e) {
+			throw new MimeMessageParseException(format(MimeMessageParseException.ERROR_PARSING_ADDRESS, headerName, headerValue), e);
+		}
+	}
+
 	@Nullable
 	private static String decodePersonalName(String personalName) {
 		return personalName != null ? decodeText(personalName) : null;
@@ -480,7 +558,7 @@ public final class MimeMessageParser {
 	}
 
 	@NotNull
-	static String decodeText(@NotNull final String result) {
+	public static String decodeText(@NotNull final String result) {
 		try {
 			return MimeUtility.decodeText(result);
 		} catch (final UnsupportedEncodingException e) {
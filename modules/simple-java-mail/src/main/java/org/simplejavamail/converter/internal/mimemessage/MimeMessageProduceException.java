@@ -12,6 +12,8 @@ import static org.simplejavamail.internal.util.Preconditions.checkNonEmptyArgume
 @SuppressWarnings("serial")
 class MimeMessageProduceException extends MailException {
 
+	static final String ERROR_PRECOMPILING_MIME_PARTS = "Error precompiling attachments and embedded images";
+
 	MimeMessageProduceException(@NotNull final String message, @Nullable final Exception cause) {
 		super(checkNonEmptyArgument(message, "message"), cause);
 	}
@@ -3,7 +3,10 @@ package org.simplejavamail.converter.internal.mimemessage;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.mailer.SendMetricsListener;
 import org.simplejavamail.email.internal.InternalEmail;
 
 import java.io.UnsupportedEncodingException;
@@ -34,13 +37,29 @@ public final class MimeMessageProducerHelper {
 	private MimeMessageProducerHelper() {
 	}
 	
-	@SuppressWarnings("deprecation")
 	public static MimeMessage produceMimeMessage(Email email, Session session) throws UnsupportedEncodingException, MessagingException {
+		return produceMimeMessage(email, session, null);
+	}
+
+	/**
+	 * @param metricsListener Optional listener to report the time spent on producing, signing and encrypting the MimeMessage to.
+	 */
+	@SuppressWarnings("deprecation")
+	public static MimeMessage produceMimeMessage(Email email, Session session, @Nullable SendMetricsListener metricsListener) throws UnsupportedEncodingException, MessagingException {
 		assert email instanceof InternalEmail;
 		((InternalEmail) email).verifyDefaultsAndOverridesApplied();
+		final PrecompiledMimeParts precompiledMimeParts = MimeMessageHelper.findPrecompiledMimeParts(email);
+		final SpecializedMimeMessageProducer mimeMessageProducer = precompiledMimeParts != null && precompiledMimeParts.getMimeMessageProducer().compatibleWithEmail(email)
+				? precompiledMimeParts.getMimeMessageProducer()
+				: findMimeMessageProducer(email);
+		return mimeMessageProducer.populateMimeMessage(email, session, metricsListener);
+	}
+
+	@NotNull
+	static SpecializedMimeMessageProducer findMimeMessageProducer(@NotNull final Email email) {
 		for (SpecializedMimeMessageProducer mimeMessageProducer : mimeMessageProducers) {
 			if (mimeMessageProducer.compatibleWithEmail(email)) {
-				return mimeMessageProducer.populateMimeMessage(email, session);
+				return mimeMessageProducer;
 			}
 		}
 		throw new IllegalStateException("no compatible SpecializedMimeMessageProducer found for email");
@@ -0,0 +1,124 @@
+package org.simplejavamail.converter.internal.mimemessage;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.internet.MimeUtility;
+import jakarta.mail.util.SharedByteArrayInputStream;
+import org.jetbrains.annotations.NotNull;
+import org.simplejavamail.api.email.AttachmentResource;
+import org.simplejavamail.api.email.Email;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.simplejavamail.converter.internal.mimemessage.MimeMessageProduceException.ERROR_PRECOMPILING_MIME_PARTS;
+
+/**
+ * The attachments and embedded images of an email, converted to MIME body parts and transfer-encoded once, so that every email stamped from
+ * the same {@link org.simplejavamail.email.EmailTemplate} shares the encoded content instead of encoding it again. Also remembers which
+ * {@link SpecializedMimeMessageProducer} fits the structure of those emails.
+ * <p>
+ * Each produced MimeMessage still gets its own body parts, but these only parse the few header lines of the precompiled part: the encoded content
+ * itself is shared and written out as-is.
+ */
+public final class PrecompiledMimeParts {
+
+	private static final String HEADER_CONTENT_TRANSFER_ENCODING = "Content-Transfer-Encoding";
+
+	@NotNull private final SpecializedMimeMessageProducer mimeMessageProducer;
+	@NotNull private final List<AttachmentResource> attachments;
+	@NotNull private final List<byte[]> encodedAttachments;
+	@NotNull private final List<AttachmentResource> embeddedImages;
+	@NotNull private final List<byte[]> encodedEmbeddedImages;
+
+	private PrecompiledMimeParts(@NotNull final Email email)
+			throws MessagingException, IOException {
+		this.mimeMessageProducer = MimeMessageProducerHelper.findMimeMessageProducer(email);
+		this.attachments = new ArrayList<>(email.getAttachments());
+		this.encodedAttachments = encode(attachments, Part.ATTACHMENT);
+		this.embeddedImages = new ArrayList<>(email.getEmbeddedImages());
+		this.encodedEmbeddedImages = encode(embeddedImages, Part.INLINE);
+	}
+
+	/**
+	 * @param email An email that has defaults and overrides applied already, so its attachments and embedded images are final.
+	 */
+	@NotNull
+	public static PrecompiledMimeParts precompile(@NotNull final Email email) {
+		try {
+			return new PrecompiledMimeParts(email);
+		} catch (final MessagingException | IOException e) {
+			throw new MimeMessageProduceException(ERROR_PRECOMPILING_MIME_PARTS, e);
+		}
+	}
+
+	@NotNull
+	private static List<byte[]> encode(@NotNull final List<AttachmentResource> resources, @NotNull final String dispositionType)
+			throws MessagingException, IOException {
+		final List<byte[]> encodedResources = new ArrayList<>(resources.size());
+		for (final AttachmentResource resource : resources) {
+			final MimeBodyPart bodyPart = MimeMessageHelper.getBodyPartFromDatasource(resource, dispositionType);
+			if (bodyPart.getHeader(HEADER_CONTENT_TRANSFER_ENCODING) == null) {
+				// normally determined when the MimeMessage is saved, but this part is written out on its own
+				bodyPart.setHeader(HEADER_CONTENT_TRANSFER_ENCODING, MimeUtility.getEncoding(bodyPart.getDataHandler()));
+			}
+			final ByteArrayOutputStream encodedResource = new ByteArrayOutputStream();
+			bodyPart.writeTo(encodedResource);
+			encodedResources.add(encodedResource.toByteArray());
+		}
+		return encodedResources;
+	}
+
+	/**
+	 * @return Whether these parts were precompiled from exactly the attachments and embedded images of the given email (the same data sources,
+	 * with the same names, descriptions and encodings), so they can stand in for them.
+	 */
+	boolean appliesTo(@NotNull final Email email) {
+		return sameResources(attachments, email.getAttachments()) && sameResources(embeddedImages, email.getEmbeddedImages());
+	}
+
+	private static boolean sameResources(@NotNull final List<AttachmentResource> precompiledResources, @NotNull final List<AttachmentResource> resources) {
+		if (precompiledResources.size() != resources.size()) {
+			return false;
+		}
+		for (int i = 0; i < resources.size(); i++) {
+			final AttachmentResource precompiledResource = precompiledResources.get(i);
+			final AttachmentResource resource = resources.get(i);
+			// compare data sources by identity, since comparing content would defeat the purpose
+			if (precompiledResource.getDataSource() != resource.getDataSource() ||
+					!Objects.equals(precompiledResource.getName(), resource.getName()) ||
+					!Objects.equals(precompiledResource.getDescription(), resource.getDescription()) ||
+					precompiledResource.getContentTransferEncoding() != resource.getContentTransferEncoding()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@NotNull
+	SpecializedMimeMessageProducer getMimeMessageProducer() {
+		return mimeMessageProducer;
+	}
+
+	void addAttachments(@NotNull final MimeMultipart multipart)
+			throws MessagingException {
+		addBodyParts(encodedAttachments, multipart);
+	}
+
+	void addEmbeddedImages(@NotNull final MimeMultipart multipart)
+			throws MessagingException {
+		addBodyParts(encodedEmbeddedImages, multipart);
+	}
+
+	private static void addBodyParts(@NotNull final List<byte[]> encodedBodyParts, @NotNull final MimeMultipart multipart)
+			throws MessagingException {
+		for (final byte[] encodedBodyPart : encodedBodyParts) {
+			multipart.addBodyPart(new MimeBodyPart(new SharedByteArrayInputStream(encodedBodyPart)));
+		}
+	}
+}
@@ -4,7 +4,9 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.mailer.SendMetricsListener;
 import org.simplejavamail.internal.moduleloader.ModuleLoader;
 import org.simplejavamail.mailer.internal.util.MessageIdFixingMimeMessage;
 
@@ -12,8 +14,14 @@ import java.io.UnsupportedEncodingException;
 import java.util.Date;
 
 import static java.util.Optional.ofNullable;
+import static org.simplejavamail.api.mailer.SendPhase.DKIM_SIGNING;
+import static org.simplejavamail.api.mailer.SendPhase.MIME_PRODUCTION;
+import static org.simplejavamail.api.mailer.SendPhase.SMIME_ENCRYPTION;
+import static org.simplejavamail.api.mailer.SendPhase.SMIME_SIGNING;
 import static org.simplejavamail.internal.util.MiscUtil.checkArgumentNotEmpty;
 import static org.simplejavamail.internal.util.Preconditions.checkNonEmptyArgument;
+import static org.simplejavamail.mailer.internal.util.SendMetrics.endPhase;
+import static org.simplejavamail.mailer.internal.util.SendMetrics.startPhase;
 
 /**
  * Helper class that produces and populates a mime messages. Deals with jakarta.mail RFC MimeMessage stuff, as well as
@@ -37,11 +45,12 @@ public abstract class SpecializedMimeMessageProducer {
 	 */
 	abstract boolean compatibleWithEmail(@NotNull Email email);
 	
-	final MimeMessage populateMimeMessage(@NotNull final Email email, @NotNull Session session)
+	final MimeMessage populateMimeMessage(@NotNull final Email email, @NotNull Session session, @Nullable final SendMetricsListener metricsListener)
 			throws MessagingException, UnsupportedEncodingException {
 		checkArgumentNotEmpty(email, "email is missing");
 		checkArgumentNotEmpty(session, "session is needed, it cannot be attached later");
 
+		final long productionStart = startPhase(metricsListener);
 		MimeMessage message = new MessageIdFixingMimeMessage(session, email.getId());
 		
 		// set basic email properties
@@ -54,6 +63,7 @@ public abstract class SpecializedMimeMessageProducer {
 		
 		MimeMessageHelper.setHeaders(email, message);
 		message.setSentDate(ofNullable(email.getSentDate()).orElse(new Date()));
+		endPhase(metricsListener, MIME_PRODUCTION, productionStart);
 
 		/*
 			The following order is important:
@@ -63,15 +73,21 @@ public abstract class SpecializedMimeMessageProducer {
 		 */
 
 		if (email.getPkcs12ConfigForSmimeSigning() != null) {
+			final long signingStart = startPhase(metricsListener);
 			message = ModuleLoader.loadSmimeModule().signMessageWithSmime(session, email, message, email.getPkcs12ConfigForSmimeSigning());
+			endPhase(metricsListener, SMIME_SIGNING, signingStart);
 		}
 
 		if (email.getX509CertificateForSmimeEncryption() != null) {
+			final long encryptionStart = startPhase(metricsListener);
 			message = ModuleLoader.loadSmimeModule().encryptMessageWithSmime(session, email, message, email.getX509CertificateForSmimeEncryption());
+			endPhase(metricsListener, SMIME_ENCRYPTION, encryptionStart);
 		}
 
 		if (email.getDkimConfig() != null) {
+			final long signingStart = startPhase(metricsListener);
 			message = ModuleLoader.loadDKIMModule().signMessageWithDKIM(email, message, email.getDkimConfig(), checkNonEmptyArgument(email.getFromRecipient(), "fromRecipient"));
+			endPhase(metricsListener, DKIM_SIGNING, signingStart);
 		}
 
 		if (email.getBounceToRecipient() != null) {
@@ -0,0 +1,168 @@
+package org.simplejavamail.converter.internal.mimemessage;
+
+import jakarta.activation.DataSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Attachment data source that leaves the content in the original MIME part until it is first read. At that point the (decoded) content is
+ * kept on the heap if it is no larger than the spill threshold, or written to a temporary file otherwise, so the original part (and with it the
+ * parsed message) is no longer needed.
+ * <p>
+ * Spilled content is read back through a read-only memory mapping of the temporary file, which is deleted right away where the platform allows
+ * it (the mapping stays valid), or when the JVM exits otherwise.
+ *
+ * @see MimeMessageParser#parseMimeMessageLazily(jakarta.mail.internet.MimeMessage, long)
+ */
+final class SpillingDataSource implements DataSource {
+
+	private static final Logger LOGGER = getLogger(SpillingDataSource.class);
+
+	@Nullable private final String name;
+	@NotNull private final String contentType;
+	private final long spillThreshold;
+
+	/**
+	 * Released once the content has been read, so the original message can be garbage collected.
+	 */
+	@Nullable private DataSource originalDataSource;
+	@Nullable private byte[] content;
+	@Nullable private ByteBuffer spilledContent;
+	@Nullable private File spilledFile;
+
+	SpillingDataSource(@Nullable final String name, @NotNull final String contentType, @NotNull final DataSource originalDataSource, final long spillThreshold) {
+		this.name = name;
+		this.contentType = contentType;
+		this.originalDataSource = originalDataSource;
+		this.spillThreshold = spillThreshold;
+	}
+
+	@Override
+	public synchronized InputStream getInputStream()
+			throws IOException {
+		if (originalDataSource != null) {
+			readOriginalContent(originalDataSource);
+			originalDataSource = null;
+		}
+		if (content != null) {
+			return new ByteArrayInputStream(content);
+		} else if (spilledContent != null) {
+			return new ByteBufferInputStream(spilledContent.duplicate());
+		} else {
+			return new FileInputStream(spilledFile);
+		}
+	}
+
+	private void readOriginalContent(@NotNull final DataSource dataSource)
+			throws IOException {
+		try (InputStream is = dataSource.getInputStream()) {
+			final ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) Math.min(spillThreshold + 1, 8192));
+			final byte[] chunk = new byte[8192];
+			int read;
+			while ((read = is.read(chunk)) != -1) {
+				buffer.write(chunk, 0, read);
+				if (buffer.size() > spillThreshold) {
+					spill(buffer, is, chunk);
+					return;
+				}
+			}
+			content = buffer.toByteArray();
+		}
+	}
+
+	private void spill(@NotNull final ByteArrayOutputStream buffer, @NotNull final InputStream remainder, final byte @NotNull [] chunk)
+			throws IOException {
+		final File file = File.createTempFile("simplejavamail-attachment-", ".tmp");
+		try (OutputStream os = Files.newOutputStream(file.toPath())) {
+			buffer.writeTo(os);
+			int read;
+			while ((read = remainder.read(chunk)) != -1) {
+				os.write(chunk, 0, read);
+			}
+		} catch (final IOException e) {
+			deleteSpilledFile(file);
+			throw e;
+		}
+		if (file.length() <= Integer.MAX_VALUE) {
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				spilledContent = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+			deleteSpilledFile(file);
+		} else {
+			// too large to map in one go
+			spilledFile = file;
+			file.deleteOnExit();
+		}
+		LOGGER.debug("spilled attachment {} of {} bytes to disk", name, file.length());
+	}
+
+	private static void deleteSpilledFile(@NotNull final File file) {
+		if (!file.delete()) {
+			file.deleteOnExit();
+		}
+	}
+
+	@Override
+	public OutputStream getOutputStream()
+			throws IOException {
+		throw new IOException("cannot write to a parsed attachment");
+	}
+
+	@Override
+	@NotNull
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Override
+	@Nullable
+	public String getName() {
+		return name;
+	}
+
+	private static final class ByteBufferInputStream extends InputStream {
+
+		@NotNull private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(@NotNull final ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(final byte @NotNull [] bytes, final int offset, final int length) {
+			if (length == 0) {
+				return 0;
+			} else if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			final int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
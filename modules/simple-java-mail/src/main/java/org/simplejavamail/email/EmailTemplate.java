@@ -0,0 +1,210 @@
+package org.simplejavamail.email;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.email.EmailPopulatingBuilder;
+import org.simplejavamail.api.email.Recipient;
+import org.simplejavamail.api.mailer.Mailer;
+import org.simplejavamail.api.mailer.config.EmailGovernance;
+import org.simplejavamail.converter.internal.mimemessage.PrecompiledMimeParts;
+import org.simplejavamail.email.internal.InternalEmail;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
+import static org.simplejavamail.internal.util.Preconditions.checkNonEmptyArgument;
+import static org.simplejavamail.internal.util.Preconditions.verifyNonnull;
+
+/**
+ * A template email that is compiled once, for sending many personalized emails (mail merge) that only differ in their recipients, subject and
+ * body. Compiling does all the work that is the same for each of those emails only once:
+ * <ul>
+ *     <li>applying the defaults and overrides of the Mailer's {@link EmailGovernance}</li>
+ *     <li>converting the attachments and embedded images to transfer-encoded MIME body parts, which are then shared by every email</li>
+ *     <li>choosing the MIME structure that fits the email</li>
+ *     <li>parsing the placeholders in the subject, plain text and HTML text</li>
+ * </ul>
+ * The emails produced by the template can be sent with the Mailer (or rather, its governance) the template was compiled for, without applying
+ * the defaults and overrides again. Sent with another Mailer, they are treated like any other email.
+ * <p>
+ * Placeholders have the form {@code ${name}}. Values are inserted as-is, so values used in HTML should be escaped by the caller. Example:
+ * <pre>{@code
+ * EmailTemplate template = EmailTemplate.compile(EmailBuilder.startingBlank()
+ *         .withSubject("Your order ${orderId}")
+ *         .withHTMLText("<p>Dear ${name},</p><img src='logo.png'>")
+ *         .withAttachment("terms.pdf", termsData, "application/pdf")
+ *         .buildEmail(), mailer);
+ *
+ * for (Customer customer : customers) {
+ *     mailer.sendMail(template.produce(new Recipient(customer.name, customer.email, TO), customer.placeholderValues()));
+ * }
+ * }</pre>
+ * Templates are immutable and can be used by multiple threads at the same time.
+ */
+public final class EmailTemplate {
+
+	@NotNull private final EmailGovernance emailGovernance;
+	@NotNull private final Email governedEmail;
+	@NotNull private final PrecompiledMimeParts precompiledMimeParts;
+	@Nullable private final TemplateText subject;
+	@Nullable private final TemplateText plainText;
+	@Nullable private final TemplateText htmlText;
+
+	private EmailTemplate(@NotNull final Email template, @NotNull final EmailGovernance emailGovernance) {
+		this.emailGovernance = emailGovernance;
+		this.governedEmail = emailGovernance.produceEmailApplyingDefaultsAndOverrides(template);
+		this.precompiledMimeParts = PrecompiledMimeParts.precompile(governedEmail);
+		this.subject = TemplateText.parse(governedEmail.getSubject());
+		this.plainText = TemplateText.parse(governedEmail.getPlainText());
+		this.htmlText = TemplateText.parse(governedEmail.getHTMLText());
+	}
+
+	/**
+	 * Delegates to {@link #compile(Email, EmailGovernance)} with the governance of the given Mailer.
+	 */
+	@NotNull
+	public static EmailTemplate compile(@NotNull final Email template, @NotNull final Mailer mailer) {
+		return compile(template, checkNonEmptyArgument(mailer, "mailer").getEmailGovernance());
+	}
+
+	/**
+	 * @param template        The email to use as template, with all properties that are the same for each produced email. Recipients on the
+	 *                        template are included in every produced email (for example a fixed BCC address).
+	 * @param emailGovernance The governance of the Mailer that is going to send the produced emails.
+	 */
+	@NotNull
+	public static EmailTemplate compile(@NotNull final Email template, @NotNull final EmailGovernance emailGovernance) {
+		return new EmailTemplate(checkNonEmptyArgument(template, "template"), checkNonEmptyArgument(emailGovernance, "emailGovernance"));
+	}
+
+	/**
+	 * Delegates to {@link #produce(Collection, Map)} with a single recipient.
+	 */
+	@NotNull
+	public Email produce(@NotNull final Recipient recipient, @NotNull final Map<String, ?> placeholderValues) {
+		return produce(singletonList(checkNonEmptyArgument(recipient, "recipient")), placeholderValues);
+	}
+
+	/**
+	 * @param recipients        Recipients that are added to the recipients of the template (after defaults and overrides were applied to it).
+	 * @param placeholderValues Values for all placeholders in the subject and bodies of the template, which are converted to text with
+	 *                          {@link String#valueOf(Object)}.
+	 * @return A new email with defaults and overrides already applied, which shares the precompiled attachments and embedded images of the template.
+	 */
+	@NotNull
+	@SuppressWarnings("deprecation")
+	public Email produce(@NotNull final Collection<Recipient> recipients, @NotNull final Map<String, ?> placeholderValues) {
+		verifyNonnull(placeholderValues);
+		final EmailPopulatingBuilder builder = EmailBuilder.copying(governedEmail)
+				.clearId()
+				.withRecipients(verifyNonnull(recipients));
+		if (subject != null) {
+			builder.withSubject(subject.render(placeholderValues));
+		}
+		if (plainText != null) {
+			builder.withPlainText(plainText.render(placeholderValues));
+		}
+		if (htmlText != null) {
+			builder.withHTMLText(htmlText.render(placeholderValues));
+		}
+		if (!governedEmail.getOverrideReceivers().isEmpty()) {
+			builder.withOverrideReceivers(governedEmail.getOverrideReceivers());
+		}
+		final Email email = builder.buildEmail();
+		((InternalEmail) email).markAsStampedFromTemplate(emailGovernance, precompiledMimeParts);
+		return email;
+	}
+
+	/**
+	 * @return The names of all placeholders in the subject and bodies, in order of first occurrence.
+	 */
+	@NotNull
+	public Set<String> getPlaceholders() {
+		final Set<String> placeholders = new LinkedHashSet<>();
+		for (final TemplateText templateText : new TemplateText[]{ subject, plainText, htmlText }) {
+			if (templateText != null) {
+				Collections.addAll(placeholders, templateText.placeholders);
+			}
+		}
+		return placeholders;
+	}
+
+	/**
+	 * @return The template with the defaults and overrides of the governance applied.
+	 */
+	@NotNull
+	public Email getGovernedEmail() {
+		return governedEmail;
+	}
+
+	/**
+	 * Text split up in literal text and {@code ${name}} placeholders, so producing an email only needs to concatenate the parts.
+	 */
+	private static final class TemplateText {
+		private static final String PLACEHOLDER_START = "${";
+		private static final char PLACEHOLDER_END = '}';
+
+		/**
+		 * Always one more than there are placeholders: the text before, between and after the placeholders.
+		 */
+		@NotNull private final String[] literals;
+		@NotNull private final String[] placeholders;
+		private final int literalLength;
+
+		private TemplateText(@NotNull final List<String> literals, @NotNull final List<String> placeholders) {
+			this.literals = literals.toArray(new String[0]);
+			this.placeholders = placeholders.toArray(new String[0]);
+			int length = 0;
+			for (final String literal : literals) {
+				length += literal.length();
+			}
+			this.literalLength = length;
+		}
+
+		@Nullable
+		static TemplateText parse(@Nullable final String text) {
+			if (text == null) {
+				return null;
+			}
+			final List<String> literals = new ArrayList<>();
+			final List<String> placeholders = new ArrayList<>();
+			int literalStart = 0;
+			int placeholderStart;
+			while ((placeholderStart = text.indexOf(PLACEHOLDER_START, literalStart)) != -1) {
+				final int placeholderEnd = text.indexOf(PLACEHOLDER_END, placeholderStart + PLACEHOLDER_START.length());
+				if (placeholderEnd == -1) {
+					break;
+				}
+				literals.add(text.substring(literalStart, placeholderStart));
+				placeholders.add(text.substring(placeholderStart + PLACEHOLDER_START.length(), placeholderEnd));
+				literalStart = placeholderEnd + 1;
+			}
+			literals.add(text.substring(literalStart));
+			return new TemplateText(literals, placeholders);
+		}
+
+		@NotNull
+		String render(@NotNull final Map<String, ?> placeholderValues) {
+			if (placeholders.length == 0) {
+				return literals[0];
+			}
+			final StringBuilder result = new StringBuilder(literalLength + 16 * placeholders.length);
+			for (int i = 0; i < placeholders.length; i++) {
+				result.append(literals[i]);
+				final String placeholder = placeholders[i];
+				assumeTrue(placeholderValues.containsKey(placeholder), format("no value given for placeholder ${%s}", placeholder));
+				result.append(placeholderValues.get(placeholder));
+			}
+			return result.append(literals[placeholders.length]).toString();
+		}
+	}
+}
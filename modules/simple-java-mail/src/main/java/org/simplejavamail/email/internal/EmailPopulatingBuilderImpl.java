@@ -25,7 +25,9 @@ import org.simplejavamail.api.mailer.config.Pkcs12Config;
 import org.simplejavamail.email.EmailBuilder;
 import org.simplejavamail.internal.config.EmailProperty;
 import org.simplejavamail.internal.util.CertificationUtil;
+import org.simplejavamail.internal.util.ContentDeduplicator;
 import org.simplejavamail.internal.util.FileUtil;
+import org.simplejavamail.internal.util.ImageSrcScanner;
 import org.simplejavamail.internal.util.MiscUtil;
 import org.simplejavamail.internal.util.NamedDataSource;
 
@@ -34,6 +36,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.security.NoSuchProviderException;
@@ -44,10 +47,13 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static jakarta.mail.Message.RecipientType.BCC;
 import static jakarta.mail.Message.RecipientType.CC;
@@ -56,7 +62,6 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
-import static java.util.regex.Matcher.quoteReplacement;
 import static org.simplejavamail.config.ConfigLoader.Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_BASE_CLASSPATH;
 import static org.simplejavamail.config.ConfigLoader.Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_BASE_DIR;
 import static org.simplejavamail.config.ConfigLoader.Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_BASE_URL;
@@ -83,9 +88,6 @@ import static org.simplejavamail.internal.util.MiscUtil.extractEmailAddresses;
 import static org.simplejavamail.internal.util.MiscUtil.interpretRecipient;
 import static org.simplejavamail.internal.util.MiscUtil.randomCid10;
 import static org.simplejavamail.internal.util.MiscUtil.readInputStreamToBytes;
-import static org.simplejavamail.internal.util.MiscUtil.tryResolveFileDataSourceFromClassPath;
-import static org.simplejavamail.internal.util.MiscUtil.tryResolveImageFileDataSourceFromDisk;
-import static org.simplejavamail.internal.util.MiscUtil.tryResolveUrlDataSource;
 import static org.simplejavamail.internal.util.MiscUtil.valueNullOrEmpty;
 import static org.simplejavamail.internal.util.Preconditions.checkNonEmptyArgument;
 import static org.simplejavamail.internal.util.Preconditions.verifyNonnullOrEmpty;
@@ -233,6 +235,11 @@ public class EmailPopulatingBuilderImpl implements InternalEmailPopulatingBuilde
 	 */
 	private boolean embeddedImageAutoResolutionMustBeSuccesful;
 
+	/**
+	 * @see #deduplicatingAttachmentContent(boolean)
+	 */
+	private boolean deduplicateAttachmentContent;
+
 	/**
 	 * @see #withEmbeddedImage(String, DataSource)
 	 */
@@ -416,55 +423,64 @@ public class EmailPopulatingBuilderImpl implements InternalEmailPopulatingBuilde
 
 	private void resolveDynamicEmbeddedImageDataSources() {
 		if (this.textHTML != null) {
-			final Map<String, String> generatedCids = new HashMap<>();
-			final StringBuffer stringBuffer = new StringBuffer();
+			final EmbeddedImageResolver embeddedImageResolver = new EmbeddedImageResolver(
+					embeddedImageAutoResolutionForFiles, embeddedImageAutoResolutionForClassPathResources, embeddedImageAutoResolutionForURLs,
+					embeddedImageBaseDir, embeddedImageBaseClassPath, embeddedImageBaseUrl,
+					allowEmbeddedImageOutsideBaseDir, allowEmbeddedImageOutsideBaseClassPath, allowEmbeddedImageOutsideBaseUrl);
+			if (!embeddedImageResolver.isResolutionEnabled()) {
+				return;
+			}
 
-			final Matcher matcher = IMG_SRC_PATTERN.matcher(this.textHTML);
-			while (matcher.find()) {
-				final String srcLocation = matcher.group("src");
+			// first collect the images, so they can be resolved in parallel
+			final Set<String> srcLocations = new LinkedHashSet<>();
+			for (final String srcLocation : ImageSrcScanner.findImageSrcs(this.textHTML)) {
 				if (!srcLocation.startsWith("cid:")) {
-					if (!generatedCids.containsKey(srcLocation)) {
-						final DataSource dataSource = resolveDynamicEmbeddedImageDataSource(srcLocation);
-						if (dataSource != null) {
-							final String cid = randomCid10();
-							generatedCids.put(srcLocation, cid);
-							withEmbeddedImage(cid, new NamedDataSource(cid, dataSource));
-						}
-					}
-					if (generatedCids.containsKey(srcLocation)) {
-						final String imgSrcReplacement = matcher.group("imageTagStart") + "cid:" + generatedCids.get(srcLocation) + matcher.group("imageSrcEnd");
-						matcher.appendReplacement(stringBuffer, quoteReplacement(imgSrcReplacement));
-					}
+					srcLocations.add(srcLocation);
 				}
 			}
-			matcher.appendTail(stringBuffer);
+			if (srcLocations.isEmpty()) {
+				return;
+			}
+			final Map<String, CompletableFuture<Optional<DataSource>>> resolvedImages = embeddedImageResolver.resolve(srcLocations);
+
+			final Map<String, String> generatedCids = new HashMap<>();
+			final Set<String> unresolvedSrcLocations = new HashSet<>();
 
-			this.textHTML = stringBuffer.toString();
+			this.textHTML = ImageSrcScanner.replaceImageSrcs(this.textHTML, srcLocation -> {
+				if (srcLocation.startsWith("cid:") || unresolvedSrcLocations.contains(srcLocation)) {
+					return null;
+				}
+				if (!generatedCids.containsKey(srcLocation)) {
+					final DataSource dataSource = resolveDynamicEmbeddedImageDataSource(embeddedImageResolver, srcLocation, resolvedImages.get(srcLocation));
+					if (dataSource == null) {
+						unresolvedSrcLocations.add(srcLocation);
+						return null;
+					}
+					final String cid = randomCid10();
+					generatedCids.put(srcLocation, cid);
+					withEmbeddedImage(cid, new NamedDataSource(cid, dataSource));
+				}
+				return "cid:" + generatedCids.get(srcLocation);
+			});
 		}
 	}
 
 	@Nullable
-	private DataSource resolveDynamicEmbeddedImageDataSource(@NotNull final String srcLocation) {
+	private DataSource resolveDynamicEmbeddedImageDataSource(@NotNull final EmbeddedImageResolver embeddedImageResolver, @NotNull final String srcLocation,
+			@NotNull final CompletableFuture<Optional<DataSource>> resolvedImage) {
 		try {
-			DataSource resolvedDataSource = null;
-			if (embeddedImageAutoResolutionForFiles) {
-				resolvedDataSource = tryResolveImageFileDataSourceFromDisk(embeddedImageBaseDir, allowEmbeddedImageOutsideBaseDir, srcLocation);
-			}
-			if (resolvedDataSource == null && embeddedImageAutoResolutionForClassPathResources) {
-				resolvedDataSource = tryResolveFileDataSourceFromClassPath(embeddedImageBaseClassPath, allowEmbeddedImageOutsideBaseClassPath, srcLocation);
-			}
-			if (resolvedDataSource == null && embeddedImageAutoResolutionForURLs) {
-				resolvedDataSource = tryResolveUrlDataSource(embeddedImageBaseUrl, allowEmbeddedImageOutsideBaseUrl, srcLocation);
-			}
+			final DataSource resolvedDataSource = resolvedImage.join().orElse(null);
 			if (resolvedDataSource == null) {
-				boolean autoresolutionWasAttempted = embeddedImageAutoResolutionForFiles || embeddedImageAutoResolutionForClassPathResources || embeddedImageAutoResolutionForURLs;
-				if (!autoresolutionWasAttempted || !embeddedImageAutoResolutionMustBeSuccesful) {
+				if (!embeddedImageResolver.isResolutionEnabled() || !embeddedImageAutoResolutionMustBeSuccesful) {
 					return null;
 				}
 			} else {
 				return resolvedDataSource;
 			}
-		} catch (IOException e) {
+		} catch (CompletionException e) {
+			if (!(e.getCause() instanceof UncheckedIOException)) {
+				throw e;
+			}
 			// unable to load datasource
 		}
 		throw new EmailException(format(ERROR_RESOLVING_IMAGE_DATASOURCE, srcLocation));
@@ -1653,6 +1669,15 @@ public class EmailPopulatingBuilderImpl implements InternalEmailPopulatingBuilde
 		return this;
 	}
 
+	/**
+	 * @see EmailPopulatingBuilder#deduplicatingAttachmentContent(boolean)
+	 */
+	@Override
+	public EmailPopulatingBuilder deduplicatingAttachmentContent(final boolean deduplicateAttachmentContent) {
+		this.deduplicateAttachmentContent = deduplicateAttachmentContent;
+		return this;
+	}
+
 	/**
 	 * @see EmailPopulatingBuilder#withEmbeddedImage(String, byte[], String)
 	 */
@@ -1662,7 +1687,7 @@ public class EmailPopulatingBuilderImpl implements InternalEmailPopulatingBuilde
 		checkNonEmptyArgument(data, "data");
 		checkNonEmptyArgument(mimetype, "mimetype");
 		
-		final ByteArrayDataSource dataSource = new ByteArrayDataSource(data, mimetype);
+		final ByteArrayDataSource dataSource = new ByteArrayDataSource(deduplicateAttachmentContent ? ContentDeduplicator.deduplicateCopyOf(data) : data, mimetype);
 		dataSource.setName(name);
 		return withEmbeddedImage(name, dataSource);
 	}
@@ -1766,7 +1791,7 @@ public class EmailPopulatingBuilderImpl implements InternalEmailPopulatingBuilde
 	public EmailPopulatingBuilder withAttachment(@Nullable final String name, final byte@NotNull[] data, @NotNull final String mimetype, @Nullable final String description, @Nullable final ContentTransferEncoding contentTransferEncoding) {
 		requireNonNull(data, "data");
 		checkNonEmptyArgument(mimetype, "mimetype");
-		final ByteArrayDataSource dataSource = new ByteArrayDataSource(data, mimetype);
+		final ByteArrayDataSource dataSource = new ByteArrayDataSource(deduplicateAttachmentContent ? ContentDeduplicator.deduplicateCopyOf(data) : data, mimetype);
 		dataSource.setName(name);
 		withAttachment(name, dataSource, description, contentTransferEncoding);
 		return this;
@@ -0,0 +1,271 @@
+package org.simplejavamail.email.internal;
+
+import jakarta.activation.DataSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.config.ConfigLoader.Property;
+import org.simplejavamail.internal.util.concurrent.BoundedCache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static org.simplejavamail.config.ConfigLoader.Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_THREADS;
+import static org.simplejavamail.config.ConfigLoader.Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_URL_TIMEOUT_MILLIS;
+import static org.simplejavamail.config.ConfigLoader.valueOrPropertyAsInteger;
+import static org.simplejavamail.internal.util.MiscUtil.tryResolveFileDataSourceFromClassPath;
+import static org.simplejavamail.internal.util.MiscUtil.tryResolveImageFileDataSourceFromDisk;
+import static org.simplejavamail.internal.util.MiscUtil.tryResolveUrlDataSource;
+import static org.simplejavamail.internal.util.Preconditions.verifyNonnullOrEmpty;
+
+/**
+ * Resolves the image src locations in an HTML body to data sources, according to the dynamic resolution settings of an email builder.
+ * <p>
+ * Resolved images are cached across builders for a limited time, keyed by the resolution settings and src location, because the same handful of
+ * images is typically referred to by every email built from the same template. Images that could not be resolved are not cached, so an image
+ * that appears (or a URL that starts working) is picked up by the next email. Instead, URLs are loaded with a timeout, so a broken URL can't
+ * stall building emails indefinitely. Images that aren't cached yet are resolved in parallel, on a limited number of threads.
+ * <p>
+ * Cached data sources are shared between emails, which is safe since each email wraps them in its own named data source and only ever reads
+ * them. Note that file and URL data sources still read the file or URL itself when the email is sent, so only their location is cached.
+ */
+final class EmbeddedImageResolver {
+
+	/**
+	 * Emails are usually built from a limited set of templates, each referring to a handful of images.
+	 */
+	private static final int RESOLVED_IMAGE_CACHE_SIZE = 256;
+	/**
+	 * Limits how long changes to the resolvable images (a file that appears, or a URL that starts working) go unnoticed.
+	 */
+	private static final long RESOLVED_IMAGE_CACHE_EXPIRE_AFTER_MILLIS = TimeUnit.MINUTES.toMillis(5);
+	/**
+	 * Default for {@link Property#EMBEDDEDIMAGES_DYNAMICRESOLUTION_THREADS}.
+	 */
+	private static final int DEFAULT_RESOLVER_THREADS = 4;
+	/**
+	 * Default for {@link Property#EMBEDDEDIMAGES_DYNAMICRESOLUTION_URL_TIMEOUT_MILLIS}.
+	 */
+	private static final int DEFAULT_URL_TIMEOUT_MILLIS = 10_000;
+	private static final long RESOLVER_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+	private static final BoundedCache<ResolutionKey, DataSource> RESOLVED_IMAGE_CACHE = new BoundedCache<>(RESOLVED_IMAGE_CACHE_SIZE, RESOLVED_IMAGE_CACHE_EXPIRE_AFTER_MILLIS);
+
+	/**
+	 * Thrown by the cache loader for an image that could not be found, because the cache doesn't keep failed loads.
+	 */
+	private static final ImageNotFoundException IMAGE_NOT_FOUND = new ImageNotFoundException();
+
+	/**
+	 * Created on first use, as most emails don't need it.
+	 */
+	@Nullable
+	private static ThreadPoolExecutor resolverExecutor;
+
+	private final boolean resolveFiles;
+	private final boolean resolveClassPathResources;
+	private final boolean resolveUrls;
+	@Nullable private final String baseDir;
+	@Nullable private final String baseClassPath;
+	@Nullable private final URL baseUrl;
+	private final boolean allowOutsideBaseDir;
+	private final boolean allowOutsideBaseClassPath;
+	private final boolean allowOutsideBaseUrl;
+
+	EmbeddedImageResolver(final boolean resolveFiles, final boolean resolveClassPathResources, final boolean resolveUrls,
+			@Nullable final String baseDir, @Nullable final String baseClassPath, @Nullable final URL baseUrl,
+			final boolean allowOutsideBaseDir, final boolean allowOutsideBaseClassPath, final boolean allowOutsideBaseUrl) {
+		this.resolveFiles = resolveFiles;
+		this.resolveClassPathResources = resolveClassPathResources;
+		this.resolveUrls = resolveUrls;
+		this.baseDir = baseDir;
+		this.baseClassPath = baseClassPath;
+		this.baseUrl = baseUrl;
+		this.allowOutsideBaseDir = allowOutsideBaseDir;
+		this.allowOutsideBaseClassPath = allowOutsideBaseClassPath;
+		this.allowOutsideBaseUrl = allowOutsideBaseUrl;
+	}
+
+	boolean isResolutionEnabled() {
+		return resolveFiles || resolveClassPathResources || resolveUrls;
+	}
+
+	/**
+	 * Starts resolving the given src locations, in parallel for those not cached yet. The current thread resolves one of them itself.
+	 *
+	 * @return Per src location, in the given order, the resolved data source or an empty optional if it couldn't be found. Completes
+	 * exceptionally with an {@link UncheckedIOException} if an image was found, but could not be read.
+	 */
+	@NotNull
+	Map<String, CompletableFuture<Optional<DataSource>>> resolve(@NotNull final Collection<String> srcLocations) {
+		final Map<String, CompletableFuture<Optional<DataSource>>> resolvedImages = new LinkedHashMap<>();
+		final List<ResolutionKey> uncachedImages = new ArrayList<>();
+		for (final String srcLocation : srcLocations) {
+			final ResolutionKey key = new ResolutionKey(this, srcLocation);
+			final DataSource cachedImage = RESOLVED_IMAGE_CACHE.getIfPresent(key);
+			if (cachedImage != null) {
+				resolvedImages.put(srcLocation, CompletableFuture.completedFuture(Optional.of(cachedImage)));
+			} else {
+				resolvedImages.put(srcLocation, null);
+				uncachedImages.add(key);
+			}
+		}
+		for (int i = 1; i < uncachedImages.size(); i++) {
+			final ResolutionKey key = uncachedImages.get(i);
+			resolvedImages.put(key.srcLocation, CompletableFuture.supplyAsync(() -> resolveCached(key), getResolverExecutor()));
+		}
+		if (!uncachedImages.isEmpty()) {
+			final ResolutionKey key = uncachedImages.get(0);
+			final CompletableFuture<Optional<DataSource>> resolvedImage = new CompletableFuture<>();
+			try {
+				resolvedImage.complete(resolveCached(key));
+			} catch (final UncheckedIOException e) {
+				resolvedImage.completeExceptionally(e);
+			}
+			resolvedImages.put(key.srcLocation, resolvedImage);
+		}
+		return resolvedImages;
+	}
+
+	@NotNull
+	private static Optional<DataSource> resolveCached(@NotNull final ResolutionKey key) {
+		try {
+			return Optional.of(RESOLVED_IMAGE_CACHE.computeIfAbsent(key, k -> k.settings.resolveUncached(k.srcLocation)));
+		} catch (final ImageNotFoundException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * @throws ImageNotFoundException If the image could not be found, so it isn't cached.
+	 * @throws UncheckedIOException If the image was found, but could not be read. This isn't cached either.
+	 */
+	@NotNull
+	private DataSource resolveUncached(@NotNull final String srcLocation) {
+		try {
+			DataSource resolvedDataSource = null;
+			if (resolveFiles) {
+				resolvedDataSource = tryResolveImageFileDataSourceFromDisk(baseDir, allowOutsideBaseDir, srcLocation);
+			}
+			if (resolvedDataSource == null && resolveClassPathResources) {
+				resolvedDataSource = tryResolveFileDataSourceFromClassPath(baseClassPath, allowOutsideBaseClassPath, srcLocation);
+			}
+			if (resolvedDataSource == null && resolveUrls) {
+				final int urlTimeoutMillis = verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, EMBEDDEDIMAGES_DYNAMICRESOLUTION_URL_TIMEOUT_MILLIS, DEFAULT_URL_TIMEOUT_MILLIS));
+				resolvedDataSource = tryResolveUrlDataSource(baseUrl, allowOutsideBaseUrl, srcLocation, urlTimeoutMillis);
+			}
+			if (resolvedDataSource == null) {
+				throw IMAGE_NOT_FOUND;
+			}
+			return resolvedDataSource;
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * The number of threads is fixed the first time images are resolved in parallel. Threads stop when idle, so they don't outlive their use,
+	 * and don't keep the JVM from shutting down.
+	 */
+	@NotNull
+	private static synchronized ExecutorService getResolverExecutor() {
+		if (resolverExecutor == null) {
+			final int threads = verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, EMBEDDEDIMAGES_DYNAMICRESOLUTION_THREADS, DEFAULT_RESOLVER_THREADS));
+			if (threads <= 0) {
+				throw new IllegalArgumentException(format("%s should be positive, was %s", EMBEDDEDIMAGES_DYNAMICRESOLUTION_THREADS.key(), threads));
+			}
+			resolverExecutor = new ThreadPoolExecutor(threads, threads, RESOLVER_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				final Thread thread = new Thread(runnable, "Simple Java Mail embedded image resolver");
+				thread.setDaemon(true);
+				return thread;
+			});
+			resolverExecutor.allowCoreThreadTimeOut(true);
+		}
+		return resolverExecutor;
+	}
+
+	/**
+	 * Clears the cache of resolved images, so changed images are picked up right away.
+	 */
+	static void clearResolvedImageCache() {
+		RESOLVED_IMAGE_CACHE.clear();
+	}
+
+	@Override
+	public boolean equals(@Nullable final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof EmbeddedImageResolver)) {
+			return false;
+		}
+		final EmbeddedImageResolver that = (EmbeddedImageResolver) o;
+		return resolveFiles == that.resolveFiles &&
+				resolveClassPathResources == that.resolveClassPathResources &&
+				resolveUrls == that.resolveUrls &&
+				allowOutsideBaseDir == that.allowOutsideBaseDir &&
+				allowOutsideBaseClassPath == that.allowOutsideBaseClassPath &&
+				allowOutsideBaseUrl == that.allowOutsideBaseUrl &&
+				Objects.equals(baseDir, that.baseDir) &&
+				Objects.equals(baseClassPath, that.baseClassPath) &&
+				Objects.equals(baseUrlForm(), that.baseUrlForm());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(resolveFiles, resolveClassPathResources, resolveUrls, baseDir, baseClassPath, baseUrlForm(),
+				allowOutsideBaseDir, allowOutsideBaseClassPath, allowOutsideBaseUrl);
+	}
+
+	/**
+	 * {@link URL#equals(Object)} resolves host names, so compare the textual form instead.
+	 */
+	@Nullable
+	private String baseUrlForm() {
+		return baseUrl != null ? baseUrl.toExternalForm() : null;
+	}
+
+	private static final class ResolutionKey {
+		@NotNull private final EmbeddedImageResolver settings;
+		@NotNull private final String srcLocation;
+
+		private ResolutionKey(@NotNull final EmbeddedImageResolver settings, @NotNull final String srcLocation) {
+			this.settings = settings;
+			this.srcLocation = srcLocation;
+		}
+
+		@Override
+		public boolean equals(@Nullable final Object o) {
+			return this == o || (o instanceof ResolutionKey
+					&& srcLocation.equals(((ResolutionKey) o).srcLocation)
+					&& settings.equals(((ResolutionKey) o).settings));
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * settings.hashCode() + srcLocation.hashCode();
+		}
+	}
+
+	private static final class ImageNotFoundException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private ImageNotFoundException() {
+			// thrown for control flow only, so no stack trace is needed
+			super(null, null, false, false);
+		}
+	}
+}
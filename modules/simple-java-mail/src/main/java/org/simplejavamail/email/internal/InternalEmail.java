@@ -6,12 +6,14 @@ import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.email.Email;
 import org.simplejavamail.api.email.EmailPopulatingBuilder;
 import org.simplejavamail.api.email.EmailWithDefaultsAndOverridesApplied;
+import org.simplejavamail.api.mailer.config.EmailGovernance;
+import org.simplejavamail.converter.internal.mimemessage.PrecompiledMimeParts;
 
 /**
  * @deprecated for internal use only. This class hides some methods from the public API that are used internally to implement the builder API.
  */
 @Deprecated
-@EqualsAndHashCode(callSuper = true, exclude = {"defaultsAndOverridesApplied"})
+@EqualsAndHashCode(callSuper = true, exclude = {"defaultsAndOverridesApplied", "appliedEmailGovernance", "precompiledMimeParts"})
 @SuppressWarnings("DeprecatedIsStillUsed")
 public class InternalEmail extends Email implements EmailWithDefaultsAndOverridesApplied {
 
@@ -20,11 +22,23 @@ public class InternalEmail extends Email implements EmailWithDefaultsAndOverride
     @Nullable
     private InternalEmail userProvidedEmail;
     private boolean defaultsAndOverridesApplied;
+    @Nullable
+    private transient EmailGovernance appliedEmailGovernance;
+    @Nullable
+    private transient PrecompiledMimeParts precompiledMimeParts;
 
     public InternalEmail(@NotNull EmailPopulatingBuilder builder) {
         super(builder);
     }
 
+    /**
+     * @deprecated Don't use this constructor. This constructor is used internally to produce an email with defaults and overrides applied, when there
+     * are none to apply.
+     */
+    public InternalEmail(@NotNull InternalEmail email) {
+        super(email);
+    }
+
     /**
      * @deprecated Don't use this method. This method is used internally to set the reference to the original email when a copy is made to which all defaults and overrides
      * are applied. When sending the email, however, we still need a reference to the original email to be able to update the message id. userProvidedEmail can be set to
@@ -59,6 +73,32 @@ public class InternalEmail extends Email implements EmailWithDefaultsAndOverride
         this.defaultsAndOverridesApplied = true;
     }
 
+    /**
+     * @deprecated Don't use this method. This method is used internally to mark emails stamped from an {@link org.simplejavamail.email.EmailTemplate},
+     * which already have the defaults and overrides of the given governance applied, and share the attachments and embedded images the template
+     * precompiled.
+     */
+    public void markAsStampedFromTemplate(@NotNull final EmailGovernance appliedEmailGovernance, @NotNull final PrecompiledMimeParts precompiledMimeParts) {
+        this.defaultsAndOverridesApplied = true;
+        this.appliedEmailGovernance = appliedEmailGovernance;
+        this.precompiledMimeParts = precompiledMimeParts;
+    }
+
+    /**
+     * @deprecated Don't use this method. This method is used internally to avoid applying the same defaults and overrides twice.
+     */
+    public boolean hasDefaultsAndOverridesAppliedBy(@NotNull final EmailGovernance emailGovernance) {
+        return appliedEmailGovernance == emailGovernance;
+    }
+
+    /**
+     * @deprecated Don't use this method. This method is used internally to reuse the MIME parts precompiled by an {@link org.simplejavamail.email.EmailTemplate}.
+     */
+    @Nullable
+    public PrecompiledMimeParts getPrecompiledMimeParts() {
+        return precompiledMimeParts;
+    }
+
     @Override
     public void verifyDefaultsAndOverridesApplied() {
         if (!defaultsAndOverridesApplied) {
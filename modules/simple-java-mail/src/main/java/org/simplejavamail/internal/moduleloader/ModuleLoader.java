@@ -5,6 +5,7 @@ import org.simplejavamail.internal.modules.BatchModule;
 import org.simplejavamail.internal.modules.DKIMModule;
 import org.simplejavamail.internal.modules.OutlookModule;
 import org.simplejavamail.internal.modules.SMIMEModule;
+import org.simplejavamail.internal.modules.SpoolModule;
 import org.simplejavamail.internal.util.MiscUtil;
 
 import java.util.HashSet;
@@ -87,6 +88,18 @@ public class ModuleLoader {
 		return (BatchModule) LOADED_MODULES.get(BatchModule.class);
 	}
 
+	public static SpoolModule loadSpoolModule() {
+		if (!LOADED_MODULES.containsKey(SpoolModule.class)) {
+			LOADED_MODULES.put(SpoolModule.class, loadModule(
+					SpoolModule.class,
+					"Spool",
+					"org.simplejavamail.internal.spoolsupport.SpoolSupport",
+					"https://github.com/bbottema/simple-java-mail/tree/develop/modules/spool-module"
+			));
+		}
+		return (SpoolModule) LOADED_MODULES.get(SpoolModule.class);
+	}
+
 	public static boolean batchModuleAvailable() {
 		return !FORCED_DISABLED_MODULES.contains(BatchModule.class) &&
 				((FORCED_RECHECK_MODULES.contains(BatchModule.class) &&
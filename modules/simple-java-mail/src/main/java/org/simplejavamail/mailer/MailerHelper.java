@@ -45,20 +45,29 @@ public class MailerHelper {
 		return validate(email, null);
 	}
 
+	/**
+	 * Delegates to #validate(Email, EmailValidator, Map) without caching validation results.
+	 */
+	@SuppressWarnings({ "SameReturnValue" })
+	public static boolean validate(@NotNull final Email email, @Nullable final EmailValidator emailValidator)
+			throws MailException {
+		return validate(email, emailValidator, null);
+	}
+
 	/**
 	 * Delegates to all other validations for a full checkup.
 	 *
 	 * @see #validateCompleteness(Email)
-	 * @see #validateAddresses(Email, EmailValidator)
+	 * @see #validateAddresses(Email, EmailValidator, Map)
 	 * @see #scanForInjectionAttacks(Email)
 	 */
 	@SuppressWarnings({ "SameReturnValue" })
-	public static boolean validate(@NotNull final Email email, @Nullable final EmailValidator emailValidator)
+	public static boolean validate(@NotNull final Email email, @Nullable final EmailValidator emailValidator, @Nullable final Map<String, Boolean> emailValidationResults)
 			throws MailException {
 		LOGGER.debug("validating email...");
 
 		validateCompleteness(email);
-		validateAddresses(email, emailValidator);
+		validateAddresses(email, emailValidator, emailValidationResults);
 		scanForInjectionAttacks(email);
 
 		LOGGER.debug("...no problems found");
@@ -74,16 +83,25 @@ public class MailerHelper {
 		return validateLenient(email, null);
 	}
 
+	/**
+	 * Delegates to #validateLenient(Email, EmailValidator, Map) without caching validation results.
+	 */
+	@SuppressWarnings({ "SameReturnValue" })
+	public static boolean validateLenient(@NotNull final Email email, @Nullable final EmailValidator emailValidator)
+			throws MailException {
+		return validateLenient(email, emailValidator, null);
+	}
+
 	/**
 	 * Lenient validation only checks for missing fields (which implies incorrect configuration or missing data),
 	 * but only warns for invalid address and suspected CRLF injections.
 	 *
 	 * @see #validateCompleteness(Email)
-	 * @see #validateAddresses(Email, EmailValidator)
+	 * @see #validateAddresses(Email, EmailValidator, Map)
 	 * @see #scanForInjectionAttacks(Email) 
 	 */
 	@SuppressWarnings({ "SameReturnValue" })
-	public static boolean validateLenient(@NotNull final Email email, @Nullable final EmailValidator emailValidator)
+	public static boolean validateLenient(@NotNull final Email email, @Nullable final EmailValidator emailValidator, @Nullable final Map<String, Boolean> emailValidationResults)
 			throws MailException {
 		LOGGER.debug("validating email...");
 		try {
@@ -92,7 +110,7 @@ public class MailerHelper {
 			LOGGER.warn("encountered (and ignored) missing field: {}", e.getMessage());
 		}
 		try {
-			MailerHelper.validateAddresses(email, emailValidator);
+			MailerHelper.validateAddresses(email, emailValidator, emailValidationResults);
 		} catch (MailInvalidAddressException e) {
 			LOGGER.warn("encountered (and ignored) invalid address: {}", e.getMessage());
 		}
@@ -122,6 +140,13 @@ public class MailerHelper {
 		}
 	}
 
+	/**
+	 * Delegates to #validateAddresses(Email, EmailValidator, Map) without caching validation results.
+	 */
+	public static void validateAddresses(final @NotNull Email email, final @Nullable EmailValidator emailValidator) {
+		validateAddresses(email, emailValidator, null);
+	}
+
 	/**
 	 * If email validator is provided, checks:
 	 * <ol>
@@ -132,37 +157,65 @@ public class MailerHelper {
 	 *     <li>disposition-notification-to recipient, if provided</li>
 	 *     <li>return-receipt-to recipient, if provided</li>
 	 * </ol>
+	 *
+	 * @param emailValidationResults Optional earlier results of the same email validator per address, which are reused and to which new
+	 *                               results are added, so addresses that occur in many emails are validated only once. Should be thread-safe
+	 *                               if it is shared between threads.
 	 */
-	public static void validateAddresses(final @NotNull Email email, final @Nullable EmailValidator emailValidator) {
+	public static void validateAddresses(final @NotNull Email email, final @Nullable EmailValidator emailValidator, final @Nullable Map<String, Boolean> emailValidationResults) {
 		if (emailValidator != null) {
-			validateAddress(emailValidator, email.getFromRecipient(), MailInvalidAddressException.INVALID_SENDER);
+			final AddressValidator addressValidator = emailValidationResults != null
+					? address -> isValidAddress(emailValidator, emailValidationResults, address)
+					: emailValidator::isValid;
+			validateAddress(addressValidator, email.getFromRecipient(), MailInvalidAddressException.INVALID_SENDER);
 			for (final Recipient recipient : email.getRecipients()) {
 				switch (ofNullable(recipient.getType()).orElse(TO).toString()) {
-					case "Cc": validateAddress(emailValidator, recipient, MailInvalidAddressException.INVALID_CC_RECIPIENT); break;
-					case "Bcc": validateAddress(emailValidator, recipient, MailInvalidAddressException.INVALID_BCC_RECIPIENT); break;
+					case "Cc": validateAddress(addressValidator, recipient, MailInvalidAddressException.INVALID_CC_RECIPIENT); break;
+					case "Bcc": validateAddress(addressValidator, recipient, MailInvalidAddressException.INVALID_BCC_RECIPIENT); break;
 					case "To":
-					default: validateAddress(emailValidator, recipient, MailInvalidAddressException.INVALID_TO_RECIPIENT); break;
+					default: validateAddress(addressValidator, recipient, MailInvalidAddressException.INVALID_TO_RECIPIENT); break;
 				}
 			}
 			for (final Recipient recipient : email.getReplyToRecipients()) {
-				validateAddress(emailValidator, recipient, MailInvalidAddressException.INVALID_REPLYTO);
+				validateAddress(addressValidator, recipient, MailInvalidAddressException.INVALID_REPLYTO);
 			}
-			validateAddress(emailValidator, email.getBounceToRecipient(), MailInvalidAddressException.INVALID_BOUNCETO);
+			validateAddress(addressValidator, email.getBounceToRecipient(), MailInvalidAddressException.INVALID_BOUNCETO);
 			if (TRUE.equals(email.getUseDispositionNotificationTo()) && email.getDispositionNotificationTo() != null) {
-				validateAddress(emailValidator, email.getDispositionNotificationTo(), MailInvalidAddressException.INVALID_DISPOSITIONNOTIFICATIONTO);
+				validateAddress(addressValidator, email.getDispositionNotificationTo(), MailInvalidAddressException.INVALID_DISPOSITIONNOTIFICATIONTO);
 			}
 			if (TRUE.equals(email.getUseReturnReceiptTo()) && email.getReturnReceiptTo() != null) {
-				validateAddress(emailValidator, email.getReturnReceiptTo(), MailInvalidAddressException.INVALID_RETURNRECEIPTTO);
+				validateAddress(addressValidator, email.getReturnReceiptTo(), MailInvalidAddressException.INVALID_RETURNRECEIPTTO);
 			}
 		}
 	}
 
-	private static void validateAddress(@NotNull EmailValidator emailValidator, @Nullable Recipient recipient, @NotNull String errorTemplate) {
-		if (recipient != null && !emailValidator.isValid(recipient.getAddress())) {
+	private static void validateAddress(@NotNull AddressValidator addressValidator, @Nullable Recipient recipient, @NotNull String errorTemplate) {
+		if (recipient != null && !addressValidator.isValid(recipient.getAddress())) {
 			throw new MailInvalidAddressException(format(errorTemplate, recipient.getAddress()));
 		}
 	}
 
+	/**
+	 * Only the map's own operations are synchronized, not validation, so an address validated by two threads at once is simply validated twice.
+	 */
+	private static boolean isValidAddress(@NotNull final EmailValidator emailValidator, @NotNull final Map<String, Boolean> emailValidationResults,
+			@NotNull final String address) {
+		Boolean valid = emailValidationResults.get(address);
+		if (valid == null) {
+			valid = emailValidator.isValid(address);
+			emailValidationResults.put(address, valid);
+		}
+		return valid;
+	}
+
+	/**
+	 * Either the email validator itself, or the email validator behind earlier results of it.
+	 */
+	@FunctionalInterface
+	private interface AddressValidator {
+		boolean isValid(@NotNull String address);
+	}
+
 	/**
 	 * Checks the following headers for suspicious content (newlines and characters):
 	 * <ol>
@@ -236,10 +289,39 @@ public class MailerHelper {
 	 * @see <a href="https://archive.ph/uReuD">CWE-93: Improper Neutralization of CRLF Sequences ('CRLF Injection')</a>
 	 */
 	public static void scanForInjectionAttack(final @Nullable String value, final String valueLabel) {
-		if (value != null && (value.contains("\n") || value.contains("\r") || value.contains("%0A"))) {
-			final String s = value.replaceAll("\n", "\\\\n").replaceAll("\r", "\\\\r");
-			throw new MailSuspiciousCRLFValueException(format(MailSuspiciousCRLFValueException.INJECTION_SUSPECTED, valueLabel, s));
+		if (value != null && containsSuspiciousNewline(value)) {
+			throw new MailSuspiciousCRLFValueException(format(MailSuspiciousCRLFValueException.INJECTION_SUSPECTED, valueLabel, escapeNewlines(value)));
+		}
+	}
+
+	/**
+	 * Looks for "\n", "\r" and "%0A" in a single pass, since this runs for every address, name and header of every email.
+	 */
+	private static boolean containsSuspiciousNewline(final @NotNull String value) {
+		final int length = value.length();
+		for (int i = 0; i < length; i++) {
+			final char c = value.charAt(i);
+			if (c == '\n' || c == '\r' || (c == '%' && i + 2 < length && value.charAt(i + 1) == '0' && value.charAt(i + 2) == 'A')) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@NotNull
+	private static String escapeNewlines(final @NotNull String value) {
+		final StringBuilder escaped = new StringBuilder(value.length() + 8);
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c == '\n') {
+				escaped.append("\\n");
+			} else if (c == '\r') {
+				escaped.append("\\r");
+			} else {
+				escaped.append(c);
+			}
 		}
+		return escaped.toString();
 	}
 
 	/**
@@ -0,0 +1,93 @@
+package org.simplejavamail.mailer.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.simplejavamail.api.mailer.BulkSendResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Collects the futures of a batch while it is being submitted. The aggregate future completes once submission has finished and every
+ * email has been processed.
+ *
+ * @see BulkSendResult
+ */
+class BulkSendResultImpl implements BulkSendResult {
+
+	private final List<CompletableFuture<Void>> emailFutures = new ArrayList<>();
+	private final CompletableFuture<Void> completion = new CompletableFuture<>();
+	private final AtomicInteger sentCount = new AtomicInteger();
+	private final AtomicInteger failedCount = new AtomicInteger();
+	/**
+	 * Starts at one for the submission itself, so the batch can't complete while emails are still being submitted.
+	 */
+	private final AtomicInteger pendingCount = new AtomicInteger(1);
+
+	/**
+	 * Should only be called by the thread submitting the batch.
+	 */
+	void track(@NotNull final CompletableFuture<Void> emailFuture) {
+		emailFutures.add(emailFuture);
+		pendingCount.incrementAndGet();
+		emailFuture.whenComplete((result, throwable) -> {
+			(throwable == null ? sentCount : failedCount).incrementAndGet();
+			countDown();
+		});
+	}
+
+	/**
+	 * Cancels the emails that weren't processed yet, so they won't be sent anymore once their turn comes. Emails that are being sent at this
+	 * moment can't be stopped anymore.
+	 */
+	void cancelOutstanding() {
+		for (final CompletableFuture<Void> emailFuture : emailFutures) {
+			emailFuture.cancel(true);
+		}
+	}
+
+	void submissionFinished() {
+		countDown();
+	}
+
+	private void countDown() {
+		if (pendingCount.decrementAndGet() == 0) {
+			completion.complete(null);
+		}
+	}
+
+	@NotNull
+	@Override
+	public List<CompletableFuture<Void>> getEmailFutures() {
+		return unmodifiableList(emailFutures);
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<Void> getCompletion() {
+		return completion;
+	}
+
+	@Override
+	public int getEmailCount() {
+		return emailFutures.size();
+	}
+
+	@Override
+	public int getSentCount() {
+		return sentCount.get();
+	}
+
+	@Override
+	public int getFailedCount() {
+		return failedCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("BulkSendResult{emails=%s, sent=%s, failed=%s, completed=%s}", getEmailCount(), getSentCount(), getFailedCount(), completion.isDone());
+	}
+}
@@ -22,12 +22,20 @@ import org.simplejavamail.internal.config.EmailProperty;
 
 import java.io.File;
 import java.security.cert.X509Certificate;
+import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.Boolean.TRUE;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 import static org.simplejavamail.config.ConfigLoader.Property.DEFAULT_BCC_ADDRESS;
@@ -71,7 +79,7 @@ import static org.simplejavamail.internal.util.Preconditions.verifyNonnullOrEmpt
  * you can set a default from address or subject. Any fields that are not set on the email will be taken from the defaults (properties). Any fields that are set on the
  * email will be used instead of the defaults.
  */
-@ToString
+@ToString(exclude = {"emailValidationResults", "defaultedProperties", "overriddenProperties"})
 @Getter
 public class EmailGovernanceImpl implements EmailGovernance {
 
@@ -109,11 +117,60 @@ public class EmailGovernanceImpl implements EmailGovernance {
 	 */
 	@Nullable private final Integer maximumEmailSize;
 
+	/**
+	 * Validation results of the {@link #emailValidator} for the most recently validated addresses, or <code>null</code> if results are not
+	 * cached. Not part of {@link EmailGovernance}, as it is only of use to the {@link MailerImpl} this governance belongs to.
+	 * @see MailerGenericBuilder#withEmailValidationCache(int)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Nullable private final Map<String, Boolean> emailValidationResults;
+
+	/**
+	 * The merge plan: the properties for which {@link #emailDefaults} and {@link #emailOverrides} actually have a value. Since these emails are
+	 * immutable, this is determined once, so that merging can skip the properties without a default or override value.
+	 */
+	@Getter(AccessLevel.NONE)
+	@NotNull private final Set<EmailProperty> defaultedProperties;
+
+	/**
+	 * @see #defaultedProperties
+	 */
+	@Getter(AccessLevel.NONE)
+	@NotNull private final Set<EmailProperty> overriddenProperties;
+
 	public EmailGovernanceImpl(@Nullable EmailValidator emailValidator, @Nullable Email emailDefaults, @Nullable Email emailOverrides, @Nullable Integer maximumEmailSize) {
+		this(emailValidator, emailDefaults, emailOverrides, maximumEmailSize, null);
+	}
+
+	public EmailGovernanceImpl(@Nullable EmailValidator emailValidator, @Nullable Email emailDefaults, @Nullable Email emailOverrides, @Nullable Integer maximumEmailSize,
+			@Nullable Integer emailValidationCacheSize) {
 		this.emailValidator = emailValidator;
 		this.emailDefaults = emailDefaults != null ? emailDefaults : newDefaultsEmailWithDefaultDefaults();
 		this.emailOverrides = emailOverrides != null ? emailOverrides : EmailBuilder.startingBlank().buildEmail();
 		this.maximumEmailSize = maximumEmailSize;
+		this.emailValidationResults = emailValidator != null && emailValidationCacheSize != null ? new EmailValidationResults(emailValidationCacheSize) : null;
+		this.defaultedProperties = determinePropertiesWithValue(this.emailDefaults);
+		this.overriddenProperties = determinePropertiesWithValue(this.emailOverrides);
+	}
+
+	/**
+	 * @see #emailValidationResults
+	 */
+	@Nullable
+	Map<String, Boolean> getEmailValidationResults() {
+		return emailValidationResults;
+	}
+
+	@NotNull
+	private static Set<EmailProperty> determinePropertiesWithValue(@NotNull final Email email) {
+		final Set<EmailProperty> propertiesWithValue = EnumSet.noneOf(EmailProperty.class);
+		for (final EmailProperty emailProperty : EmailProperty.values()) {
+			final Object value = emailProperty.getGetter().apply(email);
+			if (value != null && !(value instanceof Collection && ((Collection<?>) value).isEmpty()) && !(value instanceof Map && ((Map<?, ?>) value).isEmpty())) {
+				propertiesWithValue.add(emailProperty);
+			}
+		}
+		return unmodifiableSet(propertiesWithValue);
 	}
 
 	// FIXME default notificationTo is missing
@@ -188,6 +245,23 @@ public class EmailGovernanceImpl implements EmailGovernance {
 
 	@NotNull
 	public Email produceEmailApplyingDefaultsAndOverrides(@Nullable Email provided) {
+		//noinspection deprecation
+		if (provided instanceof InternalEmail && ((InternalEmail) provided).hasDefaultsAndOverridesAppliedBy(this)) {
+			// stamped from an EmailTemplate compiled for this governance, so applying defaults again would duplicate default recipients
+			return provided;
+		}
+
+		if (defaultedProperties.isEmpty() && overriddenProperties.isEmpty() && provided instanceof InternalEmail && isCompleteAsProvided(provided)) {
+			// nothing to merge, so a shallow copy ends up the same as rebuilding the email property by property
+			//noinspection deprecation
+			val email = new InternalEmail((InternalEmail) provided);
+			//noinspection deprecation
+			email.setUserProvidedEmail(provided);
+			//noinspection deprecation
+			email.markAsDefaultsAndOverridesApplied();
+			return email;
+		}
+
 		val builder = (provided == null || provided.getEmailToForward() == null)
 				? EmailBuilder.startingBlank()
 				: EmailBuilder.forwarding(provided.getEmailToForward());
@@ -265,18 +339,104 @@ public class EmailGovernanceImpl implements EmailGovernance {
 		return email;
 	}
 
+	/**
+	 * @return Whether the email needs none of the completions done when rebuilding it, such as resolving the return receipt and disposition
+	 * notification recipient. Recipients without a type are dropped when rebuilding, and forwarded emails are left to the forwarding builder.
+	 */
+	private static boolean isCompleteAsProvided(@NotNull final Email provided) {
+		return provided.getEmailToForward() == null
+				&& (!TRUE.equals(provided.getUseReturnReceiptTo()) || provided.getReturnReceiptTo() != null)
+				&& (!TRUE.equals(provided.getUseDispositionNotificationTo()) || provided.getDispositionNotificationTo() != null)
+				&& (provided.getCalendarText() == null || provided.getCalendarMethod() != null)
+				&& provided.getRecipients().stream().allMatch(recipient -> recipient.getType() != null);
+	}
+
 	@Nullable
 	private <T> T resolveEmailProperty(@Nullable Email email, @NotNull EmailProperty emailProperty) {
-		return overrideOrProvideOrDefaultProperty(email, emailDefaults, emailOverrides, emailProperty);
+		return overrideOrProvideOrDefaultProperty(email, defaultsFor(emailProperty), overridesFor(emailProperty), emailProperty);
 	}
 
 	@NotNull
 	private <T> List<T> resolveEmailCollectionProperty(@Nullable Email email, @NotNull EmailProperty emailProperty) {
-		return overrideAndOrProvideAndOrDefaultCollection(email, emailDefaults, emailOverrides, emailProperty);
+		return overrideAndOrProvideAndOrDefaultCollection(email, defaultsFor(emailProperty), overridesFor(emailProperty), emailProperty);
 	}
 
 	@NotNull
 	private Map<String, Collection<String>> resolveEmailHeadersProperty(@Nullable Email email) {
-		return overrideAndOrProvideAndOrDefaultHeaders(email, emailDefaults, emailOverrides);
+		return overrideAndOrProvideAndOrDefaultHeaders(email, defaultsFor(EmailProperty.HEADERS), overridesFor(EmailProperty.HEADERS));
+	}
+
+	@Nullable
+	private Email defaultsFor(@NotNull EmailProperty emailProperty) {
+		return defaultedProperties.contains(emailProperty) ? emailDefaults : null;
+	}
+
+	@Nullable
+	private Email overridesFor(@NotNull EmailProperty emailProperty) {
+		return overriddenProperties.contains(emailProperty) ? emailOverrides : null;
+	}
+
+	/**
+	 * Holds the validation results for at most {@code maximumSize} addresses. This is looked up for every recipient of every email sent, by all
+	 * sending threads at once, so unlike an LRU map, a lookup doesn't lock or reorder anything. Instead, once a new result exceeds the maximum
+	 * size, arbitrary results are dropped until a quarter of the room is free again. An address that is used often is therefore validated again
+	 * now and then, which is cheaper than contention on every lookup.
+	 */
+	static final class EmailValidationResults extends AbstractMap<String, Boolean> {
+
+		private final int maximumSize;
+		private final ConcurrentHashMap<String, Boolean> results = new ConcurrentHashMap<>();
+		private final AtomicInteger resultCount = new AtomicInteger();
+
+		EmailValidationResults(final int maximumSize) {
+			this.maximumSize = maximumSize;
+		}
+
+		@Override
+		@Nullable
+		public Boolean get(final Object address) {
+			return results.get(address);
+		}
+
+		@Override
+		@Nullable
+		public Boolean put(@NotNull final String address, @NotNull final Boolean valid) {
+			final Boolean previous = results.put(address, valid);
+			if (previous == null && resultCount.incrementAndGet() > maximumSize) {
+				evict();
+			}
+			return previous;
+		}
+
+		@Override
+		@Nullable
+		public Boolean remove(final Object address) {
+			final Boolean removed = results.remove(address);
+			if (removed != null) {
+				resultCount.decrementAndGet();
+			}
+			return removed;
+		}
+
+		@Override
+		public int size() {
+			return results.size();
+		}
+
+		@Override
+		@NotNull
+		public Set<Entry<String, Boolean>> entrySet() {
+			return unmodifiableMap(results).entrySet();
+		}
+
+		/**
+		 * Threads that exceed the maximum size at the same time may evict together, which only drops a few more results.
+		 */
+		private void evict() {
+			final int targetCount = maximumSize - maximumSize / 4;
+			for (final Iterator<String> addresses = results.keySet().iterator(); addresses.hasNext() && resultCount.get() > targetCount; ) {
+				remove(addresses.next());
+			}
+		}
 	}
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@ class MailerException extends MailException {
 	static final String GENERIC_ERROR = "Failed to send email [%s], reason: Third party error";
 	static final String INVALID_ENCODING = "Failed to send email [%s], reason: Encoding not accepted";
 	static final String UNKNOWN_ERROR = "Failed to send email [%s], reason: Unknown error";
+	static final String BULK_SEND_INTERRUPTED = "Interrupted while sending batch of emails, after handing over the first %s emails (emails not being sent yet were cancelled)";
 
 	MailerException(@SuppressWarnings("SameParameterValue") final String message) {
 		super(message);
@@ -7,13 +7,17 @@ import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.email.Email;
 import org.simplejavamail.api.mailer.CustomMailer;
 import org.simplejavamail.api.mailer.MailerGenericBuilder;
+import org.simplejavamail.api.mailer.SendMetricsListener;
 import org.simplejavamail.api.mailer.config.EmailGovernance;
 import org.simplejavamail.api.mailer.config.LoadBalancingStrategy;
 import org.simplejavamail.api.mailer.config.OperationalConfig;
 import org.simplejavamail.api.mailer.config.ProxyConfig;
 import org.simplejavamail.config.ConfigLoader.Property;
 import org.simplejavamail.internal.moduleloader.ModuleLoader;
+import org.simplejavamail.internal.util.concurrent.VirtualThreadSupport;
+import org.slf4j.Logger;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -33,15 +37,20 @@ import static org.simplejavamail.config.ConfigLoader.Property.DEFAULT_CONNECTION
 import static org.simplejavamail.config.ConfigLoader.Property.PROXY_HOST;
 import static org.simplejavamail.config.ConfigLoader.Property.PROXY_PASSWORD;
 import static org.simplejavamail.config.ConfigLoader.Property.PROXY_USERNAME;
+import static org.simplejavamail.config.ConfigLoader.Property.SPOOL_DIRECTORY;
 import static org.simplejavamail.internal.util.MiscUtil.checkArgumentNotEmpty;
 import static org.simplejavamail.internal.util.MiscUtil.valueNullOrEmpty;
+import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
 import static org.simplejavamail.internal.util.Preconditions.verifyNonnullOrEmpty;
+import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * @see MailerGenericBuilder
  */
 @SuppressWarnings({"UnusedReturnValue", "unchecked"})
 abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> implements InternalMailerBuilder<T> {
+
+	private static final Logger LOGGER = getLogger(MailerGenericBuilderImpl.class);
 	
 	/**
 	 * @see MailerGenericBuilder#async()
@@ -73,6 +82,16 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 	 */
 	@NotNull
 	private Integer proxyBridgePort;
+
+	/**
+	 * @see MailerGenericBuilder#withProxyBridgeNonBlocking(Boolean)
+	 */
+	private boolean proxyBridgeNonBlocking;
+
+	/**
+	 * @see MailerGenericBuilder#withProxyBridgeBufferSize(Integer)
+	 */
+	private int proxyBridgeBufferSize;
 	
 	/**
 	 * @see MailerGenericBuilder#withDebugLogging(Boolean)
@@ -96,6 +115,12 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 	@Nullable
 	private EmailValidator emailValidator;
 
+	/**
+	 * @see MailerGenericBuilder#withEmailValidationCache(int)
+	 */
+	@Nullable
+	private Integer emailValidationCacheSize;
+
 	/**
 	 * @see MailerGenericBuilder#withEmailDefaults(Email)
 	 */
@@ -132,6 +157,11 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 	@NotNull
 	private Integer threadPoolKeepAliveTime;
 
+	/**
+	 * @see MailerGenericBuilder#withThreadPoolVirtualThreads(Boolean)
+	 */
+	private boolean threadPoolVirtualThreads;
+
 	/**
 	 * @see MailerGenericBuilder#withClusterKey(UUID)
 	 */
@@ -195,11 +225,45 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 	 */
 	private boolean transportModeLoggingOnly;
 
+	/**
+	 * @see MailerGenericBuilder#withTransportModePipelined(Boolean)
+	 */
+	private boolean transportModePipelined;
+
+	/**
+	 * @see MailerGenericBuilder#withTransportModePipelinedToBytes(Boolean)
+	 */
+	private boolean transportModePipelinedToBytes;
+
 	/**
 	 * @see MailerGenericBuilder#withCustomMailer(CustomMailer)
 	 */
 	@Nullable
 	private CustomMailer customMailer;
+
+	/**
+	 * @see MailerGenericBuilder#withSendMetricsListener(SendMetricsListener)
+	 */
+	@Nullable
+	private SendMetricsListener sendMetricsListener;
+
+	/**
+	 * @see MailerGenericBuilder#withTransportRetries(Integer)
+	 */
+	@NotNull
+	private Integer transportRetries;
+
+	/**
+	 * @see MailerGenericBuilder#withTransportRetryBackoffMillis(Integer)
+	 */
+	@NotNull
+	private Integer transportRetryBackoffMillis;
+
+	/**
+	 * @see MailerGenericBuilder#withSpoolDirectory(File)
+	 */
+	@Nullable
+	private File spoolDirectory;
 	
 	/**
 	 * Sets defaults configured for proxy host, proxy port, proxy username, proxy password and proxy bridge port (used in authenticated proxy).
@@ -216,12 +280,17 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		if (hasProperty(PROXY_PASSWORD)) {
 			this.proxyPassword = getStringProperty(PROXY_PASSWORD);
 		}
+		if (hasProperty(SPOOL_DIRECTORY)) {
+			this.spoolDirectory = new File(verifyNonnullOrEmpty(getStringProperty(SPOOL_DIRECTORY)));
+		}
 		this.clusterKey = hasProperty(DEFAULT_CONNECTIONPOOL_CLUSTER_KEY)
 				? UUID.fromString(verifyNonnullOrEmpty(getStringProperty(DEFAULT_CONNECTIONPOOL_CLUSTER_KEY)))
 				: UUID.randomUUID(); // <-- this makes sure it won't form a cluster with another mailer
 
 		this.proxyPort 								= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.PROXY_PORT, DEFAULT_PROXY_PORT));
 		this.proxyBridgePort 						= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.PROXY_SOCKS5BRIDGE_PORT, DEFAULT_PROXY_BRIDGE_PORT));
+		this.proxyBridgeNonBlocking 				= verifyNonnullOrEmpty(valueOrPropertyAsBoolean(null, Property.PROXY_SOCKS5BRIDGE_NONBLOCKING, DEFAULT_PROXY_BRIDGE_NONBLOCKING));
+		this.proxyBridgeBufferSize 					= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.PROXY_SOCKS5BRIDGE_BUFFERSIZE, DEFAULT_PROXY_BRIDGE_BUFFER_SIZE));
 		this.disableAllClientValidation				= verifyNonnullOrEmpty(valueOrPropertyAsBoolean(null, Property.DISABLE_ALL_CLIENTVALIDATION, DEFAULT_DISABLE_ALL_CLIENTVALIDATION));
 		this.debugLogging 							= verifyNonnullOrEmpty(valueOrPropertyAsBoolean(null, Property.JAVAXMAIL_DEBUG, DEFAULT_JAVAXMAIL_DEBUG));
 		this.sessionTimeout 						= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.DEFAULT_SESSION_TIMEOUT_MILLIS, DEFAULT_SESSION_TIMEOUT_MILLIS));
@@ -229,12 +298,17 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		this.verifyingServerIdentity 				= verifyNonnullOrEmpty(valueOrPropertyAsBoolean(null, Property.DEFAULT_VERIFY_SERVER_IDENTITY, DEFAULT_VERIFY_SERVER_IDENTITY));
 		this.threadPoolSize 						= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE));
 		this.threadPoolKeepAliveTime 				= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.DEFAULT_POOL_KEEP_ALIVE_TIME, DEFAULT_POOL_KEEP_ALIVE_TIME));
+		this.threadPoolVirtualThreads 				= verifyNonnullOrEmpty(valueOrPropertyAsBoolean(null, Property.DEFAULT_POOL_VIRTUAL_THREADS, DEFAULT_POOL_VIRTUAL_THREADS));
 		this.connectionPoolCoreSize 				= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.DEFAULT_CONNECTIONPOOL_CORE_SIZE, DEFAULT_CONNECTIONPOOL_CORE_SIZE));
 		this.connectionPoolMaxSize 					= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.DEFAULT_CONNECTIONPOOL_MAX_SIZE, DEFAULT_CONNECTIONPOOL_MAX_SIZE));
 		this.connectionPoolClaimTimeoutMillis 		= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.DEFAULT_CONNECTIONPOOL_CLAIMTIMEOUT_MILLIS, DEFAULT_CONNECTIONPOOL_CLAIMTIMEOUT_MILLIS));
+		this.transportRetries 						= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.TRANSPORT_RETRIES, DEFAULT_TRANSPORT_RETRIES));
+		this.transportRetryBackoffMillis 			= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.TRANSPORT_RETRY_BACKOFF_MILLIS, DEFAULT_TRANSPORT_RETRY_BACKOFF_MILLIS));
 		this.connectionPoolExpireAfterMillis 		= verifyNonnullOrEmpty(valueOrPropertyAsInteger(null, Property.DEFAULT_CONNECTIONPOOL_EXPIREAFTER_MILLIS, DEFAULT_CONNECTIONPOOL_EXPIREAFTER_MILLIS));
 		this.connectionPoolLoadBalancingStrategy	= verifyNonnullOrEmpty(valueOrProperty(null, Property.DEFAULT_CONNECTIONPOOL_LOADBALANCING_STRATEGY, LoadBalancingStrategy.valueOf(DEFAULT_CONNECTIONPOOL_LOADBALANCING_STRATEGY)));
 		this.transportModeLoggingOnly 				= verifyNonnullOrEmpty(valueOrPropertyAsBoolean(null, Property.TRANSPORT_MODE_LOGGING_ONLY, DEFAULT_TRANSPORT_MODE_LOGGING_ONLY));
+		this.transportModePipelined 				= verifyNonnullOrEmpty(valueOrPropertyAsBoolean(null, Property.TRANSPORT_MODE_PIPELINED, DEFAULT_TRANSPORT_MODE_PIPELINED));
+		this.transportModePipelinedToBytes 			= verifyNonnullOrEmpty(valueOrPropertyAsBoolean(null, Property.TRANSPORT_MODE_PIPELINED_TO_BYTES, DEFAULT_TRANSPORT_MODE_PIPELINED_TO_BYTES));
 
 		final String trustedHosts = valueOrPropertyAsString(null, Property.DEFAULT_TRUSTED_HOSTS, null);
 		if (trustedHosts != null) {
@@ -249,7 +323,7 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 	 */
 	ProxyConfig buildProxyConfig() {
 		validateProxy();
-		return new ProxyConfigImpl(getProxyHost(), getProxyPort(), getProxyUsername(), getProxyPassword(), getProxyBridgePort());
+		return new ProxyConfigImpl(getProxyHost(), getProxyPort(), getProxyUsername(), getProxyPassword(), getProxyBridgePort(), isProxyBridgeNonBlocking(), getProxyBridgeBufferSize());
 	}
 	
 	private void validateProxy() {
@@ -265,6 +339,9 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 			if (!valueNullOrEmpty(proxyUsername) && valueNullOrEmpty(proxyBridgePort)) {
 				throw new IllegalArgumentException("Cannot authenticate with proxy if no proxy bridge port is configured");
 			}
+			if (proxyBridgeBufferSize <= 0) {
+				throw new IllegalArgumentException("Proxy bridge buffer size should be positive, was " + proxyBridgeBufferSize);
+			}
 		}
 	}
 
@@ -276,7 +353,8 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 				getEmailValidator(),
 				getEmailDefaults(),
 				getEmailOverrides(),
-				getMaximumEmailSize());
+				getMaximumEmailSize(),
+				getEmailValidationCacheSize());
 	}
 	
 	/**
@@ -303,7 +381,14 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 				isVerifyingServerIdentity(),
 				getExecutorService() != null ? getExecutorService() : determineDefaultExecutorService(),
 				isExecutorServiceUserProvided(),
-				getCustomMailer());
+				getCustomMailer(),
+				isTransportModePipelined(),
+				isTransportModePipelinedToBytes(),
+				isThreadPoolVirtualThreads(),
+				getSendMetricsListener(),
+				getTransportRetries(),
+				getTransportRetryBackoffMillis(),
+				getSpoolDirectory());
 	}
 	
 	/**
@@ -380,6 +465,24 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return (T) this;
 	}
 
+	/**
+	 * @see MailerGenericBuilder#withProxyBridgeNonBlocking(Boolean)
+	 */
+	@Override
+	public T withProxyBridgeNonBlocking(@NotNull final Boolean proxyBridgeNonBlocking) {
+		this.proxyBridgeNonBlocking = proxyBridgeNonBlocking;
+		return (T) this;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#withProxyBridgeBufferSize(Integer)
+	 */
+	@Override
+	public T withProxyBridgeBufferSize(@NotNull final Integer proxyBridgeBufferSize) {
+		this.proxyBridgeBufferSize = proxyBridgeBufferSize;
+		return (T) this;
+	}
+
 	/**
 	 * @see MailerGenericBuilder#withDebugLogging(Boolean)
 	 */
@@ -416,6 +519,16 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return (T) this;
 	}
 
+	/**
+	 * @see MailerGenericBuilder#withEmailValidationCache(int)
+	 */
+	@Override
+	public T withEmailValidationCache(final int maximumSize) {
+		assumeTrue(maximumSize > 0, "maximumSize should be positive, was " + maximumSize);
+		this.emailValidationCacheSize = maximumSize;
+		return (T) this;
+	}
+
 	/**
 	 * @see MailerGenericBuilder#withEmailDefaults(Email)
 	 */
@@ -532,6 +645,42 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		this.transportModeLoggingOnly = transportModeLoggingOnly;
 		return (T) this;
 	}
+
+	/**
+	 * @see MailerGenericBuilder#withTransportModePipelined(Boolean)
+	 */
+	@Override
+	public T withTransportModePipelined(@NotNull final Boolean transportModePipelined) {
+		this.transportModePipelined = transportModePipelined;
+		return (T) this;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#withTransportModePipelinedToBytes(Boolean)
+	 */
+	@Override
+	public T withTransportModePipelinedToBytes(@NotNull final Boolean transportModePipelinedToBytes) {
+		this.transportModePipelinedToBytes = transportModePipelinedToBytes;
+		return (T) this;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#withTransportRetries(Integer)
+	 */
+	@Override
+	public T withTransportRetries(@NotNull final Integer transportRetries) {
+		this.transportRetries = transportRetries;
+		return (T) this;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#withTransportRetryBackoffMillis(Integer)
+	 */
+	@Override
+	public T withTransportRetryBackoffMillis(@NotNull final Integer transportRetryBackoffMillis) {
+		this.transportRetryBackoffMillis = transportRetryBackoffMillis;
+		return (T) this;
+	}
 	
 	/**
 	 * @see MailerGenericBuilder#trustingSSLHosts(String...)
@@ -604,6 +753,24 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return (T) this;
 	}
 
+	/**
+	 * @see MailerGenericBuilder#withSendMetricsListener(SendMetricsListener)
+	 */
+	@Override
+	public T withSendMetricsListener(@NotNull SendMetricsListener sendMetricsListener) {
+		this.sendMetricsListener = sendMetricsListener;
+		return (T) this;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#withSpoolDirectory(File)
+	 */
+	@Override
+	public T withSpoolDirectory(@NotNull final File spoolDirectory) {
+		this.spoolDirectory = spoolDirectory;
+		return (T) this;
+	}
+
 	/**
 	 * @see MailerGenericBuilder#resetDisableAllClientValidations()
 	 */
@@ -653,8 +820,33 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return (T) this;
 	}
 
+	/**
+	 * @see MailerGenericBuilder#resetSendMetricsListener()
+	 */
+	@Override
+	public T resetSendMetricsListener() {
+		this.sendMetricsListener = null;
+		return (T) this;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#resetSpoolDirectory()
+	 */
+	@Override
+	public T resetSpoolDirectory() {
+		this.spoolDirectory = null;
+		return (T) this;
+	}
+
 	@NotNull
 	private ExecutorService determineDefaultExecutorService() {
+		if (isThreadPoolVirtualThreads()) {
+			final ExecutorService virtualThreadExecutor = VirtualThreadSupport.newVirtualThreadPerTaskExecutor(getConnectionPoolMaxSize());
+			if (virtualThreadExecutor != null) {
+				return virtualThreadExecutor;
+			}
+			LOGGER.warn("Virtual threads are not supported by this JVM (requires Java 21 or newer), falling back to regular thread pool for sending async emails");
+		}
 		return (ModuleLoader.batchModuleAvailable())
 				? ModuleLoader.loadBatchModule().createDefaultExecutorService(getThreadPoolSize(), getThreadPoolKeepAliveTime())
 				: Executors.newSingleThreadExecutor();
@@ -668,6 +860,15 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return this.withThreadPoolSize(DEFAULT_POOL_SIZE);
 	}
 
+	/**
+	 * @see MailerGenericBuilder#withThreadPoolVirtualThreads(Boolean)
+	 */
+	@Override
+	public T withThreadPoolVirtualThreads(@NotNull final Boolean threadPoolVirtualThreads) {
+		this.threadPoolVirtualThreads = threadPoolVirtualThreads;
+		return (T) this;
+	}
+
 	/**
 	 * @see MailerGenericBuilder#resetThreadPoolKeepAliveTime()
 	 */
@@ -676,6 +877,14 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return withThreadPoolKeepAliveTime(DEFAULT_POOL_KEEP_ALIVE_TIME);
 	}
 
+	/**
+	 * @see MailerGenericBuilder#resetThreadPoolVirtualThreads()
+	 */
+	@Override
+	public T resetThreadPoolVirtualThreads() {
+		return withThreadPoolVirtualThreads(DEFAULT_POOL_VIRTUAL_THREADS);
+	}
+
 	/**
 	 * @see MailerGenericBuilder#resetClusterKey()
 	 */
@@ -731,14 +940,64 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 	public T resetTransportModeLoggingOnly() {
 		return withTransportModeLoggingOnly(DEFAULT_TRANSPORT_MODE_LOGGING_ONLY);
 	}
+
+	/**
+	 * @see MailerGenericBuilder#resetTransportModePipelined()
+	 */
+	@Override
+	public T resetTransportModePipelined() {
+		return withTransportModePipelined(DEFAULT_TRANSPORT_MODE_PIPELINED);
+	}
+
+	/**
+	 * @see MailerGenericBuilder#resetTransportModePipelinedToBytes()
+	 */
+	@Override
+	public T resetTransportModePipelinedToBytes() {
+		return withTransportModePipelinedToBytes(DEFAULT_TRANSPORT_MODE_PIPELINED_TO_BYTES);
+	}
+
+	/**
+	 * @see MailerGenericBuilder#resetTransportRetries()
+	 */
+	@Override
+	public T resetTransportRetries() {
+		return withTransportRetries(DEFAULT_TRANSPORT_RETRIES);
+	}
+
+	/**
+	 * @see MailerGenericBuilder#resetTransportRetryBackoffMillis()
+	 */
+	@Override
+	public T resetTransportRetryBackoffMillis() {
+		return withTransportRetryBackoffMillis(DEFAULT_TRANSPORT_RETRY_BACKOFF_MILLIS);
+	}
 	
+	/**
+	 * @see MailerGenericBuilder#resetProxyBridgeNonBlocking()
+	 */
+	@Override
+	public T resetProxyBridgeNonBlocking() {
+		return withProxyBridgeNonBlocking(DEFAULT_PROXY_BRIDGE_NONBLOCKING);
+	}
+
+	/**
+	 * @see MailerGenericBuilder#resetProxyBridgeBufferSize()
+	 */
+	@Override
+	public T resetProxyBridgeBufferSize() {
+		return withProxyBridgeBufferSize(DEFAULT_PROXY_BRIDGE_BUFFER_SIZE);
+	}
+
 	/**
 	 * @see MailerGenericBuilder#clearProxy()
 	 */
 	@Override
 	public T clearProxy() {
 		return (T) withProxy(null, null, null, null)
-				.withProxyBridgePort(DEFAULT_PROXY_BRIDGE_PORT);
+				.withProxyBridgePort(DEFAULT_PROXY_BRIDGE_PORT)
+				.withProxyBridgeNonBlocking(DEFAULT_PROXY_BRIDGE_NONBLOCKING)
+				.withProxyBridgeBufferSize(DEFAULT_PROXY_BRIDGE_BUFFER_SIZE);
 	}
 
 	/**
@@ -750,6 +1009,15 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return (T) this;
 	}
 
+	/**
+	 * @see MailerGenericBuilder#clearEmailValidationCache()
+	 */
+	@Override
+	public T clearEmailValidationCache() {
+		this.emailValidationCacheSize = null;
+		return (T) this;
+	}
+
 	/**
 	 * @see MailerGenericBuilder#clearEmailDefaults()
 	 */
@@ -847,6 +1115,22 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return proxyBridgePort;
 	}
 
+	/**
+	 * @see MailerGenericBuilder#isProxyBridgeNonBlocking()
+	 */
+	@Override
+	public boolean isProxyBridgeNonBlocking() {
+		return proxyBridgeNonBlocking;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#getProxyBridgeBufferSize()
+	 */
+	@Override
+	public int getProxyBridgeBufferSize() {
+		return proxyBridgeBufferSize;
+	}
+
 	/**
 	 * @see MailerGenericBuilder#isDebugLogging()
 	 */
@@ -881,6 +1165,15 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return emailValidator;
 	}
 
+	/**
+	 * @see MailerGenericBuilder#getEmailValidationCacheSize()
+	 */
+	@Override
+	@Nullable
+	public Integer getEmailValidationCacheSize() {
+		return emailValidationCacheSize;
+	}
+
 	/**
 	 * @see MailerGenericBuilder#getEmailDefaults()
 	 */
@@ -943,6 +1236,14 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 		return threadPoolKeepAliveTime;
 	}
 
+	/**
+	 * @see MailerGenericBuilder#isThreadPoolVirtualThreads()
+	 */
+	@Override
+	public boolean isThreadPoolVirtualThreads() {
+		return threadPoolVirtualThreads;
+	}
+
 	/**
 	 * @see MailerGenericBuilder#getClusterKey()
 	 */
@@ -1029,6 +1330,40 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 	public boolean isTransportModeLoggingOnly() {
 		return transportModeLoggingOnly;
 	}
+
+	/**
+	 * @see MailerGenericBuilder#isTransportModePipelined()
+	 */
+	@Override
+	public boolean isTransportModePipelined() {
+		return transportModePipelined;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#isTransportModePipelinedToBytes()
+	 */
+	@Override
+	public boolean isTransportModePipelinedToBytes() {
+		return transportModePipelinedToBytes;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#getTransportRetries()
+	 */
+	@Override
+	@NotNull
+	public Integer getTransportRetries() {
+		return transportRetries;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#getTransportRetryBackoffMillis()
+	 */
+	@Override
+	@NotNull
+	public Integer getTransportRetryBackoffMillis() {
+		return transportRetryBackoffMillis;
+	}
 	
 	/**
 	 * @see MailerGenericBuilder#getProperties()
@@ -1047,4 +1382,22 @@ abstract class MailerGenericBuilderImpl<T extends MailerGenericBuilderImpl<?>> i
 	public CustomMailer getCustomMailer() {
 		return customMailer;
 	}
+
+	/**
+	 * @see MailerGenericBuilder#getSendMetricsListener()
+	 */
+	@Override
+	@Nullable
+	public SendMetricsListener getSendMetricsListener() {
+		return sendMetricsListener;
+	}
+
+	/**
+	 * @see MailerGenericBuilder#getSpoolDirectory()
+	 */
+	@Override
+	@Nullable
+	public File getSpoolDirectory() {
+		return spoolDirectory;
+	}
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package org.simplejavamail.mailer.internal;
 
 import com.sanctionco.jmail.EmailValidator;
+import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import lombok.val;
 import org.jetbrains.annotations.NotNull;
@@ -8,6 +9,9 @@ import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.MailException;
 import org.simplejavamail.api.email.Email;
 import org.simplejavamail.api.internal.authenticatedsockssupport.socks5server.AnonymousSocks5Server;
+import org.simplejavamail.api.internal.spoolsupport.MailSpool;
+import org.simplejavamail.api.internal.spoolsupport.SpooledEmail;
+import org.simplejavamail.api.mailer.BulkSendResult;
 import org.simplejavamail.api.mailer.Mailer;
 import org.simplejavamail.api.mailer.config.EmailGovernance;
 import org.simplejavamail.api.mailer.config.OperationalConfig;
@@ -23,20 +27,32 @@ import org.simplejavamail.mailer.internal.util.SmtpAuthenticator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
+import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static org.simplejavamail.api.mailer.SendPhase.GOVERNANCE;
+import static org.simplejavamail.api.mailer.SendPhase.VALIDATION;
 import static org.simplejavamail.api.mailer.config.TransportStrategy.SMTP_OAUTH2;
 import static org.simplejavamail.api.mailer.config.TransportStrategy.findStrategyForSession;
 import static org.simplejavamail.config.ConfigLoader.Property.EXTRA_PROPERTIES;
 import static org.simplejavamail.internal.util.ListUtil.getFirst;
+import static org.simplejavamail.internal.util.Preconditions.assumeTrue;
 import static org.simplejavamail.internal.util.Preconditions.checkNonEmptyArgument;
 import static org.simplejavamail.internal.util.Preconditions.verifyNonnullOrEmpty;
+import static org.simplejavamail.mailer.internal.util.SendMetrics.endPhase;
+import static org.simplejavamail.mailer.internal.util.SendMetrics.sampleExecutor;
+import static org.simplejavamail.mailer.internal.util.SendMetrics.startPhase;
 
 /**
  * @see Mailer
@@ -95,6 +111,17 @@ public class MailerImpl implements Mailer {
 	@NotNull
 	private final ProxyConfig proxyConfig;
 
+	/**
+	 * Only set when a spool directory is configured, in which case asynchronously sent emails go through the spool.
+	 *
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withSpoolDirectory(File)
+	 */
+	@Nullable
+	private final MailSpool spool;
+
+	@NotNull
+	private final AtomicBoolean spoolReleased = new AtomicBoolean();
+
 	MailerImpl(@NotNull final MailerFromSessionBuilderImpl fromSessionBuilder) {
 		this(null,
 				null,
@@ -128,6 +155,19 @@ public class MailerImpl implements Mailer {
 		this.proxyServer = configureSessionWithProxy(proxyConfig, operationalConfig, session, effectiveTransportStrategy);
 		initSession(session, operationalConfig, emailGovernance, effectiveTransportStrategy);
 		initCluster(session, operationalConfig);
+		this.spool = openSpool(operationalConfig);
+	}
+
+	@Nullable
+	private static MailSpool openSpool(@NotNull final OperationalConfig operationalConfig) {
+		val spoolDirectory = operationalConfig.getSpoolDirectory();
+		if (spoolDirectory == null) {
+			return null;
+		} else if (operationalConfig.isTransportModeLoggingOnly() || operationalConfig.getCustomMailer() != null) {
+			LOGGER.warn("spool directory configured, but ignored because emails are not sent using SMTP (logging-only mode or custom mailer)");
+			return null;
+		}
+		return ModuleLoader.loadSpoolModule().openSpool(spoolDirectory);
 	}
 
 	/**
@@ -340,24 +380,132 @@ public class MailerImpl implements Mailer {
 	@Override
 	@NotNull
 	public final CompletableFuture<Void> sendMail(final Email userProvidedEmail, @SuppressWarnings("SameParameterValue") final boolean async) {
+		val metricsListener = operationalConfig.getSendMetricsListener();
+
+		val governanceStart = startPhase(metricsListener);
 		val email = emailGovernance.produceEmailApplyingDefaultsAndOverrides(userProvidedEmail);
+		endPhase(metricsListener, GOVERNANCE, governanceStart);
 
+		val validationStart = startPhase(metricsListener);
 		if (validate(email)) {
-			SendMailClosure sendMailClosure = new SendMailClosure(operationalConfig, session, email, proxyServer, operationalConfig.isTransportModeLoggingOnly(), smtpConnectionCounter);
-
+			endPhase(metricsListener, VALIDATION, validationStart);
 			if (!async) {
-				sendMailClosure.run();
+				new SendMailClosure(operationalConfig, session, email, proxyServer, operationalConfig.isTransportModeLoggingOnly(), smtpConnectionCounter).run();
 				return CompletableFuture.completedFuture(null);
-			} else
-				return ModuleLoader.batchModuleAvailable()
-						? ModuleLoader.loadBatchModule()
-							.executeAsync(operationalConfig.getExecutorService(), "sendMail process", sendMailClosure)
-						: AsyncOperationHelper
-							.executeAsync(operationalConfig.getExecutorService(), "sendMail process", sendMailClosure);
+			} else {
+				final AbstractProxyServerSyncingClosure sendMailClosure = spool != null
+						? new SendSpooledMailClosure(operationalConfig, session, spool, spoolEmail(email, spool), proxyServer, smtpConnectionCounter)
+						: new SendMailClosure(operationalConfig, session, email, proxyServer, operationalConfig.isTransportModeLoggingOnly(), smtpConnectionCounter);
+				sampleExecutor(metricsListener, operationalConfig.getExecutorService());
+				return executeAsync(sendMailClosure);
+			}
 		}
 		throw new IllegalStateException("Email not valid, but no MailException was thrown for it");
 	}
 
+	/**
+	 * Converts the email and writes it to the spool on the calling thread, so once this returns, the email survives a crash.
+	 */
+	@NotNull
+	private SpooledEmail spoolEmail(@NotNull final Email email, @NotNull final MailSpool spool) {
+		try {
+			return SessionBasedEmailToMimeMessageConverter.convertAndSpoolMimeMessage(session, email, spool);
+		} catch (final MessagingException e) {
+			throw new MailerException(format(MailerException.GENERIC_ERROR, format("ID: '%s'", email.getId())), e);
+		}
+	}
+
+	@NotNull
+	private CompletableFuture<Void> executeAsync(@NotNull final AbstractProxyServerSyncingClosure sendMailClosure) {
+		return ModuleLoader.batchModuleAvailable()
+				? ModuleLoader.loadBatchModule()
+					.executeAsync(operationalConfig.getExecutorService(), "sendMail process", sendMailClosure)
+				: AsyncOperationHelper
+					.executeAsync(operationalConfig.getExecutorService(), "sendMail process", sendMailClosure);
+	}
+
+	/**
+	 * @see Mailer#sendMails(Iterable)
+	 */
+	@Override
+	@NotNull
+	public final BulkSendResult sendMails(@NotNull final Iterable<Email> emails) {
+		return sendMails(emails, 2 * operationalConfig.getThreadPoolSize());
+	}
+
+	/**
+	 * @see Mailer#sendMails(Stream)
+	 */
+	@Override
+	@NotNull
+	public final BulkSendResult sendMails(@NotNull final Stream<Email> emails) {
+		return sendMails(emails::iterator);
+	}
+
+	/**
+	 * @see Mailer#sendMails(Iterable, int)
+	 */
+	@Override
+	@NotNull
+	public final BulkSendResult sendMails(@NotNull final Iterable<Email> emails, final int maxInFlight) {
+		assumeTrue(maxInFlight > 0, "maxInFlight should be positive, was " + maxInFlight);
+		val inFlightWindow = new Semaphore(maxInFlight);
+		val bulkSendResult = new BulkSendResultImpl();
+		try {
+			for (val email : emails) {
+				inFlightWindow.acquire();
+				val emailFuture = sendMailForBatch(email);
+				emailFuture.whenComplete((result, throwable) -> inFlightWindow.release());
+				bulkSendResult.track(emailFuture);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			bulkSendResult.cancelOutstanding();
+			throw new MailerException(format(MailerException.BULK_SEND_INTERRUPTED, bulkSendResult.getEmailCount()), e);
+		} finally {
+			bulkSendResult.submissionFinished();
+		}
+		return bulkSendResult;
+	}
+
+	/**
+	 * Like {@link #sendMail(Email, boolean)}, except that failing validation results in a failed future rather than an exception, so the rest of
+	 * the batch continues.
+	 */
+	@NotNull
+	private CompletableFuture<Void> sendMailForBatch(@NotNull final Email email) {
+		try {
+			return sendMail(email, true);
+		} catch (final RuntimeException e) {
+			val failedFuture = new CompletableFuture<Void>();
+			failedFuture.completeExceptionally(e);
+			return failedFuture;
+		}
+	}
+
+	/**
+	 * @see Mailer#resendSpooledEmails()
+	 */
+	@Override
+	@NotNull
+	public BulkSendResult resendSpooledEmails() {
+		val bulkSendResult = new BulkSendResultImpl();
+		try {
+			if (spool != null) {
+				val recoveredEmails = spool.takeRecoveredEmails();
+				if (!recoveredEmails.isEmpty()) {
+					LOGGER.info("resending {} email(s) recovered from spool {}", recoveredEmails.size(), operationalConfig.getSpoolDirectory());
+				}
+				for (val spooledEmail : recoveredEmails) {
+					bulkSendResult.track(executeAsync(new SendSpooledMailClosure(operationalConfig, session, spool, spooledEmail, proxyServer, smtpConnectionCounter)));
+				}
+			}
+		} finally {
+			bulkSendResult.submissionFinished();
+		}
+		return bulkSendResult;
+	}
+
 	/**
 	 * @see Mailer#validate(Email)
 	 */
@@ -365,8 +513,16 @@ public class MailerImpl implements Mailer {
 	public boolean validate(@NotNull final Email email)
 			throws MailException {
 		return operationalConfig.isDisableAllClientValidation() ?
-				MailerHelper.validateLenient(email, emailGovernance.getEmailValidator()) :
-				MailerHelper.validate(email, emailGovernance.getEmailValidator());
+				MailerHelper.validateLenient(email, emailGovernance.getEmailValidator(), getEmailValidationResults()) :
+				MailerHelper.validate(email, emailGovernance.getEmailValidator(), getEmailValidationResults());
+	}
+
+	/**
+	 * Cached validation results are kept by the governance, but aren't part of the {@link EmailGovernance} API.
+	 */
+	@Nullable
+	private Map<String, Boolean> getEmailValidationResults() {
+		return emailGovernance instanceof EmailGovernanceImpl ? ((EmailGovernanceImpl) emailGovernance).getEmailValidationResults() : null;
 	}
 
 	/**
@@ -377,6 +533,10 @@ public class MailerImpl implements Mailer {
 		if (!operationalConfig.isExecutorServiceIsUserProvided()) {
 			operationalConfig.getExecutorService().shutdown();
 		}
+		if (spool != null && spoolReleased.compareAndSet(false, true)) {
+			// emails still being sent are marked done in vain after this, so they will be sent again when the spool is opened next time
+			spool.close();
+		}
 		return ModuleLoader.loadBatchModule().shutdownConnectionPools(session);
 	}
 
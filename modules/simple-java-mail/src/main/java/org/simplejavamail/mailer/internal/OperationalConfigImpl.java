@@ -6,9 +6,11 @@ import lombok.ToString;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.mailer.CustomMailer;
+import org.simplejavamail.api.mailer.SendMetricsListener;
 import org.simplejavamail.api.mailer.config.LoadBalancingStrategy;
 import org.simplejavamail.api.mailer.config.OperationalConfig;
 
+import java.io.File;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
@@ -128,4 +130,41 @@ class OperationalConfigImpl implements OperationalConfig {
 	 */
 	@Nullable
 	private final CustomMailer customMailer;
+
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withTransportModePipelined(Boolean)
+	 */
+	private final boolean transportModePipelined;
+
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withTransportModePipelinedToBytes(Boolean)
+	 */
+	private final boolean transportModePipelinedToBytes;
+
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withThreadPoolVirtualThreads(Boolean)
+	 */
+	private final boolean threadPoolVirtualThreads;
+
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withSendMetricsListener(SendMetricsListener)
+	 */
+	@Nullable
+	private final SendMetricsListener sendMetricsListener;
+
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withTransportRetries(Integer)
+	 */
+	private final int transportRetries;
+
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withTransportRetryBackoffMillis(Integer)
+	 */
+	private final int transportRetryBackoffMillis;
+
+	/**
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withSpoolDirectory(File)
+	 */
+	@Nullable
+	private final File spoolDirectory;
 }
\ No newline at end of file
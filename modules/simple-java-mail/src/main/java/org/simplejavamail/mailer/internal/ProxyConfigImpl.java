@@ -19,6 +19,8 @@ class ProxyConfigImpl implements ProxyConfig {
 	@Nullable private final String username;
 	@Nullable private final String password;
 	@Nullable private final Integer proxyBridgePort;
+	private final boolean proxyBridgeNonBlocking;
+	private final int proxyBridgeBufferSize;
 	
 	@Override
 	public boolean requiresProxy() {
@@ -39,6 +41,9 @@ class ProxyConfigImpl implements ProxyConfig {
 		if (requiresAuthentication()) {
 			str += format(", username: %s", username);
 			str += format(", proxy bridge @ localhost:%s", proxyBridgePort);
+			if (proxyBridgeNonBlocking) {
+				str += " (non-blocking)";
+			}
 		}
 		return str;
 	}
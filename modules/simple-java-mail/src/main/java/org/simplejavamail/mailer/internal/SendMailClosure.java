@@ -50,8 +50,10 @@ class SendMailClosure extends AbstractProxyServerSyncingClosure {
 			} else if (operationalConfig.getCustomMailer() != null) {
 				val message = SessionBasedEmailToMimeMessageConverter.convertAndLogMimeMessage(session, email);
 				operationalConfig.getCustomMailer().sendMessage(operationalConfig, session, email, message);
+			} else if (operationalConfig.isTransportModePipelined()) {
+				TransportRunner.sendMessagePipelined(operationalConfig, session, email);
 			} else {
-				TransportRunner.sendMessage(operationalConfig.getClusterKey(), session, email);
+				TransportRunner.sendMessage(operationalConfig, session, email);
 			}
 		} catch (final MessagingException e) {
 			handleException(e, GENERIC_ERROR);
@@ -0,0 +1,74 @@
+package org.simplejavamail.mailer.internal;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.api.internal.authenticatedsockssupport.socks5server.AnonymousSocks5Server;
+import org.simplejavamail.api.internal.spoolsupport.MailSpool;
+import org.simplejavamail.api.internal.spoolsupport.SpooledEmail;
+import org.simplejavamail.api.mailer.config.OperationalConfig;
+import org.simplejavamail.mailer.internal.util.TransportRunner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static org.simplejavamail.mailer.internal.MailerException.GENERIC_ERROR;
+import static org.simplejavamail.mailer.internal.MailerException.UNKNOWN_ERROR;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.isTransientFailure;
+
+/**
+ * Like {@link SendMailClosure}, but sends an email from the spool, in the form in which it was spooled. Afterwards, the email is marked done in
+ * the spool if it was sent or if sending it failed permanently. After a transient failure it stays pending, so it is sent again the next time
+ * the spool is opened. Either way, a failure is reported through the usual future, same as without a spool.
+ *
+ * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withSpoolDirectory(java.io.File)
+ */
+class SendSpooledMailClosure extends AbstractProxyServerSyncingClosure {
+
+	@NotNull private final OperationalConfig operationalConfig;
+	@NotNull private final Session session;
+	@NotNull private final MailSpool spool;
+	@NotNull private final SpooledEmail spooledEmail;
+
+	SendSpooledMailClosure(@NotNull OperationalConfig operationalConfig, @NotNull Session session, @NotNull MailSpool spool, @NotNull SpooledEmail spooledEmail,
+			@Nullable AnonymousSocks5Server proxyServer, @NotNull AtomicInteger smtpConnectionCounter) {
+		super(smtpConnectionCounter, proxyServer);
+		this.operationalConfig = operationalConfig;
+		this.session = session;
+		this.spool = spool;
+		this.spooledEmail = spooledEmail;
+	}
+
+	@Override
+	public void executeClosure() {
+		LOGGER.trace("sending spooled email...");
+		String messageId = null;
+		try {
+			val message = SessionBasedEmailToMimeMessageConverter.parseSpooledMimeMessage(session, spooledEmail);
+			messageId = message.getMessageID();
+			val recipients = new InternetAddress[spooledEmail.getRecipients().size()];
+			for (int i = 0; i < recipients.length; i++) {
+				recipients[i] = new InternetAddress(spooledEmail.getRecipients().get(i), false);
+			}
+			TransportRunner.sendPreparedMessage(operationalConfig, session, message, recipients);
+			spool.markDone(spooledEmail);
+		} catch (final MessagingException e) {
+			handleException(e, GENERIC_ERROR, messageId);
+		} catch (final Exception e) {
+			handleException(e, UNKNOWN_ERROR, messageId);
+		}
+	}
+
+	private void handleException(final Exception e, String errorMsg, @Nullable String messageId) {
+		LOGGER.trace("Failed to send spooled email {}\n\t{}", spooledEmail, errorMsg);
+		if (isTransientFailure(e)) {
+			LOGGER.debug("keeping spooled email {} pending after transient failure, it will be sent again when the spool is opened next time", spooledEmail);
+		} else {
+			spool.markDone(spooledEmail);
+		}
+		throw new MailerException(format(errorMsg, format("ID: '%s'", messageId)), e);
+	}
+}
@@ -2,14 +2,21 @@ package org.simplejavamail.mailer.internal;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.util.SharedByteArrayInputStream;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.val;
+import org.eclipse.angus.mail.smtp.SMTPMessage;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.internal.spoolsupport.MailSpool;
+import org.simplejavamail.api.internal.spoolsupport.SpooledEmail;
 import org.simplejavamail.api.mailer.EmailTooBigException;
+import org.simplejavamail.api.mailer.SendMetricsListener;
 import org.simplejavamail.api.mailer.config.EmailGovernance;
 import org.simplejavamail.api.mailer.config.OperationalConfig;
 import org.simplejavamail.converter.internal.mimemessage.ImmutableDelegatingSMTPMessage;
@@ -18,12 +25,16 @@ import org.simplejavamail.email.internal.InternalEmail;
 import org.simplejavamail.internal.moduleloader.ModuleLoader;
 import org.simplejavamail.mailer.internal.util.MessageIdFixingMimeMessage;
 import org.simplejavamail.mailer.internal.util.SessionLogger;
+import org.simplejavamail.mailer.internal.util.SizeLimitingOutputStream;
+import org.simplejavamail.mailer.internal.util.TransportRunner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 
 import static java.lang.String.format;
 import static org.simplejavamail.converter.EmailConverter.mimeMessageToEML;
@@ -60,31 +71,105 @@ public class SessionBasedEmailToMimeMessageConverter {
 
     @NotNull
     public static MimeMessage convertAndLogMimeMessage(Session session, final Email email) throws MessagingException {
+        return convertAndLogMimeMessage(session, email, false);
+    }
+
+    /**
+     * @param serializeToBytes Whether the MimeMessage should be written out completely (triggering content encoding and DKIM signing), returning
+     *                         a message backed by the resulting bytes, which a Transport will send as-is. If a maximum email size is
+     *                         configured, it is checked in the same pass.
+     */
+    @NotNull
+    public static MimeMessage convertAndLogMimeMessage(Session session, final Email email, final boolean serializeToBytes) throws MessagingException {
         val mimeMessageConverter = (SessionBasedEmailToMimeMessageConverter) session.getProperties().get(MIMEMESSAGE_CONVERTER_KEY);
         val mimeMessage = mimeMessageConverter.convertAndLogMimeMessage(email);
-        val governance = mimeMessageConverter.emailGovernance;
-
-        if (governance.getMaximumEmailSize() != null) {
-            val emailSize = calculateEmailSize(mimeMessage);
-            if (emailSize > governance.getMaximumEmailSize()) {
-                throw new EmailTooBigException(emailSize, governance.getMaximumEmailSize());
-            }
+        val maximumEmailSize = mimeMessageConverter.emailGovernance.getMaximumEmailSize();
+
+        if (serializeToBytes) {
+            val retainedBytes = new ByteArrayOutputStream();
+            writeMimeMessage(mimeMessage, maximumEmailSize, retainedBytes);
+            return parseSerializedMimeMessage(session, mimeMessage, retainedBytes.toByteArray());
+        } else if (maximumEmailSize != null) {
+            writeMimeMessage(mimeMessage, maximumEmailSize, null);
         }
         return mimeMessage;
     }
 
-    private static int calculateEmailSize(MimeMessage mimeMessage) throws MessagingException {
-        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+    /**
+     * Writes out the message while counting its size, aborting with {@link EmailTooBigException} as soon as the maximum size is exceeded rather
+     * than rendering the rest of the message.
+     *
+     * @param retainedBytes Optional stream to collect the written bytes in. When omitted, the bytes are discarded after counting them.
+     */
+    static void writeMimeMessage(final MimeMessage mimeMessage, @Nullable final Integer maximumEmailSize, @Nullable final OutputStream retainedBytes)
+            throws MessagingException {
+        val os = new SizeLimitingOutputStream(maximumEmailSize != null ? maximumEmailSize : Long.MAX_VALUE, retainedBytes);
+        try {
             mimeMessage.writeTo(os);
-            return os.size();
         } catch (IOException e) {
-            throw new RuntimeException("error trying to calculate email size", e);
+            verifyLimitNotExceeded(os, maximumEmailSize);
+            throw new MessagingException("error trying to write out MimeMessage", e);
+        } catch (MessagingException | RuntimeException e) {
+            // Jakarta Mail doesn't always propagate the IOException unchanged, but may wrap it (for example when writing out a body part)
+            verifyLimitNotExceeded(os, maximumEmailSize);
+            throw e;
+        }
+    }
+
+    private static void verifyLimitNotExceeded(final SizeLimitingOutputStream os, @Nullable final Integer maximumEmailSize) {
+        if (maximumEmailSize != null && os.isLimitExceeded()) {
+            throw new EmailTooBigException(os.getCount(), maximumEmailSize);
+        }
+    }
+
+    /**
+     * Since the new message is parsed as being saved already, the Transport will send the bytes as-is.
+     */
+    @NotNull
+    private static MimeMessage parseSerializedMimeMessage(final Session session, final MimeMessage originalMessage, final byte[] serializedMessage)
+            throws MessagingException {
+        val message = new SMTPMessage(session, new SharedByteArrayInputStream(serializedMessage));
+        if (originalMessage instanceof SMTPMessage) {
+            // retain the bounceTo address
+            message.setEnvelopeFrom(((SMTPMessage) originalMessage).getEnvelopeFrom());
         }
+        return message;
+    }
+
+    /**
+     * Converts the email and writes it out completely into the spool, along with the envelope addresses needed to send it from there later on.
+     * If a maximum email size is configured, it is checked in the same pass.
+     *
+     * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withSpoolDirectory(java.io.File)
+     */
+    @NotNull
+    public static SpooledEmail convertAndSpoolMimeMessage(Session session, final Email email, final MailSpool spool) throws MessagingException {
+        val mimeMessageConverter = (SessionBasedEmailToMimeMessageConverter) session.getProperties().get(MIMEMESSAGE_CONVERTER_KEY);
+        val mimeMessage = mimeMessageConverter.convertAndLogMimeMessage(email);
+        val eml = new ByteArrayOutputStream();
+        writeMimeMessage(mimeMessage, mimeMessageConverter.emailGovernance.getMaximumEmailSize(), eml);
+
+        val envelopeFrom = mimeMessage instanceof SMTPMessage ? ((SMTPMessage) mimeMessage).getEnvelopeFrom() : null;
+        val recipients = new ArrayList<String>();
+        for (val recipient : TransportRunner.determineActualRecipients(email, mimeMessage)) {
+            recipients.add(recipient instanceof InternetAddress ? ((InternetAddress) recipient).getAddress() : recipient.toString());
+        }
+        return spool.append(envelopeFrom, recipients, eml.toByteArray());
+    }
+
+    /**
+     * @return A message backed by the spooled bytes, which a Transport will send as-is.
+     */
+    @NotNull
+    public static MimeMessage parseSpooledMimeMessage(final Session session, final SpooledEmail spooledEmail) throws MessagingException {
+        val message = new SMTPMessage(session, new SharedByteArrayInputStream(spooledEmail.getEml()));
+        message.setEnvelopeFrom(spooledEmail.getEnvelopeFrom());
+        return message;
     }
 
     @NotNull
     private MimeMessage convertAndLogMimeMessage(final Email email) throws MessagingException {
-        val message = convertMimeMessage(email, session);
+        val message = convertMimeMessage(email, session, operationalConfig.getSendMetricsListener());
 
         SessionLogger.logSession(session, operationalConfig.isAsync(), "mail");
 
@@ -107,9 +192,9 @@ public class SessionBasedEmailToMimeMessageConverter {
                 (ModuleLoader.smimeModuleAvailable() && ModuleLoader.loadSmimeModule().isMessageIdFixingMessage(message));
     }
 
-    static private MimeMessage convertMimeMessage(final Email email, final Session session) throws MessagingException {
+    static private MimeMessage convertMimeMessage(final Email email, final Session session, @Nullable final SendMetricsListener metricsListener) throws MessagingException {
         try {
-            return MimeMessageProducerHelper.produceMimeMessage(email, session);
+            return MimeMessageProducerHelper.produceMimeMessage(email, session, metricsListener);
         } catch (UnsupportedEncodingException e) {
             LOGGER.trace("Failed to send email {}\n{}", email.getId(), email);
             throw new MailerException(format(INVALID_ENCODING, email.getId()), e);
@@ -0,0 +1,45 @@
+package org.simplejavamail.mailer.internal.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.api.mailer.SendMetricsListener;
+import org.simplejavamail.api.mailer.SendPhase;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Reports to an optional {@link SendMetricsListener}. Without a listener, none of these methods even read the clock.
+ * <p>
+ * Usage: {@code long start = startPhase(listener); ...; endPhase(listener, phase, start);}
+ */
+public final class SendMetrics {
+
+	private SendMetrics() {
+	}
+
+	public static long startPhase(@Nullable final SendMetricsListener listener) {
+		return listener != null ? System.nanoTime() : 0L;
+	}
+
+	public static void endPhase(@Nullable final SendMetricsListener listener, @NotNull final SendPhase phase, final long startNanos) {
+		if (listener != null) {
+			listener.phaseCompleted(phase, System.nanoTime() - startNanos);
+		}
+	}
+
+	public static void sampleExecutor(@Nullable final SendMetricsListener listener, @NotNull final ExecutorService executorService) {
+		if (listener != null) {
+			if (executorService instanceof ThreadPoolExecutor) {
+				final ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
+				listener.executorSampled(threadPoolExecutor.getQueue().size(), threadPoolExecutor.getActiveCount());
+			} else if (executorService instanceof ForkJoinPool) {
+				final ForkJoinPool forkJoinPool = (ForkJoinPool) executorService;
+				listener.executorSampled(forkJoinPool.getQueuedSubmissionCount(), forkJoinPool.getActiveThreadCount());
+			} else {
+				listener.executorSampled(-1, -1);
+			}
+		}
+	}
+}
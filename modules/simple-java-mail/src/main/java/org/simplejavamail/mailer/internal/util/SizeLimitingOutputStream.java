@@ -0,0 +1,88 @@
+package org.simplejavamail.mailer.internal.util;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.lang.String.format;
+
+/**
+ * Counts the bytes written to it and fails as soon as more than the given maximum has been written, so the size of a MimeMessage can be checked
+ * without rendering it completely. Bytes are discarded, unless a target stream is given to retain them.
+ */
+public class SizeLimitingOutputStream extends OutputStream {
+
+	private final long maximumSize;
+	@Nullable private final OutputStream target;
+
+	/**
+	 * The number of bytes written so far, including the bytes of the write that exceeded the maximum size (if any).
+	 */
+	@Getter
+	private long count;
+
+	public SizeLimitingOutputStream(final long maximumSize, @Nullable final OutputStream target) {
+		this.maximumSize = maximumSize;
+		this.target = target;
+	}
+
+	@Override
+	public void write(final int b)
+			throws IOException {
+		count(1);
+		if (target != null) {
+			target.write(b);
+		}
+	}
+
+	@Override
+	public void write(final byte @NotNull [] b, final int off, final int len)
+			throws IOException {
+		count(len);
+		if (target != null) {
+			target.write(b, off, len);
+		}
+	}
+
+	private void count(final int length)
+			throws SizeLimitExceededException {
+		count += length;
+		if (isLimitExceeded()) {
+			throw new SizeLimitExceededException(format("more than the maximum of %s bytes written", maximumSize));
+		}
+	}
+
+	public boolean isLimitExceeded() {
+		return count > maximumSize;
+	}
+
+	@Override
+	public void flush()
+			throws IOException {
+		if (target != null) {
+			target.flush();
+		}
+	}
+
+	@Override
+	public void close()
+			throws IOException {
+		if (target != null) {
+			target.close();
+		}
+	}
+
+	/**
+	 * An IOException, so that it propagates unchanged through {@code MimeMessage.writeTo(OutputStream)}.
+	 */
+	public static class SizeLimitExceededException extends IOException {
+		private static final long serialVersionUID = 1234567L;
+
+		SizeLimitExceededException(@NotNull final String message) {
+			super(message);
+		}
+	}
+}
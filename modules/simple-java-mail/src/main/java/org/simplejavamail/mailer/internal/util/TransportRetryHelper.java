@@ -0,0 +1,114 @@
+package org.simplejavamail.mailer.internal.util;
+
+import jakarta.mail.Address;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSenderFailedException;
+import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.eclipse.angus.mail.util.MailConnectException;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which failures are worth retrying and how long to wait before doing so.
+ *
+ * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withTransportRetries(Integer)
+ */
+public final class TransportRetryHelper {
+
+	private static final long MAX_BACKOFF_MILLIS = 60_000;
+	private static final int REPLY_START_MAIL_INPUT = 354;
+	private static final int REPLY_LOST = 0;
+	private static final String END_OF_DATA_COMMAND = ".";
+
+	private TransportRetryHelper() {
+	}
+
+	/**
+	 * A failure is transient if a connection broke down, or if the server replied with a 4xx code (and not also with a 5xx code, for example for
+	 * another recipient, as retrying wouldn't fix that).
+	 * <p>
+	 * Since Jakarta Mail chains the per-recipient failures as causes, the whole cause chain is inspected.
+	 */
+	public static boolean isTransientFailure(@NotNull final Throwable failure) {
+		boolean transientFailure = false;
+		for (Throwable t = failure; t != null; t = t.getCause()) {
+			if (t instanceof MailConnectException || t instanceof SocketException || t instanceof SocketTimeoutException) {
+				transientFailure = true;
+			} else {
+				final int replyCode = determineReplyCode(t);
+				if (replyCode >= 500) {
+					return false;
+				} else if (replyCode >= 400) {
+					transientFailure = true;
+				}
+			}
+		}
+		return transientFailure;
+	}
+
+	/**
+	 * With partial sends enabled, the server may have accepted the message for some recipients before the failure was reported.
+	 */
+	static boolean isPartiallySent(@NotNull final Throwable failure) {
+		for (Throwable t = failure; t != null; t = t.getCause()) {
+			if (t instanceof SendFailedException) {
+				final Address[] validSentAddresses = ((SendFailedException) t).getValidSentAddresses();
+				if (validSentAddresses != null && validSentAddresses.length > 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Once the server accepted the DATA command, a failure can't tell whether the message was delivered: the connection may have broken down
+	 * while transferring the message or while waiting for the final reply, or the server rejected the message after (partially) processing it.
+	 * <p>
+	 * An SMTP Transport still has the DATA reply (354) as last reply code if the transfer itself failed, and has none (0) if a reply was lost,
+	 * which might have been the final reply. Rejections of the message itself are recognised by the end-of-data command.
+	 */
+	static boolean isFailureAfterData(@NotNull final Transport transport, @NotNull final Throwable failure) {
+		if (transport instanceof SMTPTransport) {
+			final int lastReturnCode = ((SMTPTransport) transport).getLastReturnCode();
+			if (lastReturnCode == REPLY_START_MAIL_INPUT || lastReturnCode == REPLY_LOST) {
+				return true;
+			}
+		}
+		for (Throwable t = failure; t != null; t = t.getCause()) {
+			if (t instanceof SMTPSendFailedException && END_OF_DATA_COMMAND.equals(((SMTPSendFailedException) t).getCommand())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int determineReplyCode(@NotNull final Throwable t) {
+		if (t instanceof SMTPSendFailedException) {
+			return ((SMTPSendFailedException) t).getReturnCode();
+		} else if (t instanceof SMTPAddressFailedException) {
+			return ((SMTPAddressFailedException) t).getReturnCode();
+		} else if (t instanceof SMTPSenderFailedException) {
+			return ((SMTPSenderFailedException) t).getReturnCode();
+		}
+		return -1;
+	}
+
+	/**
+	 * Exponential backoff with jitter: the base delay doubles for every retry (up to a maximum of one minute), of which a random delay between
+	 * half and all of it is chosen, so emails that failed at the same time don't all hit the server again at the same time.
+	 *
+	 * @param retry Zero for the first retry.
+	 */
+	static long determineBackoffMillis(final int retry, final int backoffMillis) {
+		final long exponentialBackoff = Math.min(MAX_BACKOFF_MILLIS, (long) Math.max(0, backoffMillis) << Math.min(retry, 30));
+		final long halfBackoff = exponentialBackoff / 2;
+		return halfBackoff + ThreadLocalRandom.current().nextLong(exponentialBackoff - halfBackoff + 1);
+	}
+}
@@ -1,12 +1,17 @@
 package org.simplejavamail.mailer.internal.util;
 
+import jakarta.mail.Address;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import jakarta.mail.Transport;
 import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
 import lombok.val;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.mailer.SendMetricsListener;
+import org.simplejavamail.api.mailer.config.OperationalConfig;
 import org.simplejavamail.api.internal.batchsupport.LifecycleDelegatingTransport;
 import org.simplejavamail.internal.moduleloader.ModuleLoader;
 import org.simplejavamail.internal.modules.BatchModule;
@@ -17,6 +22,14 @@ import org.slf4j.Logger;
 import java.util.UUID;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.simplejavamail.api.mailer.SendPhase.TRANSPORT_CLAIM;
+import static org.simplejavamail.api.mailer.SendPhase.TRANSPORT_SEND;
+import static org.simplejavamail.mailer.internal.util.SendMetrics.endPhase;
+import static org.simplejavamail.mailer.internal.util.SendMetrics.startPhase;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.determineBackoffMillis;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.isFailureAfterData;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.isPartiallySent;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.isTransientFailure;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -34,47 +47,158 @@ public class TransportRunner {
 	/**
 	 * NOTE: only in case batch-module is *not* in use, the {@link Session} passed in here is guaranteed to be used to send this message.
 	 *
-	 * @param clusterKey The cluster key to use for the connection pool, which was randomly generated in the Mailer builder if not provided.
+	 * @param operationalConfig Provides the cluster key to use for the connection pool (randomly generated in the Mailer builder if not
+	 *                          provided), the retry policy and an optional listener to report the time spent on claiming a Transport and
+	 *                          sending the message to.
 	 */
-	public static void sendMessage(@NotNull final UUID clusterKey, final Session session, @NotNull Email email)
+	public static void sendMessage(@NotNull final OperationalConfig operationalConfig, final Session session, @NotNull Email email)
 			throws MessagingException {
-		runOnSessionTransport(clusterKey, session, false, (transport, actualSessionUsed) -> {
+		val metricsListener = operationalConfig.getSendMetricsListener();
+		runOnSessionTransportWithRetries(operationalConfig, session, (transport, actualSessionUsed, attempt) -> {
 			val message = SessionBasedEmailToMimeMessageConverter.convertAndLogMimeMessage(actualSessionUsed, email);
-			val actualRecipients = email.getOverrideReceivers().isEmpty()
-					? message.getAllRecipients()
-					: MiscUtil.asInternetAddresses(email.getOverrideReceivers(), UTF_8).toArray(new InternetAddress[0]);
-			transport.sendMessage(message, actualRecipients);
+			val sendStart = startPhase(metricsListener);
+			sendMessageOnTransport(transport, message, determineActualRecipients(email, message), attempt);
+			endPhase(metricsListener, TRANSPORT_SEND, sendStart);
 			LOGGER.trace("...email sent");
 		});
 	}
 
+	/**
+	 * Pipelined variant of {@link #sendMessage(OperationalConfig, Session, Email)}: the MimeMessage is produced (and optionally serialized to bytes)
+	 * <em>before</em> claiming a Transport, so a (pooled) connection is only held for the actual SMTP conversation.
+	 * <p>
+	 * NOTE: as a consequence, the email is always converted using the {@link Session} passed in here, even if the batch-module ends up sending the
+	 * message over a connection from another Session in the same cluster.
+	 *
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withTransportModePipelined(Boolean)
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withTransportModePipelinedToBytes(Boolean)
+	 */
+	public static void sendMessagePipelined(@NotNull final OperationalConfig operationalConfig, final Session session, @NotNull Email email)
+			throws MessagingException {
+		val message = SessionBasedEmailToMimeMessageConverter.convertAndLogMimeMessage(session, email, operationalConfig.isTransportModePipelinedToBytes());
+		sendPreparedMessage(operationalConfig, session, message, determineActualRecipients(email, message));
+	}
+
+	/**
+	 * Sends a message that was already converted, such as a spooled message, using the same retry policy and Transport management as {@link
+	 * #sendMessage(OperationalConfig, Session, Email)}.
+	 *
+	 * @param recipients The envelope recipients, which may differ from the recipients in the message headers.
+	 */
+	public static void sendPreparedMessage(@NotNull final OperationalConfig operationalConfig, final Session session, @NotNull final MimeMessage message,
+			@NotNull final Address[] recipients)
+			throws MessagingException {
+		val metricsListener = operationalConfig.getSendMetricsListener();
+		runOnSessionTransportWithRetries(operationalConfig, session, (transport, actualSessionUsed, attempt) -> {
+			val sendStart = startPhase(metricsListener);
+			sendMessageOnTransport(transport, message, recipients, attempt);
+			endPhase(metricsListener, TRANSPORT_SEND, sendStart);
+			LOGGER.trace("...email sent");
+		});
+	}
+
+	/**
+	 * Records whether the message may have been delivered (to some of the recipients), so it won't be retried and delivered twice.
+	 */
+	private static void sendMessageOnTransport(@NotNull final Transport transport, @NotNull final MimeMessage message, @NotNull final Address[] recipients,
+			@NotNull final TransportAttempt attempt)
+			throws MessagingException {
+		try {
+			transport.sendMessage(message, recipients);
+		} catch (final MessagingException e) {
+			attempt.messageMayHaveBeenDelivered = isPartiallySent(e) || isFailureAfterData(transport, e);
+			throw e;
+		}
+		// a failure from here on, such as when closing the Transport, doesn't mean the message wasn't delivered
+		attempt.messageMayHaveBeenDelivered = true;
+	}
+
+	public static Address[] determineActualRecipients(@NotNull final Email email, @NotNull final MimeMessage message)
+			throws MessagingException {
+		return email.getOverrideReceivers().isEmpty()
+				? message.getAllRecipients()
+				: MiscUtil.asInternetAddresses(email.getOverrideReceivers(), UTF_8).toArray(new InternetAddress[0]);
+	}
+
 	public static void connect(@NotNull UUID clusterKey, final Session session)
 			throws MessagingException {
-		runOnSessionTransport(clusterKey, session, true, (transport, actualSessionUsed) -> {
+		runOnSessionTransport(clusterKey, session, true, null, null, new TransportAttempt(), (transport, actualSessionUsed, attempt) -> {
 			// the fact that we reached here means a connection was made successfully
 			LOGGER.debug("...connection successful");
 		});
 	}
 
-	private static void runOnSessionTransport(@NotNull UUID clusterKey, Session session, final boolean stickySession, TransportRunnable runnable)
+	/**
+	 * Retries transient failures according to the configured retry policy. In case of a cluster, a retry avoids the server that just failed.
+	 * <p>
+	 * Failures after which the message may have been delivered to (some of) the recipients are never retried, as that could deliver it twice.
+	 *
+	 * @see org.simplejavamail.api.mailer.MailerGenericBuilder#withTransportRetries(Integer)
+	 */
+	private static void runOnSessionTransportWithRetries(@NotNull final OperationalConfig operationalConfig, final Session session, final TransportRunnable runnable)
+			throws MessagingException {
+		Session failedSession = null;
+		for (int retry = 0; ; retry++) {
+			val attempt = new TransportAttempt();
+			try {
+				runOnSessionTransport(operationalConfig.getClusterKey(), session, false, failedSession, operationalConfig.getSendMetricsListener(), attempt, runnable);
+				return;
+			} catch (final MessagingException | RuntimeException e) {
+				if (retry >= operationalConfig.getTransportRetries() || attempt.messageMayHaveBeenDelivered || !(attempt.claimFailed || isTransientFailure(e))) {
+					throw e;
+				}
+				val backoffMillis = determineBackoffMillis(retry, operationalConfig.getTransportRetryBackoffMillis());
+				LOGGER.warn("transient failure sending email (retry {} of {} in {}ms): {}", retry + 1, operationalConfig.getTransportRetries(), backoffMillis, e.getMessage());
+				try {
+					Thread.sleep(backoffMillis);
+				} catch (final InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+				failedSession = attempt.sessionUsed;
+			}
+		}
+	}
+
+	/**
+	 * @param failedSession In case of a retry, the Session whose server just failed, which the batch-module should avoid if it can.
+	 */
+	private static void runOnSessionTransport(@NotNull UUID clusterKey, Session session, final boolean stickySession, @Nullable final Session failedSession,
+			@Nullable final SendMetricsListener metricsListener, @NotNull final TransportAttempt attempt, TransportRunnable runnable)
 			throws MessagingException {
 		if (ModuleLoader.batchModuleAvailable()) {
-			sendUsingConnectionPool(ModuleLoader.loadBatchModule(), clusterKey, session, stickySession, runnable);
+			sendUsingConnectionPool(ModuleLoader.loadBatchModule(), clusterKey, session, stickySession, failedSession, metricsListener, attempt, runnable);
 		} else {
+			attempt.sessionUsed = session;
 			try (Transport transport = session.getTransport()) {
+				val claimStart = startPhase(metricsListener);
 				TransportConnectionHelper.connectTransport(transport, session);
-				runnable.run(transport, session);
+				endPhase(metricsListener, TRANSPORT_CLAIM, claimStart);
+				runnable.run(transport, session, attempt);
 			} finally {
 				LOGGER.trace("closing transport");
 			}
 		}
 	}
 
-	private static void sendUsingConnectionPool(@NotNull BatchModule batchModule, @NotNull UUID clusterKey, Session session, boolean stickySession, TransportRunnable runnable)
+	private static void sendUsingConnectionPool(@NotNull BatchModule batchModule, @NotNull UUID clusterKey, Session session, boolean stickySession,
+			@Nullable final Session failedSession, @Nullable final SendMetricsListener metricsListener, @NotNull final TransportAttempt attempt,
+			TransportRunnable runnable)
 			throws MessagingException {
-		LifecycleDelegatingTransport delegatingTransport = batchModule.acquireTransport(clusterKey, session, stickySession);
+		val claimStart = startPhase(metricsListener);
+		final LifecycleDelegatingTransport delegatingTransport;
+		try {
+			delegatingTransport = failedSession != null
+					? batchModule.acquireTransportAvoiding(clusterKey, session, failedSession)
+					: batchModule.acquireTransport(clusterKey, session, stickySession);
+		} catch (final RuntimeException e) {
+			attempt.claimFailed = true;
+			throw e;
+		}
+		endPhase(metricsListener, TRANSPORT_CLAIM, claimStart);
+		attempt.sessionUsed = delegatingTransport.getSessionUsedToObtainTransport();
 		try {
-			runnable.run(delegatingTransport.getTransport(), delegatingTransport.getSessionUsedToObtainTransport());
+			runnable.run(delegatingTransport.getTransport(), delegatingTransport.getSessionUsedToObtainTransport(), attempt);
 		} catch (final Throwable t) {
 			// always make sure claimed resources are released
 			delegatingTransport.signalTransportFailed();
@@ -83,8 +207,17 @@ public class TransportRunner {
 		delegatingTransport.signalTransportUsed();
 	}
 
+	/**
+	 * Records the outcome of a single attempt, to decide whether and where to retry.
+	 */
+	private static class TransportAttempt {
+		@Nullable private Session sessionUsed;
+		private boolean claimFailed;
+		private boolean messageMayHaveBeenDelivered;
+	}
+
 	private interface TransportRunnable {
-		void run(Transport transport, Session actualSessionUsed)
+		void run(Transport transport, Session actualSessionUsed, TransportAttempt attempt)
 				throws MessagingException;
 	}
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import testutil.EmailHelper;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.util.Collection;
@@ -19,7 +20,9 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static jakarta.mail.Message.RecipientType.BCC;
 import static java.nio.charset.Charset.defaultCharset;
@@ -28,6 +31,7 @@ import static java.util.Calendar.APRIL;
 import static java.util.Calendar.SEPTEMBER;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.simplejavamail.api.email.CalendarMethod.ADD;
 import static org.simplejavamail.api.email.CalendarMethod.REPLY;
 import static org.simplejavamail.api.email.ContentTransferEncoding.BASE_64;
@@ -299,6 +303,61 @@ public class EmailTest {
 		assertEmailEqual(b().withAttachment("name", new byte[]{'a'}, "image/png").buildEmail(), b().buildEmail(), false);
 	}
 
+	@Test
+	public void testAttachmentResource_ContentDigest() throws IOException {
+		final AttachmentResource attachment = new AttachmentResource("name", new ByteArrayDataSource("data".getBytes(UTF_8), "text/plain"));
+		final AttachmentResource samePayload = new AttachmentResource("other name", new ByteArrayDataSource("data".getBytes(UTF_8), "text/plain"));
+		final AttachmentResource otherPayload = new AttachmentResource("name", new ByteArrayDataSource("other data".getBytes(UTF_8), "text/plain"));
+
+		assertThat(attachment.computeContentDigest()).isEqualTo(samePayload.computeContentDigest()).hasSize(32);
+		assertThat(attachment.computeContentDigest()).isNotEqualTo(otherPayload.computeContentDigest());
+		// equality doesn't read the content
+		assertThat(attachment).isEqualTo(new AttachmentResource("name", new ByteArrayDataSource("other data".getBytes(UTF_8), "text/plain")))
+				.hasSameHashCodeAs(otherPayload);
+		// but does use it once both digests are known
+		assertThat(attachment).isNotEqualTo(otherPayload)
+				.hasSameHashCodeAs(otherPayload);
+		final AttachmentResource sameNameAndPayload = new AttachmentResource("name", new ByteArrayDataSource("data".getBytes(UTF_8), "text/plain"));
+		sameNameAndPayload.computeContentDigest();
+		assertThat(attachment).isEqualTo(sameNameAndPayload);
+	}
+
+	@Test
+	public void testAttachmentResource_ContentDigestFailureIsNotCached() throws IOException {
+		final AtomicBoolean readable = new AtomicBoolean(false);
+		final AttachmentResource attachment = new AttachmentResource("name", new ByteArrayDataSource("data".getBytes(UTF_8), "text/plain") {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				if (!readable.get()) {
+					throw new IOException("not available yet");
+				}
+				return super.getInputStream();
+			}
+		});
+
+		assertThatThrownBy(attachment::computeContentDigest).isInstanceOf(IOException.class);
+		readable.set(true);
+		assertThat(attachment.computeContentDigest()).hasSize(32);
+	}
+
+	@Test
+	public void testAttachmentResource_BuilderSharesIdenticalPayloads() throws IOException {
+		final byte[] payload = new byte[4096];
+		new Random(1).nextBytes(payload);
+
+		final Email email1 = b().deduplicatingAttachmentContent(true).withAttachment("a.bin", payload.clone(), "application/octet-stream").buildEmail();
+		final Email email2 = b().deduplicatingAttachmentContent(true).withAttachment("b.bin", payload.clone(), "application/octet-stream").buildEmail();
+
+		final ByteArrayDataSource dataSource1 = (ByteArrayDataSource) email1.getAttachments().get(0).getDataSource();
+		final ByteArrayDataSource dataSource2 = (ByteArrayDataSource) email2.getAttachments().get(0).getDataSource();
+		assertThat(email1.getAttachments().get(0).readAllBytes()).isEqualTo(payload);
+		assertThat(email2.getAttachments().get(0).computeContentDigest()).isEqualTo(email1.getAttachments().get(0).computeContentDigest());
+		// modifying the given array afterwards doesn't affect the (shared) attachment content
+		payload[0]++;
+		assertThat(dataSource1.getInputStream().read()).isEqualTo((payload[0] - 1) & 0xFF);
+		assertThat(dataSource2.getInputStream().read()).isEqualTo((payload[0] - 1) & 0xFF);
+	}
+
 	@Test
 	public void testEqualsEmail_EqualityPkcs12Config() {
 		final Pkcs12Config pkcs12KeyStore = loadPkcs12KeyStore();
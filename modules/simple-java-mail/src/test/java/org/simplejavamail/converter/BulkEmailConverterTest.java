@@ -0,0 +1,96 @@
+package org.simplejavamail.converter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static demo.ResourceFolderHelper.determineResourceFolder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkEmailConverterTest {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static final String RESOURCE_TEST_MESSAGES = determineResourceFolder("simple-java-mail") + "/test/resources/test-messages";
+
+	@Test
+	public void testConvertsDirectoryOfEmlAndMsgFiles() throws IOException {
+		final Path directory = temporaryFolder.newFolder().toPath();
+		Files.copy(Paths.get(RESOURCE_TEST_MESSAGES, "simple email with TO and CC.msg"), directory.resolve("1.msg"));
+		Files.copy(Paths.get(RESOURCE_TEST_MESSAGES, "#486 TestValidSignedMimeMessage.eml"), directory.resolve("2.eml"));
+		Files.write(directory.resolve("3.msg"), "not an outlook message".getBytes(UTF_8));
+		Files.copy(Paths.get(RESOURCE_TEST_MESSAGES, "#486 TestValidSignedMimeMessage.eml"), directory.resolve("4.Eml"));
+		Files.write(directory.resolve("ignored.txt"), "not an eml or msg file".getBytes(UTF_8));
+
+		final List<ConvertedEmail> results;
+		try (Stream<ConvertedEmail> convertedEmails = BulkEmailConverter.emlAndMsgFilesToEmails(directory)) {
+			results = convertedEmails.collect(toList());
+		}
+
+		assertThat(results).extracting(result -> result.getFile().getFileName().toString()).containsExactlyInAnyOrder("1.msg", "2.eml", "3.msg", "4.Eml");
+		for (final ConvertedEmail result : results) {
+			final boolean expectedSuccess = !result.getFile().endsWith("3.msg");
+			assertThat(result.isSuccess()).as(result.toString()).isEqualTo(expectedSuccess);
+			assertThat(result.getEmail() != null).isEqualTo(expectedSuccess);
+			assertThat(result.getError() == null).isEqualTo(expectedSuccess);
+		}
+	}
+
+	@Test
+	public void testKeepsOrderWithBoundedWindow() {
+		final Path eml = Paths.get(RESOURCE_TEST_MESSAGES, "#486 TestValidSignedMimeMessage.eml");
+		final Path msg = Paths.get(RESOURCE_TEST_MESSAGES, "simple email with TO and CC.msg");
+		final List<Path> files = Stream.of(eml, msg, eml, msg, eml, msg, eml).collect(toList());
+
+		final List<ConvertedEmail> results = BulkEmailConverter
+				.emlAndMsgFilesToEmails(files.stream(), Executors.newFixedThreadPool(3), 2, true, null)
+				.collect(toList());
+
+		assertThat(results).extracting(ConvertedEmail::getFile).containsExactlyElementsOf(files);
+		assertThat(results).allMatch(ConvertedEmail::isSuccess);
+	}
+
+	@Test
+	public void testUnorderedReturnsEveryResult() {
+		final Path msg = Paths.get(RESOURCE_TEST_MESSAGES, "simple email with TO and CC.msg");
+		final Path missing = Paths.get(RESOURCE_TEST_MESSAGES, "does not exist.eml");
+
+		final List<ConvertedEmail> results = BulkEmailConverter
+				.emlAndMsgFilesToEmails(Stream.of(msg, missing, msg, msg), Executors.newFixedThreadPool(2), 1, false, null)
+				.collect(toList());
+
+		assertThat(results).hasSize(4);
+		assertThat(results).filteredOn(ConvertedEmail::isSuccess).hasSize(3);
+		assertThat(results).filteredOn(result -> !result.isSuccess()).extracting(ConvertedEmail::getFile).containsExactly(missing);
+	}
+
+	@Test(timeout = 10_000)
+	public void testUnorderedReportsErrorsInsteadOfWaitingForever() {
+		final Path msg = Paths.get(RESOURCE_TEST_MESSAGES, "simple email with TO and CC.msg");
+		// such as when the outlook-message-parser dependency is missing
+		final Path broken = mock(Path.class);
+		when(broken.getFileName()).thenThrow(new NoClassDefFoundError("org/simplejavamail/outlookmessageparser/OutlookMessageParser"));
+
+		final Stream<ConvertedEmail> results = BulkEmailConverter
+				.emlAndMsgFilesToEmails(Stream.of(msg, broken, msg), Executors.newFixedThreadPool(2), 3, false, null);
+
+		assertThatThrownBy(() -> results.collect(toList()))
+				.isInstanceOf(CompletionException.class)
+				.hasCauseInstanceOf(NoClassDefFoundError.class);
+	}
+}
@@ -1,9 +1,14 @@
 package org.simplejavamail.converter;
 
+import jakarta.mail.Message.RecipientType;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.util.ByteArrayDataSource;
 import org.assertj.core.api.Condition;
 import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.simplejavamail.api.email.AttachmentResource;
 import org.simplejavamail.api.email.CalendarMethod;
 import org.simplejavamail.api.email.ContentTransferEncoding;
@@ -15,8 +20,14 @@ import testutil.ConfigLoaderTestHelper;
 import testutil.EmailHelper;
 import testutil.SecureTestDataHelper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -31,11 +42,15 @@ import static java.util.Collections.singletonList;
 import static java.util.regex.Pattern.compile;
 import static org.apache.commons.codec.binary.Base64.encodeBase64Chunked;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.simplejavamail.api.email.ContentTransferEncoding.BIT7;
 import static org.simplejavamail.internal.util.MiscUtil.normalizeNewlines;
 
 public class EmailConverterTest {
 
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	private static final String RESOURCES = determineResourceFolder("simple-java-mail") + "/test/resources";
 	private static final String RESOURCE_TEST_MESSAGES = RESOURCES + "/test-messages";
 
@@ -367,6 +382,130 @@ public class EmailConverterTest {
 		assertThat(emailMime.getReturnReceiptTo()).isEqualTo(emailOutlook.getReturnReceiptTo());
 	}
 
+	@Test
+	public void testMimeMessageToEMLStreaming() throws IOException {
+		final MimeMessage mimeMessage = EmailConverter.emailToMimeMessage(EmailHelper.createDummyEmailBuilder(true, true, false, true, false, false).buildEmail());
+		final byte[] expectedEml = EmailConverter.mimeMessageToEMLByteArray(mimeMessage);
+
+		final ByteArrayOutputStream streamTarget = new ByteArrayOutputStream();
+		EmailConverter.mimeMessageToEML(mimeMessage, streamTarget);
+		assertThat(streamTarget.toByteArray()).isEqualTo(expectedEml);
+
+		final ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+		EmailConverter.mimeMessageToEML(mimeMessage, Channels.newChannel(channelTarget));
+		assertThat(channelTarget.toByteArray()).isEqualTo(expectedEml);
+
+		final Path fileTarget = temporaryFolder.getRoot().toPath().resolve("streamed.eml");
+		EmailConverter.mimeMessageToEML(mimeMessage, fileTarget);
+		assertThat(Files.readAllBytes(fileTarget)).isEqualTo(expectedEml);
+		// existing files are replaced
+		EmailConverter.mimeMessageToEML(mimeMessage, fileTarget);
+		assertThat(Files.readAllBytes(fileTarget)).isEqualTo(expectedEml);
+
+		EmailConverter.emailToEML(EmailConverter.mimeMessageToEmail(mimeMessage), fileTarget);
+		EmailAssert.assertThat(EmailConverter.emlToEmail(fileTarget.toFile())).hasSubject("hey");
+	}
+
+	@Test
+	public void testMimeMessageToEMLFile_RemovesPartialFileOnUncheckedFailure() throws IOException {
+		final Path fileTarget = temporaryFolder.getRoot().toPath().resolve("failed.eml");
+		Files.write(fileTarget, "previous content".getBytes(UTF_8));
+		final MimeMessage failingMessage = new MimeMessage((Session) null) {
+			@Override
+			public void writeTo(final OutputStream os) throws IOException {
+				os.write(new byte[64 * 1024]);
+				throw new IllegalStateException("signing failed halfway");
+			}
+		};
+
+		assertThatThrownBy(() -> EmailConverter.mimeMessageToEML(failingMessage, fileTarget))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("signing failed halfway");
+		assertThat(fileTarget).doesNotExist();
+	}
+
+	@Test
+	public void testEmlToEmailBuilderWithLazyAttachments_FileCanBeRemovedOnceClosed() throws IOException {
+		final Email email = EmailHelper.createDummyEmailBuilder(true, true, false, false, false, false)
+				.clearAttachments()
+				.withAttachment("read.txt", "read before closing".getBytes(UTF_8), "text/plain")
+				.withAttachment("unread.txt", "never read".getBytes(UTF_8), "text/plain")
+				.buildEmail();
+		final File emlFile = temporaryFolder.newFile("lazy.eml");
+		EmailConverter.emailToEML(email, emlFile.toPath());
+
+		final AttachmentResource readAttachment;
+		final AttachmentResource unreadAttachment;
+		try (LazyEmlConversion conversion = EmailConverter.emlToEmailBuilderWithLazyAttachments(emlFile, null, 1024)) {
+			readAttachment = findAttachment(conversion.getEmailBuilder().getAttachments(), "read.txt");
+			unreadAttachment = findAttachment(conversion.getEmailBuilder().getAttachments(), "unread.txt");
+			assertThat(readAttachment.readAllData()).isEqualTo("read before closing");
+		}
+
+		assertThat(emlFile.delete()).isTrue();
+		assertThat(readAttachment.readAllData()).isEqualTo("read before closing");
+		assertThatThrownBy(unreadAttachment::readAllData).isInstanceOf(Exception.class);
+	}
+
+	@Test
+	public void testEmlToHeadersReadsOnlyHeaderBlock() {
+		final Email email = EmailHelper.createDummyEmailBuilder(true, true, false, true, false, false)
+				.withHeader("X-Index-Me", "indexed value")
+				.buildEmail();
+		final String eml = EmailConverter.emailToEML(email);
+		final Email fullyParsed = EmailConverter.emlToEmail(eml);
+
+		final EmlHeaders headers = EmailConverter.emlToHeaders(eml);
+
+		assertThat(headers.getMessageId()).isEqualTo(fullyParsed.getId());
+		assertThat(headers.getSubject()).isEqualTo(fullyParsed.getSubject());
+		assertThat(headers.getFrom()).isNotNull();
+		assertThat(headers.getFrom().getAddress()).isEqualTo(fullyParsed.getFromRecipient().getAddress());
+		assertThat(headers.getFrom().getPersonal()).isEqualTo(fullyParsed.getFromRecipient().getName());
+		assertThat(headers.getTo()).extracting("address").containsExactlyElementsOf(addressesOf(fullyParsed, TO));
+		assertThat(headers.getCc()).extracting("address").containsExactlyElementsOf(addressesOf(fullyParsed, CC));
+		assertThat(headers.getSentDate()).isEqualTo(fullyParsed.getSentDate());
+		assertThat(headers.getHeader("x-index-me")).isEqualTo("indexed value");
+		assertThat(headers.getHeaderValues("X-Index-Me")).containsExactly("indexed value");
+		assertThat(headers.getHeader("X-Not-There")).isNull();
+		assertThat(headers.getHeaders()).containsKey("X-Index-Me");
+	}
+
+	@Test
+	public void testEmlToHeadersLeavesBodyUnread() {
+		final byte[] eml = "Subject: =?UTF-8?Q?caf=C3=A9?=\r\nTo: \"Jos\u00e9\" <jose@example.com>, other@example.com\r\n\r\nbody".getBytes(UTF_8);
+		final ByteArrayInputStream emlInputStream = new ByteArrayInputStream(eml);
+
+		final EmlHeaders headers = EmailConverter.emlToHeaders(emlInputStream);
+
+		assertThat(headers.getSubject()).isEqualTo("caf\u00e9");
+		assertThat(headers.getTo()).extracting("address").containsExactly("jose@example.com", "other@example.com");
+		assertThat(headers.getFrom()).isNull();
+		assertThat(headers.getSentDate()).isNull();
+		assertThat(emlInputStream.available()).isEqualTo("body".length());
+	}
+
+	@NotNull
+	private static AttachmentResource findAttachment(@NotNull final List<AttachmentResource> attachments, @NotNull final String name) {
+		for (final AttachmentResource attachment : attachments) {
+			if (name.equals(attachment.getName())) {
+				return attachment;
+			}
+		}
+		throw new AssertionError("attachment not found: " + name);
+	}
+
+	@NotNull
+	private static List<String> addressesOf(@NotNull final Email email, @NotNull final RecipientType type) {
+		final List<String> addresses = new ArrayList<>();
+		for (final Recipient recipient : email.getRecipients()) {
+			if (recipient.getType() == type) {
+				addresses.add(recipient.getAddress());
+			}
+		}
+		return addresses;
+	}
+
 	@NotNull
 	private List<AttachmentResource> asList(AttachmentResource attachment) {
 		List<AttachmentResource> collectionAttachment = new ArrayList<>();
@@ -1,6 +1,7 @@
 package org.simplejavamail.converter.internal.mimemessage;
 
 import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
 import jakarta.mail.BodyPart;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Part;
@@ -11,6 +12,7 @@ import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeMultipart;
 import jakarta.mail.internet.ParameterList;
 import jakarta.mail.util.ByteArrayDataSource;
+import org.assertj.core.util.introspection.FieldSupport;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,12 +33,15 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Properties;
+import java.util.Random;
 
 import static jakarta.mail.Message.RecipientType.TO;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.simplejavamail.converter.internal.mimemessage.MimeMessageParser.moveNonEmbeddedResourcesToAttachments;
+import static org.simplejavamail.internal.util.MiscUtil.readInputStreamToBytes;
 
 public class MimeMessageParserTest {
 
@@ -117,6 +122,73 @@ public class MimeMessageParserTest {
 		return attachmentPart;
 	}
 
+	@Test
+	public void testParseMimeMessageLazily_SpillsLargeAttachmentsOnly()
+			throws IOException {
+		final byte[] smallContent = "small attachment".getBytes(UTF_8);
+		final byte[] largeContent = new byte[64 * 1024];
+		new Random(42).nextBytes(largeContent);
+
+		final Email originalEmail = EmailBuilder.startingBlank()
+				.from("lollypop", "lol.pop@somemail.com")
+				.to("C.Cane", "candycane@candyshop.org")
+				.withPlainText("We should meet up!")
+				.withAttachment("small.txt", smallContent, "text/plain")
+				.withAttachment("large.bin", largeContent, "application/octet-stream")
+				.buildEmail();
+
+		final MimeMessage mimeMessage = EmailConverter.emailToMimeMessage(originalEmail);
+		final ParsedMimeMessageComponents components = MimeMessageParser.parseMimeMessageLazily(mimeMessage, 1024);
+
+		assertThat(components.getAttachmentList()).extracting(MimeDataSource::getName).containsOnly("small.txt", "large.bin");
+		assertThat(components.getAttachmentList()).extracting(MimeDataSource::getDataSource).allMatch(ds -> ds instanceof SpillingDataSource);
+		final DataSource smallAttachment = findAttachment(components, "small.txt");
+		final DataSource largeAttachment = findAttachment(components, "large.bin");
+		assertThat(smallAttachment.getContentType()).isEqualTo("text/plain");
+		assertThat(readInputStreamToBytes(smallAttachment.getInputStream())).isEqualTo(smallContent);
+		assertThat(largeAttachment.getContentType()).isEqualTo("application/octet-stream");
+		assertThat(readInputStreamToBytes(largeAttachment.getInputStream())).isEqualTo(largeContent);
+		// can be read repeatedly
+		assertThat(readInputStreamToBytes(largeAttachment.getInputStream())).isEqualTo(largeContent);
+
+		assertThatThrownBy(() -> MimeMessageParser.parseMimeMessageLazily(mimeMessage, -1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testParseMimeMessage_DeduplicatesAttachmentContentOnlyOnRequest()
+			throws IOException {
+		final byte[] content = new byte[8 * 1024];
+		new Random(7).nextBytes(content);
+		final MimeMessage mimeMessage = EmailConverter.emailToMimeMessage(EmailBuilder.startingBlank()
+				.from("lollypop", "lol.pop@somemail.com")
+				.to("C.Cane", "candycane@candyshop.org")
+				.withPlainText("We should meet up!")
+				.withAttachment("terms.bin", content, "application/octet-stream")
+				.buildEmail());
+
+		final DataSource deduplicated1 = findAttachment(MimeMessageParser.parseMimeMessage(mimeMessage, true, true), "terms.bin");
+		final DataSource deduplicated2 = findAttachment(MimeMessageParser.parseMimeMessage(mimeMessage, true, true), "terms.bin");
+		final DataSource notDeduplicated = findAttachment(MimeMessageParser.parseMimeMessage(mimeMessage, true), "terms.bin");
+
+		assertThat(readInputStreamToBytes(deduplicated1.getInputStream())).isEqualTo(content);
+		assertThat(readInputStreamToBytes(notDeduplicated.getInputStream())).isEqualTo(content);
+		assertThat(payloadOf(deduplicated2)).isSameAs(payloadOf(deduplicated1));
+		assertThat(payloadOf(notDeduplicated)).isNotSameAs(payloadOf(deduplicated1));
+	}
+
+	private static Object payloadOf(final DataSource dataSource) {
+		return FieldSupport.EXTRACTION.fieldValue("data", byte[].class, dataSource);
+	}
+
+		private static DataSource findAttachment(final ParsedMimeMessageComponents components, final String name) {
+		return components.getAttachmentList().stream()
+				.filter(attachment -> name.equals(attachment.getName()))
+				.findFirst()
+				.orElseThrow(AssertionError::new)
+				.getDataSource();
+	}
+
 	@Test
 	public void testMoveInvalidEmbeddedResourcesToAttachments_NoHtmlNoInvalid() throws IOException {
 		ParsedMimeMessageComponents parsedComponents = new ParsedMimeMessageComponents();
@@ -0,0 +1,185 @@
+package org.simplejavamail.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.util.ByteArrayDataSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.api.email.Recipient;
+import org.simplejavamail.api.mailer.config.EmailGovernance;
+import org.simplejavamail.converter.EmailConverter;
+import org.simplejavamail.converter.internal.mimemessage.PrecompiledMimeParts;
+import org.simplejavamail.email.internal.InternalEmail;
+import org.simplejavamail.mailer.internal.EmailGovernanceImpl;
+import testutil.ConfigLoaderTestHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static jakarta.mail.Message.RecipientType.BCC;
+import static jakarta.mail.Message.RecipientType.TO;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmailTemplateTest {
+
+	private final AtomicInteger termsReads = new AtomicInteger();
+
+	private EmailGovernance emailGovernance;
+	private EmailTemplate emailTemplate;
+
+	@Before
+	public void setup()
+			throws IOException {
+		ConfigLoaderTestHelper.clearConfigProperties();
+		final Email defaults = EmailBuilder.startingBlank()
+				.from("Sender", "sender@domain.com")
+				.bcc("Archive", "archive@domain.com")
+				.buildEmail();
+		emailGovernance = new EmailGovernanceImpl(null, defaults, null, null);
+		emailTemplate = EmailTemplate.compile(EmailBuilder.startingBlank()
+				.withSubject("Your order ${orderId}")
+				.withPlainText("Dear ${name}, thanks for order ${orderId}.")
+				.withHTMLText("<p>Dear ${name},</p><p>thanks for order ${orderId}.</p>")
+				.withAttachment("terms.txt", new ByteArrayDataSource("the terms and conditions", "text/plain") {
+					@Override
+					public InputStream getInputStream()
+							throws IOException {
+						termsReads.incrementAndGet();
+						return super.getInputStream();
+					}
+				})
+				.buildEmail(), emailGovernance);
+	}
+
+	@Test
+	public void testProduceRendersPlaceholders() {
+		final Email email = emailTemplate.produce(new Recipient("Joe", "joe@domain.com", TO), placeholderValues("Joe", 42));
+
+		assertThat(email.getSubject()).isEqualTo("Your order 42");
+		assertThat(email.getPlainText()).isEqualTo("Dear Joe, thanks for order 42.");
+		assertThat(email.getHTMLText()).isEqualTo("<p>Dear Joe,</p><p>thanks for order 42.</p>");
+		assertThat(email.getId()).isNull();
+		assertThat(emailTemplate.getPlaceholders()).containsExactly("orderId", "name");
+	}
+
+	@Test
+	public void testProduceRejectsMissingPlaceholderValues() {
+		final Map<String, Object> placeholderValues = new HashMap<>();
+		placeholderValues.put("name", "Joe");
+
+		assertThatThrownBy(() -> emailTemplate.produce(new Recipient("Joe", "joe@domain.com", TO), placeholderValues))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("no value given for placeholder ${orderId}");
+	}
+
+	@Test
+	public void testProducedEmailsHaveDefaultsAppliedOnce() {
+		final Email email = emailTemplate.produce(new Recipient("Joe", "joe@domain.com", TO), placeholderValues("Joe", 42));
+
+		assertThat(email.getFromRecipient()).isEqualTo(new Recipient("Sender", "sender@domain.com", null));
+		assertThat(email.getRecipients()).containsExactly(
+				new Recipient("Archive", "archive@domain.com", BCC),
+				new Recipient("Joe", "joe@domain.com", TO));
+		// sending applies the governance again, which should recognize the email was stamped for it
+		assertThat(emailGovernance.produceEmailApplyingDefaultsAndOverrides(email)).isSameAs(email);
+		// other governances don't
+		assertThat(new EmailGovernanceImpl(null, null, null, null).produceEmailApplyingDefaultsAndOverrides(email)).isNotSameAs(email);
+	}
+
+	@Test
+	public void testOtherGovernancesApplyTheirOwnDefaults() {
+		final Email email = emailTemplate.produce(new Recipient("Joe", "joe@domain.com", TO), placeholderValues("Joe", 42));
+		final Email otherDefaults = EmailBuilder.startingBlank().withHeader("X-Other", "other").buildEmail();
+
+		final Email governedEmail = new EmailGovernanceImpl(null, otherDefaults, null, null).produceEmailApplyingDefaultsAndOverrides(email);
+
+		assertThat(governedEmail).isNotSameAs(email);
+		assertThat(governedEmail.getHeaders()).containsKey("X-Other");
+	}
+
+	@Test
+	public void testProducedEmailsContainPrecompiledAttachments()
+			throws MessagingException, IOException {
+		final Email joeEmail = emailTemplate.produce(new Recipient("Joe", "joe@domain.com", TO), placeholderValues("Joe", 42));
+		final Email janeEmail = emailTemplate.produce(new Recipient("Jane", "jane@domain.com", TO), placeholderValues("Jane", 43));
+
+		final String joeEml = writeToString(EmailConverter.emailToMimeMessage(joeEmail, emailGovernance));
+		final String janeEml = writeToString(EmailConverter.emailToMimeMessage(janeEmail, emailGovernance));
+
+		assertThat(joeEml).contains("joe@domain.com", "archive@domain.com", "Your order 42", "filename=terms.txt", "the terms and conditions");
+		assertThat(janeEml).contains("jane@domain.com", "archive@domain.com", "Your order 43", "filename=terms.txt", "the terms and conditions");
+		final Email parsedEmail = EmailConverter.emlToEmail(joeEml);
+		assertThat(parsedEmail.getAttachments()).hasSize(1);
+		assertThat(parsedEmail.getAttachments().get(0).readAllData()).isEqualTo("the terms and conditions");
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testProducedEmailsReusePrecompiledAttachments()
+			throws MessagingException, IOException {
+		final Email joeEmail = emailTemplate.produce(new Recipient("Joe", "joe@domain.com", TO), placeholderValues("Joe", 42));
+		final Email janeEmail = emailTemplate.produce(new Recipient("Jane", "jane@domain.com", TO), placeholderValues("Jane", 43));
+
+		final PrecompiledMimeParts precompiledMimeParts = ((InternalEmail) joeEmail).getPrecompiledMimeParts();
+		assertThat(precompiledMimeParts).isNotNull().isSameAs(((InternalEmail) janeEmail).getPrecompiledMimeParts());
+
+		// the attachment was encoded when the template was compiled, and isn't read again for each email
+		final int readsAfterCompiling = termsReads.get();
+		writeToString(EmailConverter.emailToMimeMessage(joeEmail, emailGovernance));
+		writeToString(EmailConverter.emailToMimeMessage(janeEmail, emailGovernance));
+		assertThat(termsReads.get()).isEqualTo(readsAfterCompiling);
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testPrecompiledAttachmentsAreNotUsedForOtherDataSources()
+			throws MessagingException, IOException {
+		final Email email = emailTemplate.produce(new Recipient("Joe", "joe@domain.com", TO), placeholderValues("Joe", 42));
+		// an equal attachment (same name and type), but with another data source
+		final Email otherEmail = EmailBuilder.copying(email)
+				.clearAttachments()
+				.withAttachment("terms.txt", new ByteArrayDataSource("the changed terms", "text/plain"))
+				.buildEmail();
+		assertThat(otherEmail.getAttachments()).isEqualTo(email.getAttachments());
+		((InternalEmail) otherEmail).markAsStampedFromTemplate(emailGovernance, ((InternalEmail) email).getPrecompiledMimeParts());
+
+		final String eml = writeToString(EmailConverter.emailToMimeMessage(otherEmail, emailGovernance));
+
+		assertThat(eml).contains("filename=terms.txt", "the changed terms").doesNotContain("the terms and conditions");
+	}
+
+	@Test
+	public void testProducedEmailsChangedAfterwardsAreProducedFromScratch()
+			throws MessagingException, IOException {
+		final Email email = emailTemplate.produce(new Recipient("Joe", "joe@domain.com", TO), placeholderValues("Joe", 42));
+		final Email changedEmail = EmailBuilder.copying(email)
+				.clearAttachments()
+				.withAttachment("other.txt", new ByteArrayDataSource("other content", "text/plain"))
+				.buildEmail();
+
+		final String eml = writeToString(EmailConverter.emailToMimeMessage(changedEmail, emailGovernance));
+
+		assertThat(eml).contains("filename=other.txt", "other content").doesNotContain("terms.txt");
+	}
+
+	private static Map<String, Object> placeholderValues(final String name, final int orderId) {
+		final Map<String, Object> placeholderValues = new HashMap<>();
+		placeholderValues.put("name", name);
+		placeholderValues.put("orderId", orderId);
+		return placeholderValues;
+	}
+
+	private static String writeToString(final MimeMessage mimeMessage)
+			throws MessagingException, IOException {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		mimeMessage.writeTo(outputStream);
+		return outputStream.toString(UTF_8.name());
+	}
+}
@@ -0,0 +1,149 @@
+package org.simplejavamail.email.internal;
+
+import jakarta.activation.DataSource;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.simplejavamail.api.email.Email;
+import org.simplejavamail.config.ConfigLoader;
+import org.simplejavamail.email.EmailBuilder;
+import org.simplejavamail.internal.util.IOUtil;
+import testutil.ConfigLoaderTestHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.simplejavamail.config.ConfigLoader.Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_URL_TIMEOUT_MILLIS;
+
+public class EmbeddedImageResolverTest {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File baseDir;
+	private EmbeddedImageResolver resolver;
+
+	@Before
+	public void setup()
+			throws IOException {
+		EmbeddedImageResolver.clearResolvedImageCache();
+		baseDir = temporaryFolder.newFolder("images");
+		resolver = new EmbeddedImageResolver(true, false, false, baseDir.getPath(), null, null, false, false, false);
+	}
+
+	@Test
+	public void testResolvesImagesInOrderOfSrcLocations()
+			throws IOException {
+		writeImage("a.png", "image a");
+		writeImage("b.png", "image b");
+		writeImage("c.png", "image c");
+
+		final Map<String, CompletableFuture<Optional<DataSource>>> resolvedImages = resolver.resolve(Arrays.asList("c.png", "a.png", "missing.png", "b.png"));
+
+		assertThat(resolvedImages).containsOnlyKeys("c.png", "a.png", "missing.png", "b.png");
+		assertThat(resolvedImages.keySet()).containsExactly("c.png", "a.png", "missing.png", "b.png");
+		assertThat(resolvedImages.get("c.png").join()).hasValueSatisfying(dataSource -> assertThat(dataSource.getName()).isEqualTo("c.png"));
+		assertThat(resolvedImages.get("a.png").join()).hasValueSatisfying(dataSource -> assertThat(dataSource.getName()).isEqualTo("a.png"));
+		assertThat(resolvedImages.get("missing.png").join()).isEmpty();
+		assertThat(resolvedImages.get("b.png").join()).hasValueSatisfying(dataSource -> assertThat(dataSource.getName()).isEqualTo("b.png"));
+	}
+
+	@Test
+	public void testReusesResolvedImagesForEqualSettings()
+			throws IOException {
+		writeImage("a.png", "image a");
+
+		final DataSource first = resolver.resolve(Arrays.asList("a.png")).get("a.png").join().orElse(null);
+		final EmbeddedImageResolver resolverWithEqualSettings = new EmbeddedImageResolver(true, false, false, baseDir.getPath(), null, null, false, false, false);
+		final DataSource second = resolverWithEqualSettings.resolve(Arrays.asList("a.png")).get("a.png").join().orElse(null);
+		final EmbeddedImageResolver resolverWithOtherSettings = new EmbeddedImageResolver(true, false, false, baseDir.getPath(), null, null, true, false, false);
+		final DataSource third = resolverWithOtherSettings.resolve(Arrays.asList("a.png")).get("a.png").join().orElse(null);
+
+		assertThat(first).isNotNull();
+		assertThat(second).isSameAs(first);
+		assertThat(third).isNotNull().isNotSameAs(first);
+	}
+
+	@Test
+	public void testDoesNotRememberUnresolvableImages()
+			throws IOException {
+		assertThat(resolver.resolve(Arrays.asList("late.png")).get("late.png").join()).isEmpty();
+
+		writeImage("late.png", "image that appeared later");
+		assertThat(resolver.resolve(Arrays.asList("late.png")).get("late.png").join()).isPresent();
+	}
+
+	@Test
+	public void testReadsUrlImagesOnlyWhenUsed()
+			throws IOException {
+		writeImage("a.png", "image a");
+		final String url = new File(baseDir, "a.png").toURI().toURL().toExternalForm();
+		final EmbeddedImageResolver urlResolver = new EmbeddedImageResolver(false, false, true, null, null, null, false, false, false);
+
+		final DataSource dataSource = urlResolver.resolve(Arrays.asList(url)).get(url).join().orElse(null);
+		writeImage("a.png", "image a, changed after resolving");
+
+		assertThat(dataSource).isNotNull();
+		assertThat(new String(IOUtil.readAllBytes(dataSource), UTF_8)).isEqualTo("image a, changed after resolving");
+	}
+
+	@Test(timeout = 10_000)
+	public void testUrlImagesTimeOut()
+			throws IOException {
+		final Properties properties = new Properties();
+		properties.setProperty(EMBEDDEDIMAGES_DYNAMICRESOLUTION_URL_TIMEOUT_MILLIS.key(), "200");
+		ConfigLoader.loadProperties(properties, true);
+		// accepts connections (through its backlog), but never responds
+		try (ServerSocket unresponsiveServer = new ServerSocket(0)) {
+			final String url = "http://localhost:" + unresponsiveServer.getLocalPort() + "/image.png";
+			final EmbeddedImageResolver urlResolver = new EmbeddedImageResolver(false, false, true, null, null, null, false, false, false);
+
+			assertThat(urlResolver.resolve(Arrays.asList(url)).get(url).join()).isEmpty();
+		} finally {
+			ConfigLoaderTestHelper.restoreOriginalConfigProperties();
+		}
+	}
+
+	@Test
+	public void testBuildersShareResolvedImagesButNotContentIds()
+			throws IOException {
+		writeImage("a.png", "image a");
+		writeImage("b.png", "image b");
+
+		final Email first = buildEmailWithImages();
+		final Email second = buildEmailWithImages();
+
+		assertThat(first.getEmbeddedImages()).hasSize(2);
+		assertThat(second.getEmbeddedImages()).hasSize(2);
+		assertThat(first.getEmbeddedImages().get(0).readAllData()).isEqualTo("image a");
+		assertThat(first.getEmbeddedImages().get(1).readAllData()).isEqualTo("image b");
+		assertThat(second.getEmbeddedImages().get(0).readAllData()).isEqualTo("image a");
+		assertThat(second.getEmbeddedImages().get(1).readAllData()).isEqualTo("image b");
+		assertThat(first.getHTMLText()).doesNotContain("a.png", "b.png").isNotEqualTo(second.getHTMLText());
+		assertThat(first.getHTMLText()).contains("cid:" + first.getEmbeddedImages().get(0).getName());
+		assertThat(first.getHTMLText()).contains("cid:" + first.getEmbeddedImages().get(1).getName());
+	}
+
+	private Email buildEmailWithImages() {
+		return EmailBuilder.startingBlank()
+				.withEmbeddedImageAutoResolutionForFiles(true)
+				.withEmbeddedImageBaseDir(baseDir.getPath())
+				.withHTMLText("<img src=\"a.png\"/><img src=\"b.png\"/><img src=\"a.png\"/>")
+				.buildEmail();
+	}
+
+	private void writeImage(final String name, final String content)
+			throws IOException {
+		Files.write(new File(baseDir, name).toPath(), content.getBytes(UTF_8));
+	}
+}
@@ -0,0 +1,117 @@
+package org.simplejavamail.internal.authenticatedsockssupport.socks5server;
+
+import org.junit.After;
+import org.junit.Test;
+import org.simplejavamail.api.internal.authenticatedsockssupport.common.Socks5Bridge;
+import testutil.LoopbackServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NonBlockingAnonymousSocks5ServerTest {
+
+	private static final byte[] METHOD_SELECTION_NO_AUTHENTICATION = { 0x05, 0x01, 0x00 };
+
+	private NonBlockingAnonymousSocks5Server server;
+	private LoopbackServer echoServer;
+
+	@After
+	public void teardown()
+			throws IOException {
+		if (server != null) {
+			server.stop();
+		}
+		if (echoServer != null) {
+			echoServer.close();
+		}
+	}
+
+	@Test
+	public void testHandshakeAndRelay()
+			throws IOException {
+		echoServer = LoopbackServer.echoServer();
+		// the bridge would normally connect through the authenticated proxy
+		final int port = startServer((sessionId, remoteServerAddress, remoteServerPort) ->
+				SocketChannel.open(new InetSocketAddress(remoteServerAddress, remoteServerPort)).socket());
+
+		try (Socket client = connect(port)) {
+			client.getOutputStream().write(METHOD_SELECTION_NO_AUTHENTICATION);
+			assertThat(readFully(client.getInputStream(), 2)).containsExactly(0x05, 0x00);
+
+			client.getOutputStream().write(connectCommand(echoServer.getAddress()));
+			final byte[] reply = readFully(client.getInputStream(), 10);
+			assertThat(reply[0]).isEqualTo((byte) 0x05);
+			assertThat(reply[1]).isEqualTo((byte) 0x00); // succeeded
+
+			client.getOutputStream().write("relayed through the bridge".getBytes(UTF_8));
+			assertThat(new String(readFully(client.getInputStream(), 26), UTF_8)).isEqualTo("relayed through the bridge");
+		}
+	}
+
+	@Test
+	public void testHandshake_ConnectionRefused()
+			throws IOException {
+		final int port = startServer((sessionId, remoteServerAddress, remoteServerPort) -> {
+			throw new ConnectException("Connection refused");
+		});
+
+		try (Socket client = connect(port)) {
+			client.getOutputStream().write(METHOD_SELECTION_NO_AUTHENTICATION);
+			assertThat(readFully(client.getInputStream(), 2)).containsExactly(0x05, 0x00);
+
+			client.getOutputStream().write(connectCommand(new InetSocketAddress(InetAddress.getLoopbackAddress(), 25)));
+			final byte[] reply = readFully(client.getInputStream(), 10);
+			assertThat(reply[1]).isEqualTo((byte) 0x05); // connection refused
+			assertThat(client.getInputStream().read()).isEqualTo(-1);
+		}
+	}
+
+	private int startServer(final Socks5Bridge socks5Bridge)
+			throws IOException {
+		final int port;
+		try (ServerSocket freePort = new ServerSocket(0)) {
+			port = freePort.getLocalPort();
+		}
+		server = new NonBlockingAnonymousSocks5Server(socks5Bridge, port, 1024);
+		server.start();
+		return port;
+	}
+
+	private static Socket connect(final int port)
+			throws IOException {
+		final Socket client = new Socket(InetAddress.getLoopbackAddress(), port);
+		client.setSoTimeout((int) SECONDS.toMillis(10));
+		return client;
+	}
+
+	private static byte[] connectCommand(final InetSocketAddress target) {
+		final byte[] address = target.getAddress().getAddress();
+		return new byte[]{ 0x05, 0x01, 0x00, 0x01,
+				address[0], address[1], address[2], address[3],
+				(byte) (target.getPort() >> 8), (byte) target.getPort() };
+	}
+
+	private static byte[] readFully(final InputStream inputStream, final int length)
+			throws IOException {
+		final byte[] bytes = new byte[length];
+		int offset = 0;
+		while (offset < length) {
+			final int read = inputStream.read(bytes, offset, length - offset);
+			if (read == -1) {
+				throw new IOException("end of stream after " + offset + " bytes");
+			}
+			offset += read;
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,104 @@
+package org.simplejavamail.internal.authenticatedsockssupport.socks5server.io;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BufferPoolTest {
+
+	@Test
+	public void testAcquire_ReusesReleasedBuffersCleared() {
+		final BufferPool bufferPool = new BufferPool(1024, 2, true);
+		final ByteBuffer buffer = bufferPool.acquire();
+		assertThat(buffer.isDirect()).isTrue();
+		assertThat(buffer.capacity()).isEqualTo(1024);
+		buffer.put(new byte[100]).flip();
+
+		bufferPool.release(buffer);
+
+		final ByteBuffer reusedBuffer = bufferPool.acquire();
+		assertThat(reusedBuffer).isSameAs(buffer);
+		assertThat(reusedBuffer.position()).isZero();
+		assertThat(reusedBuffer.limit()).isEqualTo(1024);
+	}
+
+	@Test
+	public void testAcquire_HeapBuffers() {
+		final ByteBuffer buffer = new BufferPool(512, 2, false).acquire();
+		assertThat(buffer.isDirect()).isFalse();
+		assertThat(buffer.hasArray()).isTrue();
+		assertThat(buffer.capacity()).isEqualTo(512);
+	}
+
+	@Test
+	public void testRelease_KeepsAtMostMaxPooledBuffers() {
+		final BufferPool bufferPool = new BufferPool(1024, 2, false);
+		// more buffers than the pool keeps can be in use at the same time
+		final ByteBuffer buffer1 = bufferPool.acquire();
+		final ByteBuffer buffer2 = bufferPool.acquire();
+		final ByteBuffer buffer3 = bufferPool.acquire();
+		assertThat(buffer1).isNotSameAs(buffer2);
+		assertThat(buffer2).isNotSameAs(buffer3);
+
+		bufferPool.release(buffer1);
+		bufferPool.release(buffer2);
+		bufferPool.release(buffer3); // pool is full, so this one is dropped
+
+		assertThat(bufferPool.acquire()).isSameAs(buffer1);
+		assertThat(bufferPool.acquire()).isSameAs(buffer2);
+		final ByteBuffer newBuffer = bufferPool.acquire();
+		assertThat(newBuffer).isNotSameAs(buffer3);
+		assertThat(newBuffer.capacity()).isEqualTo(1024);
+	}
+
+	@Test
+	public void testRelease_TwiceDoesNotHandOutBufferTwice() {
+		final BufferPool bufferPool = new BufferPool(1024, 4, false);
+		final ByteBuffer buffer = bufferPool.acquire();
+
+		bufferPool.release(buffer);
+		bufferPool.release(buffer);
+
+		final ByteBuffer acquired1 = bufferPool.acquire();
+		final ByteBuffer acquired2 = bufferPool.acquire();
+		assertThat(acquired1).isSameAs(buffer);
+		assertThat(acquired2).isNotSameAs(buffer);
+	}
+
+	@Test
+	public void testRelease_ForeignBufferIsIgnored() {
+		final BufferPool bufferPool = new BufferPool(1024, 4, false);
+		final ByteBuffer foreignBuffer = ByteBuffer.allocate(16);
+		final ByteBuffer otherPoolsBuffer = new BufferPool(1024, 4, false).acquire();
+
+		bufferPool.release(foreignBuffer);
+		bufferPool.release(otherPoolsBuffer);
+
+		final ByteBuffer acquired = bufferPool.acquire();
+		assertThat(acquired).isNotSameAs(foreignBuffer);
+		assertThat(acquired).isNotSameAs(otherPoolsBuffer);
+		assertThat(acquired.capacity()).isEqualTo(1024);
+	}
+
+	@Test
+	public void testRelease_IdenticalContentIsNotConfusedWithAcquiredBuffer() {
+		final BufferPool bufferPool = new BufferPool(16, 4, false);
+		final ByteBuffer buffer = bufferPool.acquire();
+
+		// ByteBuffer.equals() considers these two equal
+		bufferPool.release(ByteBuffer.allocate(16));
+		bufferPool.release(buffer);
+
+		assertThat(bufferPool.acquire()).isSameAs(buffer);
+	}
+
+	@Test
+	public void testConstructor_InvalidBufferSize() {
+		assertThatThrownBy(() -> new BufferPool(0, 4, false))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("bufferSize should be positive, was 0");
+	}
+}
@@ -0,0 +1,217 @@
+package org.simplejavamail.internal.authenticatedsockssupport.socks5server.io;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import testutil.LoopbackServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChannelRelayTest {
+
+	private static final int BUFFER_SIZE = 1024;
+
+	private ChannelRelay channelRelay;
+	private final List<Closeable> closeables = new ArrayList<>();
+
+	@Before
+	public void setup()
+			throws IOException {
+		channelRelay = new ChannelRelay(new BufferPool(BUFFER_SIZE, 4, true));
+		channelRelay.start("test-relay");
+	}
+
+	@After
+	public void teardown()
+			throws IOException {
+		channelRelay.stop();
+		for (final Closeable closeable : closeables) {
+			closeable.close();
+		}
+	}
+
+	@Test
+	public void testRelaysBothWays()
+			throws IOException {
+		final Socket client = relayTo(register(LoopbackServer.echoServer()));
+
+		final byte[] data = randomBytes(10 * BUFFER_SIZE + 1);
+		client.getOutputStream().write(data);
+
+		assertThat(readFully(client.getInputStream(), data.length)).isEqualTo(data);
+	}
+
+	@Test
+	public void testHalfClose_ResponseAfterClientShutdownIsRelayed()
+			throws IOException {
+		// only responds once the client is done sending, which only works if the end of stream is passed on
+		final Socket client = relayTo(register(new LoopbackServer(socket -> {
+			final long received = readUntilEnd(socket.getInputStream()).length;
+			socket.getOutputStream().write(("received " + received).getBytes(UTF_8));
+		})));
+
+		client.getOutputStream().write(randomBytes(5000));
+		client.shutdownOutput();
+
+		assertThat(new String(readUntilEnd(client.getInputStream()), UTF_8)).isEqualTo("received 5000");
+	}
+
+	@Test
+	public void testPeerReset_ClosesClientConnection()
+			throws IOException {
+		final Socket client = relayTo(register(new LoopbackServer(socket -> {
+			//noinspection ResultOfMethodCallIgnored
+			socket.getInputStream().read();
+			socket.setSoLinger(true, 0); // closing now sends a RST rather than a FIN
+		})));
+
+		client.getOutputStream().write(1);
+
+		assertThat(readUntilEndOrFailure(client.getInputStream())).isTrue();
+		// the relay itself is unaffected
+		final Socket otherClient = relayTo(register(LoopbackServer.echoServer()));
+		otherClient.getOutputStream().write("still relaying".getBytes(UTF_8));
+		assertThat(new String(readFully(otherClient.getInputStream(), 14), UTF_8)).isEqualTo("still relaying");
+	}
+
+	@Test
+	public void testBackpressure_SlowReceiverThrottlesSender()
+			throws Exception {
+		final int total = 64 * 1024 * 1024;
+		final CountDownLatch startReading = new CountDownLatch(1);
+		final CRC32 receivedChecksum = new CRC32();
+		final AtomicLong received = new AtomicLong();
+		final CountDownLatch receivedAll = new CountDownLatch(1);
+		final Socket client = relayTo(register(new LoopbackServer(socket -> {
+			try {
+				startReading.await();
+			} catch (final InterruptedException e) {
+				return;
+			}
+			final InputStream inputStream = socket.getInputStream();
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				receivedChecksum.update(buffer, 0, read);
+				received.addAndGet(read);
+			}
+			receivedAll.countDown();
+		})));
+
+		final byte[] chunk = randomBytes(8192);
+		final CRC32 sentChecksum = new CRC32();
+		final AtomicLong sent = new AtomicLong();
+		final Thread sender = new Thread(() -> {
+			try {
+				final OutputStream outputStream = client.getOutputStream();
+				while (sent.get() < total) {
+					outputStream.write(chunk);
+					sentChecksum.update(chunk);
+					sent.addAndGet(chunk.length);
+				}
+				client.shutdownOutput();
+			} catch (final IOException e) {
+				// fails the test below
+			}
+		});
+		sender.start();
+
+		// the sender stalls once the socket buffers and the (small) relay buffer are full
+		long previouslySent = -1;
+		while (sent.get() != previouslySent) {
+			previouslySent = sent.get();
+			Thread.sleep(500);
+		}
+		assertThat(sent.get()).isLessThan(total);
+
+		startReading.countDown();
+		assertThat(receivedAll.await(30, SECONDS)).isTrue();
+		sender.join(SECONDS.toMillis(5));
+		assertThat(received.get()).isEqualTo(total);
+		assertThat(receivedChecksum.getValue()).isEqualTo(sentChecksum.getValue());
+	}
+
+	/**
+	 * @return The client side of a connection to the target server, which is relayed by the relay under test.
+	 */
+	private Socket relayTo(final LoopbackServer targetServer)
+			throws IOException {
+		final ServerSocketChannel relayServer = register(ServerSocketChannel.open());
+		relayServer.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		final Socket client = register(new Socket());
+		client.connect(relayServer.getLocalAddress());
+		client.setSoTimeout((int) SECONDS.toMillis(10));
+		channelRelay.relay("test", relayServer.accept(), SocketChannel.open(targetServer.getAddress()));
+		return client;
+	}
+
+	private <T extends Closeable> T register(final T closeable) {
+		closeables.add(closeable);
+		return closeable;
+	}
+
+	private static byte[] randomBytes(final int length) {
+		final byte[] bytes = new byte[length];
+		new Random(42).nextBytes(bytes);
+		return bytes;
+	}
+
+	private static byte[] readFully(final InputStream inputStream, final int length)
+			throws IOException {
+		final byte[] bytes = new byte[length];
+		int offset = 0;
+		while (offset < length) {
+			final int read = inputStream.read(bytes, offset, length - offset);
+			if (read == -1) {
+				throw new IOException("end of stream after " + offset + " bytes");
+			}
+			offset += read;
+		}
+		return bytes;
+	}
+
+	private static byte[] readUntilEnd(final InputStream inputStream)
+			throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[8192];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			bytes.write(buffer, 0, read);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return Whether the connection was closed, which may either surface as end of stream or as connection reset.
+	 */
+	private static boolean readUntilEndOrFailure(final InputStream inputStream) {
+		try {
+			readUntilEnd(inputStream);
+			return true;
+		} catch (final SocketTimeoutException e) {
+			return false;
+		} catch (final IOException e) {
+			return true;
+		}
+	}
+}
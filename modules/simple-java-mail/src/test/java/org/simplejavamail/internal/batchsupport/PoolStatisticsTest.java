@@ -0,0 +1,69 @@
+package org.simplejavamail.internal.batchsupport;
+
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class PoolStatisticsTest {
+
+	@Test
+	public void testClaimCompleted_UpdatesMovingAverage() {
+		final PoolStatistics statistics = new PoolStatistics();
+		assertThat(statistics.getEwmaLatencyNanos()).isZero();
+
+		statistics.claimStarted();
+		statistics.claimStarted();
+		assertThat(statistics.getOutstandingClaims()).isEqualTo(2);
+
+		statistics.claimCompleted(100);
+		assertThat(statistics.getEwmaLatencyNanos()).isEqualTo(100.0); // first sample is taken as-is
+		assertThat(statistics.getOutstandingClaims()).isEqualTo(1);
+
+		statistics.claimCompleted(200);
+		assertThat(statistics.getEwmaLatencyNanos()).isCloseTo(120.0, within(0.001));
+		assertThat(statistics.getOutstandingClaims()).isZero();
+	}
+
+	@Test
+	public void testClaimAborted_OnlyEndsClaim() {
+		final PoolStatistics statistics = new PoolStatistics();
+		statistics.claimStarted();
+		statistics.claimCompleted(100);
+		statistics.claimStarted();
+
+		statistics.claimAborted();
+
+		assertThat(statistics.getOutstandingClaims()).isZero();
+		assertThat(statistics.getEwmaLatencyNanos()).isEqualTo(100.0);
+	}
+
+	@Test
+	public void testClaimFailed_PenalizesRatherThanSamplingLatency() {
+		final PoolStatistics statistics = new PoolStatistics();
+		statistics.claimStarted();
+		statistics.claimCompleted(MILLISECONDS.toNanos(50));
+
+		statistics.claimStarted();
+		statistics.claimFailed();
+
+		// a failure counts as (at least) one second, no matter how fast it failed
+		final double expected = MILLISECONDS.toNanos(50) + 0.2 * (SECONDS.toNanos(1) - MILLISECONDS.toNanos(50));
+		assertThat(statistics.getEwmaLatencyNanos()).isCloseTo(expected, within(0.001));
+		assertThat(statistics.getOutstandingClaims()).isZero();
+	}
+
+	@Test
+	public void testClaimFailed_RepeatedFailuresKeepRaisingAverage() {
+		final PoolStatistics statistics = new PoolStatistics();
+		statistics.claimStarted();
+		statistics.claimFailed();
+		assertThat(statistics.getEwmaLatencyNanos()).isEqualTo((double) SECONDS.toNanos(1));
+
+		statistics.claimStarted();
+		statistics.claimFailed();
+		assertThat(statistics.getEwmaLatencyNanos()).isCloseTo(1.2 * SECONDS.toNanos(1), within(0.001));
+	}
+}
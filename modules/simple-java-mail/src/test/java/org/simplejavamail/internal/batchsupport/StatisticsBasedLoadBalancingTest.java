@@ -0,0 +1,143 @@
+package org.simplejavamail.internal.batchsupport;
+
+import org.bbottema.genericobjectpool.PoolableObject;
+import org.junit.Test;
+import org.simplejavamail.internal.batchsupport.StatisticsBasedLoadBalancing.EwmaLatency;
+import org.simplejavamail.internal.batchsupport.StatisticsBasedLoadBalancing.LeastOutstandingClaims;
+import org.simplejavamail.smtpconnectionpool.SessionTransport;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class StatisticsBasedLoadBalancingTest {
+
+	private final Object pool1 = new Object();
+	private final Object pool2 = new Object();
+	private final List<Object> pools = Arrays.asList(pool1, pool2);
+
+	@Test
+	public void testLeastOutstandingClaims_SpreadsClaims() {
+		final LeastOutstandingClaims<Object> strategy = new LeastOutstandingClaims<>();
+
+		final Object firstSelected = strategy.cycle(pools);
+		final PoolStatistics firstStatistics = strategy.takeSelectedPoolStatistics();
+		final Object secondSelected = strategy.cycle(pools);
+		final PoolStatistics secondStatistics = strategy.takeSelectedPoolStatistics();
+
+		assertThat(secondSelected).isNotSameAs(firstSelected);
+		assertThat(firstStatistics.getOutstandingClaims()).isEqualTo(1);
+		assertThat(secondStatistics.getOutstandingClaims()).isEqualTo(1);
+
+		// once the first pool is done, it has the fewest outstanding claims again
+		firstStatistics.claimCompleted(MILLISECONDS.toNanos(10));
+		assertThat(strategy.cycle(pools)).isSameAs(firstSelected);
+	}
+
+	@Test
+	public void testLeastOutstandingClaims_PrefersLowerLatencyOnTie() {
+		final LeastOutstandingClaims<Object> strategy = new LeastOutstandingClaims<>();
+		completeClaim(strategy, pool1, MILLISECONDS.toNanos(200));
+		completeClaim(strategy, pool2, MILLISECONDS.toNanos(20));
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(strategy.cycle(pools)).isSameAs(pool2);
+			strategy.takeSelectedPoolStatistics().claimAborted();
+		}
+	}
+
+	@Test
+	public void testEwmaLatency_SamplesUnobservedPoolsFirst() {
+		final EwmaLatency<Object> strategy = new EwmaLatency<>();
+		completeClaim(strategy, pool1, MILLISECONDS.toNanos(20));
+
+		assertThat(strategy.cycle(pools)).isSameAs(pool2);
+	}
+
+	@Test
+	public void testEwmaLatency_PrefersLowestExpectedLatency() {
+		final EwmaLatency<Object> strategy = new EwmaLatency<>();
+		completeClaim(strategy, pool1, MILLISECONDS.toNanos(20));
+		completeClaim(strategy, pool2, MILLISECONDS.toNanos(50));
+
+		// pool1 scores 20ms * 1, then 20ms * 2, then 20ms * 3, which is more than pool2's 50ms * 1
+		assertThat(strategy.cycle(pools)).isSameAs(pool1);
+		strategy.takeSelectedPoolStatistics();
+		assertThat(strategy.cycle(pools)).isSameAs(pool1);
+		strategy.takeSelectedPoolStatistics();
+		assertThat(strategy.cycle(pools)).isSameAs(pool2);
+	}
+
+	@Test
+	public void testEwmaLatency_FastFailingPoolIsNotPreferred() {
+		final EwmaLatency<Object> strategy = new EwmaLatency<>();
+		completeClaim(strategy, pool1, MILLISECONDS.toNanos(100));
+		assertThat(strategy.cycle(pools)).isSameAs(pool2);
+		new LifecycleDelegatingTransportImpl(mockPooledTransport(), strategy.takeSelectedPoolStatistics(), System.nanoTime())
+				.signalTransportFailed();
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(strategy.cycle(pools)).isSameAs(pool1);
+			strategy.takeSelectedPoolStatistics().claimAborted();
+		}
+	}
+
+	@Test
+	public void testTakeSelectedPoolStatistics_OnlyOnce() {
+		final LeastOutstandingClaims<Object> strategy = new LeastOutstandingClaims<>();
+		strategy.cycle(pools);
+
+		assertThat(strategy.takeSelectedPoolStatistics()).isNotNull();
+		assertThat(strategy.takeSelectedPoolStatistics()).isNull();
+	}
+
+	@Test
+	public void testCycle_UnclaimedSelectionIsAborted() {
+		final LeastOutstandingClaims<Object> strategy = new LeastOutstandingClaims<>();
+		final Object firstSelected = strategy.cycle(pools);
+		final Object secondSelected = strategy.cycle(pools);
+		final PoolStatistics secondStatistics = strategy.takeSelectedPoolStatistics();
+
+		secondStatistics.claimCompleted(MILLISECONDS.toNanos(10));
+
+		// neither pool has an outstanding claim left, so the first pool is preferred for having no latency observed yet
+		assertThat(secondSelected).isNotSameAs(firstSelected);
+		assertThat(secondStatistics.getOutstandingClaims()).isZero();
+		assertThat(strategy.cycle(pools)).isSameAs(firstSelected);
+		assertThat(strategy.takeSelectedPoolStatistics().getOutstandingClaims()).isEqualTo(1);
+	}
+
+	@Test
+	public void testTransportSignals_EndClaimExactlyOnce() {
+		final LeastOutstandingClaims<Object> strategy = new LeastOutstandingClaims<>();
+		strategy.cycle(pools);
+		final PoolStatistics statistics = strategy.takeSelectedPoolStatistics();
+		final PoolableObject<SessionTransport> pooledTransport = mockPooledTransport();
+		final LifecycleDelegatingTransportImpl transport = new LifecycleDelegatingTransportImpl(pooledTransport, statistics, System.nanoTime());
+
+		transport.signalTransportUsed();
+		transport.signalTransportUsed();
+		transport.signalTransportFailed();
+
+		verify(pooledTransport, times(1)).release();
+		verify(pooledTransport, never()).invalidate();
+		assertThat(statistics.getOutstandingClaims()).isZero();
+	}
+
+	private static void completeClaim(final StatisticsBasedLoadBalancing<Object> strategy, final Object pool, final long latencyNanos) {
+		assertThat(strategy.cycle(singletonList(pool))).isSameAs(pool);
+		strategy.takeSelectedPoolStatistics().claimCompleted(latencyNanos);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PoolableObject<SessionTransport> mockPooledTransport() {
+		return mock(PoolableObject.class);
+	}
+}
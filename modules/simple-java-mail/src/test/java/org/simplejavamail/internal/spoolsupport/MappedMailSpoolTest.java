@@ -0,0 +1,273 @@
+package org.simplejavamail.internal.spoolsupport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.simplejavamail.api.internal.spoolsupport.SpooledEmail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.simplejavamail.internal.spoolsupport.SpoolSegment.RECORD_HEADER_SIZE;
+import static org.simplejavamail.internal.spoolsupport.SpoolSegment.determineFileName;
+
+public class MappedMailSpoolTest {
+
+	private static final int SEGMENT_SIZE = 4096;
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File spoolDirectory;
+	private MappedMailSpool spool;
+
+	@Before
+	public void setup()
+			throws IOException {
+		spoolDirectory = temporaryFolder.newFolder("spool");
+		spool = open();
+	}
+
+	@After
+	public void teardown() {
+		spool.closeLog();
+	}
+
+	@Test
+	public void testRecovery_PendingRecordsOnly() {
+		spool.append("bounce@domain.com", asList("a@domain.com", "b@domain.com"), eml("first"));
+		final SpooledEmail done = spool.append(null, singletonList("c@domain.com"), eml("second"));
+		spool.append(null, singletonList("d@domain.com"), eml("third"));
+		spool.markDone(done);
+
+		final List<SpooledEmail> recoveredEmails = reopen().takeRecoveredEmails();
+
+		assertThat(recoveredEmails).hasSize(2);
+		assertThat(recoveredEmails.get(0).getEnvelopeFrom()).isEqualTo("bounce@domain.com");
+		assertThat(recoveredEmails.get(0).getRecipients()).containsExactly("a@domain.com", "b@domain.com");
+		assertThat(recoveredEmails.get(0).getEml()).isEqualTo(eml("first"));
+		assertThat(recoveredEmails.get(1).getEnvelopeFrom()).isNull();
+		assertThat(recoveredEmails.get(1).getRecipients()).containsExactly("d@domain.com");
+		assertThat(recoveredEmails.get(1).getEml()).isEqualTo(eml("third"));
+		// only handed over once
+		assertThat(spool.takeRecoveredEmails()).isEmpty();
+	}
+
+	@Test
+	public void testRecovery_CrcMismatchEndsRecovery()
+			throws IOException {
+		spool.append(null, singletonList("a@domain.com"), eml("first"));
+		final SpoolRecord corrupted = (SpoolRecord) spool.append(null, singletonList("b@domain.com"), eml("second"));
+		spool.append(null, singletonList("c@domain.com"), eml("third"));
+		spool.closeLog();
+
+		// flip the last byte of the second record's payload
+		final int lastPayloadByte = corrupted.getRecordOffset() + RECORD_HEADER_SIZE + payloadLength(corrupted) - 1;
+		try (RandomAccessFile segmentFile = new RandomAccessFile(new File(spoolDirectory, determineFileName(1)), "rw")) {
+			segmentFile.seek(lastPayloadByte);
+			final int original = segmentFile.read();
+			segmentFile.seek(lastPayloadByte);
+			segmentFile.write(original ^ 0xFF);
+		}
+
+		assertThat(recipientsOf(reopen().takeRecoveredEmails())).containsExactly("a@domain.com");
+	}
+
+	@Test
+	public void testRecovery_TornRecordEndsRecovery()
+			throws IOException {
+		spool.append(null, singletonList("a@domain.com"), eml("first"));
+		final SpoolRecord torn = (SpoolRecord) spool.append(null, singletonList("b@domain.com"), eml("second, which is only half written"));
+		spool.closeLog();
+
+		// the length was written, but the crash happened before the rest of the payload reached the disk
+		final int payloadLength = payloadLength(torn);
+		try (RandomAccessFile segmentFile = new RandomAccessFile(new File(spoolDirectory, determineFileName(1)), "rw")) {
+			segmentFile.seek(torn.getRecordOffset() + RECORD_HEADER_SIZE + payloadLength / 2);
+			segmentFile.write(new byte[payloadLength - payloadLength / 2]);
+		}
+
+		final List<SpooledEmail> recoveredEmails = reopen().takeRecoveredEmails();
+		assertThat(recipientsOf(recoveredEmails)).containsExactly("a@domain.com");
+
+		// appending continues in a new segment, and the old one goes once its recovered record is done
+		spool.append(null, singletonList("c@domain.com"), eml("after recovery"));
+		assertThat(new File(spoolDirectory, determineFileName(2))).exists();
+		spool.markDone(recoveredEmails.get(0));
+		assertThat(new File(spoolDirectory, determineFileName(1))).doesNotExist();
+		assertThat(recipientsOf(reopen().takeRecoveredEmails())).containsExactly("c@domain.com");
+	}
+
+	@Test
+	public void testRecovery_LengthBeyondSegmentEndsRecovery()
+			throws IOException {
+		spool.append(null, singletonList("a@domain.com"), eml("first"));
+		final SpoolRecord garbage = (SpoolRecord) spool.append(null, singletonList("b@domain.com"), eml("second"));
+		spool.closeLog();
+
+		try (RandomAccessFile segmentFile = new RandomAccessFile(new File(spoolDirectory, determineFileName(1)), "rw")) {
+			segmentFile.seek(garbage.getRecordOffset());
+			segmentFile.writeInt(SEGMENT_SIZE);
+		}
+
+		assertThat(recipientsOf(reopen().takeRecoveredEmails())).containsExactly("a@domain.com");
+	}
+
+	@Test
+	public void testAppend_RollsOverToNextSegment() {
+		final List<SpooledEmail> appended = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			appended.add(spool.append(null, singletonList(i + "@domain.com"), new byte[1000]));
+		}
+		// a record that doesn't fit in a regular segment gets a bigger one to itself
+		final SpooledEmail big = spool.append(null, singletonList("big@domain.com"), new byte[2 * SEGMENT_SIZE]);
+
+		assertThat(segmentOf(appended.get(0)).getSequence()).isEqualTo(1);
+		assertThat(segmentOf(appended.get(9)).getSequence()).isGreaterThan(1);
+		assertThat(segmentOf(big).getCapacity()).isGreaterThan(2 * SEGMENT_SIZE);
+		for (final SpooledEmail spooledEmail : appended) {
+			assertThat(segmentOf(spooledEmail).getCapacity()).isEqualTo(SEGMENT_SIZE);
+			assertThat(spooledEmail.getEml()).hasSize(1000);
+		}
+		// the segment that was rolled over from was forced as it was sealed
+		assertThat(segmentOf(appended.get(0)).getForceCount()).isGreaterThan(0);
+
+		final List<SpooledEmail> recoveredEmails = reopen().takeRecoveredEmails();
+		assertThat(recoveredEmails).hasSize(11);
+		assertThat(recoveredEmails.get(10).getEml()).hasSize(2 * SEGMENT_SIZE);
+	}
+
+	@Test
+	public void testAppend_ForcedBeforeReturning() {
+		final SpooledEmail first = spool.append(null, singletonList("a@domain.com"), eml("first"));
+		assertThat(segmentOf(first).getForceCount()).isEqualTo(1);
+		spool.append(null, singletonList("b@domain.com"), eml("second"));
+		assertThat(segmentOf(first).getForceCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testAppend_GroupCommitCoversConcurrentAppends()
+			throws Exception {
+		spool.closeLog();
+		spool = open(1024 * 1024);
+
+		final int threads = 8;
+		final int appendsPerThread = 50;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final List<Future<SpooledEmail>> appends = new ArrayList<>();
+		try {
+			for (int i = 0; i < threads * appendsPerThread; i++) {
+				final String recipient = i + "@domain.com";
+				appends.add(executor.submit(() -> spool.append(null, singletonList(recipient), eml(recipient))));
+			}
+			for (final Future<SpooledEmail> append : appends) {
+				append.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// every append returned only after a force covered it, but no more forces were needed than appends
+		final SpoolSegment segment = segmentOf(appends.get(0).get());
+		assertThat(segment.getForceCount()).isBetween(1L, (long) threads * appendsPerThread);
+		assertThat(reopen().takeRecoveredEmails()).hasSize(threads * appendsPerThread);
+	}
+
+	@Test
+	public void testMarkDone_DeletesSealedSegmentOnceAllRecordsDone() {
+		final SpooledEmail first = spool.append(null, singletonList("a@domain.com"), new byte[SEGMENT_SIZE / 3]);
+		final SpooledEmail second = spool.append(null, singletonList("b@domain.com"), new byte[SEGMENT_SIZE / 3]);
+		final File firstSegmentFile = new File(spoolDirectory, determineFileName(1));
+
+		// rolls over, sealing the first segment while it still has pending records
+		spool.append(null, singletonList("c@domain.com"), new byte[SEGMENT_SIZE / 2]);
+		assertThat(segmentOf(first).isDeleted()).isFalse();
+		assertThat(firstSegmentFile).exists();
+
+		spool.markDone(first);
+		assertThat(firstSegmentFile).exists();
+		spool.markDone(second);
+		assertThat(segmentOf(first).isDeleted()).isTrue();
+		assertThat(firstSegmentFile).doesNotExist();
+	}
+
+	@Test
+	public void testSeal_DeletesSegmentWhoseRecordsAreAlreadyDone() {
+		final SpooledEmail first = spool.append(null, singletonList("a@domain.com"), new byte[SEGMENT_SIZE / 2]);
+		spool.markDone(first);
+		// the active segment is never deleted, even if all its records are done
+		assertThat(segmentOf(first).isDeleted()).isFalse();
+
+		spool.append(null, singletonList("b@domain.com"), new byte[SEGMENT_SIZE / 2]);
+		assertThat(segmentOf(first).isDeleted()).isTrue();
+		assertThat(new File(spoolDirectory, determineFileName(1))).doesNotExist();
+	}
+
+	@Test
+	public void testOpen_DeletesSegmentsWithoutPendingRecords() {
+		spool.markDone(spool.append(null, singletonList("a@domain.com"), eml("done")));
+
+		assertThat(reopen().takeRecoveredEmails()).isEmpty();
+		assertThat(new File(spoolDirectory, determineFileName(1))).doesNotExist();
+		assertThat(new File(spoolDirectory, determineFileName(2))).exists();
+	}
+
+	@Test
+	public void testMarkDone_AfterCloseIsRecoveredAgain() {
+		final SpooledEmail spooledEmail = spool.append(null, singletonList("a@domain.com"), eml("in flight"));
+		spool.closeLog();
+		spool.markDone(spooledEmail);
+
+		assertThat(recipientsOf(reopen().takeRecoveredEmails())).containsExactly("a@domain.com");
+	}
+
+	private MappedMailSpool open() {
+		return open(SEGMENT_SIZE);
+	}
+
+	private MappedMailSpool open(final int segmentSize) {
+		return MappedMailSpool.open(spoolDirectory, segmentSize, closedSpool -> {
+		});
+	}
+
+	/**
+	 * Simulates a restart: the spool can only be opened again once it was closed, as the same JVM can't lock the directory twice.
+	 */
+	private MappedMailSpool reopen() {
+		spool.closeLog();
+		spool = open();
+		return spool;
+	}
+
+	private static SpoolSegment segmentOf(final SpooledEmail spooledEmail) {
+		return ((SpoolRecord) spooledEmail).getSegment();
+	}
+
+	private static int payloadLength(final SpoolRecord record) {
+		return segmentOf(record).view().getInt(record.getRecordOffset());
+	}
+
+	private static List<String> recipientsOf(final List<SpooledEmail> spooledEmails) {
+		final List<String> recipients = new ArrayList<>();
+		for (final SpooledEmail spooledEmail : spooledEmails) {
+			recipients.addAll(spooledEmail.getRecipients());
+		}
+		return recipients;
+	}
+
+	private static byte[] eml(final String body) {
+		return ("Subject: test\r\n\r\n" + body + "\r\n").getBytes(UTF_8);
+	}
+}
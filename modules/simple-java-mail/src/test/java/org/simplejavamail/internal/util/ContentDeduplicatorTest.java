@@ -0,0 +1,58 @@
+package org.simplejavamail.internal.util;
+
+import jakarta.mail.util.ByteArrayDataSource;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContentDeduplicatorTest {
+
+	@Test
+	public void testIdenticalPayloadsAreShared() {
+		final byte[] payload = randomBytes(ContentDeduplicator.MINIMUM_SIZE * 4, 1);
+
+		final byte[] first = ContentDeduplicator.deduplicate(payload.clone());
+		final byte[] second = ContentDeduplicator.deduplicate(payload.clone());
+
+		assertThat(first).isEqualTo(payload);
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	public void testUserPayloadsAreCopied() {
+		final byte[] payload = randomBytes(ContentDeduplicator.MINIMUM_SIZE * 4, 2);
+
+		final byte[] first = ContentDeduplicator.deduplicateCopyOf(payload);
+		final byte[] second = ContentDeduplicator.deduplicateCopyOf(payload.clone());
+
+		assertThat(first).isNotSameAs(payload).isEqualTo(payload);
+		assertThat(second).isSameAs(first);
+
+		final byte[] small = randomBytes(ContentDeduplicator.MINIMUM_SIZE - 1, 3);
+		assertThat(ContentDeduplicator.deduplicateCopyOf(small)).isNotSameAs(small).isEqualTo(small);
+	}
+
+	@Test
+	public void testDifferentPayloadsAreKeptApart() {
+		final byte[] payload = randomBytes(ContentDeduplicator.MINIMUM_SIZE * 4, 4);
+		final byte[] otherPayload = payload.clone();
+		otherPayload[otherPayload.length - 1]++;
+
+		assertThat(ContentDeduplicator.deduplicate(otherPayload)).isNotSameAs(ContentDeduplicator.deduplicate(payload)).isEqualTo(otherPayload);
+	}
+
+	@Test
+	public void testSha256OfDataSourceMatchesSha256OfContent() throws IOException {
+		final byte[] payload = randomBytes(3 * IOUtil.BUFFER_SIZE + 17, 5);
+		assertThat(IOUtil.sha256(new ByteArrayDataSource(payload, "application/octet-stream"))).isEqualTo(IOUtil.sha256(payload)).hasSize(32);
+	}
+
+	private static byte[] randomBytes(final int size, final long seed) {
+		final byte[] bytes = new byte[size];
+		new Random(seed).nextBytes(bytes);
+		return bytes;
+	}
+}
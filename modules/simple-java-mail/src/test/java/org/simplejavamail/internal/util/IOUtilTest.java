@@ -0,0 +1,97 @@
+package org.simplejavamail.internal.util;
+
+import jakarta.activation.FileDataSource;
+import jakarta.mail.util.ByteArrayDataSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IOUtilTest {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testReadAllBytes_UnknownLength() throws IOException {
+		for (int size : new int[] { 0, 1, IOUtil.BUFFER_SIZE - 1, IOUtil.BUFFER_SIZE, IOUtil.BUFFER_SIZE + 1, 3 * IOUtil.BUFFER_SIZE + 17 }) {
+			final byte[] content = randomBytes(size);
+			assertThat(IOUtil.readAllBytes(new TrickleInputStream(new ByteArrayInputStream(content)))).isEqualTo(content);
+		}
+	}
+
+	@Test
+	public void testReadAllBytes_KnownLength() throws IOException {
+		final byte[] content = randomBytes(3 * IOUtil.BUFFER_SIZE + 17);
+		assertThat(IOUtil.determineKnownLength(new ByteArrayInputStream(content))).isEqualTo(content.length);
+		assertThat(IOUtil.readAllBytes(new ByteArrayInputStream(content))).isEqualTo(content);
+		assertThat(IOUtil.readAllBytes(new ByteArrayDataSource(content, "application/octet-stream"))).isEqualTo(content);
+
+		final File file = temporaryFolder.newFile();
+		Files.write(file.toPath(), content);
+		try (InputStream fileInputStream = new FileInputStream(file)) {
+			assertThat(fileInputStream.read()).isEqualTo(content[0] & 0xFF);
+			assertThat(IOUtil.determineKnownLength(fileInputStream)).isEqualTo(content.length - 1);
+		}
+		assertThat(IOUtil.readAllBytes(new FileDataSource(file))).isEqualTo(content);
+	}
+
+	@Test
+	public void testReadAllBytes_KnownLengthIsOnlyAHint() throws IOException {
+		final byte[] content = randomBytes(100);
+		final ByteArrayInputStream underreportingStream = new ByteArrayInputStream(content) {
+			@Override
+			public synchronized int available() {
+				return 10;
+			}
+		};
+		assertThat(IOUtil.readAllBytes(underreportingStream)).isEqualTo(content);
+	}
+
+	@Test
+	public void testReadAllString() throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		while (sb.length() < 2 * IOUtil.BUFFER_SIZE) {
+			sb.append("multibyte character: €, ");
+		}
+		final String content = sb.toString();
+
+		assertThat(IOUtil.readAllString(new ByteArrayInputStream(content.getBytes(UTF_8)), UTF_8)).isEqualTo(content);
+		assertThat(IOUtil.readAllString(new BufferedInputStream(new ByteArrayInputStream(content.getBytes(UTF_8))), UTF_8)).isEqualTo(content);
+		assertThat(IOUtil.readAllString(new TrickleInputStream(new ByteArrayInputStream(content.getBytes(UTF_16))), UTF_16)).isEqualTo(content);
+		assertThat(IOUtil.readAllString(new TrickleInputStream(new ByteArrayInputStream("short".getBytes(UTF_8))), UTF_8)).isEqualTo("short");
+	}
+
+	private static byte[] randomBytes(final int size) {
+		final byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Hides the underlying stream's type (and length) and returns fewer bytes than requested, like network streams do.
+	 */
+	private static class TrickleInputStream extends FilterInputStream {
+		TrickleInputStream(final InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			return super.read(b, off, Math.min(len, 1000));
+		}
+	}
+}
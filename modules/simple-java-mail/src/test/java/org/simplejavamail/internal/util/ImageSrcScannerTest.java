@@ -0,0 +1,99 @@
+package org.simplejavamail.internal.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import static java.util.regex.Matcher.quoteReplacement;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.simplejavamail.api.email.EmailPopulatingBuilder.IMG_SRC_PATTERN;
+
+public class ImageSrcScannerTest {
+
+	private static final String[] HTML_SAMPLES = {
+			"",
+			"no images here",
+			"<img src=\"a.png\"/>",
+			"<IMG SRC='a.png'>",
+			"<ImG\n\tid=\"x\"  sRc \n = \n \"a.png\" >",
+			"<img id=\"logo\" src=\"cid:logo\"/><img src=\"b.png\"/>",
+			"<img data-src=\"lazy.png\" src=\"real.png\"/>",
+			"<img data-src=\"lazy.png\">",
+			"<img src=\"\" alt=\"empty\"> <img src=\"c.png\">",
+			"<img alt=\"x\" src=\"\" src=\"d.png\">",
+			"<img alt=\"unclosed src=\"e.png\"",
+			"<img > src=\"outside-tag.png\"",
+			"<imgsrc=\"no-whitespace.png\"> <img src=\"f.png\">",
+			"<img\tsrc=\"mixed.png'>",
+			"<img src=\"unterminated.png",
+			"<img<img src=\"nested.png\">",
+			"<p>text</p><img src=\"g.png\"><img src=\"g.png\"><div><img class=a src='h.png'></div>",
+			"<img src=\"<weird>.png\"> <img src=\"i.png\">",
+			"<img",
+			"<im",
+	};
+
+	@Test
+	public void testFindImageSrcsMatchesRegex() {
+		for (final String html : HTML_SAMPLES) {
+			assertThat(ImageSrcScanner.findImageSrcs(html)).as(html).isEqualTo(findWithRegex(html));
+		}
+	}
+
+	@Test
+	public void testReplaceImageSrcsMatchesRegex() {
+		for (final String html : HTML_SAMPLES) {
+			assertThat(ImageSrcScanner.replaceImageSrcs(html, ImageSrcScannerTest::replacement)).as(html).isEqualTo(replaceWithRegex(html));
+		}
+	}
+
+	@Test
+	public void testScannerMatchesRegexOnRandomHtml() {
+		final String[] fragments = { "<img", "<IMG", "<", ">", " ", "\n", "src", "SRC", "data-src", "=", "\"", "'", "a.png", "cid:b", "alt", "x" };
+		final Random random = new Random(42);
+		for (int i = 0; i < 5000; i++) {
+			final StringBuilder html = new StringBuilder();
+			final int fragmentCount = random.nextInt(30);
+			for (int j = 0; j < fragmentCount; j++) {
+				html.append(fragments[random.nextInt(fragments.length)]);
+			}
+			assertThat(ImageSrcScanner.findImageSrcs(html.toString())).as(html.toString()).isEqualTo(findWithRegex(html.toString()));
+			assertThat(ImageSrcScanner.replaceImageSrcs(html.toString(), ImageSrcScannerTest::replacement)).as(html.toString()).isEqualTo(replaceWithRegex(html.toString()));
+		}
+	}
+
+	@Test
+	public void testReplaceImageSrcsReturnsSameInstanceWhenNothingIsReplaced() {
+		final String html = "<p><img src=\"cid:a\"/><img src=\"cid:b\"/></p>";
+		assertThat(ImageSrcScanner.replaceImageSrcs(html, ImageSrcScannerTest::replacement)).isSameAs(html);
+	}
+
+	private static String replacement(final String src) {
+		return src.startsWith("cid:") ? null : "cid:" + src.length();
+	}
+
+	private static List<String> findWithRegex(final String html) {
+		final List<String> srcs = new ArrayList<>();
+		final Matcher matcher = IMG_SRC_PATTERN.matcher(html);
+		while (matcher.find()) {
+			srcs.add(matcher.group("src"));
+		}
+		return srcs;
+	}
+
+	private static String replaceWithRegex(final String html) {
+		final StringBuffer stringBuffer = new StringBuffer();
+		final Matcher matcher = IMG_SRC_PATTERN.matcher(html);
+		while (matcher.find()) {
+			final String replacement = replacement(matcher.group("src"));
+			if (replacement != null) {
+				matcher.appendReplacement(stringBuffer, quoteReplacement(matcher.group("imageTagStart") + replacement + matcher.group("imageSrcEnd")));
+			}
+		}
+		matcher.appendTail(stringBuffer);
+		return stringBuffer.toString();
+	}
+}
@@ -0,0 +1,127 @@
+package org.simplejavamail.internal.util.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedCacheTest {
+
+	@Test
+	public void testComputeIfAbsent_CountsHitsAndMisses() {
+		final BoundedCache<String, String> cache = new BoundedCache<>(10);
+
+		assertThat(cache.computeIfAbsent("a", String::toUpperCase)).isEqualTo("A");
+		assertThat(cache.computeIfAbsent("a", key -> "not loaded again")).isEqualTo("A");
+		assertThat(cache.computeIfAbsent("b", String::toUpperCase)).isEqualTo("B");
+
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void testComputeIfAbsent_EvictsLeastRecentlyUsed() {
+		final BoundedCache<String, String> cache = new BoundedCache<>(2);
+		cache.computeIfAbsent("a", String::toUpperCase);
+		cache.computeIfAbsent("b", String::toUpperCase);
+		cache.computeIfAbsent("a", String::toUpperCase); // a is now most recently used
+		cache.computeIfAbsent("c", String::toUpperCase); // evicts b
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.computeIfAbsent("a", key -> "reloaded")).isEqualTo("A");
+		assertThat(cache.computeIfAbsent("b", key -> "reloaded")).isEqualTo("reloaded");
+	}
+
+	@Test
+	public void testComputeIfAbsent_ReloadsExpiredValues()
+			throws InterruptedException {
+		final BoundedCache<String, String> cache = new BoundedCache<>(2, 50);
+		cache.computeIfAbsent("a", String::toUpperCase);
+		assertThat(cache.computeIfAbsent("a", key -> "reloaded")).isEqualTo("A");
+
+		Thread.sleep(100);
+
+		assertThat(cache.computeIfAbsent("a", key -> "reloaded")).isEqualTo("reloaded");
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+		assertThat(cache.getTotalLoadTimeNanos()).isPositive();
+	}
+
+	@Test
+	public void testComputeIfAbsent_FailedLoadIsNotCached() {
+		final BoundedCache<String, String> cache = new BoundedCache<>(2);
+
+		assertThatThrownBy(() -> cache.computeIfAbsent("a", key -> {
+			throw new IllegalArgumentException("broken key");
+		}))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("broken key");
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.computeIfAbsent("a", String::toUpperCase)).isEqualTo("A");
+	}
+
+	@Test
+	public void testGetIfPresent_NeverLoads() {
+		final BoundedCache<String, String> cache = new BoundedCache<>(2);
+
+		assertThat(cache.getIfPresent("a")).isNull();
+		cache.computeIfAbsent("a", String::toUpperCase);
+		assertThat(cache.getIfPresent("a")).isEqualTo("A");
+		assertThat(cache.getIfPresent("b")).isNull();
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testComputeIfAbsent_LoadsOnceUnderConcurrency()
+			throws Exception {
+		final BoundedCache<String, String> cache = new BoundedCache<>(2);
+		final AtomicInteger loadCount = new AtomicInteger();
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		final ExecutorService executorService = newFixedThreadPool(8);
+		try {
+			final List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executorService.submit(() -> {
+					startSignal.await();
+					return cache.computeIfAbsent("a", key -> {
+						loadCount.incrementAndGet();
+						return key.toUpperCase();
+					});
+				}));
+			}
+			startSignal.countDown();
+			for (final Future<String> result : results) {
+				assertThat(result.get()).isEqualTo("A");
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(7);
+	}
+
+	@Test
+	public void testConstructor_RejectsNonPositiveSize() {
+		assertThatThrownBy(() -> new BoundedCache<String, String>(0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("maximumSize should be positive, was 0");
+		assertThatThrownBy(() -> new BoundedCache<String, String>(1, -1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("expireAfterMillis should not be negative, was -1");
+	}
+}
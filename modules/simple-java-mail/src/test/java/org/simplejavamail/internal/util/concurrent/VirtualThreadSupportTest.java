@@ -0,0 +1,67 @@
+package org.simplejavamail.internal.util.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualThreadSupportTest {
+
+	@Test
+	public void testBounded_LimitsConcurrentTasks()
+			throws Exception {
+		final ExecutorService executor = VirtualThreadSupport.bounded(newCachedThreadPool(), 2);
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+		final List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < 10; i++) {
+				futures.add(executor.submit(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						release.await();
+					} catch (final InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					running.decrementAndGet();
+				}));
+			}
+			// submitting didn't block, and the first tasks are running while the others wait for a permit
+			Thread.sleep(200);
+			assertThat(running.get()).isEqualTo(2);
+
+			release.countDown();
+			for (final Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+			assertThat(maxRunning.get()).isEqualTo(2);
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(executor.isTerminated()).isTrue();
+	}
+
+	@Test
+	public void testNewVirtualThreadPerTaskExecutor_RunsTasksIfSupported()
+			throws Exception {
+		// null on JVMs without virtual threads
+		final ExecutorService executor = VirtualThreadSupport.newVirtualThreadPerTaskExecutor(1);
+		if (executor != null) {
+			try {
+				assertThat(executor.submit(() -> "done").get(10, TimeUnit.SECONDS)).isEqualTo("done");
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+}
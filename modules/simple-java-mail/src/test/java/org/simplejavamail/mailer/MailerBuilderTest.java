@@ -3,6 +3,8 @@ package org.simplejavamail.mailer;
 import org.junit.Test;
 import testutil.ConfigLoaderTestHelper;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 public class MailerBuilderTest {
 	@Test
 	public void testClearedEmailAddressCriteria() {
@@ -13,4 +15,14 @@ public class MailerBuilderTest {
 				.buildMailer();
 		// good, no more errors due to #335
 	}
+
+	@Test
+	public void testEmailValidationCacheSizeMustBePositive() {
+		assertThatThrownBy(() -> MailerBuilder.withSMTPServer("moo", 0).withEmailValidationCache(0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("maximumSize should be positive, was 0");
+		assertThatThrownBy(() -> MailerBuilder.withSMTPServer("moo", 0).withEmailValidationCache(-1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("maximumSize should be positive, was -1");
+	}
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import org.simplejavamail.api.email.EmailPopulatingBuilder;
 import org.simplejavamail.api.email.Recipient;
 import testutil.EmailHelper;
 
+import java.util.HashMap;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -114,8 +116,43 @@ public class MailerHelperTest {
                 .hasMessageContaining("Invalid \"Disposition Notification To\" address: invalid");
     }
 
+    @Test
+    public void validateAddressesWithValidationResults() {
+        val emailValidationResults = new HashMap<String, Boolean>();
+        val happyEmail = newBuilder()
+                .clearReturnReceiptTo()
+                .clearDispositionNotificationTo()
+                .buildEmail();
+
+        MailerHelper.validateAddresses(happyEmail, JMail.validator(), emailValidationResults);
+        assertThat(emailValidationResults).isNotEmpty().doesNotContainValue(false);
+
+        // invalid results are added as well
+        val emailInvalidTo = newBuilder().to("invalid", "invalid").buildEmail();
+        assertThatThrownBy(() -> MailerHelper.validateAddresses(emailInvalidTo, JMail.validator(), emailValidationResults))
+                .isInstanceOf(MailInvalidAddressException.class)
+                .hasMessageContaining("Invalid TO address: invalid");
+        assertThat(emailValidationResults).containsEntry("invalid", false);
+
+        // earlier results are used instead of validating again
+        emailValidationResults.put("invalid", true);
+        assertThatNoException().isThrownBy(() -> MailerHelper.validateAddresses(emailInvalidTo, JMail.validator(), emailValidationResults));
+    }
+
     @Test
     public void scanForInjectionAttacks() {
+        assertThatNoException().isThrownBy(() -> MailerHelper.scanForInjectionAttack(null, "label"));
+        assertThatNoException().isThrownBy(() -> MailerHelper.scanForInjectionAttack("", "label"));
+        assertThatNoException().isThrownBy(() -> MailerHelper.scanForInjectionAttack("100% safe", "label"));
+        assertThatNoException().isThrownBy(() -> MailerHelper.scanForInjectionAttack("ends with %0", "label"));
+        assertThatNoException().isThrownBy(() -> MailerHelper.scanForInjectionAttack("lowercase %0a", "label"));
+
+        assertThatThrownBy(() -> MailerHelper.scanForInjectionAttack("ends with %0A", "label"))
+                .isInstanceOf(MailSuspiciousCRLFValueException.class)
+                .hasMessageContaining("Suspected of injection attack, field: label with suspicious value: ends with %0A");
+        assertThatThrownBy(() -> MailerHelper.scanForInjectionAttack("\r\n", "label"))
+                .isInstanceOf(MailSuspiciousCRLFValueException.class)
+                .hasMessageContaining("Suspected of injection attack, field: label with suspicious value: \\r\\n");
     }
 
     @Test
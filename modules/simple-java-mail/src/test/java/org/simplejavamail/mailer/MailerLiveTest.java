@@ -8,6 +8,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.simplejavamail.api.email.AttachmentResource;
 import org.simplejavamail.api.email.ContentTransferEncoding;
 import org.simplejavamail.api.email.Email;
@@ -19,11 +20,14 @@ import org.simplejavamail.api.internal.smimesupport.model.PlainSmimeDetails;
 import org.simplejavamail.api.mailer.CustomMailer;
 import org.simplejavamail.api.mailer.EmailTooBigException;
 import org.simplejavamail.api.mailer.Mailer;
+import org.simplejavamail.api.mailer.SendMetricsListener;
+import org.simplejavamail.api.mailer.SendPhase;
 import org.simplejavamail.api.mailer.config.OperationalConfig;
 import org.simplejavamail.converter.EmailConverter;
 import org.simplejavamail.email.EmailBuilder;
 import org.simplejavamail.email.internal.InternalEmail;
 import org.simplejavamail.email.internal.InternalEmailPopulatingBuilder;
+import org.simplejavamail.internal.moduleloader.ModuleLoader;
 import org.simplejavamail.internal.smimesupport.model.OriginalSmimeDetailsImpl;
 import org.simplejavamail.util.TestDataHelper;
 import testutil.ConfigLoaderTestHelper;
@@ -38,11 +42,15 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static demo.ResourceFolderHelper.determineResourceFolder;
 import static jakarta.mail.Message.RecipientType.TO;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
@@ -79,6 +87,9 @@ public class MailerLiveTest {
 	@Rule
 	public final SmtpServerRule smtpServerRule = new SmtpServerRule(SERVER_PORT, "usey", "passy");
 
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	private Mailer mailer;
 
 	// FIXME the builder should be reusable, but it fails this test when resused as a (static) field instance
@@ -128,6 +139,42 @@ public class MailerLiveTest {
 		assertSendingEmail(EmailHelper.createDummyEmailBuilder(true, true, false, true, false, false), true, false, true, false, false);
 	}
 
+	@Test
+	public void createMailSession_StandardDummyMail_AllFields_Pipelined()
+			throws MessagingException, ExecutionException, InterruptedException {
+		mailer = MailerBuilder.withSMTPServer("localhost", SERVER_PORT, USERNAME, PASSWORD)
+				.withEmailDefaults(EMAIL_DEFAULTS().buildEmail())
+				.withEmailOverrides(EMAIL_OVERRIDES().buildEmail())
+				.withTransportModePipelined(true)
+				.buildMailer();
+		assertSendingEmail(EmailHelper.createDummyEmailBuilder(true, false, false, true, true, true), true, false, false, false, true);
+	}
+
+	@Test
+	public void createMailSession_StandardDummyMail_AllFields_PipelinedToBytes()
+			throws MessagingException, ExecutionException, InterruptedException {
+		mailer = MailerBuilder.withSMTPServer("localhost", SERVER_PORT, USERNAME, PASSWORD)
+				.withEmailDefaults(EMAIL_DEFAULTS().buildEmail())
+				.withEmailOverrides(EMAIL_OVERRIDES().buildEmail())
+				.withTransportModePipelined(true)
+				.withTransportModePipelinedToBytes(true)
+				.buildMailer();
+		assertSendingEmail(EmailHelper.createDummyEmailBuilder(true, false, false, true, true, true), true, false, false, false, true);
+	}
+
+	@Test
+	public void createMailSession_StandardDummyMailBasicFields_Async_VirtualThreads()
+			throws MessagingException, ExecutionException, InterruptedException {
+		// falls back to the regular thread pool on JVMs without virtual threads
+		mailer = MailerBuilder.withSMTPServer("localhost", SERVER_PORT, USERNAME, PASSWORD)
+				.withEmailDefaults(EMAIL_DEFAULTS().buildEmail())
+				.withEmailOverrides(EMAIL_OVERRIDES().buildEmail())
+				.withThreadPoolVirtualThreads(true)
+				.buildMailer();
+		assertThat(mailer.getOperationalConfig().isThreadPoolVirtualThreads()).isTrue();
+		assertSendingEmail(EmailHelper.createDummyEmailBuilder(true, true, false, true, false, false), true, false, true, false, false);
+	}
+
 	@Test
 	public void createMailSession_StandardDummyMail_AllFields()
 			throws MessagingException, ExecutionException, InterruptedException {
@@ -588,6 +635,31 @@ public class MailerLiveTest {
 		sendAndVerifyEmailTooBigException(mailer);
 	}
 
+	@Test
+	public void testMaximumEmailSize_PipelinedToBytes() {
+		val mailer = MailerBuilder
+				.withSMTPServer("localhost", SERVER_PORT, USERNAME, PASSWORD)
+				.withMaximumEmailSize(4)
+				.withTransportModePipelined(true)
+				.withTransportModePipelinedToBytes(true)
+				.buildMailer();
+
+		sendAndVerifyEmailTooBigException(mailer);
+	}
+
+	@Test
+	public void testMaximumEmailSize_PipelinedToBytes_WithinLimit()
+			throws MessagingException, ExecutionException, InterruptedException {
+		mailer = MailerBuilder.withSMTPServer("localhost", SERVER_PORT, USERNAME, PASSWORD)
+				.withEmailDefaults(EMAIL_DEFAULTS().buildEmail())
+				.withEmailOverrides(EMAIL_OVERRIDES().buildEmail())
+				.withMaximumEmailSize(10 * 1024 * 1024)
+				.withTransportModePipelined(true)
+				.withTransportModePipelinedToBytes(true)
+				.buildMailer();
+		assertSendingEmail(EmailHelper.createDummyEmailBuilder(true, true, false, true, false, false), true, false, false, false, false);
+	}
+
 	@Test
 	public void testMaximumEmailSize_CustomMailer() {
 		val mailer = MailerBuilder
@@ -618,6 +690,104 @@ public class MailerLiveTest {
 		sendAndVerifyEmailTooBigException(mailer);
 	}
 
+	@Test
+	public void testSendMails_WithBoundedWindow()
+			throws ExecutionException, InterruptedException {
+		val emails = IntStream.range(0, 20)
+				.mapToObj(i -> EmailBuilder.startingBlank()
+						.withPlainText("bulk text " + i)
+						.withSubject("bulk email " + i)
+						.from("a@b.com")
+						.to(i == 7 ? "not an address" : "a@b.com")
+						.buildEmail());
+
+		val bulkSendResult = mailer.sendMails(emails.collect(toList()), 3);
+		bulkSendResult.getCompletion().get();
+
+		assertThat(bulkSendResult.getEmailCount()).isEqualTo(20);
+		assertThat(bulkSendResult.getSentCount()).isEqualTo(19);
+		assertThat(bulkSendResult.getFailedCount()).isEqualTo(1);
+		assertThat(bulkSendResult.getEmailFutures().get(7)).isCompletedExceptionally();
+		assertThat(bulkSendResult.getEmailFutures().get(8)).isCompleted().isNotCompletedExceptionally();
+		assertThat(smtpServerRule.getMessages()).hasSize(19);
+	}
+
+	@Test
+	public void testSendMetricsListener_ReportsPhasesAndExecutorSamples()
+			throws ExecutionException, InterruptedException {
+		val reportedPhases = ConcurrentHashMap.<SendPhase>newKeySet();
+		val executorSamples = new AtomicInteger();
+
+		mailer = MailerBuilder.withSMTPServer("localhost", SERVER_PORT, USERNAME, PASSWORD)
+				.withSendMetricsListener(new SendMetricsListener() {
+					@Override
+					public void phaseCompleted(@NotNull SendPhase phase, long durationNanos) {
+						assertThat(durationNanos).isNotNegative();
+						reportedPhases.add(phase);
+					}
+
+					@Override
+					public void executorSampled(int queueDepth, int activeThreads) {
+						executorSamples.incrementAndGet();
+					}
+				})
+				.buildMailer();
+
+		mailer.sendMail(EmailHelper.createDummyEmailBuilder(true, true, false, false, false, false).buildEmail(), true).get();
+
+		assertThat(reportedPhases).containsExactlyInAnyOrder(SendPhase.GOVERNANCE, SendPhase.VALIDATION, SendPhase.MIME_PRODUCTION,
+				SendPhase.TRANSPORT_CLAIM, SendPhase.TRANSPORT_SEND);
+		assertThat(executorSamples).hasValue(1);
+		assertThat(smtpServerRule.getMessages()).hasSize(1);
+	}
+
+	@Test
+	public void testSpool_ResendsRecoveredEmailsAndSpoolsAsyncEmails()
+			throws Exception {
+		val spoolDirectory = temporaryFolder.newFolder("spool");
+
+		// simulate a crash: an email was spooled, but never marked done
+		val crashedEmail = EmailHelper.createDummyEmailBuilder("<recovered@spool>", true, true, false, false, false, false, false).buildEmail();
+		val crashedSpool = ModuleLoader.loadSpoolModule().openSpool(spoolDirectory);
+		crashedSpool.append(null, singletonList("recovered@domain.com"), EmailConverter.emailToEML(crashedEmail).getBytes(UTF_8));
+		crashedSpool.close();
+
+		mailer = MailerBuilder.withSMTPServer("localhost", SERVER_PORT, USERNAME, PASSWORD)
+				.withSpoolDirectory(spoolDirectory)
+				.buildMailer();
+		// building the mailer doesn't resend anything by itself
+		assertThat(smtpServerRule.getMessages()).isEmpty();
+
+		val resendResult = mailer.resendSpooledEmails();
+		resendResult.getCompletion().get();
+		assertThat(resendResult.getEmailCount()).isEqualTo(1);
+		assertThat(resendResult.getSentCount()).isEqualTo(1);
+		assertThat(mailer.resendSpooledEmails().getEmailCount()).isZero();
+
+		mailer.sendMail(EmailHelper.createDummyEmailBuilder("<spooled@spool>", true, true, false, false, false, false, false).buildEmail(), true).get();
+
+		awaitReceivedMessages(2);
+		assertThat(smtpServerRule.getMessage("recovered@domain.com").getMessageID()).isEqualTo("<recovered@spool>");
+		assertThat(smtpServerRule.getOnlyMessage("candycane@candyshop.org").getMessageID()).isEqualTo("<spooled@spool>");
+
+		mailer.shutdownConnectionPool().get();
+		val reopenedSpool = ModuleLoader.loadSpoolModule().openSpool(spoolDirectory);
+		try {
+			assertThat(reopenedSpool.takeRecoveredEmails()).isEmpty();
+		} finally {
+			reopenedSpool.close();
+		}
+	}
+
+	private void awaitReceivedMessages(final int expectedMessages)
+			throws InterruptedException {
+		val deadline = System.currentTimeMillis() + 10_000;
+		while (smtpServerRule.getMessages().size() < expectedMessages && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(smtpServerRule.getMessages()).hasSize(expectedMessages);
+	}
+
 	private static void sendAndVerifyEmailTooBigException(Mailer mailer) {
 		val email = EmailBuilder.startingBlank()
 				.withPlainText("non empty text")
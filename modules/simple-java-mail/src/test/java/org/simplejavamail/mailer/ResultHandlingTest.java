@@ -5,16 +5,24 @@ import jakarta.mail.internet.MimeMessage;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Before;
 import org.junit.Test;
+import org.simplejavamail.MailException;
 import org.simplejavamail.api.email.Email;
 import org.simplejavamail.api.mailer.CustomMailer;
+import org.simplejavamail.api.mailer.Mailer;
 import org.simplejavamail.api.mailer.config.OperationalConfig;
 import org.simplejavamail.email.EmailBuilder;
 import testutil.ConfigLoaderTestHelper;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ResultHandlingTest {
@@ -102,6 +110,74 @@ public class ResultHandlingTest {
 		assertThat(exceptionHandlerInvoked).hasValue(true);
 	}
 
+	@Test
+	public void bulkSendInterruptedShouldCancelEmailsNotBeingSentYet() throws Exception {
+		final CountDownLatch sendingStarted = new CountDownLatch(1);
+		final CountDownLatch continueSending = new CountDownLatch(1);
+		final AtomicInteger sentCount = new AtomicInteger();
+		final Mailer mailer = MailerBuilder
+				.withSMTPServer("localhost", 0)
+				.withThreadPoolSize(1)
+				.withCustomMailer(new CustomMailer() {
+					@Override
+					public void testConnection(@NotNull final OperationalConfig operationalConfig, @NotNull final Session session) {
+					}
+
+					@Override
+					public void sendMessage(@NotNull OperationalConfig operationalConfig, @NotNull Session session, @NotNull Email email, @NotNull MimeMessage message) {
+						sendingStarted.countDown();
+						try {
+							continueSending.await();
+						} catch (final InterruptedException e) {
+							throw new RuntimeException(e);
+						}
+						sentCount.incrementAndGet();
+					}
+				})
+				.buildMailer();
+
+		final List<Email> emails = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			emails.add(createEmail());
+		}
+		final AtomicReference<MailException> thrown = new AtomicReference<>();
+		final AtomicBoolean interruptFlagRestored = new AtomicBoolean();
+		final Thread submittingThread = new Thread(() -> {
+			try {
+				mailer.sendMails(emails, 2);
+			} catch (final MailException e) {
+				thrown.set(e);
+				interruptFlagRestored.set(Thread.currentThread().isInterrupted());
+			}
+		});
+		submittingThread.start();
+
+		// first email is being sent, second is queued, third waits for room in the window
+		assertThat(sendingStarted.await(10, SECONDS)).isTrue();
+		while (submittingThread.getState() != Thread.State.WAITING) {
+			Thread.sleep(10);
+		}
+		submittingThread.interrupt();
+		submittingThread.join(SECONDS.toMillis(10));
+
+		assertThat(thrown.get()).hasMessageStartingWith("Interrupted while sending batch of emails, after handing over the first 2 emails");
+		assertThat(interruptFlagRestored).isTrue();
+
+		continueSending.countDown();
+		// the executor has a single thread, so once this email is sent, the queued (but cancelled) email had its turn
+		mailer.sendMail(createEmail(), true).get(10, SECONDS);
+		assertThat(sentCount).hasValue(2);
+	}
+
+	@NotNull
+	private static Email createEmail() {
+		return EmailBuilder.startingBlank()
+				.to("a@b.com")
+				.from("Simple Java Mail demo", "simplejavamail@demo.app")
+				.withPlainText("")
+				.buildEmail();
+	}
+
 	@NotNull
 	private CompletableFuture<Void> sendAsyncMailUsingMailerAPI(boolean sendSuccesfully) {
 		final boolean async = true;
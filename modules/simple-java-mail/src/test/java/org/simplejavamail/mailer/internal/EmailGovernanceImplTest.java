@@ -1,12 +1,19 @@
 package org.simplejavamail.mailer.internal;
 
+import com.sanctionco.jmail.JMail;
 import lombok.val;
 import org.junit.Test;
 import org.simplejavamail.api.email.EmailAssert;
 import org.simplejavamail.api.email.Recipient;
+import org.simplejavamail.email.EmailBuilder;
+import org.simplejavamail.email.internal.InternalEmail;
 import testutil.ConfigLoaderTestHelper;
 import testutil.EmailHelper;
 
+import static jakarta.mail.Message.RecipientType.BCC;
+import static jakarta.mail.Message.RecipientType.TO;
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class EmailGovernanceImplTest {
 
     @Test
@@ -104,4 +111,67 @@ public class EmailGovernanceImplTest {
                 .hasUseReturnReceiptTo(true)
                 .hasReturnReceiptTo(new Recipient(null, "replyto@domain.com", null));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void produceEmailApplyingDefaultsAndOverrides_NothingToMerge() {
+        ConfigLoaderTestHelper.clearConfigProperties();
+
+        val userEmail = EmailHelper.createDummyEmailBuilder(true, false, true, true, false, true).buildEmail();
+        val email = new EmailGovernanceImpl(null, null, null, null).produceEmailApplyingDefaultsAndOverrides(userEmail);
+
+        assertThat(email).isNotSameAs(userEmail).isEqualTo(userEmail);
+        assertThat(email.getRecipients()).isSameAs(userEmail.getRecipients());
+        assertThat(email.getAttachments()).isSameAs(userEmail.getAttachments());
+        ((InternalEmail) email).verifyDefaultsAndOverridesApplied();
+
+        ((InternalEmail) email).updateId("<generated@id>");
+        assertThat(userEmail.getId()).isEqualTo("<generated@id>");
+    }
+
+    @Test
+    public void produceEmailApplyingDefaultsAndOverrides_OnlyMergesPropertiesInPlan() {
+        ConfigLoaderTestHelper.clearConfigProperties();
+
+        val defaults = EmailBuilder.startingBlank()
+                .withSubject("")
+                .bcc("archive@domain.com")
+                .buildEmail();
+        val userEmail = EmailBuilder.startingBlank()
+                .from("from@domain.com")
+                .to("to@domain.com")
+                .buildEmail();
+
+        val email = new EmailGovernanceImpl(null, defaults, null, null).produceEmailApplyingDefaultsAndOverrides(userEmail);
+
+        assertThat(email.getSubject()).isEmpty();
+        assertThat(email.getRecipients()).containsExactly(
+                new Recipient(null, "to@domain.com", TO),
+                new Recipient(null, "archive@domain.com", BCC));
+    }
+
+    @Test
+    public void emailValidationResults_OnlyWithEmailValidator() {
+        ConfigLoaderTestHelper.clearConfigProperties();
+
+        assertThat(new EmailGovernanceImpl(JMail.strictValidator(), null, null, null).getEmailValidationResults()).isNull();
+        assertThat(new EmailGovernanceImpl(null, null, null, null, 100).getEmailValidationResults()).isNull();
+        assertThat(new EmailGovernanceImpl(JMail.strictValidator(), null, null, null, 100).getEmailValidationResults()).isNotNull();
+    }
+
+    @Test
+    public void emailValidationResults_StayWithinMaximumSize() {
+        val results = new EmailGovernanceImpl.EmailValidationResults(8);
+
+        assertThat(results.put("a@domain.com", true)).isNull();
+        assertThat(results.put("a@domain.com", false)).isTrue();
+        assertThat(results.get("a@domain.com")).isFalse();
+        assertThat(results).hasSize(1);
+
+        for (int i = 0; i < 100; i++) {
+            results.put(i + "@domain.com", true);
+            assertThat(results.size()).isLessThanOrEqualTo(8);
+        }
+        assertThat(results.remove("unknown@domain.com")).isNull();
+    }
+}
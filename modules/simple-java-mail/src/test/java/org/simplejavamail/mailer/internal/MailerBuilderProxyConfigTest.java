@@ -12,6 +12,7 @@ import java.io.ByteArrayInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.simplejavamail.api.mailer.MailerGenericBuilder.DEFAULT_PROXY_BRIDGE_BUFFER_SIZE;
 
 public class MailerBuilderProxyConfigTest {
 
@@ -28,7 +29,7 @@ public class MailerBuilderProxyConfigTest {
 	@Test
 	public void NoArgconstructor_WithoutConfigFile_WithoutHost() {
 		ConfigLoaderTestHelper.clearConfigProperties();
-		ProxyConfig emptyProxyConfig = new ProxyConfigImpl(null, null, null, null, null);
+		ProxyConfig emptyProxyConfig = new ProxyConfigImpl(null, null, null, null, null, false, DEFAULT_PROXY_BRIDGE_BUFFER_SIZE);
 		verifyProxyConfig(emptyProxyConfig, null, null, null, null, null);
 		assertThat(emptyProxyConfig.requiresProxy()).isFalse();
 		assertThat(emptyProxyConfig.requiresAuthentication()).isFalse();
@@ -84,6 +85,25 @@ public class MailerBuilderProxyConfigTest {
 		}
 	}
 
+	@Test
+	public void NoArgconstructor_WithoutConfigFile_ProxyBridgeBufferSize() {
+		ConfigLoaderTestHelper.clearConfigProperties();
+
+		final MailerGenericBuilderImpl<?> builder = (MailerGenericBuilderImpl<?>) MailerBuilder
+				.withSMTPServerHost("host")
+				.withSMTPServerPort(1234)
+				.withProxy("host", 1234, "username", "password");
+		assertThat(builder.buildProxyConfig().getProxyBridgeBufferSize()).isEqualTo(DEFAULT_PROXY_BRIDGE_BUFFER_SIZE);
+		assertThat(builder.withProxyBridgeBufferSize(4096).buildProxyConfig().getProxyBridgeBufferSize()).isEqualTo(4096);
+
+		try {
+			builder.withProxyBridgeBufferSize(0).buildMailer();
+			fail("IllegalArgumentException expected for proxy bridge buffer size");
+		} catch (IllegalArgumentException e) {
+			assertThat(e.getMessage()).containsIgnoringCase("Proxy bridge buffer size should be positive");
+		}
+	}
+
 	@SuppressWarnings("SameParameterValue")
 	private void verifyProxyConfig(ProxyConfig proxyConfig,
 								   @Nullable String host,
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.simplejavamail.api.mailer.MailerGenericBuilder.DEFAULT_PROXY_BRIDGE_BUFFER_SIZE;
 import static org.simplejavamail.api.mailer.config.TransportStrategy.SMTP;
 import static org.simplejavamail.api.mailer.config.TransportStrategy.SMTPS;
 import static org.simplejavamail.api.mailer.config.TransportStrategy.SMTP_OAUTH2;
@@ -138,6 +139,6 @@ public class MailerImplTest {
 
 	@NotNull
 	private ProxyConfig createEmptyProxyConfig() {
-		return new ProxyConfigImpl(null, null, null, null, null);
+		return new ProxyConfigImpl(null, null, null, null, null, false, DEFAULT_PROXY_BRIDGE_BUFFER_SIZE);
 	}
 }
\ No newline at end of file
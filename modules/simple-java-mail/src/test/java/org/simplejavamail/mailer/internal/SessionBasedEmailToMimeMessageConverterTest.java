@@ -0,0 +1,82 @@
+package org.simplejavamail.mailer.internal;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.Test;
+import org.simplejavamail.api.mailer.EmailTooBigException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.simplejavamail.mailer.internal.SessionBasedEmailToMimeMessageConverter.writeMimeMessage;
+
+public class SessionBasedEmailToMimeMessageConverterTest {
+
+	@Test
+	public void testWriteMimeMessage_WithinMaximumSize()
+			throws MessagingException {
+		final ByteArrayOutputStream retainedBytes = new ByteArrayOutputStream();
+		writeMimeMessage(new WritingMimeMessage(100, false), 100, retainedBytes);
+		assertThat(retainedBytes.size()).isEqualTo(100);
+	}
+
+	@Test
+	public void testWriteMimeMessage_MaximumSizeExceeded() {
+		assertThatThrownBy(() -> writeMimeMessage(new WritingMimeMessage(100, false), 10, null))
+				.isInstanceOf(EmailTooBigException.class)
+				.hasMessage("Email size of 100 bytes exceeds maximum allowed size of 10 bytes");
+	}
+
+	@Test
+	public void testWriteMimeMessage_MaximumSizeExceededWrappedInMessagingException() {
+		assertThatThrownBy(() -> writeMimeMessage(new WritingMimeMessage(100, true), 10, null))
+				.isInstanceOf(EmailTooBigException.class)
+				.hasMessage("Email size of 100 bytes exceeds maximum allowed size of 10 bytes");
+	}
+
+	@Test
+	public void testWriteMimeMessage_OtherFailuresPropagate() {
+		final MimeMessage failingMimeMessage = new MimeMessage(Session.getInstance(new Properties())) {
+			@Override
+			public void writeTo(final OutputStream os)
+					throws MessagingException {
+				throw new MessagingException("broken body part");
+			}
+		};
+		assertThatThrownBy(() -> writeMimeMessage(failingMimeMessage, 10, null))
+				.isInstanceOf(MessagingException.class)
+				.hasMessage("broken body part");
+	}
+
+	/**
+	 * Writes the given number of bytes, optionally wrapping the resulting IOException like Jakarta Mail sometimes does.
+	 */
+	private static class WritingMimeMessage extends MimeMessage {
+		private final int size;
+		private final boolean wrapIOException;
+
+		WritingMimeMessage(final int size, final boolean wrapIOException) {
+			super(Session.getInstance(new Properties()));
+			this.size = size;
+			this.wrapIOException = wrapIOException;
+		}
+
+		@Override
+		public void writeTo(final OutputStream os)
+				throws IOException, MessagingException {
+			try {
+				os.write(new byte[size]);
+			} catch (IOException e) {
+				if (wrapIOException) {
+					throw new MessagingException("error writing body part", e);
+				}
+				throw e;
+			}
+		}
+	}
+}
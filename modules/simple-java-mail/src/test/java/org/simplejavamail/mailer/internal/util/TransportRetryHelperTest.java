@@ -0,0 +1,113 @@
+package org.simplejavamail.mailer.internal.util;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.eclipse.angus.mail.smtp.SMTPTransport;
+import org.junit.Test;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.determineBackoffMillis;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.isFailureAfterData;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.isPartiallySent;
+import static org.simplejavamail.mailer.internal.util.TransportRetryHelper.isTransientFailure;
+
+public class TransportRetryHelperTest {
+
+	@Test
+	public void testIsTransientFailure_ReplyCodes() throws Exception {
+		assertThat(isTransientFailure(sendFailed(451))).isTrue();
+		assertThat(isTransientFailure(sendFailed(421))).isTrue();
+		assertThat(isTransientFailure(sendFailed(550))).isFalse();
+		assertThat(isTransientFailure(new MessagingException("wrapped", sendFailed(452)))).isTrue();
+	}
+
+	@Test
+	public void testIsTransientFailure_MixedRecipientFailures() throws Exception {
+		final SendFailedException allFailed = new SendFailedException("Invalid Addresses", addressFailed(450));
+		assertThat(isTransientFailure(allFailed)).isTrue();
+
+		final SMTPAddressFailedException temporaryFailure = addressFailed(450);
+		temporaryFailure.setNextException(addressFailed(550));
+		assertThat(isTransientFailure(new SendFailedException("Invalid Addresses", temporaryFailure))).isFalse();
+	}
+
+	@Test
+	public void testIsTransientFailure_ConnectionProblems() {
+		assertThat(isTransientFailure(new MessagingException("Exception reading response", new SocketException("Connection reset")))).isTrue();
+		assertThat(isTransientFailure(new MessagingException("Exception reading response", new SocketTimeoutException("Read timed out")))).isTrue();
+	}
+
+	@Test
+	public void testIsTransientFailure_OtherFailures() {
+		assertThat(isTransientFailure(new MessagingException("something else"))).isFalse();
+		assertThat(isTransientFailure(new IllegalStateException("bug"))).isFalse();
+	}
+
+	@Test
+	public void testIsPartiallySent() throws Exception {
+		final InternetAddress[] accepted = { new InternetAddress("accepted@b.com") };
+		final InternetAddress[] notAccepted = { new InternetAddress("greylisted@b.com") };
+		final SendFailedException partiallySent = new SendFailedException("Invalid Addresses", addressFailed(450), accepted, notAccepted, null);
+		// transient, but retrying would deliver the email to the accepted recipient again
+		assertThat(isTransientFailure(partiallySent)).isTrue();
+		assertThat(isPartiallySent(partiallySent)).isTrue();
+		assertThat(isPartiallySent(new MessagingException("wrapped", partiallySent))).isTrue();
+
+		assertThat(isPartiallySent(new SendFailedException("Invalid Addresses", addressFailed(450), null, notAccepted, null))).isFalse();
+		assertThat(isPartiallySent(new SendFailedException("Invalid Addresses", addressFailed(450), new InternetAddress[0], notAccepted, null))).isFalse();
+		assertThat(isPartiallySent(sendFailed(451))).isFalse();
+	}
+
+	@Test
+	public void testIsFailureAfterData_TransferOrFinalReplyFailed() {
+		final MessagingException transferFailed = new MessagingException("IOException while sending message", new SocketException("Connection reset"));
+		assertThat(isFailureAfterData(smtpTransport(354), transferFailed)).isTrue();
+
+		final MessagingException finalReplyLost = new MessagingException("Exception reading response", new SocketTimeoutException("Read timed out"));
+		assertThat(isFailureAfterData(smtpTransport(0), finalReplyLost)).isTrue();
+
+		assertThat(isFailureAfterData(smtpTransport(354), new SMTPSendFailedException(".", 451, "451 try again later", null, null, null, null))).isTrue();
+	}
+
+	@Test
+	public void testIsFailureAfterData_FailureBeforeData() throws Exception {
+		assertThat(isFailureAfterData(smtpTransport(450), new SendFailedException("Invalid Addresses", addressFailed(450)))).isFalse();
+		assertThat(isFailureAfterData(smtpTransport(451), sendFailed(451))).isFalse();
+		assertThat(isFailureAfterData(smtpTransport(250), new MessagingException("Can't send command to SMTP host", new SocketException("Broken pipe")))).isFalse();
+	}
+
+	@Test
+	public void testDetermineBackoffMillis() {
+		for (int i = 0; i < 100; i++) {
+			assertThat(determineBackoffMillis(0, 1000)).isBetween(500L, 1000L);
+			assertThat(determineBackoffMillis(3, 1000)).isBetween(4000L, 8000L);
+			assertThat(determineBackoffMillis(40, 1000)).isBetween(30_000L, 60_000L);
+			assertThat(determineBackoffMillis(2, 0)).isZero();
+		}
+	}
+
+	private static SMTPTransport smtpTransport(final int lastReturnCode) {
+		return new SMTPTransport(Session.getInstance(new Properties()), null) {
+			@Override
+			public synchronized int getLastReturnCode() {
+				return lastReturnCode;
+			}
+		};
+	}
+
+	private static SMTPSendFailedException sendFailed(final int replyCode) {
+		return new SMTPSendFailedException("DATA", replyCode, replyCode + " failed", null, null, null, null);
+	}
+
+	private static SMTPAddressFailedException addressFailed(final int replyCode) throws Exception {
+		return new SMTPAddressFailedException(new InternetAddress("a@b.com"), "RCPT TO", replyCode, replyCode + " failed");
+	}
+}
@@ -8,12 +8,14 @@ import org.jetbrains.annotations.Nullable;
 import org.simplejavamail.api.email.CalendarMethod;
 import org.simplejavamail.api.email.EmailPopulatingBuilder;
 import org.simplejavamail.api.mailer.CustomMailer;
+import org.simplejavamail.api.mailer.SendMetricsListener;
 import org.simplejavamail.api.mailer.config.LoadBalancingStrategy;
 import org.simplejavamail.api.mailer.config.OperationalConfig;
 import org.simplejavamail.email.EmailBuilder;
 import org.simplejavamail.email.internal.InternalEmailPopulatingBuilder;
 import org.simplejavamail.internal.smimesupport.model.OriginalSmimeDetailsImpl;
 
+import java.io.File;
 import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -145,7 +147,14 @@ public class EmailHelper {
 				/*16*/verifyServerIdentity,
 				/*17*/newSingleThreadExecutor(),
 				/*18*/false,
-				/*19*/null);
+				/*19*/null,
+				/*20*/false,
+				/*21*/false,
+				/*22*/false,
+				/*23*/null,
+				/*24*/0,
+				/*25*/1000,
+				/*26*/null);
 	}
 
 	@NotNull
@@ -170,7 +179,14 @@ public class EmailHelper {
 			/*16*/final boolean verifyingServerIdentity,
 			/*17*/@NotNull final ExecutorService executorService,
 			/*18*/final boolean isExecutorServiceUserProvided,
-			/*19*/@Nullable final CustomMailer customMailer) {
+			/*19*/@Nullable final CustomMailer customMailer,
+			/*20*/final boolean transportModePipelined,
+			/*21*/final boolean transportModePipelinedToBytes,
+			/*22*/final boolean threadPoolVirtualThreads,
+			/*23*/@Nullable final SendMetricsListener sendMetricsListener,
+			/*24*/final int transportRetries,
+			/*25*/final int transportRetryBackoffMillis,
+			/*26*/@Nullable final File spoolDirectory) {
 		try {
 			Constructor<?> constructor = Class.forName("org.simplejavamail.mailer.internal.OperationalConfigImpl").getDeclaredConstructors()[0];
 			constructor.setAccessible(true);
@@ -194,7 +210,14 @@ public class EmailHelper {
 					/*16*/verifyingServerIdentity,
 					/*17*/executorService,
 					/*18*/isExecutorServiceUserProvided,
-					/*19*/customMailer);
+					/*19*/customMailer,
+					/*20*/transportModePipelined,
+					/*21*/transportModePipelinedToBytes,
+					/*22*/threadPoolVirtualThreads,
+					/*23*/sendMetricsListener,
+					/*24*/transportRetries,
+					/*25*/transportRetryBackoffMillis,
+					/*26*/spoolDirectory);
 		} catch (ClassNotFoundException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
 			throw new AssertionError(e.getMessage(), e);
 		}
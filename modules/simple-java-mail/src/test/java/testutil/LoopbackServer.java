@@ -0,0 +1,103 @@
+package testutil;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Plain blocking server on the loopback interface, which handles each connection on its own thread. Used as the target server when testing the
+ * SOCKS bridge and its relays.
+ */
+public class LoopbackServer implements Closeable {
+
+	private final ServerSocket serverSocket;
+	private final List<Socket> connections = new CopyOnWriteArrayList<>();
+
+	public LoopbackServer(@NotNull final ConnectionHandler connectionHandler)
+			throws IOException {
+		this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		final Thread acceptThread = new Thread(() -> {
+			while (!serverSocket.isClosed()) {
+				try {
+					final Socket socket = serverSocket.accept();
+					connections.add(socket);
+					final Thread connectionThread = new Thread(() -> handle(connectionHandler, socket), "loopback-connection");
+					connectionThread.setDaemon(true);
+					connectionThread.start();
+				} catch (final IOException e) {
+					// server socket closed
+				}
+			}
+		}, "loopback-server");
+		acceptThread.setDaemon(true);
+		acceptThread.start();
+	}
+
+	/**
+	 * @return A server that writes back everything it receives, and closes the connection once the client shut down its output.
+	 */
+	@NotNull
+	public static LoopbackServer echoServer()
+			throws IOException {
+		return new LoopbackServer(socket -> {
+			final InputStream inputStream = socket.getInputStream();
+			final OutputStream outputStream = socket.getOutputStream();
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				outputStream.write(buffer, 0, read);
+				outputStream.flush();
+			}
+		});
+	}
+
+	private static void handle(@NotNull final ConnectionHandler connectionHandler, @NotNull final Socket socket) {
+		try {
+			connectionHandler.handle(socket);
+		} catch (final IOException e) {
+			// connection broke down, which some tests do on purpose
+		} finally {
+			closeQuietly(socket);
+		}
+	}
+
+	@NotNull
+	public InetSocketAddress getAddress() {
+		return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+	}
+
+	@Override
+	public void close()
+			throws IOException {
+		serverSocket.close();
+		for (final Socket connection : connections) {
+			closeQuietly(connection);
+		}
+	}
+
+	private static void closeQuietly(@NotNull final Socket socket) {
+		try {
+			socket.close();
+		} catch (final IOException e) {
+			// ignore
+		}
+	}
+
+	@FunctionalInterface
+	public interface ConnectionHandler {
+		/**
+		 * Handles the connection, which is closed once this method returns.
+		 */
+		void handle(@NotNull Socket socket)
+				throws IOException;
+	}
+}
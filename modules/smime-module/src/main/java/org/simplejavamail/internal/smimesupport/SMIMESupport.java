@@ -42,6 +42,7 @@ import org.simplejavamail.internal.modules.SMIMEModule;
 import org.simplejavamail.internal.smimesupport.builder.SmimeParseResultBuilder;
 import org.simplejavamail.internal.smimesupport.model.OriginalSmimeDetailsImpl;
 import org.simplejavamail.internal.smimesupport.model.SmimeDetailsImpl;
+import org.simplejavamail.internal.util.concurrent.BoundedCache;
 import org.simplejavamail.utils.mail.smime.SmimeKey;
 import org.simplejavamail.utils.mail.smime.SmimeKeyStore;
 import org.simplejavamail.utils.mail.smime.SmimeMessageIdFixingMimeMessage;
@@ -58,9 +59,8 @@ import java.security.Security;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
@@ -77,7 +77,15 @@ public class SMIMESupport implements SMIMEModule {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SMIMESupport.class);
 	private static final List<String> SMIME_MIMETYPES = asList("application/pkcs7-mime", "application/x-pkcs7-mime", "multipart/signed");
-	private static final Map<Pkcs12Config, SmimeKey> SIMPLE_SMIMESTORE_CACHE = new HashMap<>();
+
+	/**
+	 * Keystores are cached by content, so a rotated keystore is loaded as a new entry regardless; expiry makes sure keys that are no longer used
+	 * don't linger in memory.
+	 */
+	private static final int SIMPLE_SMIMESTORE_CACHE_SIZE = 100;
+	private static final long SIMPLE_SMIMESTORE_CACHE_EXPIRE_AFTER_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+	private static final BoundedCache<Pkcs12Config, SmimeKey> SIMPLE_SMIMESTORE_CACHE = new BoundedCache<>(SIMPLE_SMIMESTORE_CACHE_SIZE, SIMPLE_SMIMESTORE_CACHE_EXPIRE_AFTER_MILLIS);
 
 	static {
 		Security.addProvider(new BouncyCastleProvider());
@@ -464,16 +472,43 @@ public class SMIMESupport implements SMIMEModule {
 		return message instanceof SmimeMessageIdFixingMimeMessage || message instanceof SmimeMessageIdFixingSMTPMessage;
 	}
 
+	/**
+	 * @return The number of times a loaded S/MIME keystore was reused from the cache.
+	 */
+	public static long getSmimeStoreCacheHitCount() {
+		return SIMPLE_SMIMESTORE_CACHE.getHitCount();
+	}
+
+	/**
+	 * @return The number of times an S/MIME keystore had to be loaded, because it wasn't cached (anymore) or its cache entry expired.
+	 */
+	public static long getSmimeStoreCacheMissCount() {
+		return SIMPLE_SMIMESTORE_CACHE.getMissCount();
+	}
+
+	/**
+	 * @return The total time spent loading S/MIME keystores, in nanoseconds.
+	 */
+	public static long getSmimeStoreCacheTotalLoadTimeNanos() {
+		return SIMPLE_SMIMESTORE_CACHE.getTotalLoadTimeNanos();
+	}
+
+	/**
+	 * Forgets all loaded S/MIME keystores.
+	 */
+	public static void clearSmimeStoreCache() {
+		SIMPLE_SMIMESTORE_CACHE.clear();
+	}
+
 	@NotNull
 	private SmimeKey retrieveSmimeKeyFromPkcs12Keystore(@NotNull Pkcs12Config pkcs12Config) {
-		if (!SIMPLE_SMIMESTORE_CACHE.containsKey(pkcs12Config)) {
-			SmimeKey smimeKey = produceSmimeKey(pkcs12Config);
+		return SIMPLE_SMIMESTORE_CACHE.computeIfAbsent(pkcs12Config, pkcs12 -> {
+			SmimeKey smimeKey = produceSmimeKey(pkcs12);
 			if (smimeKey == null) {
 				throw new SmimeException(ERROR_OBTAINING_SMIME_KEY);
 			}
-			SIMPLE_SMIMESTORE_CACHE.put(pkcs12Config, smimeKey);
-		}
-        return SIMPLE_SMIMESTORE_CACHE.get(pkcs12Config);
+			return smimeKey;
+		});
 	}
 
 	@Nullable
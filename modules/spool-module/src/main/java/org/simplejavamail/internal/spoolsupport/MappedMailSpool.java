@@ -0,0 +1,391 @@
+package org.simplejavamail.internal.spoolsupport;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.api.internal.spoolsupport.MailSpool;
+import org.simplejavamail.api.internal.spoolsupport.SpooledEmail;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+import static org.simplejavamail.internal.spoolsupport.SpoolException.ERROR_APPENDING_TO_SPOOL;
+import static org.simplejavamail.internal.spoolsupport.SpoolException.ERROR_OPENING_SPOOL;
+import static org.simplejavamail.internal.spoolsupport.SpoolException.ERROR_SPOOL_CLOSED;
+import static org.simplejavamail.internal.spoolsupport.SpoolException.ERROR_SPOOL_IN_USE;
+import static org.simplejavamail.internal.spoolsupport.SpoolSegment.RECORD_HEADER_SIZE;
+import static org.simplejavamail.internal.spoolsupport.SpoolSegment.STATUS_PENDING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Segmented append log of memory-mapped files.
+ * <p>
+ * Appending only copies the record into the active segment's mapping. To make it durable, the appending thread then waits until a force of
+ * the mapping covers its record. Only one thread forces at a time, covering every record appended until then, so threads that append while a
+ * force is in progress are all made durable by the next single force (group commit) rather than each forcing the file themselves.
+ * <p>
+ * Marking records done is not forced at all, which makes delivery at-least-once.
+ */
+final class MappedMailSpool implements MailSpool {
+
+	private static final Logger LOGGER = getLogger(MappedMailSpool.class);
+
+	private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+	private static final String LOCK_FILE_NAME = "spool.lock";
+
+	@NotNull private final File directory;
+	private final int segmentSize;
+	@NotNull private final Consumer<MappedMailSpool> releaser;
+	@NotNull private final FileChannel lockChannel;
+	@NotNull private final FileLock lock;
+
+	private final Object appendLock = new Object();
+	private final Object forceLock = new Object();
+
+	/**
+	 * Guarded by {@link #appendLock}.
+	 */
+	@NotNull private SpoolSegment activeSegment;
+	private long appendedRecords;
+	private volatile boolean closed;
+
+	private volatile long durableRecords;
+
+	/**
+	 * Guarded by {@link SpoolSupport}.
+	 */
+	private int users;
+
+	@Nullable private List<SpooledEmail> recoveredEmails;
+
+	private MappedMailSpool(@NotNull final File directory, final int segmentSize, @NotNull final Consumer<MappedMailSpool> releaser, @NotNull final FileChannel lockChannel,
+			@NotNull final FileLock lock, @NotNull final List<SpooledEmail> recoveredEmails, @NotNull final SpoolSegment activeSegment) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.releaser = releaser;
+		this.lockChannel = lockChannel;
+		this.lock = lock;
+		this.recoveredEmails = recoveredEmails;
+		this.activeSegment = activeSegment;
+	}
+
+	/**
+	 * Locks the directory against use by other processes, recovers the pending records from existing segments and starts a new segment to
+	 * append to.
+	 *
+	 * @param releaser Invoked when a user closes the spool.
+	 */
+	@NotNull
+	static MappedMailSpool open(@NotNull final File directory, @NotNull final Consumer<MappedMailSpool> releaser) {
+		return open(directory, SEGMENT_SIZE, releaser);
+	}
+
+	/**
+	 * @param segmentSize The size of new segments, unless a record needs more room than that.
+	 */
+	@NotNull
+	static MappedMailSpool open(@NotNull final File directory, final int segmentSize, @NotNull final Consumer<MappedMailSpool> releaser) {
+		FileChannel lockChannel = null;
+		try {
+			if (!directory.isDirectory() && !directory.mkdirs()) {
+				throw new SpoolException(format(ERROR_OPENING_SPOOL, directory));
+			}
+			lockChannel = FileChannel.open(new File(directory, LOCK_FILE_NAME).toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			final FileLock lock = lockChannel.tryLock();
+			if (lock == null) {
+				throw new SpoolException(format(ERROR_SPOOL_IN_USE, directory));
+			}
+			final List<SpooledEmail> recoveredEmails = new ArrayList<>();
+			long lastSequence = 0;
+			for (final String segmentFileName : listSegmentFileNames(directory)) {
+				final SpoolSegment segment = SpoolSegment.map(directory, SpoolSegment.determineSequence(segmentFileName), 0);
+				recoveredEmails.addAll(recoverPendingRecords(segment));
+				segment.seal();
+				lastSequence = segment.getSequence();
+			}
+			LOGGER.debug("opened spool {}, recovered {} pending email(s)", directory, recoveredEmails.size());
+			final SpoolSegment activeSegment = SpoolSegment.map(directory, lastSequence + 1, segmentSize);
+			return new MappedMailSpool(directory, segmentSize, releaser, lockChannel, lock, recoveredEmails, activeSegment);
+		} catch (final IOException e) {
+			closeQuietly(lockChannel);
+			throw new SpoolException(format(ERROR_OPENING_SPOOL, directory), e);
+		} catch (final RuntimeException e) {
+			closeQuietly(lockChannel);
+			throw e;
+		}
+	}
+
+	@NotNull
+	private static List<String> listSegmentFileNames(@NotNull final File directory) {
+		final List<String> segmentFileNames = new ArrayList<>();
+		final String[] fileNames = directory.list();
+		if (fileNames != null) {
+			for (final String fileName : fileNames) {
+				if (SpoolSegment.isSegmentFile(fileName)) {
+					segmentFileNames.add(fileName);
+				}
+			}
+		}
+		Collections.sort(segmentFileNames);
+		return segmentFileNames;
+	}
+
+	/**
+	 * Scans the segment up to the first record that was never completely written. Such a record can only be the result of a crash during
+	 * appending, in which case it (and anything after it) was never acknowledged as spooled.
+	 */
+	@NotNull
+	private static List<SpooledEmail> recoverPendingRecords(@NotNull final SpoolSegment segment) {
+		final List<SpooledEmail> pendingRecords = new ArrayList<>();
+		final ByteBuffer view = segment.view();
+		int offset = 0;
+		while (offset + RECORD_HEADER_SIZE <= segment.getCapacity()) {
+			view.position(offset);
+			final int payloadLength = view.getInt();
+			final byte status = view.get();
+			final int crc = view.getInt();
+			if (payloadLength <= 0 || payloadLength > segment.getCapacity() - offset - RECORD_HEADER_SIZE || crc != determineCrc(view, payloadLength)) {
+				break;
+			}
+			if (status == STATUS_PENDING) {
+				final SpoolRecord record = readRecord(segment, view, offset, payloadLength);
+				if (record != null) {
+					segment.recordAdded();
+					pendingRecords.add(record);
+				}
+			}
+			offset += RECORD_HEADER_SIZE + payloadLength;
+		}
+		segment.setWritePosition(offset);
+		return pendingRecords;
+	}
+
+	private static int determineCrc(@NotNull final ByteBuffer view, final int payloadLength) {
+		final ByteBuffer payload = view.duplicate();
+		payload.limit(payload.position() + payloadLength);
+		final CRC32 crc32 = new CRC32();
+		crc32.update(payload);
+		return (int) crc32.getValue();
+	}
+
+	@Nullable
+	private static SpoolRecord readRecord(@NotNull final SpoolSegment segment, @NotNull final ByteBuffer view, final int recordOffset, final int payloadLength) {
+		final int payloadOffset = view.position();
+		try {
+			final String envelopeFrom = view.get() != 0 ? readString(view) : null;
+			final int recipientCount = view.getInt();
+			final List<String> recipients = new ArrayList<>(recipientCount);
+			for (int i = 0; i < recipientCount; i++) {
+				recipients.add(readString(view));
+			}
+			final int emlOffset = view.position();
+			return new SpoolRecord(segment, recordOffset, envelopeFrom, recipients, emlOffset, payloadOffset + payloadLength - emlOffset);
+		} catch (final BufferUnderflowException | IllegalArgumentException e) {
+			LOGGER.error("skipping malformed record in spool segment {} at offset {}", segment, recordOffset, e);
+			return null;
+		}
+	}
+
+	@NotNull
+	private static String readString(@NotNull final ByteBuffer view) {
+		final byte[] bytes = new byte[view.getInt()];
+		view.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @see MailSpool#append(String, List, byte[])
+	 */
+	@NotNull
+	@Override
+	public SpooledEmail append(@Nullable final String envelopeFrom, @NotNull final List<String> recipients, @NotNull final byte[] eml) {
+		final byte[] envelope = encodeEnvelope(envelopeFrom, recipients);
+		final int payloadLength = envelope.length + eml.length;
+		final CRC32 crc32 = new CRC32();
+		crc32.update(envelope);
+		crc32.update(eml);
+
+		final SpoolRecord record;
+		final long recordNumber;
+		synchronized (appendLock) {
+			if (closed) {
+				throw new SpoolException(format(ERROR_SPOOL_CLOSED, directory));
+			}
+			if (activeSegment.remaining() < RECORD_HEADER_SIZE + payloadLength) {
+				rollSegment(RECORD_HEADER_SIZE + payloadLength);
+			}
+			final SpoolSegment segment = activeSegment;
+			final int recordOffset = segment.getWritePosition();
+			final ByteBuffer view = segment.view();
+			view.position(recordOffset + 4);
+			view.put(STATUS_PENDING);
+			view.putInt((int) crc32.getValue());
+			view.put(envelope);
+			view.put(eml);
+			// the length goes in last, as it marks the record as present
+			view.putInt(recordOffset, payloadLength);
+			segment.setWritePosition(recordOffset + RECORD_HEADER_SIZE + payloadLength);
+			segment.recordAdded();
+			record = new SpoolRecord(segment, recordOffset, envelopeFrom, recipients, recordOffset + RECORD_HEADER_SIZE + envelope.length, eml.length);
+			recordNumber = ++appendedRecords;
+		}
+		awaitDurable(recordNumber);
+		return record;
+	}
+
+	@NotNull
+	private static byte[] encodeEnvelope(@Nullable final String envelopeFrom, @NotNull final List<String> recipients) {
+		final ByteArrayOutputStream envelope = new ByteArrayOutputStream(64 * (recipients.size() + 1));
+		try (final DataOutputStream out = new DataOutputStream(envelope)) {
+			out.writeByte(envelopeFrom != null ? 1 : 0);
+			if (envelopeFrom != null) {
+				writeString(out, envelopeFrom);
+			}
+			out.writeInt(recipients.size());
+			for (final String recipient : recipients) {
+				writeString(out, recipient);
+			}
+		} catch (final IOException e) {
+			throw new AssertionError("ByteArrayOutputStream doesn't throw IOException", e);
+		}
+		return envelope.toByteArray();
+	}
+
+	private static void writeString(@NotNull final DataOutputStream out, @NotNull final String value)
+			throws IOException {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Seals the active segment after forcing it, so the records in it are durable without the next force having to cover the old segment as well.
+	 */
+	private void rollSegment(final int minimumSize) {
+		final SpoolSegment previousSegment = activeSegment;
+		try {
+			activeSegment = SpoolSegment.map(directory, previousSegment.getSequence() + 1, Math.max(segmentSize, minimumSize));
+		} catch (final IOException e) {
+			throw new SpoolException(format(ERROR_APPENDING_TO_SPOOL, directory), e);
+		}
+		previousSegment.force();
+		previousSegment.seal();
+	}
+
+	/**
+	 * Returns once the given record (counting from the first append) has been forced to disk, forcing the active segment if no other thread
+	 * is already doing so.
+	 */
+	private void awaitDurable(final long recordNumber) {
+		if (durableRecords >= recordNumber) {
+			return;
+		}
+		synchronized (forceLock) {
+			if (durableRecords >= recordNumber) {
+				return; // another thread's force covered this record while we were waiting
+			}
+			final long appendedRecordsToForce;
+			final SpoolSegment segmentToForce;
+			synchronized (appendLock) {
+				appendedRecordsToForce = appendedRecords;
+				segmentToForce = activeSegment;
+			}
+			if (!segmentToForce.isDeleted()) {
+				segmentToForce.force();
+			}
+			durableRecords = appendedRecordsToForce;
+		}
+	}
+
+	/**
+	 * @see MailSpool#takeRecoveredEmails()
+	 */
+	@NotNull
+	@Override
+	public synchronized List<SpooledEmail> takeRecoveredEmails() {
+		final List<SpooledEmail> emails = recoveredEmails != null ? recoveredEmails : Collections.<SpooledEmail>emptyList();
+		recoveredEmails = null;
+		return emails;
+	}
+
+	/**
+	 * @see MailSpool#markDone(SpooledEmail)
+	 */
+	@Override
+	public void markDone(@NotNull final SpooledEmail spooledEmail) {
+		if (closed) {
+			LOGGER.debug("spool {} already closed, {} will be recovered when the spool is opened again", directory, spooledEmail);
+			return;
+		}
+		final SpoolRecord record = (SpoolRecord) spooledEmail;
+		record.getSegment().markDone(record.getRecordOffset());
+	}
+
+	/**
+	 * @see MailSpool#close()
+	 */
+	@Override
+	public void close() {
+		releaser.accept(this);
+	}
+
+	@NotNull
+	File getDirectory() {
+		return directory;
+	}
+
+	void addUser() {
+		users++;
+	}
+
+	/**
+	 * @return Whether this was the last user.
+	 */
+	boolean removeUser() {
+		return users > 0 && --users == 0;
+	}
+
+	/**
+	 * Forces and closes the active segment and releases the directory. Sealed segments are left as they are, to be recovered when the spool is
+	 * opened again.
+	 */
+	void closeLog() {
+		synchronized (appendLock) {
+			if (!closed) {
+				closed = true;
+				activeSegment.force();
+				try {
+					lock.release();
+				} catch (final IOException e) {
+					LOGGER.warn("unable to release lock on spool {}", directory, e);
+				}
+				closeQuietly(lockChannel);
+				LOGGER.debug("closed spool {}", directory);
+			}
+		}
+	}
+
+	private static void closeQuietly(@Nullable final FileChannel channel) {
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (final IOException e) {
+				LOGGER.warn("unable to close spool lock file", e);
+			}
+		}
+	}
+}
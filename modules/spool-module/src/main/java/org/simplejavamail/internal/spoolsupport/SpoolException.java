@@ -0,0 +1,17 @@
+package org.simplejavamail.internal.spoolsupport;
+
+class SpoolException extends RuntimeException {
+
+	static final String ERROR_OPENING_SPOOL = "Was unable to open the spool in directory:\t%n%s";
+	static final String ERROR_SPOOL_IN_USE = "Spool directory is already in use by another process:\t%n%s";
+	static final String ERROR_APPENDING_TO_SPOOL = "Was unable to append email to the spool in directory:\t%n%s";
+	static final String ERROR_SPOOL_CLOSED = "Spool has been closed:\t%n%s";
+
+	SpoolException(final String msg, final Throwable cause) {
+		super(msg, cause);
+	}
+
+	SpoolException(final String msg) {
+		super(msg);
+	}
+}
@@ -0,0 +1,68 @@
+package org.simplejavamail.internal.spoolsupport;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.simplejavamail.api.internal.spoolsupport.SpooledEmail;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A record in a {@link SpoolSegment}. The message itself is not kept on the heap, but read from the segment's mapping when it is sent, so
+ * emails waiting in the executor's queue only take up page cache.
+ */
+final class SpoolRecord implements SpooledEmail {
+
+	@NotNull private final SpoolSegment segment;
+	private final int recordOffset;
+	@Nullable private final String envelopeFrom;
+	@NotNull private final List<String> recipients;
+	private final int emlOffset;
+	private final int emlLength;
+
+	SpoolRecord(@NotNull final SpoolSegment segment, final int recordOffset, @Nullable final String envelopeFrom, @NotNull final List<String> recipients,
+			final int emlOffset, final int emlLength) {
+		this.segment = segment;
+		this.recordOffset = recordOffset;
+		this.envelopeFrom = envelopeFrom;
+		this.recipients = recipients;
+		this.emlOffset = emlOffset;
+		this.emlLength = emlLength;
+	}
+
+	@Nullable
+	@Override
+	public String getEnvelopeFrom() {
+		return envelopeFrom;
+	}
+
+	@NotNull
+	@Override
+	public List<String> getRecipients() {
+		return recipients;
+	}
+
+	@NotNull
+	@Override
+	public byte[] getEml() {
+		final byte[] eml = new byte[emlLength];
+		final ByteBuffer view = segment.view();
+		view.position(emlOffset);
+		view.get(eml);
+		return eml;
+	}
+
+	@NotNull
+	SpoolSegment getSegment() {
+		return segment;
+	}
+
+	int getRecordOffset() {
+		return recordOffset;
+	}
+
+	@Override
+	public String toString() {
+		return "SpoolRecord{" + segment + "@" + recordOffset + ", recipients=" + recipients + "}";
+	}
+}
@@ -0,0 +1,170 @@
+package org.simplejavamail.internal.spoolsupport;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * A single memory-mapped file of the spool's log. Records are only ever appended to the active segment; once the spool moves on to the next
+ * segment, this one is sealed and deleted as soon as all its records are done.
+ * <p>
+ * Record layout: {@code [int payloadLength][byte status][int crc32][payload]}, where the CRC covers the payload only, so the status can be
+ * updated in place. A zero length marks the end of the written records, as a freshly mapped file reads as zeros.
+ */
+final class SpoolSegment {
+
+	private static final Logger LOGGER = getLogger(SpoolSegment.class);
+
+	static final int RECORD_HEADER_SIZE = 4 + 1 + 4;
+	static final byte STATUS_PENDING = 1;
+	static final byte STATUS_DONE = 2;
+
+	private static final String FILE_EXTENSION = ".spool";
+
+	private final long sequence;
+	@NotNull private final File file;
+	@NotNull private final MappedByteBuffer buffer;
+
+	/**
+	 * Guarded by the spool's append lock.
+	 */
+	private int writePosition;
+	private final AtomicInteger pendingRecords = new AtomicInteger();
+	private volatile boolean sealed;
+	private final AtomicBoolean deleted = new AtomicBoolean();
+	private final AtomicLong forceCount = new AtomicLong();
+
+	private SpoolSegment(final long sequence, @NotNull final File file, @NotNull final MappedByteBuffer buffer) {
+		this.sequence = sequence;
+		this.file = file;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Maps the segment file, creating it with the given size if it doesn't exist yet. Existing files are mapped at their current size.
+	 * <p>
+	 * The mapping stays valid after closing the channel, so no file handle is kept open.
+	 */
+	@NotNull
+	static SpoolSegment map(@NotNull final File directory, final long sequence, final int size)
+			throws IOException {
+		final File file = new File(directory, determineFileName(sequence));
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			final long mappedSize = channel.size() > 0 ? channel.size() : size;
+			return new SpoolSegment(sequence, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+		}
+	}
+
+	@NotNull
+	static String determineFileName(final long sequence) {
+		return String.format("%020d%s", sequence, FILE_EXTENSION);
+	}
+
+	static boolean isSegmentFile(@NotNull final String fileName) {
+		return fileName.matches("\\d{20}\\" + FILE_EXTENSION);
+	}
+
+	static long determineSequence(@NotNull final String fileName) {
+		return Long.parseLong(fileName.substring(0, fileName.length() - FILE_EXTENSION.length()));
+	}
+
+	long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * @return A view on this segment's mapping with its own position and limit, so concurrent readers and the single writer don't interfere.
+	 */
+	@NotNull
+	ByteBuffer view() {
+		return buffer.duplicate();
+	}
+
+	int getCapacity() {
+		return buffer.capacity();
+	}
+
+	int getWritePosition() {
+		return writePosition;
+	}
+
+	void setWritePosition(final int writePosition) {
+		this.writePosition = writePosition;
+	}
+
+	int remaining() {
+		return buffer.capacity() - writePosition;
+	}
+
+	void recordAdded() {
+		pendingRecords.incrementAndGet();
+	}
+
+	/**
+	 * Marks the record at the given offset done in place. This is deliberately not forced to disk: at worst, the record is recovered and sent
+	 * again after a crash.
+	 */
+	void markDone(final int recordOffset) {
+		buffer.put(recordOffset + 4, STATUS_DONE);
+		if (pendingRecords.decrementAndGet() == 0 && sealed) {
+			delete();
+		}
+	}
+
+	/**
+	 * Forces all records appended so far to disk.
+	 */
+	void force() {
+		buffer.force();
+		forceCount.incrementAndGet();
+	}
+
+	/**
+	 * @return How many times this segment was forced, which with group commit may be (much) less than the number of records appended to it.
+	 */
+	long getForceCount() {
+		return forceCount.get();
+	}
+
+	/**
+	 * Called once the spool has moved on to the next segment, after which this segment is deleted as soon as all its records are done.
+	 */
+	void seal() {
+		sealed = true;
+		if (pendingRecords.get() == 0) {
+			delete();
+		}
+	}
+
+	boolean isDeleted() {
+		return deleted.get();
+	}
+
+	/**
+	 * The mapping can't be released explicitly (before Java 9 anyway), so on some platforms (Windows) the file can't be deleted while it's still
+	 * mapped. In that case it is left behind and deleted the next time the spool is opened, since all its records are done by then.
+	 */
+	private void delete() {
+		if (deleted.compareAndSet(false, true)) {
+			if (!file.delete()) {
+				LOGGER.debug("unable to delete spool segment {} right now, it will be cleaned up when the spool is opened again", file);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return file.getName();
+	}
+}
@@ -0,0 +1,55 @@
+package org.simplejavamail.internal.spoolsupport;
+
+import org.jetbrains.annotations.NotNull;
+import org.simplejavamail.api.internal.spoolsupport.MailSpool;
+import org.simplejavamail.internal.modules.SpoolModule;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static org.simplejavamail.internal.spoolsupport.SpoolException.ERROR_OPENING_SPOOL;
+
+/**
+ * This class only serves to hide the Spool implementation behind an easy-to-load-with-reflection class.
+ */
+@SuppressWarnings("unused") // it is used through reflection
+public class SpoolSupport implements SpoolModule {
+
+	// no need to make this static, because this module itself is already static in the ModuleLoader
+	private final Map<File, MappedMailSpool> openSpools = new HashMap<>();
+
+	/**
+	 * @see SpoolModule#openSpool(File)
+	 */
+	@NotNull
+	@Override
+	public synchronized MailSpool openSpool(@NotNull final File spoolDirectory) {
+		final File canonicalDirectory = determineCanonicalDirectory(spoolDirectory);
+		MappedMailSpool spool = openSpools.get(canonicalDirectory);
+		if (spool == null) {
+			spool = MappedMailSpool.open(canonicalDirectory, this::releaseSpool);
+			openSpools.put(canonicalDirectory, spool);
+		}
+		spool.addUser();
+		return spool;
+	}
+
+	private synchronized void releaseSpool(@NotNull final MappedMailSpool spool) {
+		if (spool.removeUser()) {
+			openSpools.remove(spool.getDirectory());
+			spool.closeLog();
+		}
+	}
+
+	@NotNull
+	private static File determineCanonicalDirectory(@NotNull final File spoolDirectory) {
+		try {
+			return spoolDirectory.getCanonicalFile();
+		} catch (final IOException e) {
+			throw new SpoolException(format(ERROR_OPENING_SPOOL, spoolDirectory), e);
+		}
+	}
+}
@@ -38,6 +38,8 @@ import java.util.Properties;
  * <li>simplejavamail.proxy.username</li>
  * <li>simplejavamail.proxy.password</li>
  * <li>simplejavamail.proxy.socks5bridge.port</li>
+ * <li>simplejavamail.proxy.socks5bridge.nonblocking</li>
+ * <li>simplejavamail.proxy.socks5bridge.buffersize</li>
  * <li>simplejavamail.defaults.content.transfer.encoding</li>
  * <li>simplejavamail.defaults.subject</li>
  * <li>simplejavamail.defaults.from.name</li>
@@ -55,6 +57,7 @@ import java.util.Properties;
  * <li>simplejavamail.defaults.poolsize</li>
  * <li>simplejavamail.defaults.poolsize.keepalivetime</li>
  * <li>simplejavamail.defaults.poolsize-more.keepalivetime</li>
+ * <li>simplejavamail.defaults.poolsize.virtualthreads</li>
  * <li>simplejavamail.defaults.connectionpool.clusterkey.uuid</li>
  * <li>simplejavamail.defaults.connectionpool.coresize</li>
  * <li>simplejavamail.defaults.connectionpool.maxsize</li>
@@ -66,6 +69,11 @@ import java.util.Properties;
  * <li>simplejavamail.defaults.trustedhosts</li>
  * <li>simplejavamail.defaults.verifyserveridentity</li>
  * <li>simplejavamail.transport.mode.logging.only</li>
+ * <li>simplejavamail.transport.mode.pipelined</li>
+ * <li>simplejavamail.transport.mode.pipelined.tobytes</li>
+ * <li>simplejavamail.transport.retries</li>
+ * <li>simplejavamail.transport.retry.backoff.millis</li>
+ * <li>simplejavamail.spool.dir</li>
  * <li>simplejavamail.opportunistic.tls</li>
  * <li>simplejavamail.smime.signing.keystore</li>
  * <li>simplejavamail.smime.signing.keystore_password</li>
@@ -92,6 +100,8 @@ import java.util.Properties;
  * <li>simplejavamail.embeddedimages.dynamicresolution.outside.base.classpath</li>
  * <li>simplejavamail.embeddedimages.dynamicresolution.outside.base.url</li>
  * <li>simplejavamail.embeddedimages.dynamicresolution.mustbesuccesful</li>
+ * <li>simplejavamail.embeddedimages.dynamicresolution.threads</li>
+ * <li>simplejavamail.embeddedimages.dynamicresolution.url.timeout.millis</li>
  * </ul>
  */
 @Configuration
@@ -121,6 +131,8 @@ public class SimpleJavaMailSpringSupport {
 			@Nullable @Value("${simplejavamail.proxy.username:#{null}}") final String proxyUsername,
 			@Nullable @Value("${simplejavamail.proxy.password:#{null}}") final String proxyPassword,
 			@Nullable @Value("${simplejavamail.proxy.socks5bridge.port:#{null}}") final String proxySocks5bridgePort,
+			@Nullable @Value("${simplejavamail.proxy.socks5bridge.nonblocking:#{null}}") final String proxySocks5bridgeNonBlocking,
+			@Nullable @Value("${simplejavamail.proxy.socks5bridge.buffersize:#{null}}") final String proxySocks5bridgeBufferSize,
 			@Nullable @Value("${simplejavamail.defaults.content.transfer.encoding:#{null}}") final String defaultContentTransferEncoding,
 			@Nullable @Value("${simplejavamail.defaults.subject:#{null}}") final String defaultSubject,
 			@Nullable @Value("${simplejavamail.defaults.from.name:#{null}}") final String defaultFromName,
@@ -138,6 +150,7 @@ public class SimpleJavaMailSpringSupport {
 			@Nullable @Value("${simplejavamail.defaults.poolsize:#{null}}") final String defaultPoolsize,
 			@Nullable @Value("${simplejavamail.defaults.poolsize.keepalivetime:#{null}}") final String defaultPoolKeepAlivetime,
 			@Nullable @Value("${simplejavamail.defaults.poolsize-more.keepalivetime:#{null}}") final String defaultPoolKeepAlivetimeSpringBoot,
+			@Nullable @Value("${simplejavamail.defaults.poolsize.virtualthreads:#{null}}") final String defaultPoolVirtualThreads,
 			@Nullable @Value("${simplejavamail.defaults.connectionpool.clusterkey.uuid:#{null}}") final String defaultConnectionPoolCluterKey,
 			@Nullable @Value("${simplejavamail.defaults.connectionpool.coresize:#{null}}") final String defaultConnectionPoolCoreSize,
 			@Nullable @Value("${simplejavamail.defaults.connectionpool.maxsize:#{null}}") final String defaultConnectionPoolMaxSize,
@@ -149,6 +162,11 @@ public class SimpleJavaMailSpringSupport {
 			@Nullable @Value("${simplejavamail.defaults.trustedhosts:#{null}}") final String defaultTrustedHosts,
 			@Nullable @Value("${simplejavamail.defaults.verifyserveridentity:#{null}}") final String defaultVerifyServerIdentity,
 			@Nullable @Value("${simplejavamail.transport.mode.logging.only:#{null}}") final String transportModeLoggingOnly,
+			@Nullable @Value("${simplejavamail.transport.mode.pipelined:#{null}}") final String transportModePipelined,
+			@Nullable @Value("${simplejavamail.transport.mode.pipelined.tobytes:#{null}}") final String transportModePipelinedToBytes,
+			@Nullable @Value("${simplejavamail.transport.retries:#{null}}") final String transportRetries,
+			@Nullable @Value("${simplejavamail.transport.retry.backoff.millis:#{null}}") final String transportRetryBackoffMillis,
+			@Nullable @Value("${simplejavamail.spool.dir:#{null}}") final String spoolDirectory,
 			@Nullable @Value("${simplejavamail.opportunistic.tls:#{null}}") final String opportunisticTls,
 			@Nullable @Value("${simplejavamail.smime.signing.keystore:#{null}}") final String smimeSigningKeyStore,
 			@Nullable @Value("${simplejavamail.smime.signing.keystore_password:#{null}}") final String smimeSigningKeyStorePassword,
@@ -174,7 +192,9 @@ public class SimpleJavaMailSpringSupport {
 			@Nullable @Value("${simplejavamail.embeddedimages.dynamicresolution.outside.base.dir:#{null}}") final String embeddedimagesDynamicresolutionOutsideBaseDir,
 			@Nullable @Value("${simplejavamail.embeddedimages.dynamicresolution.outside.base.classpath:#{null}}") final String embeddedimagesDynamicresolutionOutsideBaseClassPath,
 			@Nullable @Value("${simplejavamail.embeddedimages.dynamicresolution.outside.base.url:#{null}}") final String embeddedimagesDynamicresolutionOutsideBaseUrl,
-			@Nullable @Value("${simplejavamail.embeddedimages.dynamicresolution.mustbesuccesful:#{null}}") final String embeddedimagesDynamicresolutionMustBeSuccesful) {
+			@Nullable @Value("${simplejavamail.embeddedimages.dynamicresolution.mustbesuccesful:#{null}}") final String embeddedimagesDynamicresolutionMustBeSuccesful,
+			@Nullable @Value("${simplejavamail.embeddedimages.dynamicresolution.threads:#{null}}") final String embeddedimagesDynamicresolutionThreads,
+			@Nullable @Value("${simplejavamail.embeddedimages.dynamicresolution.url.timeout.millis:#{null}}") final String embeddedimagesDynamicresolutionUrlTimeoutMillis) {
 		final Properties emailProperties = new Properties();
 		setNullableProperty(emailProperties, Property.JAVAXMAIL_DEBUG.key(), javaxmailDebug);
 		setNullableProperty(emailProperties, Property.TRANSPORT_STRATEGY.key(), transportstrategy);
@@ -193,6 +213,8 @@ public class SimpleJavaMailSpringSupport {
 		setNullableProperty(emailProperties, Property.PROXY_USERNAME.key(), proxyUsername);
 		setNullableProperty(emailProperties, Property.PROXY_PASSWORD.key(), proxyPassword);
 		setNullableProperty(emailProperties, Property.PROXY_SOCKS5BRIDGE_PORT.key(), proxySocks5bridgePort);
+		setNullableProperty(emailProperties, Property.PROXY_SOCKS5BRIDGE_NONBLOCKING.key(), proxySocks5bridgeNonBlocking);
+		setNullableProperty(emailProperties, Property.PROXY_SOCKS5BRIDGE_BUFFERSIZE.key(), proxySocks5bridgeBufferSize);
 		setNullableProperty(emailProperties, Property.DEFAULT_CONTENT_TRANSFER_ENCODING.key(), defaultContentTransferEncoding);
 		setNullableProperty(emailProperties, Property.DEFAULT_SUBJECT.key(), defaultSubject);
 		setNullableProperty(emailProperties, Property.DEFAULT_FROM_NAME.key(), defaultFromName);
@@ -213,6 +235,7 @@ public class SimpleJavaMailSpringSupport {
 		} else {
 			setNullableProperty(emailProperties, Property.DEFAULT_POOL_KEEP_ALIVE_TIME.key(), defaultPoolKeepAlivetimeSpringBoot);
 		}
+		setNullableProperty(emailProperties, Property.DEFAULT_POOL_VIRTUAL_THREADS.key(), defaultPoolVirtualThreads);
 		setNullableProperty(emailProperties, Property.DEFAULT_CONNECTIONPOOL_CLUSTER_KEY.key(), defaultConnectionPoolCluterKey);
 		setNullableProperty(emailProperties, Property.DEFAULT_CONNECTIONPOOL_CORE_SIZE.key(), defaultConnectionPoolCoreSize);
 		setNullableProperty(emailProperties, Property.DEFAULT_CONNECTIONPOOL_MAX_SIZE.key(), defaultConnectionPoolMaxSize);
@@ -224,6 +247,11 @@ public class SimpleJavaMailSpringSupport {
 		setNullableProperty(emailProperties, Property.DEFAULT_TRUSTED_HOSTS.key(), defaultTrustedHosts);
 		setNullableProperty(emailProperties, Property.DEFAULT_VERIFY_SERVER_IDENTITY.key(), defaultVerifyServerIdentity);
 		setNullableProperty(emailProperties, Property.TRANSPORT_MODE_LOGGING_ONLY.key(), transportModeLoggingOnly);
+		setNullableProperty(emailProperties, Property.TRANSPORT_MODE_PIPELINED.key(), transportModePipelined);
+		setNullableProperty(emailProperties, Property.TRANSPORT_MODE_PIPELINED_TO_BYTES.key(), transportModePipelinedToBytes);
+		setNullableProperty(emailProperties, Property.TRANSPORT_RETRIES.key(), transportRetries);
+		setNullableProperty(emailProperties, Property.TRANSPORT_RETRY_BACKOFF_MILLIS.key(), transportRetryBackoffMillis);
+		setNullableProperty(emailProperties, Property.SPOOL_DIRECTORY.key(), spoolDirectory);
 		setNullableProperty(emailProperties, Property.OPPORTUNISTIC_TLS.key(), opportunisticTls);
 		setNullableProperty(emailProperties, Property.SMIME_SIGNING_KEYSTORE.key(), smimeSigningKeyStore);
 		if (smimeSigningKeyStorePassword != null) {
@@ -268,6 +296,8 @@ public class SimpleJavaMailSpringSupport {
 		setNullableProperty(emailProperties, Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_OUTSIDE_BASE_CLASSPATH.key(), embeddedimagesDynamicresolutionOutsideBaseClassPath);
 		setNullableProperty(emailProperties, Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_OUTSIDE_BASE_URL.key(), embeddedimagesDynamicresolutionOutsideBaseUrl);
 		setNullableProperty(emailProperties, Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_MUSTBESUCCESFUL.key(), embeddedimagesDynamicresolutionMustBeSuccesful);
+		setNullableProperty(emailProperties, Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_THREADS.key(), embeddedimagesDynamicresolutionThreads);
+		setNullableProperty(emailProperties, Property.EMBEDDEDIMAGES_DYNAMICRESOLUTION_URL_TIMEOUT_MILLIS.key(), embeddedimagesDynamicresolutionUrlTimeoutMillis);
 
 		ConfigLoader.loadProperties(emailProperties, true);
 